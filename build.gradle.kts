@@ -8,6 +8,7 @@ plugins {
     id("com.github.spotbugs") version "6.0.25"
     jacoco
     id("info.solidsoft.pitest") version "1.15.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "nu.csse.sqe"
@@ -117,6 +118,68 @@ tasks.jacocoTestReport {
     dependsOn(tasks.test) // tests are required to run before generating the report
 }
 
+// Microbenchmarks live in src/jmh/java; run them with ./gradlew jmh
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+}
+
+// Generated JMH harness code is not ours to analyze
+tasks.matching { it.name == "spotbugsJmh" }.configureEach {
+    enabled = false
+}
+
+// Tables on virtual threads live in src/java21/java and need Java 21; the game itself stays on 11.
+// Run ./gradlew runVirtualTables to play 100k bot tables at once.
+val java21: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+val java21Test: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + java21.output
+    runtimeClasspath += sourceSets.main.get().output + java21.output
+}
+configurations[java21.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[java21Test.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[java21Test.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
+tasks.withType<JavaCompile>()
+    .matching { it.name == java21.compileJavaTaskName || it.name == java21Test.compileJavaTaskName }
+    .configureEach {
+        javaCompiler = javaToolchains.compilerFor {
+            languageVersion = JavaLanguageVersion.of(21)
+        }
+        options.release = 21
+    }
+
+val testJava21 by tasks.registering(Test::class) {
+    description = "Runs the tests of the Java 21 sources."
+    group = "verification"
+    testClassesDirs = java21Test.output.classesDirs
+    classpath = java21Test.runtimeClasspath
+    javaLauncher = javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+    useJUnitPlatform()
+}
+
+tasks.check {
+    dependsOn(testJava21)
+}
+
+tasks.register<JavaExec>("runVirtualTables") {
+    description = "Plays many bot tables at once on virtual threads."
+    classpath = java21.runtimeClasspath
+    mainClass = "explodingkittens.scheduler.VirtualTablesMain"
+    javaLauncher = javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+    maxHeapSize = "2g"
+}
+
 pitest {
     targetClasses = setOf("explodingkittens.model.*", "explodingkittens.service.*")
     targetTests   = setOf("explodingkittens.model.*Test", "explodingkittens.service.*Test")
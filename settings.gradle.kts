@@ -1,2 +1,6 @@
-rootProject.name = "course-project"
+plugins {
+    // Lets Gradle download the JDK 21 toolchain of the java21 source sets when it is not installed
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.8.0"
+}
 
+rootProject.name = "course-project"
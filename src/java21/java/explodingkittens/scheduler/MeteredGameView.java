@@ -0,0 +1,249 @@
+package explodingkittens.scheduler;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.view.GameView;
+import java.util.List;
+
+/**
+ * GameView that forwards everything to a table's view and records the table's metrics:
+ * turns started, the winner, and how many prompts were answered and how long the table
+ * waited for them.
+ */
+final class MeteredGameView implements GameView {
+    private final GameView view;
+    private final TableHandle handle;
+
+    MeteredGameView(GameView view, TableHandle handle) {
+        this.view = view;
+        this.handle = handle;
+    }
+
+    @Override
+    public String promptPlayerAction(Player player) {
+        long start = System.nanoTime();
+        try {
+            return view.promptPlayerAction(player);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int promptDefusePosition(int deckSize) {
+        long start = System.nanoTime();
+        try {
+            return view.promptDefusePosition(deckSize);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Card promptPlayCard(Player player, List<Card> hand) {
+        long start = System.nanoTime();
+        try {
+            return view.promptPlayCard(player, hand);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Card selectCardToPlay(Player player, List<Card> hand) {
+        long start = System.nanoTime();
+        try {
+            return view.selectCardToPlay(player, hand);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean checkForNope(Player player, Card card) {
+        long start = System.nanoTime();
+        try {
+            return view.checkForNope(player, card);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean confirmDefuse(Player player) {
+        long start = System.nanoTime();
+        try {
+            return view.confirmDefuse(player);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int selectExplodingKittenPosition(int deckSize) {
+        long start = System.nanoTime();
+        try {
+            return view.selectExplodingKittenPosition(deckSize);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean promptPlayNope(Player player, Card card) {
+        long start = System.nanoTime();
+        try {
+            return view.promptPlayNope(player, card);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Player selectTargetPlayer(List<Player> availablePlayers) {
+        long start = System.nanoTime();
+        try {
+            return view.selectTargetPlayer(availablePlayers);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Card selectCardFromPlayer(Player targetPlayer, List<Card> hand) {
+        long start = System.nanoTime();
+        try {
+            return view.selectCardFromPlayer(targetPlayer, hand);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean handleWinningCombo(Player player, List<Card> hand) {
+        long start = System.nanoTime();
+        try {
+            return view.handleWinningCombo(player, hand);
+        }
+        finally {
+            handle.promptAnswered(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void displayCurrentPlayer(Player player) {
+        handle.turnStarted();
+        view.displayCurrentPlayer(player);
+    }
+
+    @Override
+    public void displayPlayerHand(Player player) {
+        view.displayPlayerHand(player);
+    }
+
+    @Override
+    public void displayOtherPlayerHand(Player player) {
+        view.displayOtherPlayerHand(player);
+    }
+
+    @Override
+    public void displayHandForSelection(Player player, List<Card> hand) {
+        view.displayHandForSelection(player, hand);
+    }
+
+    @Override
+    public void displayPlayerEliminated(Player player) {
+        view.displayPlayerEliminated(player);
+    }
+
+    @Override
+    public void displayWinner(Player winner) {
+        handle.won(winner.getName());
+        view.displayWinner(winner);
+    }
+
+    @Override
+    public void displayGameOver() {
+        view.displayGameOver();
+    }
+
+    @Override
+    public void displayDrawResult(Card card) {
+        view.displayDrawResult(card);
+    }
+
+    @Override
+    public void displayPlayedCard(Player player, Card card) {
+        view.displayPlayedCard(player, card);
+    }
+
+    @Override
+    public void showError(String message) {
+        view.showError(message);
+    }
+
+    @Override
+    public void showCardPlayed(Player player, Card card) {
+        view.showCardPlayed(player, card);
+    }
+
+    @Override
+    public void showCardNoped(Player player, Card card) {
+        view.showCardNoped(player, card);
+    }
+
+    @Override
+    public void showCardDrawn(Player player, Card card) {
+        view.showCardDrawn(player, card);
+    }
+
+    @Override
+    public void displayDefuseUsed(Player player) {
+        view.displayDefuseUsed(player);
+    }
+
+    @Override
+    public void displayDefuseSuccess(Player player, int position) {
+        view.displayDefuseSuccess(player, position);
+    }
+
+    @Override
+    public void displayPlayedNope(Player player) {
+        view.displayPlayedNope(player);
+    }
+
+    @Override
+    public void showCurrentPlayerTurn(Player player) {
+        view.showCurrentPlayerTurn(player);
+    }
+
+    @Override
+    public void displayCatCardEffect(String effectType, Player sourcePlayer, Player targetPlayer) {
+        view.displayCatCardEffect(effectType, sourcePlayer, targetPlayer);
+    }
+
+    @Override
+    public void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card) {
+        view.displayCardStolen(sourcePlayer, targetPlayer, card);
+    }
+
+    @Override
+    public void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card) {
+        view.displayCardRequested(sourcePlayer, targetPlayer, card);
+    }
+
+    @Override
+    public void displayCardDrawnFromBottom(Card card) {
+        view.displayCardDrawnFromBottom(card);
+    }
+}
@@ -0,0 +1,193 @@
+package explodingkittens.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One table hosted by a VirtualTableScheduler, with its live metrics.
+ * The metrics are written by the table's own thread and can be read from any thread
+ * while the table plays.
+ */
+public final class TableHandle {
+    private final String id;
+    private final long submittedNanos = System.nanoTime();
+    private final AtomicInteger turns = new AtomicInteger();
+    private final AtomicInteger prompts = new AtomicInteger();
+    private final AtomicLong promptNanos = new AtomicLong();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile TableState state = TableState.QUEUED;
+    private volatile Thread thread;
+    private volatile boolean cancelRequested;
+    private volatile long startedNanos;
+    private volatile long endedNanos;
+    private volatile String winner;
+    private volatile String failure;
+
+    TableHandle(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the table's id.
+     * @return the id given when the table was submitted
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the table's lifecycle state.
+     * @return the current state
+     */
+    public TableState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the number of turns started so far.
+     * @return the turn count
+     */
+    public int getTurns() {
+        return turns.get();
+    }
+
+    /**
+     * Gets the number of prompts answered so far.
+     * @return the prompt count
+     */
+    public int getPrompts() {
+        return prompts.get();
+    }
+
+    /**
+     * Gets the time the table spent waiting for prompt answers, during which its
+     * virtual thread is parked if the prompts block.
+     * @return the waiting time in nanoseconds
+     */
+    public long getPromptNanos() {
+        return promptNanos.get();
+    }
+
+    /**
+     * Gets the time between submitting the table and its thread starting.
+     * @return the queueing time in nanoseconds, so far if the table has not started
+     */
+    public long getQueueNanos() {
+        long started = startedNanos;
+        return (started == 0 ? System.nanoTime() : started) - submittedNanos;
+    }
+
+    /**
+     * Gets the time the table has been playing.
+     * @return the playing time in nanoseconds, 0 if the table has not started
+     */
+    public long getRunNanos() {
+        long started = startedNanos;
+        if (started == 0) {
+            return 0;
+        }
+        long ended = endedNanos;
+        return (ended == 0 ? System.nanoTime() : ended) - started;
+    }
+
+    /**
+     * Gets the winner of the game.
+     * @return the winner's name, or null until a winner is shown
+     */
+    public String getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets why the table failed.
+     * @return the failure message, or null if the table has not failed
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Checks whether the table is over.
+     * @return true once the table finished, failed or was cancelled
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    /**
+     * Waits for the table to be over.
+     * @param timeout the longest time to wait
+     * @param unit the unit of the timeout
+     * @return true if the table is over, false if the time ran out
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    /**
+     * Stops the table. A table that has not started never plays; a playing table is
+     * interrupted and stops at its next blocking prompt.
+     */
+    public void cancel() {
+        cancelRequested = true;
+        Thread running = thread;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    /**
+     * Marks the table as playing on the calling thread.
+     * @return false if the table was cancelled before it started
+     */
+    boolean started() {
+        startedNanos = System.nanoTime();
+        thread = Thread.currentThread();
+        if (cancelRequested) {
+            return false;
+        }
+        state = TableState.RUNNING;
+        return true;
+    }
+
+    void turnStarted() {
+        turns.incrementAndGet();
+    }
+
+    void promptAnswered(long nanos) {
+        prompts.incrementAndGet();
+        promptNanos.addAndGet(nanos);
+    }
+
+    void won(String name) {
+        winner = name;
+    }
+
+    /**
+     * Records how the table ended; waiters are released by {@link #release()}.
+     * @param error why the game ended early, or null if it was played to the end
+     * @return the final state
+     */
+    TableState ended(String error) {
+        endedNanos = System.nanoTime();
+        thread = null;
+        if (cancelRequested) {
+            state = TableState.CANCELLED;
+        }
+        else if (error != null) {
+            failure = error;
+            state = TableState.FAILED;
+        }
+        else {
+            state = TableState.FINISHED;
+        }
+        return state;
+    }
+
+    void release() {
+        done.countDown();
+    }
+}
@@ -0,0 +1,17 @@
+package explodingkittens.scheduler;
+
+/**
+ * Lifecycle of a table hosted by a VirtualTableScheduler.
+ */
+public enum TableState {
+    /** Submitted, its thread has not started yet. */
+    QUEUED,
+    /** Playing on its virtual thread. */
+    RUNNING,
+    /** Played to the end and a winner was shown. */
+    FINISHED,
+    /** Ended by an error or an aborted game. */
+    FAILED,
+    /** Stopped by {@link TableHandle#cancel()}. */
+    CANCELLED
+}
@@ -0,0 +1,82 @@
+package explodingkittens.scheduler;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import java.util.List;
+
+/**
+ * Decision policy that blocks for a while before every answer, like a human player
+ * thinking, and then answers as another policy does. On a virtual thread the wait parks
+ * the thread instead of holding a carrier.
+ */
+final class ThinkingPolicy implements DecisionPolicy {
+    private final DecisionPolicy policy;
+    private final long thinkMillis;
+
+    /**
+     * Creates a thinking policy.
+     * @param policy the policy that picks the answers
+     * @param thinkMillis how long to block before each answer
+     */
+    ThinkingPolicy(DecisionPolicy policy, long thinkMillis) {
+        this.policy = policy;
+        this.thinkMillis = thinkMillis;
+    }
+
+    /**
+     * Blocks for the thinking time.
+     * @throws IllegalStateException if the thread is interrupted, e.g. by a cancelled table
+     */
+    private void think() {
+        try {
+            Thread.sleep(thinkMillis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while thinking", e);
+        }
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        think();
+        return policy.chooseCardToPlay(player, hand);
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        think();
+        return policy.playNope(player, card);
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        think();
+        return policy.useDefuse(player);
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        think();
+        return policy.chooseKittenPosition(player, deckSize);
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        think();
+        return policy.chooseTarget(player, candidates);
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        think();
+        return policy.chooseCardIndex(player, handSize);
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        think();
+        return policy.chooseCardToGive(player, cards);
+    }
+}
@@ -0,0 +1,234 @@
+package explodingkittens.scheduler;
+
+import explodingkittens.controller.GameController;
+import explodingkittens.controller.GameTable;
+import explodingkittens.exceptions.GameOverException;
+import explodingkittens.service.TurnService;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.view.GameView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many game tables at once, each playing its turn loop on its own virtual thread.
+ * A prompt that blocks, waiting for a remote player or an AwaitingGameView future, parks
+ * the virtual thread instead of holding a platform thread, so the number of tables is
+ * bounded by memory rather than by threads. Every table is bound to its own thread
+ * through its GameTable, and console output is silenced on table threads unless asked
+ * otherwise.
+ *
+ * <p>Each table reports its own metrics through its TableHandle; the scheduler keeps
+ * totals and the handles of the tables that are still playing.
+ */
+public final class VirtualTableScheduler implements AutoCloseable {
+    private final int maxTables;
+    private final boolean quiet;
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("table-", 0).factory());
+    private final Map<String, TableHandle> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final AtomicInteger peakTables = new AtomicInteger();
+    private final AtomicLong finishedTables = new AtomicLong();
+    private final AtomicLong failedTables = new AtomicLong();
+    private final AtomicLong cancelledTables = new AtomicLong();
+    private final AtomicLong totalTurns = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a scheduler that keeps table threads silent.
+     * @param maxTables the most tables playing at the same time
+     * @throws IllegalArgumentException if maxTables is not positive
+     */
+    public VirtualTableScheduler(int maxTables) {
+        this(maxTables, true);
+    }
+
+    /**
+     * Creates a scheduler.
+     * @param maxTables the most tables playing at the same time
+     * @param quiet true to silence console output on table threads
+     * @throws IllegalArgumentException if maxTables is not positive
+     */
+    public VirtualTableScheduler(int maxTables, boolean quiet) {
+        if (maxTables < 1) {
+            throw new IllegalArgumentException("A scheduler needs room for at least one table");
+        }
+        this.maxTables = maxTables;
+        this.quiet = quiet;
+    }
+
+    /**
+     * Starts playing a table on a new virtual thread.
+     * @param id the table's id, unique among the tables still playing
+     * @param table the table to play, with turn order, deck and random source set
+     * @param view the view answering the table's prompts
+     * @param turnServices builds the table's turn service around the view it is given,
+     *     which wraps the view above to record the metrics
+     * @return the handle of the table
+     * @throws IllegalArgumentException if an argument is null or the id is in use
+     * @throws IllegalStateException if the scheduler is closed or full
+     */
+    public TableHandle submit(String id, GameTable table, GameView view,
+            Function<GameView, TurnService> turnServices) {
+        if (id == null || table == null || view == null || turnServices == null) {
+            throw new IllegalArgumentException("Table id, table, view and turn services cannot be null");
+        }
+        if (closed) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+        if (!reserveSeat()) {
+            throw new IllegalStateException("Scheduler is full: " + maxTables + " tables");
+        }
+        TableHandle handle = new TableHandle(id);
+        if (tables.putIfAbsent(id, handle) != null) {
+            activeTables.decrementAndGet();
+            throw new IllegalArgumentException("Table " + id + " is already playing");
+        }
+        try {
+            executor.execute(() -> play(handle, table, view, turnServices));
+        }
+        catch (RuntimeException e) {
+            tables.remove(id, handle);
+            activeTables.decrementAndGet();
+            throw new IllegalStateException("Scheduler is closed", e);
+        }
+        return handle;
+    }
+
+    private boolean reserveSeat() {
+        while (true) {
+            int active = activeTables.get();
+            if (active >= maxTables) {
+                return false;
+            }
+            if (activeTables.compareAndSet(active, active + 1)) {
+                peakTables.accumulateAndGet(active + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    private void play(TableHandle handle, GameTable table, GameView view,
+            Function<GameView, TurnService> turnServices) {
+        ConsoleOutput.setQuiet(quiet);
+        String error = null;
+        try {
+            if (handle.started()) {
+                GameView metered = new MeteredGameView(view, handle);
+                new GameController(metered, turnServices.apply(metered), table).start();
+            }
+        }
+        catch (GameOverException | RuntimeException e) {
+            error = e.getMessage() == null ? e.toString() : e.getMessage();
+        }
+        finally {
+            tables.remove(handle.getId(), handle);
+            activeTables.decrementAndGet();
+            totalTurns.addAndGet(handle.getTurns());
+            TableState state = handle.ended(error);
+            if (state == TableState.FINISHED) {
+                finishedTables.incrementAndGet();
+            }
+            else if (state == TableState.FAILED) {
+                failedTables.incrementAndGet();
+            }
+            else {
+                cancelledTables.incrementAndGet();
+            }
+            handle.release();
+        }
+    }
+
+    /**
+     * Gets a table that is still playing.
+     * @param id the table's id
+     * @return its handle, or null if no table with that id is playing
+     */
+    public TableHandle getTable(String id) {
+        return tables.get(id);
+    }
+
+    /**
+     * Lists the tables that are still playing.
+     * @return a snapshot of their handles, in no particular order
+     */
+    public List<TableHandle> getTables() {
+        return new ArrayList<>(tables.values());
+    }
+
+    /**
+     * Gets the most tables that can play at the same time.
+     * @return the table limit
+     */
+    public int getMaxTables() {
+        return maxTables;
+    }
+
+    /**
+     * Gets the number of tables submitted and not over yet.
+     * @return the active table count
+     */
+    public int getActiveTables() {
+        return activeTables.get();
+    }
+
+    /**
+     * Gets the most tables that were active at the same time.
+     * @return the peak table count
+     */
+    public int getPeakTables() {
+        return peakTables.get();
+    }
+
+    /**
+     * Gets the number of tables played to the end.
+     * @return the finished table count
+     */
+    public long getFinishedTables() {
+        return finishedTables.get();
+    }
+
+    /**
+     * Gets the number of tables ended by an error or an aborted game.
+     * @return the failed table count
+     */
+    public long getFailedTables() {
+        return failedTables.get();
+    }
+
+    /**
+     * Gets the number of tables that were cancelled.
+     * @return the cancelled table count
+     */
+    public long getCancelledTables() {
+        return cancelledTables.get();
+    }
+
+    /**
+     * Gets the number of turns played by the tables that are over.
+     * @return the turn count
+     */
+    public long getTotalTurns() {
+        return totalTurns.get();
+    }
+
+    /**
+     * Stops accepting tables, cancels the ones still playing and waits for their threads
+     * to end.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (TableHandle handle : tables.values()) {
+            handle.cancel();
+        }
+        executor.close();
+    }
+}
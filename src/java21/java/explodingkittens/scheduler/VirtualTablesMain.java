@@ -0,0 +1,89 @@
+package explodingkittens.scheduler;
+
+import explodingkittens.controller.GameTable;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.PolicyGameView;
+import explodingkittens.simulation.RandomPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays many bot tables at once on a VirtualTableScheduler, every bot blocking for a
+ * thinking time before each answer, and reports the scheduler's metrics.
+ * Usage: [tables] [players per table] [thinking time in ms]
+ */
+public final class VirtualTablesMain {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private VirtualTablesMain() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs the tables and prints progress once a second and a summary at the end.
+     * @param args the table count (100000), players per table (2) and thinking time (20)
+     * @throws InterruptedException if interrupted while waiting for the tables
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int tableCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        long thinkMillis = args.length > 2 ? Long.parseLong(args[2]) : 20;
+
+        List<TableHandle> handles = new ArrayList<>(tableCount);
+        long start = System.nanoTime();
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(tableCount)) {
+            for (int i = 0; i < tableCount; i++) {
+                handles.add(submitBotTable(scheduler, "table-" + i, i, players, thinkMillis));
+            }
+            while (scheduler.getActiveTables() > 0) {
+                TimeUnit.SECONDS.sleep(1);
+                System.out.println("active " + scheduler.getActiveTables()
+                    + " finished " + scheduler.getFinishedTables()
+                    + " failed " + scheduler.getFailedTables()
+                    + " turns " + scheduler.getTotalTurns());
+            }
+            long elapsed = System.nanoTime() - start;
+            long runNanos = 0;
+            long promptNanos = 0;
+            long slowest = 0;
+            for (TableHandle handle : handles) {
+                runNanos += handle.getRunNanos();
+                promptNanos += handle.getPromptNanos();
+                slowest = Math.max(slowest, handle.getRunNanos());
+            }
+            System.out.printf("%d tables in %d ms, peak %d at once, %.0f tables/s%n", tableCount,
+                elapsed / NANOS_PER_MILLI, scheduler.getPeakTables(), tableCount * 1e9 / elapsed);
+            System.out.printf("finished %d, failed %d, %.1f turns per table%n",
+                scheduler.getFinishedTables(), scheduler.getFailedTables(),
+                (double) scheduler.getTotalTurns() / tableCount);
+            System.out.printf("per table: %d ms playing, %d ms parked in prompts, slowest %d ms%n",
+                runNanos / tableCount / NANOS_PER_MILLI, promptNanos / tableCount / NANOS_PER_MILLI,
+                slowest / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Deals a table of random bots and submits it.
+     * @param scheduler the scheduler to play on
+     * @param id the table's id
+     * @param seed the seed of the deal and the bots
+     * @param players the number of players
+     * @param thinkMillis how long each bot blocks before answering
+     * @return the table's handle
+     */
+    static TableHandle submitBotTable(VirtualTableScheduler scheduler, String id, long seed,
+            int players, long thinkMillis) {
+        Random random = new Random(seed);
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            seats.add(new ThinkingPolicy(new RandomPolicy(random), thinkMillis));
+        }
+        PolicyGameView view = new PolicyGameView();
+        GameTable table = new GameSimulator(seats, random).deal(seed, view);
+        return scheduler.submit(id, table, view,
+            metered -> GameSimulator.createTurnService(table, view, metered));
+    }
+}
@@ -0,0 +1,134 @@
+package explodingkittens.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.controller.GameTable;
+import explodingkittens.simulation.PolicyGameView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class VirtualTableSchedulerTest {
+
+    @Test
+    void constructorRejectsNoRoom() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualTableScheduler(0));
+    }
+
+    @Test
+    void playsTablesToTheEndWithMetrics() throws InterruptedException {
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(10)) {
+            List<TableHandle> handles = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                handles.add(VirtualTablesMain.submitBotTable(scheduler, "t" + i, i, 3, 0));
+            }
+            long turns = 0;
+            for (TableHandle handle : handles) {
+                assertTrue(handle.await(30, TimeUnit.SECONDS));
+                assertEquals(TableState.FINISHED, handle.getState());
+                assertNotNull(handle.getWinner());
+                assertNull(handle.getFailure());
+                assertTrue(handle.getTurns() > 0);
+                assertTrue(handle.getPrompts() > 0);
+                assertTrue(handle.getRunNanos() >= handle.getPromptNanos());
+                turns += handle.getTurns();
+            }
+            assertEquals(3, scheduler.getFinishedTables());
+            assertEquals(turns, scheduler.getTotalTurns());
+            assertEquals(0, scheduler.getActiveTables());
+            assertTrue(scheduler.getTables().isEmpty());
+        }
+    }
+
+    @Test
+    void blockedTablesParkInsteadOfWaitingForEachOther() throws InterruptedException {
+        int tableCount = 1_000;
+        List<TableHandle> handles = new ArrayList<>();
+        long start = System.nanoTime();
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(tableCount)) {
+            for (int i = 0; i < tableCount; i++) {
+                handles.add(VirtualTablesMain.submitBotTable(scheduler, "t" + i, i, 2, 5));
+            }
+            long parked = 0;
+            for (TableHandle handle : handles) {
+                assertTrue(handle.await(2, TimeUnit.MINUTES));
+                parked += handle.getPromptNanos();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(tableCount, scheduler.getFinishedTables());
+            assertEquals(tableCount, scheduler.getPeakTables());
+            // Played one after another, the tables would wait at least this long
+            assertTrue(parked > 10 * elapsed, "parked " + parked + " ns in " + elapsed + " ns");
+        }
+    }
+
+    @Test
+    void rejectsTablesBeyondTheLimitUntilOneEnds() throws InterruptedException {
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(1)) {
+            TableHandle slow = VirtualTablesMain.submitBotTable(scheduler, "slow", 1, 2, 60_000);
+            assertSame(slow, scheduler.getTable("slow"));
+            assertThrows(IllegalStateException.class,
+                () -> VirtualTablesMain.submitBotTable(scheduler, "next", 2, 2, 0));
+
+            slow.cancel();
+            assertTrue(slow.await(10, TimeUnit.SECONDS));
+            assertEquals(TableState.CANCELLED, slow.getState());
+            assertEquals(1, scheduler.getCancelledTables());
+
+            TableHandle next = VirtualTablesMain.submitBotTable(scheduler, "next", 2, 2, 0);
+            assertTrue(next.await(30, TimeUnit.SECONDS));
+            assertEquals(TableState.FINISHED, next.getState());
+        }
+    }
+
+    @Test
+    void rejectsNullsAndIdsInUse() {
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(2)) {
+            PolicyGameView view = new PolicyGameView();
+            GameTable table = new GameTable();
+            assertThrows(IllegalArgumentException.class,
+                () -> scheduler.submit(null, table, view, v -> null));
+            assertThrows(IllegalArgumentException.class,
+                () -> scheduler.submit("t", table, view, null));
+
+            VirtualTablesMain.submitBotTable(scheduler, "t", 1, 2, 60_000);
+            assertThrows(IllegalArgumentException.class,
+                () -> VirtualTablesMain.submitBotTable(scheduler, "t", 2, 2, 0));
+            assertEquals(1, scheduler.getActiveTables());
+        }
+    }
+
+    @Test
+    void failedTablesKeepTheirError() throws InterruptedException {
+        try (VirtualTableScheduler scheduler = new VirtualTableScheduler(1)) {
+            TableHandle handle = scheduler.submit("t", new GameTable(), new PolicyGameView(), v -> {
+                throw new IllegalStateException("No turn service");
+            });
+
+            assertTrue(handle.await(10, TimeUnit.SECONDS));
+            assertEquals(TableState.FAILED, handle.getState());
+            assertEquals("No turn service", handle.getFailure());
+            assertEquals(1, scheduler.getFailedTables());
+        }
+    }
+
+    @Test
+    void closeCancelsPlayingTablesAndRejectsNewOnes() {
+        VirtualTableScheduler scheduler = new VirtualTableScheduler(2);
+        TableHandle slow = VirtualTablesMain.submitBotTable(scheduler, "slow", 1, 2, 60_000);
+
+        scheduler.close();
+
+        assertTrue(slow.isDone());
+        assertEquals(TableState.CANCELLED, slow.getState());
+        assertThrows(IllegalStateException.class,
+            () -> VirtualTablesMain.submitBotTable(scheduler, "next", 2, 2, 0));
+    }
+}
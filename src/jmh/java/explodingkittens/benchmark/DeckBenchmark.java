@@ -0,0 +1,114 @@
+package explodingkittens.benchmark;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Deck;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Microbenchmarks for the Deck operations hit on every turn.
+ * Mutating benchmarks undo their change in the same invocation, so the deck
+ * keeps its size across iterations without per-invocation setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    @Param({"2", "4"})
+    private int players;
+
+    private Deck deck;
+    private Random random;
+
+    /**
+     * Builds a full, shuffled deck for the configured player count.
+     */
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        deck = new Deck();
+        deck.initializeBaseDeck(players);
+        deck.addExplodingKittens(players - 1);
+        deck.shuffle(random);
+    }
+
+    /**
+     * Draws the top card and puts it back at the bottom.
+     * @return the drawn card
+     */
+    @Benchmark
+    public Card drawOne() {
+        Card card = deck.drawOne();
+        deck.insertAt(card, deck.size());
+        return card;
+    }
+
+    /**
+     * Draws the top card and puts it back in the middle of the deck, as a defused kitten
+     * often is, so the deck keeps its size.
+     * @return the drawn and reinserted card
+     */
+    @Benchmark
+    public Card insertAtMiddle() {
+        int position = deck.size() / 2;
+        Card card = deck.drawOne();
+        deck.insertAt(card, position);
+        return card;
+    }
+
+    /**
+     * Shuffles the deck with a seeded random source.
+     * @return the deck size, to keep the work observable
+     */
+    @Benchmark
+    public int shuffle() {
+        deck.shuffle(random);
+        return deck.size();
+    }
+
+    /**
+     * Swaps the top and bottom halves of the deck.
+     * @return the deck size, to keep the work observable
+     */
+    @Benchmark
+    public int switchTopAndBottomHalf() {
+        deck.switchTopAndBottomHalf();
+        return deck.size();
+    }
+
+    /**
+     * Counts the cards of every type in the deck.
+     * @return the counts
+     */
+    @Benchmark
+    public Map<String, Integer> getCardCounts() {
+        return deck.getCardCounts();
+    }
+
+    /**
+     * Copies the deck composition vector.
+     * @return the composition
+     */
+    @Benchmark
+    public int[] getComposition() {
+        return deck.getComposition();
+    }
+
+    /**
+     * Validates the deck composition.
+     * @return the validation result
+     */
+    @Benchmark
+    public boolean validateDeck() {
+        return deck.validateDeck(players);
+    }
+}
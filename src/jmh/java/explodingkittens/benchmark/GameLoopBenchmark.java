@@ -0,0 +1,67 @@
+package explodingkittens.benchmark;
+
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.PolicyGameView;
+import explodingkittens.simulation.RandomPolicy;
+import explodingkittens.util.ConsoleOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * End-to-end benchmark of one headless game played through the real controller,
+ * turn service and card effects by random policies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class GameLoopBenchmark {
+    @Param({"2", "4"})
+    private int players;
+
+    private GameSimulator simulator;
+    private boolean wasEnabled;
+
+    /**
+     * Seats seeded random policies and silences console output for this thread.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2024);
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            seats.add(new RandomPolicy(new Random(random.nextLong())));
+        }
+        simulator = new GameSimulator(seats, random);
+        wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+    }
+
+    /**
+     * Restores console output.
+     */
+    @TearDown
+    public void tearDown() {
+        ConsoleOutput.setQuiet(!wasEnabled);
+    }
+
+    /**
+     * Plays one game to completion.
+     * @return the finished game's view
+     */
+    @Benchmark
+    public PolicyGameView playGame() {
+        return simulator.playGame();
+    }
+}
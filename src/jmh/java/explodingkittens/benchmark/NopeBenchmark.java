@@ -0,0 +1,153 @@
+package explodingkittens.benchmark;
+
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import explodingkittens.service.NopeService;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.PolicyGameView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Microbenchmark for resolving a Nope chain with scripted responders.
+ * Every player holds Nope cards; the first chainLength prompts are answered with a Nope
+ * and the rest decline. Played Nopes are handed back after each chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NopeBenchmark {
+    private static final int PLAYERS = 4;
+
+    @Param({"0", "1", "3"})
+    private int chainLength;
+
+    private final ScriptedNopePolicy policy = new ScriptedNopePolicy();
+    private NopeService nopeService;
+    private Card targetCard;
+    private GameTable previousTable;
+
+    /**
+     * Seats four scripted players on a fresh table bound to the benchmark thread.
+     */
+    @Setup
+    public void setUp() {
+        PolicyGameView view = new PolicyGameView();
+        List<Player> players = new ArrayList<>();
+        Card nope = CardRegistry.get(CardType.NOPE);
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = new Player("Seat" + (i + 1));
+            player.receiveCard(nope);
+            player.receiveCard(nope);
+            view.seat(player, policy);
+            players.add(player);
+        }
+        GameTable table = new GameTable();
+        table.setTurnOrder(players);
+        table.setGameDeck(new Deck());
+        previousTable = GameContext.bind(table);
+        nopeService = new NopeService(view);
+        targetCard = CardRegistry.get(CardType.SKIP);
+    }
+
+    /**
+     * Restores the table that was bound before the benchmark.
+     */
+    @TearDown
+    public void tearDown() {
+        if (previousTable == null) {
+            GameContext.unbind();
+        }
+        else {
+            GameContext.bind(previousTable);
+        }
+    }
+
+    /**
+     * Resolves one Nope chain against a played Skip card.
+     * @return whether the Skip was negated
+     */
+    @Benchmark
+    public boolean isNegatedByPlayers() {
+        policy.arm(chainLength);
+        boolean negated = nopeService.isNegatedByPlayers(targetCard);
+        policy.refund();
+        return negated;
+    }
+
+    /**
+     * Answers the first armed Nope prompts with yes and remembers who played,
+     * so their cards can be returned. Other decisions are never asked for.
+     */
+    private static final class ScriptedNopePolicy implements DecisionPolicy {
+        private final List<Player> nopers = new ArrayList<>();
+        private int remaining;
+
+        void arm(int nopes) {
+            remaining = nopes;
+            nopers.clear();
+        }
+
+        void refund() {
+            Card nope = CardRegistry.get(CardType.NOPE);
+            for (Player player : nopers) {
+                player.receiveCard(nope);
+            }
+        }
+
+        @Override
+        public boolean playNope(Player player, Card card) {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            nopers.add(player);
+            return true;
+        }
+
+        @Override
+        public Card chooseCardToPlay(Player player, List<Card> hand) {
+            return null;
+        }
+
+        @Override
+        public boolean useDefuse(Player player) {
+            return true;
+        }
+
+        @Override
+        public int chooseKittenPosition(Player player, int deckSize) {
+            return 0;
+        }
+
+        @Override
+        public Player chooseTarget(Player player, List<Player> candidates) {
+            return candidates.get(0);
+        }
+
+        @Override
+        public int chooseCardIndex(Player player, int handSize) {
+            return 0;
+        }
+
+        @Override
+        public Card chooseCardToGive(Player player, List<Card> cards) {
+            return cards.get(0);
+        }
+    }
+}
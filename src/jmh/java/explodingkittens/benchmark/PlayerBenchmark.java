@@ -0,0 +1,98 @@
+package explodingkittens.benchmark;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Microbenchmarks for the hand queries asked by the turn loop, Nope chains and cat cards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+    @Param({"5", "20"})
+    private int handSize;
+
+    private Player player;
+
+    /**
+     * Deals a hand of the configured size from a shuffled deck, plus one Nope to remove.
+     */
+    @Setup
+    public void setUp() {
+        Deck deck = new Deck();
+        deck.initializeBaseDeck(2);
+        deck.shuffle(new Random(7));
+        player = new Player("Bench");
+        for (int i = 0; i < handSize; i++) {
+            player.receiveCard(deck.drawOne());
+        }
+        for (Card card : deck.getCards()) {
+            if (card.getType() == CardType.NOPE) {
+                player.receiveCard(card);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Checks for a Defuse card.
+     * @return whether the player holds a Defuse
+     */
+    @Benchmark
+    public boolean hasDefuse() {
+        return player.hasDefuse();
+    }
+
+    /**
+     * Checks for a Nope card, as every player is asked during a Nope chain.
+     * @return whether the player holds a Nope
+     */
+    @Benchmark
+    public boolean hasNope() {
+        return player.hasCardOfType(CardType.NOPE);
+    }
+
+    /**
+     * Counts the cats of one type, as cat card combos do.
+     * @return the number of Tacocats in hand
+     */
+    @Benchmark
+    public int countCatCards() {
+        return player.countCatCards(CatType.TACOCAT);
+    }
+
+    /**
+     * Copies the hand, as views and policies do before choosing a card.
+     * @return the copied hand
+     */
+    @Benchmark
+    public List<Card> getHand() {
+        return player.getHand();
+    }
+
+    /**
+     * Removes a Nope card and gives it back.
+     * @return the removed card
+     */
+    @Benchmark
+    public Card removeAndReceiveNope() {
+        Card nope = player.removeCardOfType(CardType.NOPE);
+        player.receiveCard(nope);
+        return nope;
+    }
+}
@@ -0,0 +1,75 @@
+package explodingkittens.benchmark;
+
+import explodingkittens.controller.GameSnapshot;
+import explodingkittens.controller.GameTable;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.RandomPolicy;
+import explodingkittens.util.ConsoleOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks capturing and restoring the state of a game a few turns in,
+ * the two operations a search or undo stack performs per node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+    @Param({"2", "4"})
+    private int players;
+
+    private GameTable table;
+    private GameSnapshot snapshot;
+
+    /**
+     * Plays a seeded game for a few turns and snapshots the resulting table.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2024);
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            seats.add(new RandomPolicy(new Random(random.nextLong())));
+        }
+        boolean wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+        try {
+            table = new GameSimulator(seats, random).playTurns(7L, 3);
+        }
+        finally {
+            ConsoleOutput.setQuiet(!wasEnabled);
+        }
+        snapshot = table.snapshot();
+    }
+
+    /**
+     * Captures the table.
+     * @return the snapshot
+     */
+    @Benchmark
+    public GameSnapshot snapshot() {
+        return table.snapshot();
+    }
+
+    /**
+     * Restores the table from the prepared snapshot.
+     * @return the restored table
+     */
+    @Benchmark
+    public GameTable restore() {
+        table.restore(snapshot);
+        return table;
+    }
+}
@@ -1,14 +1,37 @@
 package explodingkittens;
 
+import explodingkittens.controller.GameContext;
 import explodingkittens.controller.GameController;
 import explodingkittens.controller.GameSetupController;
+import explodingkittens.controller.GameTable;
 import explodingkittens.exceptions.GameOverException;
+import explodingkittens.journal.GameJournalWriter;
+import explodingkittens.journal.GameReplayer;
+import explodingkittens.journal.ReplayResult;
+import explodingkittens.server.GameServer;
 import explodingkittens.service.DealService;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.IsmctsPolicy;
+import explodingkittens.simulation.RandomPolicy;
+import explodingkittens.simulation.Tournament;
+import explodingkittens.simulation.TournamentEntry;
 import explodingkittens.model.PlayerService;
 import explodingkittens.view.GameSetupView;
 import explodingkittens.view.ConsoleGameView;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.ConsoleRenderer;
+import explodingkittens.util.GameRandom;
 import explodingkittens.util.I18nUtil;
+import explodingkittens.util.MessageId;
+import explodingkittens.util.Verbosity;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 import java.util.Scanner;
 import java.nio.charset.StandardCharsets;
 
@@ -18,7 +41,7 @@ public class Main {
      * The main entry point of the Exploding Kittens game.
      * Initializes the game setup and starts the main game loop.
      *
-     * @param args Command line arguments (not used)
+     * @param args Command line arguments: a mode such as --simulate, or --verbosity and a level for the interactive game
      */
     public static void main(String[] args) {
         try {
@@ -28,11 +51,36 @@ public class Main {
             if (args.length > 0 && "--throw-runtime".equals(args[0])) {
                 throw new RuntimeException("Test runtime exception");
             }
+            if (args.length > 0 && "--simulate".equals(args[0])) {
+                runSimulation(args);
+                return;
+            }
+            if (args.length > 1 && "--replay".equals(args[0])) {
+                runReplay(args[1]);
+                return;
+            }
+            if (args.length > 0 && "--tournament".equals(args[0])) {
+                runTournament(args);
+                return;
+            }
+            if (args.length > 0 && "--ismcts".equals(args[0])) {
+                runSearchMatch(args);
+                return;
+            }
+            if (args.length > 0 && "--serve".equals(args[0])) {
+                runServer(args);
+                return;
+            }
+            // --verbosity normal hides the engine's turn order dumps, quiet hides everything
+            Verbosity verbosity = Verbosity.VERBOSE;
+            if (args.length > 1 && "--verbosity".equals(args[0])) {
+                verbosity = Verbosity.valueOf(args[1].toUpperCase(Locale.ROOT));
+            }
             // Initialize I18n with default locale (English)
             I18nUtil.initialize();
             
             // Language selection
-            System.out.println(I18nUtil.getMessage("select.language"));
+            System.out.println(I18nUtil.getMessage(MessageId.SELECT_LANGUAGE));
             System.out.println("1. English");
             System.out.println("2. 中文");
             Scanner mainScanner = new Scanner(System.in, StandardCharsets.UTF_8);
@@ -44,28 +92,153 @@ public class Main {
                 I18nUtil.setLocale(Locale.ENGLISH);
             }
 
-            System.out.println(I18nUtil.getMessage("ui.welcome"));
+            System.out.println(I18nUtil.getMessage(MessageId.UI_WELCOME));
 
             /* ---------- Step 1 : initial ---------- */
+            GameTable     table       = new GameTable();
             GameSetupView setupView   = new GameSetupView(mainScanner);
             PlayerService playerSvc   = new PlayerService();
             DealService   dealSvc     = new DealService();
-            GameSetupController setup = new GameSetupController(setupView, playerSvc, dealSvc, mainScanner);
+            GameSetupController setup =
+                new GameSetupController(setupView, playerSvc, dealSvc, mainScanner, table);
 
-            setup.setupGame();               
+            GameContext.bind(table);
+            try {
+                setup.setupGame();
 
-            /* ---------- Step 2 : main loop ---------- */
-            ConsoleGameView gameView = new ConsoleGameView(new Scanner(System.in, StandardCharsets.UTF_8));
-            GameController  gameCtrl = new GameController(gameView);
-            gameCtrl.start();
+                /* ---------- Step 2 : main loop ---------- */
+                ConsoleGameView gameView = new ConsoleGameView(new Scanner(System.in, StandardCharsets.UTF_8));
+                GameController  gameCtrl = new GameController(gameView);
+                ConsoleOutput.setRenderer(new ConsoleRenderer(verbosity, true));
+                try {
+                    gameCtrl.start();
+                }
+                finally {
+                    ConsoleOutput.setRenderer(null);
+                }
+            }
+            finally {
+                GameContext.unbind();
+            }
         } 
         catch (GameOverException ge) {
-            System.out.println(I18nUtil.getMessage("game.end") + ": " + ge.getMessage());
+            System.out.println(I18nUtil.getMessage(MessageId.GAME_END) + ": " + ge.getMessage());
         } 
         catch (Exception e) {
-            System.out.println(I18nUtil.getMessage("error.fatal") + ": " + e.getMessage());
+            System.out.println(I18nUtil.getMessage(MessageId.ERROR_FATAL) + ": " + e.getMessage());
             e.printStackTrace();
         }
     }
-}
 
+    /**
+     * Runs headless games between random policies and prints the throughput report.
+     * Usage: --simulate [games] [players] [seed] [journal file]
+     *
+     * @param args Command line arguments starting with --simulate
+     * @throws IOException if the journal cannot be written
+     */
+    private static void runSimulation(String[] args) throws IOException {
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int playerCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        Random random = args.length > 3 ? new GameRandom(Long.parseLong(args[3])) : new GameRandom();
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            seats.add(new RandomPolicy(new GameRandom(random.nextLong())));
+        }
+        GameSimulator simulator = new GameSimulator(seats, random);
+        if (args.length > 4) {
+            try (GameJournalWriter journal = new GameJournalWriter(Paths.get(args[4]))) {
+                simulator.setJournal(journal);
+                System.out.println(simulator.run(games));
+            }
+            return;
+        }
+        System.out.println(simulator.run(games));
+    }
+
+    /**
+     * Runs a parallel tournament between random policies with different play chances.
+     * Usage: --tournament [games] [players] [seed]
+     *
+     * @param args Command line arguments starting with --tournament
+     */
+    private static void runTournament(String[] args) {
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int playerCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        List<TournamentEntry> entries = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            double playChance = (i + 1) / (double) (playerCount + 1);
+            entries.add(new TournamentEntry(String.format(Locale.ROOT, "Random(play=%.2f)", playChance),
+                random -> new RandomPolicy(random, playChance, 0.3)));
+        }
+        System.out.println(new Tournament(entries, seed).run(games));
+    }
+
+    /**
+     * Plays headless games of the search AI in the first seat against random policies
+     * and prints the results with the search throughput.
+     * Usage: --ismcts [games] [players] [budget ms] [threads] [seed]
+     *
+     * @param args Command line arguments starting with --ismcts
+     */
+    private static void runSearchMatch(String[] args) {
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int playerCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        long budget = args.length > 3 ? Long.parseLong(args[3]) : 50;
+        int threads = args.length > 4 ? Integer.parseInt(args[4])
+            : Runtime.getRuntime().availableProcessors();
+        Random random = args.length > 5 ? new GameRandom(Long.parseLong(args[5])) : new GameRandom();
+        IsmctsPolicy search = new IsmctsPolicy(new GameRandom(random.nextLong()), budget, threads);
+        List<DecisionPolicy> seats = new ArrayList<>();
+        seats.add(search);
+        for (int i = 1; i < playerCount; i++) {
+            seats.add(new RandomPolicy(new GameRandom(random.nextLong())));
+        }
+        System.out.println(new GameSimulator(seats, random).run(games));
+        System.out.println(String.format(Locale.ROOT,
+            "ISMCTS: %d searches, %d playouts, %.0f playouts/s on %d threads",
+            search.getSearches(), search.getPlayouts(), search.getPlayoutsPerSecond(), threads));
+    }
+
+    /**
+     * Hosts network tables until the process is stopped.
+     * Usage: --serve [port] [players per table] [max tables] [answer timeout s]
+     *
+     * @param args Command line arguments starting with --serve
+     * @throws IOException if the port cannot be bound
+     * @throws InterruptedException if the main thread is interrupted while serving
+     */
+    private static void runServer(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7777;
+        int playersPerTable = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int maxTables = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+        long timeout = args.length > 4 ? Long.parseLong(args[4]) : 60;
+        try (GameServer server = new GameServer(playersPerTable, maxTables, timeout * 1000)) {
+            server.start(new InetSocketAddress(port));
+            System.out.println("Serving tables of " + playersPerTable + " on port " + server.getPort());
+            server.awaitTermination();
+        }
+    }
+
+    /**
+     * Replays a recorded journal under the current rules and lists the games that changed.
+     * Usage: --replay journal file
+     *
+     * @param journal the journal file to replay
+     * @throws IOException if the journal cannot be read
+     */
+    private static void runReplay(String journal) throws IOException {
+        long start = System.nanoTime();
+        List<ReplayResult> results = new GameReplayer().replayAll(Paths.get(journal));
+        int changed = 0;
+        for (ReplayResult result : results) {
+            if (!result.matches()) {
+                changed++;
+                System.out.println(result);
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "%d games replayed in %.3f s, %d changed",
+            results.size(), (System.nanoTime() - start) / 1e9, changed));
+    }
+}
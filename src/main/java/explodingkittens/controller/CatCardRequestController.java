@@ -48,13 +48,13 @@ public final class CatCardRequestController {
         if (targetPlayer == null || !availablePlayers.contains(targetPlayer)) {
             throw new IllegalArgumentException("Invalid target player selection");
         }
-        if (targetPlayer.getHand().isEmpty()) {
+        if (!targetPlayer.hasCards()) {
             throw new IllegalStateException("Target player has no cards");
         }
 
         // Validate that the current player has a CatRequestCard
         boolean hasRequestCard = false;
-        for (Card card : currentPlayer.getHand()) {
+        for (Card card : currentPlayer.getRealHand()) {
             if (card instanceof CatRequestCard) {
                 hasRequestCard = true;
                 break;
@@ -71,8 +71,7 @@ public final class CatCardRequestController {
 
     private void removeThreeCatCards(Player currentPlayer, CatType catType) {
         List<Card> cardsToRemove = new ArrayList<>();
-        List<Card> handCopy = new ArrayList<>(currentPlayer.getHand());
-        for (Card card : handCopy) {
+        for (Card card : currentPlayer.getRealHand()) {
             if (card instanceof CatCard && ((CatCard) card).getCatType() == catType) {
                 cardsToRemove.add(card);
                 if (cardsToRemove.size() == 3) {
@@ -91,7 +90,7 @@ public final class CatCardRequestController {
     }
 
     private void removeCatRequestCard(Player currentPlayer) {
-        List<Card> handCopy = new ArrayList<>(currentPlayer.getHand());
+        List<Card> handCopy = new ArrayList<>(currentPlayer.getRealHand());
         for (Card card : handCopy) {
             if (card instanceof CatRequestCard) {
                 currentPlayer.removeCard(card);
@@ -2,6 +2,7 @@ package explodingkittens.controller;
 
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CatType;
 import explodingkittens.model.Player;
 import java.util.List;
@@ -31,31 +32,28 @@ public class CatCardStealController {
      */
     public void handleCardSteal(Player currentPlayer, List<Player> availablePlayers, 
             CatType catType) {
-        try {
-            // Validate target player and get the card to steal
-            Card stolenCard = validateAndGetStolenCard(availablePlayers);
-            
-            // Set the input handler for CatCard
-            CatCard.setInputHandler(inputHandler);
-            
-            // Create a cat card to trigger the effect
-            CatCard catCard = new CatCard(catType);
-            catCard.effect(availablePlayers, null);
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            // Remove the two cat cards used for the effect
-            currentPlayer.removeCard(effect.getFirstCard());
-            currentPlayer.removeCard(effect.getSecondCard());
-            
-            // Steal the card from the target player
-            Card stolenCard = effect.getTargetPlayerHand().get(effect.getTargetCardIndex());
-            Player targetPlayer = availablePlayers.stream()
-                .filter(p -> p.getName().equals(effect.getTargetPlayerName()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Target player not found"));
-            targetPlayer.removeCard(stolenCard);
-            currentPlayer.receiveCard(stolenCard);
-        }
+        // Validate target player and get the card to steal
+        validateAndGetStolenCard(availablePlayers);
+
+        // Set the input handler for CatCard
+        CatCard.setInputHandler(inputHandler);
+
+        // Create a cat card to resolve the effect
+        CatCard catCard = new CatCard(catType);
+        CatCardEffect effect = catCard.resolve(availablePlayers, null);
+
+        // Remove the two cat cards used for the effect
+        currentPlayer.removeCard(effect.getFirstCard());
+        currentPlayer.removeCard(effect.getSecondCard());
+        
+        // Steal the card from the target player
+        Card stolenCard = effect.getTargetPlayerHand().get(effect.getTargetCardIndex());
+        Player targetPlayer = availablePlayers.stream()
+            .filter(p -> p.getName().equals(effect.getTargetPlayerName()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Target player not found"));
+        targetPlayer.removeCard(stolenCard);
+        currentPlayer.receiveCard(stolenCard);
     }
 
     /**
@@ -71,16 +69,15 @@ public class CatCardStealController {
         if (targetPlayer == null || !availablePlayers.contains(targetPlayer)) {
             throw new IllegalArgumentException("Invalid target player selection");
         }
-        if (targetPlayer.getHand().isEmpty()) {
+        if (!targetPlayer.hasCards()) {
             throw new IllegalStateException("Target player has no cards");
         }
-        return targetPlayer.getHand().get(0);
+        return targetPlayer.getRealHand().get(0);
     }
 
     private void removeTwoCatCards(Player currentPlayer, CatType catType) {
         List<Card> cardsToRemove = new ArrayList<>();
-        List<Card> handCopy = new ArrayList<>(currentPlayer.getHand());
-        for (Card card : handCopy) {
+        for (Card card : currentPlayer.getRealHand()) {
             if (card instanceof CatCard && ((CatCard) card).getCatType() == catType) {
                 cardsToRemove.add(card);
                 if (cardsToRemove.size() == 2) {
@@ -99,8 +96,8 @@ public class CatCardStealController {
     }
 
     private void stealCardFromTarget(Player currentPlayer, Player targetPlayer) {
-        int cardIndex = inputHandler.selectCardIndex(targetPlayer.getHand().size());
-        Card stolenCard = targetPlayer.getHand().get(cardIndex);
+        int cardIndex = inputHandler.selectCardIndex(targetPlayer.getHandSize());
+        Card stolenCard = targetPlayer.getRealHand().get(cardIndex);
         targetPlayer.removeCard(stolenCard);
         currentPlayer.receiveCard(stolenCard);
     }
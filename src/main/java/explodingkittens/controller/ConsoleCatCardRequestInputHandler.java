@@ -3,6 +3,7 @@ package explodingkittens.controller;
 import explodingkittens.model.Player;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
+import explodingkittens.util.ConsoleOutput;
 import java.util.List;
 import java.util.Scanner;
 import java.io.InputStreamReader;
@@ -34,13 +35,13 @@ public final class ConsoleCatCardRequestInputHandler implements CatCardRequestIn
             throw new IllegalArgumentException("Available players list cannot be null or empty");
         }
 
-        System.out.println("\nAvailable players:");
+        ConsoleOutput.line("\nAvailable players:");
         for (int i = 0; i < availablePlayers.size(); i++) {
-            System.out.println((i + 1) + ". " + availablePlayers.get(i).getName());
+            ConsoleOutput.line((i + 1) + ". " + availablePlayers.get(i).getName());
         }
-        System.out.print("Select a player (1-" + availablePlayers.size() + "): ");
+        ConsoleOutput.text("Select a player (1-" + availablePlayers.size() + "): ");
         
-        int choice = scanner.nextInt();
+        int choice = readInt();
         if (choice < 1 || choice > availablePlayers.size()) {
             throw new IllegalArgumentException(
                 "Invalid choice. Please enter a number between 1 and " + availablePlayers.size());
@@ -60,14 +61,14 @@ public final class ConsoleCatCardRequestInputHandler implements CatCardRequestIn
             throw new IllegalArgumentException("Target player has no cards");
         }
 
-        System.out.println("\nTarget player's cards:");
+        ConsoleOutput.line("\nTarget player's cards:");
         for (int i = 0; i < hand.size(); i++) {
             Card card = hand.get(i);
-            System.out.println((i + 1) + ". " + card.getType());
+            ConsoleOutput.line((i + 1) + ". " + card.getType());
         }
-        System.out.print("Select a card (1-" + hand.size() + "): ");
+        ConsoleOutput.text("Select a card (1-" + hand.size() + "): ");
         
-        int choice = scanner.nextInt();
+        int choice = readInt();
         if (choice < 1 || choice > hand.size()) {
             throw new IllegalArgumentException(
                 "Invalid choice. Please enter a number between 1 and " + hand.size());
@@ -89,4 +90,13 @@ public final class ConsoleCatCardRequestInputHandler implements CatCardRequestIn
     private boolean isRequestableCardType(CardType type) {
         return type != CardType.CAT_CARD && type != CardType.EXPLODING_KITTEN;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Prints the pending frame, then reads the player's answer.
+     * @return the next input number
+     */
+    private int readInt() {
+        ConsoleOutput.flush();
+        return scanner.nextInt();
+    }
+}
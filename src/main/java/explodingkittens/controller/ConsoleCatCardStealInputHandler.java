@@ -3,6 +3,7 @@ package explodingkittens.controller;
 import explodingkittens.model.Player;
 import explodingkittens.model.CatType;
 import explodingkittens.model.CatCard;
+import explodingkittens.util.ConsoleOutput;
 import java.util.List;
 import java.util.Scanner;
 import java.io.InputStreamReader;
@@ -28,15 +29,15 @@ public final class ConsoleCatCardStealInputHandler implements CatCardStealInputH
 
     @Override
     public Player selectTargetPlayer(List<Player> availablePlayers) {
-        System.out.println("Available players:");
+        ConsoleOutput.line("Available players:");
         for (int i = 0; i < availablePlayers.size(); i++) {
-            System.out.println((i + 1) + ". " + availablePlayers.get(i).getName());
+            ConsoleOutput.line((i + 1) + ". " + availablePlayers.get(i).getName());
         }
 
         while (true) {
-            System.out.print("Select a player (1-" + availablePlayers.size() + "): ");
+            ConsoleOutput.text("Select a player (1-" + availablePlayers.size() + "): ");
             try {
-                int choice = Integer.parseInt(scanner.nextLine().trim());
+                int choice = Integer.parseInt(readLine().trim());
                 if (choice >= 1 && choice <= availablePlayers.size()) {
                     return availablePlayers.get(choice - 1);
                 }
@@ -44,16 +45,16 @@ public final class ConsoleCatCardStealInputHandler implements CatCardStealInputH
             catch (NumberFormatException e) {
                 // Invalid input, try again
             }
-            System.out.println("Invalid choice. Please try again.");
+            ConsoleOutput.line("Invalid choice. Please try again.");
         }
     }
 
     @Override
     public int selectCardIndex(int handSize) {
         while (true) {
-            System.out.print("Select a card (1-" + handSize + "): ");
+            ConsoleOutput.text("Select a card (1-" + handSize + "): ");
             try {
-                int choice = Integer.parseInt(scanner.nextLine().trim());
+                int choice = Integer.parseInt(readLine().trim());
                 if (choice >= 1 && choice <= handSize) {
                     return choice - 1;
                 }
@@ -61,7 +62,7 @@ public final class ConsoleCatCardStealInputHandler implements CatCardStealInputH
             catch (NumberFormatException e) {
                 // Invalid input, try again
             }
-            System.out.println("Invalid choice. Please try again.");
+            ConsoleOutput.line("Invalid choice. Please try again.");
         }
     }
 
@@ -74,4 +75,13 @@ public final class ConsoleCatCardStealInputHandler implements CatCardStealInputH
         CatCardStealController controller = new CatCardStealController(this);
         controller.handleCardSteal(currentPlayer, turnOrder, catType);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Prints the pending frame, then reads the player's answer.
+     * @return the next input line
+     */
+    private String readLine() {
+        ConsoleOutput.flush();
+        return scanner.nextLine();
+    }
+}
@@ -1,29 +1,77 @@
 package explodingkittens.controller;
 
 import java.util.List;
-import java.util.Collections;
-import java.util.ArrayList;
+import java.util.Random;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
- * GameContext is a singleton class that manages the global state of the game.
- * It provides methods to access and modify game state in a controlled manner.
+ * GameContext is the static entry point to the state of the game being played.
+ * Every call is forwarded to the {@link GameTable} bound to the calling thread,
+ * so separate tables can run concurrently on separate threads. There is no shared
+ * fallback table: a thread must bind a table before using the game state.
  * 
  * @author Your Name
  * @version 1.0
  */
 public class GameContext {
-	private static List<Player> turnOrder;
-	private static Deck gameDeck;
-	private static int currentPlayerIndex;
-	private static boolean gameOver;
+	private static final ThreadLocal<GameTable> BOUND_TABLE = new ThreadLocal<>();
 
 	private GameContext() {
 		// Private constructor to prevent instantiation
 	}
 
+	/**
+	 * Binds a table to the calling thread.
+	 * Until {@link #unbind()} is called, every GameContext call made on this
+	 * thread reads and updates the given table.
+	 * 
+	 * @param table the table to bind
+	 * @return the table previously bound to this thread, or null if there was none
+	 * @throws IllegalArgumentException if the table is null
+	 */
+	public static GameTable bind(GameTable table) {
+		if (table == null) {
+			throw new IllegalArgumentException("Table cannot be null.");
+		}
+		GameTable previous = BOUND_TABLE.get();
+		BOUND_TABLE.set(table);
+		return previous;
+	}
+
+	/**
+	 * Unbinds the table of the calling thread, which then has no game state until
+	 * another table is bound.
+	 */
+	public static void unbind() {
+		BOUND_TABLE.remove();
+	}
+
+	/**
+	 * Checks if a table is bound to the calling thread.
+	 * 
+	 * @return true if a table is bound
+	 */
+	public static boolean isBound() {
+		return BOUND_TABLE.get() != null;
+	}
+
+	/**
+	 * Gets the table used by the calling thread.
+	 * 
+	 * @return the bound table
+	 * @throws IllegalStateException if no table is bound to the calling thread
+	 */
+	@SuppressFBWarnings("MS_EXPOSE_REP")
+	public static GameTable currentTable() {
+		GameTable table = BOUND_TABLE.get();
+		if (table == null) {
+			throw new IllegalStateException("No game table is bound to this thread.");
+		}
+		return table;
+	}
+
 	/**
 	 * Sets the turn order for the game.
 	 * 
@@ -32,20 +80,7 @@ public class GameContext {
 	 *         contains null players.
 	 */
 	public static void setTurnOrder(List<Player> order) {
-		if (order == null) {
-			throw new IllegalArgumentException("Turn order cannot be null.");
-		}
-		if (order.isEmpty()) {
-			throw new IllegalArgumentException("Turn order cannot be empty.");
-		}
-		if (order.contains(null)) {
-			throw new IllegalArgumentException(
-				"Turn order cannot contain null players.");
-		}
-
-		turnOrder = new ArrayList<>(order);
-		currentPlayerIndex = 0;
-		gameOver = false;
+		currentTable().setTurnOrder(order);
 	}
 
 	/**
@@ -54,10 +89,7 @@ public class GameContext {
 	 * @return An unmodifiable list of players representing the current turn order.
 	 */
 	public static List<Player> getTurnOrder() {
-		if (turnOrder == null) {
-			return null;
-		}
-		return Collections.unmodifiableList(new ArrayList<>(turnOrder));
+		return currentTable().getTurnOrder();
 	}
 
 	/**
@@ -66,21 +98,32 @@ public class GameContext {
 	 * @throws IllegalArgumentException if the player is null or not in the turn order
 	 */
 	public static void movePlayerToEnd(Player player) {
-		if (player == null) {
-			throw new IllegalArgumentException("Player cannot be null");
-		}
-		if (turnOrder == null || !turnOrder.contains(player)) {
-			throw new IllegalArgumentException("Player is not in the turn order");
-		}
-		
-		// Remove player from current position and add to end
-		turnOrder.remove(player);
-		turnOrder.add(player);
-		
-		// Adjust current player index if needed
-		if (currentPlayerIndex >= turnOrder.size()) {
-			currentPlayerIndex = 0;
-		}
+		currentTable().movePlayerToEnd(player);
+	}
+
+	/**
+	 * Reverses the turn order; the current player stays current.
+	 * @throws IllegalStateException if the game is not properly initialized
+	 */
+	public static void reverseTurnOrder() {
+		currentTable().reverseTurnOrder();
+	}
+
+	/**
+	 * Counts the alive players in the turn order.
+	 * @return the number of alive players, 0 if there is no turn order
+	 */
+	public static int getAliveCount() {
+		return currentTable().getAliveCount();
+	}
+
+	/**
+	 * Marks a player as eliminated, keeping the alive count exact.
+	 * @param player the player to eliminate
+	 * @throws IllegalArgumentException if the player is null
+	 */
+	public static void eliminatePlayer(Player player) {
+		currentTable().eliminatePlayer(player);
 	}
 
 	/**
@@ -89,10 +132,7 @@ public class GameContext {
 	 * @throws IllegalArgumentException if the provided deck is null
 	 */
 	public static void setGameDeck(Deck deck) {
-		if (deck == null) {
-			throw new IllegalArgumentException("Game deck cannot be null.");
-		}
-		gameDeck = new Deck(deck); // Create a copy
+		currentTable().setGameDeck(deck);
 	}
 
 	/**
@@ -101,10 +141,7 @@ public class GameContext {
 	 */
 	@SuppressFBWarnings("MS_EXPOSE_REP")
 	public static Deck getGameDeck() {
-		if (gameDeck == null) {
-			return null;
-		}
-		return gameDeck;
+		return currentTable().getGameDeck();
 	}
 
 	/**
@@ -112,10 +149,7 @@ public class GameContext {
 	 * @return true if the game is over, false otherwise
 	 */
 	public static boolean isGameOver() {
-		if (turnOrder == null) {
-			return false;
-		}
-		return gameOver || turnOrder.size() <= 1;
+		return currentTable().isGameOver();
 	}
 
 	/**
@@ -124,31 +158,7 @@ public class GameContext {
 	 * @throws IllegalStateException if the game is not properly initialized
 	 */
 	public static Player getCurrentPlayer() {
-		if (turnOrder == null || turnOrder.isEmpty()) {
-			throw new IllegalStateException("Game is not properly initialized");
-		}
-		Player currentPlayer = turnOrder.get(currentPlayerIndex);
-		if (!currentPlayer.isAlive()) {
-			// If current player is eliminated, find next alive player
-			int startIndex = currentPlayerIndex;
-			boolean foundAlivePlayer = false;
-			
-			do {
-				currentPlayerIndex = (currentPlayerIndex + 1) % turnOrder.size();
-				currentPlayer = turnOrder.get(currentPlayerIndex);
-				if (currentPlayer.isAlive()) {
-					foundAlivePlayer = true;
-					break;
-				}
-			} while (currentPlayerIndex != startIndex);
-			
-			// If no alive player is found, end the game
-			if (!foundAlivePlayer) {
-				endGame();
-				throw new IllegalStateException("No alive players found");
-			}
-		}
-		return currentPlayer;
+		return currentTable().getCurrentPlayer();
 	}
 
 	/**
@@ -156,27 +166,7 @@ public class GameContext {
 	 * @throws IllegalStateException if the game is not properly initialized
 	 */
 	public static void nextTurn() {
-		if (turnOrder == null || turnOrder.isEmpty()) {
-			throw new IllegalStateException("Game is not properly initialized");
-		}
-		
-		// Find the next alive player
-		int startIndex = currentPlayerIndex;
-		boolean foundAlivePlayer = false;
-		
-		do {
-			currentPlayerIndex = (currentPlayerIndex + 1) % turnOrder.size();
-			if (turnOrder.get(currentPlayerIndex).isAlive()) {
-				foundAlivePlayer = true;
-				break;
-			}
-		} while (currentPlayerIndex != startIndex);
-		
-		// If no alive player is found, end the game
-		if (!foundAlivePlayer) {
-			endGame();
-			throw new IllegalStateException("No alive players found");
-		}
+		currentTable().nextTurn();
 	}
 
 	/**
@@ -185,16 +175,7 @@ public class GameContext {
 	 * @throws IllegalArgumentException if the player is null or not in the game
 	 */
 	public static void removePlayer(Player player) {
-		if (player == null) {
-			throw new IllegalArgumentException("Player cannot be null");
-		}
-		if (turnOrder == null || !turnOrder.contains(player)) {
-			throw new IllegalArgumentException("Player is not in the game");
-		}
-		turnOrder.remove(player);
-		if (currentPlayerIndex >= turnOrder.size()) {
-			currentPlayerIndex = 0;
-		}
+		currentTable().removePlayer(player);
 	}
 
 	/**
@@ -203,10 +184,7 @@ public class GameContext {
 	 * @throws IllegalStateException if the game deck is not initialized
 	 */
 	public static int getDeckSize() {
-		if (gameDeck == null) {
-			throw new IllegalStateException("Game deck is not initialized");
-		}
-		return gameDeck.size();
+		return currentTable().getDeckSize();
 	}
 
 	/**
@@ -214,7 +192,50 @@ public class GameContext {
 	 * @param over true to end the game, false otherwise
 	 */
 	public static void setGameOver(boolean over) {
-		gameOver = over;
+		currentTable().setGameOver(over);
+	}
+
+	/**
+	 * Gets the cat card steal handler of the current table.
+	 * @return the handler, or null if the table has none
+	 */
+	public static CatCardStealInputHandler getCatCardStealHandler() {
+		return currentTable().getCatCardStealHandler();
+	}
+
+	/**
+	 * Gets the random source of the current table.
+	 * @return the game's random source
+	 */
+	public static Random getRandom() {
+		return currentTable().getRandom();
+	}
+
+	/**
+	 * Sets the random source of the current table.
+	 * @param random the game's random source
+	 * @throws IllegalArgumentException if random is null
+	 */
+	public static void setRandom(Random random) {
+		currentTable().setRandom(random);
+	}
+
+	/**
+	 * Captures the state of the current table.
+	 * @return an immutable snapshot of the game
+	 * @throws IllegalStateException if the game is not properly initialized
+	 */
+	public static GameSnapshot snapshot() {
+		return currentTable().snapshot();
+	}
+
+	/**
+	 * Puts the current table back into a captured state.
+	 * @param snapshot a snapshot taken from the current table
+	 * @throws IllegalArgumentException if snapshot is null
+	 */
+	public static void restore(GameSnapshot snapshot) {
+		currentTable().restore(snapshot);
 	}
 
 	/**
@@ -222,10 +243,7 @@ public class GameContext {
 	 * This should be called when starting a new game.
 	 */
 	public static void reset() {
-		turnOrder = null;
-		gameDeck = null;
-		currentPlayerIndex = 0;
-		gameOver = false;
+		currentTable().reset();
 	}
 
 	/**
@@ -236,49 +254,6 @@ public class GameContext {
 	 * or no alive players found
 	 */
 	public static void setCurrentPlayerIndex(int index) {
-		if (turnOrder == null || turnOrder.isEmpty()) {
-			throw new IllegalStateException("Game is not properly initialized");
-		}
-		if (index < 0 || index >= turnOrder.size()) {
-			throw new IllegalArgumentException("Invalid player index");
-		}
-		// First, check if the selected player is alive
-		if (!turnOrder.get(index).isAlive()) {
-			int startIndex = index;
-			boolean foundAlivePlayer = false;
-			do {
-				index = (index + 1) % turnOrder.size();
-				if (turnOrder.get(index).isAlive()) {
-					foundAlivePlayer = true;
-					break;
-				}
-			} while (index != startIndex);
-			if (!foundAlivePlayer) {
-				endGame();
-				throw new IllegalStateException("No alive players found");
-			}
-		}
-		currentPlayerIndex = index;
-	}
-
-	/**
-	 * Ends the game.
-	 */
-	private static void endGame() {
-		gameOver = true;
-		// Find the last surviving player
-		Player winner = null;
-		for (Player player : turnOrder) {
-			if (player.isAlive()) {
-				winner = player;
-				break;
-			}
-		}
-		if (winner != null) {
-			System.out.println("\nGame Over! " + winner.getName() + " wins!");
-		} 
-		else {
-			System.out.println("\nGame Over! No players survived!");
-		}
+		currentTable().setCurrentPlayerIndex(index);
 	}
-}
\ No newline at end of file
+}
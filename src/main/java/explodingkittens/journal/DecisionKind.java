@@ -0,0 +1,38 @@
+package explodingkittens.journal;
+
+/**
+ * The DecisionPolicy questions recorded in DECISION events.
+ * Answers that pick an object are stored as its index in the offered list, -1 for none,
+ * and yes/no answers as 1 or 0. The ordinal is the on-disk code.
+ */
+public enum DecisionKind {
+    /** Index of the card to play in the hand, or -1 to stop playing. */
+    CARD_TO_PLAY,
+    /** Whether to answer a card with a Nope. */
+    PLAY_NOPE,
+    /** Whether to use a Defuse. */
+    USE_DEFUSE,
+    /** Position for a defused kitten. */
+    KITTEN_POSITION,
+    /** Index of the chosen target among the candidates. */
+    TARGET,
+    /** Index of the card to take from a hidden hand. */
+    CARD_INDEX,
+    /** Index of the card to give away. */
+    CARD_TO_GIVE;
+
+    private static final DecisionKind[] VALUES = values();
+
+    /**
+     * Gets the kind for an on-disk code.
+     * @param code the code read from a journal
+     * @return the decision kind
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static DecisionKind fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown decision code: " + code);
+        }
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,99 @@
+package explodingkittens.journal;
+
+import explodingkittens.simulation.DecisionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recorded policy answers of one game, handed out again in the order they were made.
+ * Every seat gets a policy from {@link #seat(int)}; all of them read from the same
+ * cursor, so a question asked by a different seat or of a different kind than recorded
+ * marks the replay as diverged. After a divergence the policies fall back to fixed,
+ * always legal answers so the game can still finish.
+ */
+public class DecisionScript {
+    private final List<GameEvent> decisions;
+    private int cursor;
+    private int divergence = -1;
+
+    /**
+     * Creates a script.
+     * @param decisions the DECISION events in recorded order
+     * @throws IllegalArgumentException if decisions is null
+     */
+    public DecisionScript(List<GameEvent> decisions) {
+        if (decisions == null) {
+            throw new IllegalArgumentException("Decisions cannot be null");
+        }
+        this.decisions = new ArrayList<>(decisions);
+    }
+
+    /**
+     * Creates the replaying policy for a seat.
+     * @param seat the seat index, starting at 0
+     * @return the policy
+     */
+    public DecisionPolicy seat(int seat) {
+        return new ReplayPolicy(this, seat);
+    }
+
+    /**
+     * Gets the position of the first decision the replay could not match.
+     * @return the decision index, or -1 if the replay has followed the script so far
+     */
+    public int getDivergence() {
+        return divergence;
+    }
+
+    /**
+     * Checks if every recorded decision was used.
+     * @return true if the cursor reached the end of the script
+     */
+    public boolean isExhausted() {
+        return cursor == decisions.size();
+    }
+
+    /**
+     * Marks the replay as diverged if the game ended with recorded decisions left over.
+     * @return the divergence after the check
+     */
+    public int finish() {
+        if (divergence < 0 && !isExhausted()) {
+            divergence = cursor;
+        }
+        return divergence;
+    }
+
+    /**
+     * Takes the next answer if it was recorded for this seat and question.
+     * @param seat the asking seat
+     * @param kind the question
+     * @param fallback the answer to use once the replay has diverged
+     * @return the recorded answer, or the fallback
+     */
+    int answer(int seat, DecisionKind kind, int fallback) {
+        if (divergence >= 0) {
+            return fallback;
+        }
+        if (cursor >= decisions.size()) {
+            divergence = cursor;
+            return fallback;
+        }
+        GameEvent next = decisions.get(cursor);
+        if (next.getSeat() != seat || next.getTarget() != kind.ordinal()) {
+            divergence = cursor;
+            return fallback;
+        }
+        cursor++;
+        return (int) next.getValue();
+    }
+
+    /**
+     * Marks the last answer as unusable, for example an index outside the offered list.
+     */
+    void diverge() {
+        if (divergence < 0) {
+            divergence = cursor - 1;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package explodingkittens.journal;
+
+/**
+ * One record read back from a game journal.
+ */
+public class GameEvent {
+    private final GameEventType type;
+    private final int seat;
+    private final int target;
+    private final long value;
+
+    /**
+     * Creates an event.
+     * @param type the event type
+     * @param seat the acting seat, or the type specific meaning documented on GameEventType
+     * @param target the affected seat or decision kind, -1 if unused
+     * @param value the card code, position, seed or answer
+     * @throws IllegalArgumentException if type is null
+     */
+    public GameEvent(GameEventType type, int seat, int target, long value) {
+        if (type == null) {
+            throw new IllegalArgumentException("Event type cannot be null");
+        }
+        this.type = type;
+        this.seat = seat;
+        this.target = target;
+        this.value = value;
+    }
+
+    /**
+     * Gets the event type.
+     * @return the type
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the acting seat.
+     * @return the seat index, starting at 0
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the affected seat or decision kind code.
+     * @return the target, -1 if unused
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the event payload.
+     * @return the value
+     */
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(seat=" + seat + ", target=" + target + ", value=" + value + ")";
+    }
+}
@@ -0,0 +1,45 @@
+package explodingkittens.journal;
+
+/**
+ * Kinds of records in a game journal.
+ * The ordinal is the on-disk code, so new types must only ever be appended.
+ */
+public enum GameEventType {
+    /** A game begins. Seat holds the player count, value the game seed. */
+    GAME_START,
+    /** A seat starts a turn. */
+    TURN,
+    /** A seat drew a card. Value holds the card code. */
+    DRAW,
+    /** A seat chose a card to play. Value holds the card code. */
+    PLAY,
+    /** A seat played a Nope. */
+    NOPE,
+    /** A seat's card was negated by the Nope chain. Value holds the card code. */
+    NOPED,
+    /** A seat took a card from the target seat. Value holds the card code. */
+    STEAL,
+    /** A seat defused a kitten. Value holds the reinsertion position. */
+    DEFUSE,
+    /** A seat exploded and left the game. */
+    ELIMINATED,
+    /** The game ended. Seat holds the winner or -1, value the turn count. */
+    GAME_END,
+    /** A seat's policy answered a prompt. Target holds the DecisionKind, value the answer. */
+    DECISION;
+
+    private static final GameEventType[] VALUES = values();
+
+    /**
+     * Gets the type for an on-disk code.
+     * @param code the code read from a journal
+     * @return the event type
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static GameEventType fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown event code: " + code);
+        }
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,104 @@
+package explodingkittens.journal;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the records of a journal written by {@link GameJournalWriter}, in order.
+ */
+public class GameJournalReader implements Closeable {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private boolean endOfFile;
+
+    /**
+     * Opens a journal for reading.
+     * @param path the journal file
+     * @throws IOException if the file cannot be read or is not a journal
+     * @throws IllegalArgumentException if path is null
+     */
+    public GameJournalReader(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.flip();
+        if (!ensure(4) || buffer.getInt() != GameJournalWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not a game journal: " + path);
+        }
+    }
+
+    /**
+     * Reads the next record.
+     * @return the record, or null at the end of the journal
+     * @throws EOFException if the journal ends in the middle of a record
+     * @throws IOException if reading fails or a record is corrupt
+     */
+    public GameEvent next() throws IOException {
+        if (!ensure(1)) {
+            return null;
+        }
+        ensure(GameJournalWriter.MAX_RECORD_BYTES);
+        if (buffer.remaining() < 4) {
+            throw new EOFException("Truncated journal record");
+        }
+        GameEventType type;
+        try {
+            type = GameEventType.fromCode(buffer.get() & 0xFF);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        int seat = buffer.get();
+        int target = buffer.get();
+        return new GameEvent(type, seat, target, readValue());
+    }
+
+    private long readValue() throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException("Truncated journal record");
+            }
+            byte b = buffer.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed journal value");
+    }
+
+    /**
+     * Refills the buffer until it holds at least the given number of bytes or the file ends.
+     * @param bytes the number of bytes wanted
+     * @return true if the bytes are available
+     * @throws IOException if reading fails
+     */
+    private boolean ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (!endOfFile && buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
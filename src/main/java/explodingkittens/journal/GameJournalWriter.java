@@ -0,0 +1,119 @@
+package explodingkittens.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends game events to a binary journal file.
+ * Records are encoded into a direct buffer and written to the FileChannel only when the
+ * buffer fills up or on flush, so recording costs a few bytes of memory traffic per event.
+ * A record is one byte each for type, seat and target followed by the value as a
+ * zigzag varint, which keeps most records at four bytes.
+ * A writer is not thread-safe; give each simulation thread its own journal file.
+ */
+public class GameJournalWriter implements Closeable {
+    /** Bytes every journal file starts with. */
+    static final int MAGIC = 0x454B4A31; // "EKJ1"
+
+    /** Largest encoded record: three header bytes and a ten byte varint. */
+    static final int MAX_RECORD_BYTES = 13;
+
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long records;
+
+    /**
+     * Opens a journal for appending with the default buffer size.
+     * @param path the journal file, created if missing
+     * @throws IOException if the file cannot be opened
+     */
+    public GameJournalWriter(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Opens a journal for appending.
+     * @param path the journal file, created if missing
+     * @param bufferBytes the number of bytes batched per write
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if path is null or the buffer cannot hold a record
+     */
+    public GameJournalWriter(Path path, int bufferBytes) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        if (bufferBytes < MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Buffer too small: " + bufferBytes);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        if (channel.size() == 0) {
+            buffer.putInt(MAGIC);
+        }
+    }
+
+    /**
+     * Appends one record.
+     * @param type the event type
+     * @param seat the acting seat, -1 if none
+     * @param target the affected seat or decision kind, -1 if none
+     * @param value the payload
+     * @throws IOException if a full buffer cannot be written
+     */
+    public void append(GameEventType type, int seat, int target, long value) throws IOException {
+        if (buffer.remaining() < MAX_RECORD_BYTES) {
+            flush();
+        }
+        buffer.put((byte) type.ordinal());
+        buffer.put((byte) seat);
+        buffer.put((byte) target);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        buffer.put((byte) zigzag);
+        records++;
+    }
+
+    /**
+     * Gets the number of records appended through this writer.
+     * @return the record count
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Writes all buffered records to the file.
+     * @throws IOException if the write fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes buffered records and closes the file.
+     * @throws IOException if the final write or close fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        }
+        finally {
+            channel.close();
+        }
+    }
+}
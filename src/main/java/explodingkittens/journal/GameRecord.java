@@ -0,0 +1,114 @@
+package explodingkittens.journal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One game read back from a journal: its seed, seat count, result and events.
+ */
+public class GameRecord {
+    private final long seed;
+    private final int players;
+    private final List<GameEvent> events;
+    private final int winnerSeat;
+    private final int turns;
+
+    /**
+     * Creates a game record.
+     * @param seed the game seed
+     * @param players the number of seats
+     * @param events the events between GAME_START and GAME_END
+     * @param winnerSeat the recorded winner, or -1
+     * @param turns the recorded number of turns
+     */
+    public GameRecord(long seed, int players, List<GameEvent> events, int winnerSeat, int turns) {
+        this.seed = seed;
+        this.players = players;
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+    }
+
+    /**
+     * Reads the next complete game from a journal.
+     * @param reader the journal reader, positioned at a GAME_START record
+     * @return the game, or null at the end of the journal
+     * @throws EOFException if the journal ends before the game does
+     * @throws IOException if reading fails or the journal is out of order
+     */
+    public static GameRecord read(GameJournalReader reader) throws IOException {
+        GameEvent start = reader.next();
+        if (start == null) {
+            return null;
+        }
+        if (start.getType() != GameEventType.GAME_START) {
+            throw new IOException("Expected GAME_START but found " + start.getType());
+        }
+        List<GameEvent> events = new ArrayList<>();
+        for (GameEvent event = reader.next(); event != null; event = reader.next()) {
+            if (event.getType() == GameEventType.GAME_END) {
+                return new GameRecord(start.getValue(), start.getSeat(), events,
+                    event.getSeat(), (int) event.getValue());
+            }
+            events.add(event);
+        }
+        throw new EOFException("Journal ends inside a game");
+    }
+
+    /**
+     * Gets the game seed.
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of seats.
+     * @return the player count
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the recorded events, excluding the start and end records.
+     * @return an unmodifiable list of events
+     */
+    public List<GameEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the recorded policy decisions in the order they were made.
+     * @return the DECISION events
+     */
+    public List<GameEvent> getDecisions() {
+        List<GameEvent> decisions = new ArrayList<>();
+        for (GameEvent event : events) {
+            if (event.getType() == GameEventType.DECISION) {
+                decisions.add(event);
+            }
+        }
+        return decisions;
+    }
+
+    /**
+     * Gets the recorded winner.
+     * @return the winner's seat, or -1 if the game had none
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Gets the recorded number of turns.
+     * @return the turn count
+     */
+    public int getTurns() {
+        return turns;
+    }
+}
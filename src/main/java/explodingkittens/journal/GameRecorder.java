@@ -0,0 +1,148 @@
+package explodingkittens.journal;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Player;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the events of one game into a journal, translating players to seats and
+ * cards to their CompactDeck codes.
+ * I/O failures surface as UncheckedIOException so they can cross the game loop.
+ */
+public class GameRecorder {
+    private final GameJournalWriter writer;
+    private final List<Player> seats;
+
+    /**
+     * Creates a recorder for one game.
+     * @param writer the journal to append to
+     * @param seats the players in seating order
+     * @throws IllegalArgumentException if writer or seats is null
+     */
+    public GameRecorder(GameJournalWriter writer, List<Player> seats) {
+        if (writer == null || seats == null) {
+            throw new IllegalArgumentException("Writer and seats must not be null");
+        }
+        this.writer = writer;
+        this.seats = new ArrayList<>(seats);
+    }
+
+    /**
+     * Records the start of the game.
+     * @param seed the seed of the game's random source
+     */
+    public void gameStarted(long seed) {
+        append(GameEventType.GAME_START, seats.size(), -1, seed);
+    }
+
+    /**
+     * Records the start of a turn.
+     * @param player the player taking the turn
+     */
+    public void turnStarted(Player player) {
+        append(GameEventType.TURN, seatOf(player), -1, 0);
+    }
+
+    /**
+     * Records a drawn card.
+     * @param player the player who drew
+     * @param card the drawn card
+     */
+    public void drew(Player player, Card card) {
+        append(GameEventType.DRAW, seatOf(player), -1, CompactDeck.encode(card));
+    }
+
+    /**
+     * Records a card chosen to be played.
+     * @param player the player
+     * @param card the card
+     */
+    public void played(Player player, Card card) {
+        append(GameEventType.PLAY, seatOf(player), -1, CompactDeck.encode(card));
+    }
+
+    /**
+     * Records a Nope played.
+     * @param player the player who played the Nope
+     */
+    public void playedNope(Player player) {
+        append(GameEventType.NOPE, seatOf(player), -1, 0);
+    }
+
+    /**
+     * Records a card negated by the Nope chain.
+     * @param player the player whose card was negated
+     * @param card the negated card
+     */
+    public void noped(Player player, Card card) {
+        append(GameEventType.NOPED, seatOf(player), -1, CompactDeck.encode(card));
+    }
+
+    /**
+     * Records a card moving from one hand to another.
+     * @param thief the receiving player
+     * @param victim the giving player
+     * @param card the card
+     */
+    public void stole(Player thief, Player victim, Card card) {
+        append(GameEventType.STEAL, seatOf(thief), seatOf(victim), CompactDeck.encode(card));
+    }
+
+    /**
+     * Records a defused kitten.
+     * @param player the player who defused
+     * @param position the reinsertion position
+     */
+    public void defused(Player player, int position) {
+        append(GameEventType.DEFUSE, seatOf(player), -1, position);
+    }
+
+    /**
+     * Records an elimination.
+     * @param player the eliminated player
+     */
+    public void eliminated(Player player) {
+        append(GameEventType.ELIMINATED, seatOf(player), -1, 0);
+    }
+
+    /**
+     * Records a policy decision.
+     * @param player the deciding player
+     * @param kind the question answered
+     * @param answer the encoded answer
+     */
+    public void decided(Player player, DecisionKind kind, int answer) {
+        append(GameEventType.DECISION, seatOf(player), kind.ordinal(), answer);
+    }
+
+    /**
+     * Records the end of the game.
+     * @param winnerSeat the winner's seat, or -1 if there is none
+     * @param turns the number of turns played
+     */
+    public void gameEnded(int winnerSeat, int turns) {
+        append(GameEventType.GAME_END, winnerSeat, -1, turns);
+    }
+
+    private int seatOf(Player player) {
+        for (int i = 0; i < seats.size(); i++) {
+            if (seats.get(i) == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void append(GameEventType type, int seat, int target, long value) {
+        try {
+            writer.append(type, seat, target, value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package explodingkittens.journal;
+
+import explodingkittens.controller.GameTable;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.PolicyGameView;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds recorded games by replaying their seed and policy decisions through the
+ * regular controller, turn service and card effects, with no console interaction.
+ * Because the card effects are the current ones, replaying a journal recorded before
+ * a rule change shows exactly which games the change affects.
+ */
+public class GameReplayer {
+
+    /**
+     * Replays a recorded game to its end.
+     * @param record the recorded game
+     * @return the replay outcome compared to the recording
+     * @throws IllegalArgumentException if record is null
+     */
+    public ReplayResult replay(GameRecord record) {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+        DecisionScript script = new DecisionScript(record.getDecisions());
+        boolean wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+        try {
+            PolicyGameView view = simulator(record, script).playGame(record.getSeed());
+            return new ReplayResult(record, view.getWinnerSeat(), view.getTurns(),
+                script.finish());
+        }
+        finally {
+            ConsoleOutput.setQuiet(!wasEnabled);
+        }
+    }
+
+    /**
+     * Replays a recorded game up to the start of a turn.
+     * @param record the recorded game
+     * @param turns the number of turns to replay
+     * @return the table as the next turn is about to start, with deck, hands and turn order
+     * @throws IllegalArgumentException if record is null or turns is negative
+     */
+    public GameTable replayTurns(GameRecord record, int turns) {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+        boolean wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+        try {
+            DecisionScript script = new DecisionScript(record.getDecisions());
+            return simulator(record, script).playTurns(record.getSeed(), turns);
+        }
+        finally {
+            ConsoleOutput.setQuiet(!wasEnabled);
+        }
+    }
+
+    /**
+     * Replays every game of a journal.
+     * @param journal the journal file
+     * @return one result per recorded game, in journal order
+     * @throws IOException if the journal cannot be read
+     */
+    public List<ReplayResult> replayAll(Path journal) throws IOException {
+        List<ReplayResult> results = new ArrayList<>();
+        try (GameJournalReader reader = new GameJournalReader(journal)) {
+            for (GameRecord record = GameRecord.read(reader); record != null;
+                    record = GameRecord.read(reader)) {
+                results.add(replay(record));
+            }
+        }
+        return results;
+    }
+
+    private GameSimulator simulator(GameRecord record, DecisionScript script) {
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int seat = 0; seat < record.getPlayers(); seat++) {
+            seats.add(script.seat(seat));
+        }
+        // The seed is passed explicitly, so this random source is never drawn from
+        return new GameSimulator(seats, new GameRandom(record.getSeed()));
+    }
+}
@@ -0,0 +1,94 @@
+package explodingkittens.journal;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import java.util.List;
+
+/**
+ * Policy decorator that records every answer of the wrapped policy as a DECISION event.
+ * Together with the game seed, the recorded answers determine the whole game.
+ */
+public class RecordingPolicy implements DecisionPolicy {
+    private final DecisionPolicy delegate;
+    private final GameRecorder recorder;
+
+    /**
+     * Wraps a policy.
+     * @param delegate the policy making the decisions
+     * @param recorder the recorder of the game being played
+     * @throws IllegalArgumentException if delegate or recorder is null
+     */
+    public RecordingPolicy(DecisionPolicy delegate, GameRecorder recorder) {
+        if (delegate == null || recorder == null) {
+            throw new IllegalArgumentException("Delegate and recorder must not be null");
+        }
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        Card card = delegate.chooseCardToPlay(player, hand);
+        recorder.decided(player, DecisionKind.CARD_TO_PLAY, indexOf(hand, card));
+        return card;
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        boolean nope = delegate.playNope(player, card);
+        recorder.decided(player, DecisionKind.PLAY_NOPE, nope ? 1 : 0);
+        return nope;
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        boolean defuse = delegate.useDefuse(player);
+        recorder.decided(player, DecisionKind.USE_DEFUSE, defuse ? 1 : 0);
+        return defuse;
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        int position = delegate.chooseKittenPosition(player, deckSize);
+        recorder.decided(player, DecisionKind.KITTEN_POSITION, position);
+        return position;
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        Player target = delegate.chooseTarget(player, candidates);
+        recorder.decided(player, DecisionKind.TARGET, indexOf(candidates, target));
+        return target;
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        int index = delegate.chooseCardIndex(player, handSize);
+        recorder.decided(player, DecisionKind.CARD_INDEX, index);
+        return index;
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        Card card = delegate.chooseCardToGive(player, cards);
+        recorder.decided(player, DecisionKind.CARD_TO_GIVE, indexOf(cards, card));
+        return card;
+    }
+
+    /**
+     * Finds an element by identity. Shared card instances may occur several times in a
+     * hand; their first occurrence is an equivalent choice.
+     * @param list the offered list
+     * @param element the chosen element
+     * @return the index, or -1 if the element is null or missing
+     */
+    private static int indexOf(List<?> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
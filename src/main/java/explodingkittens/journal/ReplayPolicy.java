@@ -0,0 +1,68 @@
+package explodingkittens.journal;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import java.util.List;
+
+/**
+ * Policy of one seat that answers from a DecisionScript.
+ */
+class ReplayPolicy implements DecisionPolicy {
+    private final DecisionScript script;
+    private final int seat;
+
+    ReplayPolicy(DecisionScript script, int seat) {
+        this.script = script;
+        this.seat = seat;
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        int index = script.answer(seat, DecisionKind.CARD_TO_PLAY, -1);
+        return index < 0 ? null : pick(hand, index, null);
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        return script.answer(seat, DecisionKind.PLAY_NOPE, 0) != 0;
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        return script.answer(seat, DecisionKind.USE_DEFUSE, 1) != 0;
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        return script.answer(seat, DecisionKind.KITTEN_POSITION, 0);
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        return pick(candidates, script.answer(seat, DecisionKind.TARGET, 0), candidates.get(0));
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        int index = script.answer(seat, DecisionKind.CARD_INDEX, 0);
+        if (index < 0 || index >= handSize) {
+            script.diverge();
+            return 0;
+        }
+        return index;
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        return pick(cards, script.answer(seat, DecisionKind.CARD_TO_GIVE, 0), cards.get(0));
+    }
+
+    private <T> T pick(List<T> options, int index, T fallback) {
+        if (index < 0 || index >= options.size()) {
+            script.diverge();
+            return fallback;
+        }
+        return options.get(index);
+    }
+}
@@ -0,0 +1,74 @@
+package explodingkittens.journal;
+
+/**
+ * Outcome of replaying one recorded game under the current rules.
+ */
+public class ReplayResult {
+    private final GameRecord record;
+    private final int winnerSeat;
+    private final int turns;
+    private final int divergence;
+
+    /**
+     * Creates a replay result.
+     * @param record the recorded game
+     * @param winnerSeat the winner of the replay, or -1
+     * @param turns the number of turns the replay took
+     * @param divergence the first decision the replay could not match, or -1
+     */
+    public ReplayResult(GameRecord record, int winnerSeat, int turns, int divergence) {
+        this.record = record;
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+        this.divergence = divergence;
+    }
+
+    /**
+     * Gets the recorded game.
+     * @return the record
+     */
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Gets the winner of the replay.
+     * @return the winner's seat, or -1
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Gets the number of turns the replay took.
+     * @return the turn count
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the first recorded decision the replay could not match.
+     * @return the decision index, or -1 if every decision matched
+     */
+    public int getDivergence() {
+        return divergence;
+    }
+
+    /**
+     * Checks if the replay reproduced the recorded game.
+     * @return true if all decisions matched and winner and length are unchanged
+     */
+    public boolean matches() {
+        return divergence < 0 && winnerSeat == record.getWinnerSeat()
+            && turns == record.getTurns();
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + record.getSeed() + ": recorded winner " + record.getWinnerSeat()
+            + " in " + record.getTurns() + " turns, replayed winner " + winnerSeat
+            + " in " + turns + " turns" + (divergence < 0 ? "" : ", diverged at decision "
+            + divergence);
+    }
+}
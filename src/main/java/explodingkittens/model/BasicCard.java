@@ -18,6 +18,11 @@ public class BasicCard extends Card {
         this.type = type;
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * Gets the type of the card.
      * 
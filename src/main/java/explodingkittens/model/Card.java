@@ -31,6 +31,20 @@ public abstract class Card implements Cloneable {
      * @param gameDeck The game deck
      */
     public abstract void effect(List<Player> turnOrder, Deck gameDeck);
+
+    /**
+     * Executes the effect of this card and returns the follow-up the caller must carry out.
+     * Cat cards hand back the steal or request instead of moving the cards themselves, so
+     * the caller can show it and carry it out.
+     *
+     * @param turnOrder The list of players in the current turn order
+     * @param gameDeck The game deck
+     * @return the pending cat card effect, or null if the effect is complete
+     */
+    public CatCardEffect resolve(List<Player> turnOrder, Deck gameDeck) {
+        effect(turnOrder, gameDeck);
+        return null;
+    }
     
 
     @Override
@@ -45,6 +59,24 @@ public abstract class Card implements Cloneable {
         return getClass().hashCode();
     }
 
+    /**
+     * Checks if this card holds no per-copy state.
+     * Shareable cards are flyweights: decks and hands hold one instance for every
+     * copy instead of a clone each.
+     * @return true if a single instance can stand for every copy of this card
+     */
+    protected boolean isShareable() {
+        return false;
+    }
+
+    /**
+     * Gets an instance to use for another copy of this card.
+     * @return this card if it is shareable, otherwise a clone
+     */
+    public Card copy() {
+        return isShareable() ? this : clone();
+    }
+
     @Override
     public Card clone() {
         try {
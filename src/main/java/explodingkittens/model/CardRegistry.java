@@ -0,0 +1,82 @@
+package explodingkittens.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registry of the shared flyweight instances of stateless cards.
+ * Decks built from these instances hold one object per card kind instead of one per copy.
+ * Cards that keep per-copy state (Attack, Favor, See The Future, Draw From Bottom, Snatch)
+ * have no shared instance and are still cloned.
+ */
+public final class CardRegistry {
+    private static final Map<CardType, Card> CARDS = new EnumMap<>(CardType.class);
+    private static final Map<CatType, CatCard> CATS = new EnumMap<>(CatType.class);
+
+    static {
+        register(new DefuseCard());
+        register(new SkipCard());
+        register(new SuperSkipCard());
+        register(new DoubleSkipCard());
+        register(new ShuffleCard());
+        register(new NopeCard());
+        register(new ExplodingKittenCard());
+        register(new SwitchDeckByHalfCard());
+        register(new ReverseCard());
+        register(new TimeRewindCard());
+        registerCat(new TacoCatCard());
+        registerCat(new BeardCatCard());
+        registerCat(new RainbowCatCard());
+        registerCat(new HairyPotatoCatCard());
+        registerCat(new WatermelonCatCard());
+        registerCat(new FeralCatCard());
+    }
+
+    private CardRegistry() {
+        // Utility class
+    }
+
+    private static void register(Card card) {
+        CARDS.put(card.getType(), card);
+    }
+
+    private static void registerCat(CatCard card) {
+        CATS.put(card.getCatType(), card);
+    }
+
+    /**
+     * Checks if a card type has a shared instance.
+     * @param type the card type
+     * @return true if {@link #get(CardType)} returns a shared instance for the type
+     */
+    public static boolean isShared(CardType type) {
+        return CARDS.containsKey(type);
+    }
+
+    /**
+     * Gets the shared instance of a stateless card type.
+     * @param type the card type
+     * @return the shared card
+     * @throws IllegalArgumentException if the type keeps per-copy state or is a cat card
+     */
+    public static Card get(CardType type) {
+        Card card = CARDS.get(type);
+        if (card == null) {
+            throw new IllegalArgumentException("No shared instance for card type: " + type);
+        }
+        return card;
+    }
+
+    /**
+     * Gets the shared instance of a cat card.
+     * @param catType the cat type
+     * @return the shared cat card
+     * @throws IllegalArgumentException if catType is null
+     */
+    public static CatCard get(CatType catType) {
+        if (catType == null) {
+            throw new IllegalArgumentException("Cat type cannot be null");
+        }
+        return CATS.get(catType);
+    }
+}
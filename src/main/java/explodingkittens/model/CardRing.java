@@ -0,0 +1,428 @@
+package explodingkittens.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Circular array of cards backing a Deck.
+ * Adding or removing at either end is constant-time, indexed reads and writes are
+ * constant-time, and inserting or removing in the middle shifts only the shorter side.
+ * The ring also counts its cards per type and its cat cards per cat type, and keeps,
+ * for each observer, which positions hold a card that observer has seen, with per-type
+ * counts of those cards. Observers are numbered from 0 to {@link #MAX_OBSERVERS} - 1 and
+ * each position holds one bit per observer; the bits move with their cards, so every
+ * count stays exact however the ring is changed.
+ */
+final class CardRing extends AbstractList<Card> implements RandomAccess {
+    private static final int MIN_CAPACITY = 16;
+    private static final int TYPES = CardType.values().length;
+    /** Length of the composition vector: card types first, then cat types. */
+    static final int COMPOSITION_SIZE = TYPES + CatType.values().length;
+    /** Number of observers whose knowledge a ring can keep. */
+    static final int MAX_OBSERVERS = Long.SIZE;
+
+    private Card[] elements;
+    private long[] knownBy;
+    private int head;
+    private int size;
+    private final int[] typeCounts = new int[COMPOSITION_SIZE];
+    private int[][] knownCounts = new int[0][];
+    private int[] knownSizes = new int[0];
+    private int knownMarks;
+
+    CardRing() {
+        this(MIN_CAPACITY);
+    }
+
+    CardRing(int expectedSize) {
+        elements = new Card[capacityFor(expectedSize)];
+        knownBy = new long[elements.length];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureRoom() {
+        if (size < elements.length) {
+            return;
+        }
+        Card[] grown = new Card[elements.length << 1];
+        long[] grownKnownBy = new long[grown.length];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[slot(i)];
+            grownKnownBy[i] = knownBy[slot(i)];
+        }
+        elements = grown;
+        knownBy = grownKnownBy;
+        head = 0;
+    }
+
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        knownBy[to] = knownBy[from];
+    }
+
+    private void counted(Card card) {
+        typeCounts[card.getType().ordinal()]++;
+        int cat = catSlot(card);
+        if (cat >= 0) {
+            typeCounts[cat]++;
+        }
+    }
+
+    private void uncounted(int slot) {
+        int type = elements[slot].getType().ordinal();
+        typeCounts[type]--;
+        int cat = catSlot(elements[slot]);
+        if (cat >= 0) {
+            typeCounts[cat]--;
+        }
+        for (long bits = knownBy[slot]; bits != 0; bits &= bits - 1) {
+            int observer = Long.numberOfTrailingZeros(bits);
+            knownCounts[observer][type]--;
+            knownSizes[observer]--;
+            knownMarks--;
+        }
+        knownBy[slot] = 0;
+    }
+
+    private static int catSlot(Card card) {
+        if (card instanceof CatCard && ((CatCard) card).getCatType() != null) {
+            return compositionSlot(((CatCard) card).getCatType());
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the composition vector slot counting the cards of a type.
+     * @param type the card type
+     * @return the slot
+     */
+    static int compositionSlot(CardType type) {
+        return type.ordinal();
+    }
+
+    /**
+     * Gets the composition vector slot counting the cat cards of a cat type.
+     * @param type the cat type
+     * @return the slot
+     */
+    static int compositionSlot(CatType type) {
+        return TYPES + type.ordinal();
+    }
+
+    @Override
+    public Card get(int index) {
+        checkIndex(index, size);
+        return elements[slot(index)];
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        checkIndex(index, size);
+        int slot = slot(index);
+        Card previous = elements[slot];
+        // Nobody saw the replacement, so the position becomes unknown to everyone
+        uncounted(slot);
+        elements[slot] = card;
+        counted(card);
+        // Cursors past this position would otherwise read a card they did not expect
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Card card) {
+        addLast(card);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(card);
+            return;
+        }
+        if (index == 0) {
+            addFirst(card);
+            return;
+        }
+        ensureRoom();
+        if (index < size / 2) {
+            head = (head - 1) & (elements.length - 1);
+            for (int i = 0; i < index; i++) {
+                move(slot(i + 1), slot(i));
+            }
+        }
+        else {
+            for (int i = size; i > index; i--) {
+                move(slot(i - 1), slot(i));
+            }
+        }
+        elements[slot(index)] = card;
+        knownBy[slot(index)] = 0;
+        counted(card);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        checkIndex(index, size);
+        if (index == 0) {
+            return removeFirst();
+        }
+        Card removed = elements[slot(index)];
+        uncounted(slot(index));
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                move(slot(i - 1), slot(i));
+            }
+            elements[head] = null;
+            knownBy[head] = 0;
+            head = (head + 1) & (elements.length - 1);
+        }
+        else {
+            for (int i = index; i < size - 1; i++) {
+                move(slot(i + 1), slot(i));
+            }
+            elements[slot(size - 1)] = null;
+            knownBy[slot(size - 1)] = 0;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        forget();
+        Arrays.fill(typeCounts, 0);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Puts a card on top.
+     * @param card the card to add
+     */
+    void addFirst(Card card) {
+        ensureRoom();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = card;
+        knownBy[head] = 0;
+        counted(card);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Puts a card at the bottom.
+     * @param card the card to add
+     */
+    void addLast(Card card) {
+        ensureRoom();
+        int slot = slot(size);
+        elements[slot] = card;
+        knownBy[slot] = 0;
+        counted(card);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the top card.
+     * @return the removed card
+     * @throws NoSuchElementException if the ring is empty
+     */
+    Card removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Card removed = elements[head];
+        uncounted(head);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the bottom card.
+     * @return the removed card
+     * @throws NoSuchElementException if the ring is empty
+     */
+    Card removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int slot = slot(size - 1);
+        Card removed = elements[slot];
+        uncounted(slot);
+        elements[slot] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Moves cards from the top to the bottom, keeping their order.
+     * Costs one step per moved card, whatever the size of the ring.
+     * @param count the number of cards to move, between 0 and size
+     */
+    void rotate(int count) {
+        for (int i = 0; i < count; i++) {
+            int last = slot(size);
+            move(head, last);
+            if (last != head) {
+                elements[head] = null;
+                knownBy[head] = 0;
+            }
+            head = (head + 1) & (elements.length - 1);
+        }
+        if (count > 0) {
+            modCount++;
+        }
+    }
+
+    /**
+     * Gets the change count, so cursors over the ring can fail fast.
+     * Replacing a card counts as a change, so a shuffle is one too.
+     * @return the number of times the ring was changed
+     */
+    int modifications() {
+        return modCount;
+    }
+
+    /**
+     * Counts the cards of a type.
+     * @param type the card type
+     * @return the number of cards of that type
+     */
+    int count(CardType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * Counts the cards in a slot of the composition vector.
+     * @param slot a slot from {@link #compositionSlot(CardType)} or {@link #compositionSlot(CatType)}
+     * @return the number of cards counted in that slot
+     */
+    int composition(int slot) {
+        return typeCounts[slot];
+    }
+
+    /**
+     * Counts the cards of a type an observer has seen.
+     * @param observer the observer number
+     * @param type the card type
+     * @return the number of those cards in the ring
+     */
+    int countKnown(int observer, CardType type) {
+        return observer < knownCounts.length ? knownCounts[observer][type.ordinal()] : 0;
+    }
+
+    /**
+     * Counts the positions whose card an observer has seen.
+     * @param observer the observer number
+     * @return the number of those positions
+     */
+    int knownSize(int observer) {
+        return observer < knownSizes.length ? knownSizes[observer] : 0;
+    }
+
+    /**
+     * Checks if any observer has seen any card of the ring.
+     * @return true if some position is known to someone
+     */
+    boolean hasKnowledge() {
+        return knownMarks > 0;
+    }
+
+    /**
+     * Gets the observers who have seen the card at a position.
+     * @param index the position, 0 being the top
+     * @return a mask with bit n set if observer n has seen the card
+     */
+    long knownBy(int index) {
+        checkIndex(index, size);
+        return knownBy[slot(index)];
+    }
+
+    /**
+     * Checks if an observer has seen the card at a position.
+     * @param observer the observer number
+     * @param index the position, 0 being the top
+     * @return true if the card is known to the observer
+     */
+    boolean isKnown(int observer, int index) {
+        return (knownBy(index) & (1L << observer)) != 0;
+    }
+
+    /**
+     * Marks the card at a position as seen by an observer.
+     * @param observer the observer number, below {@link #MAX_OBSERVERS}
+     * @param index the position, 0 being the top
+     */
+    void reveal(int observer, int index) {
+        checkIndex(index, size);
+        int slot = slot(index);
+        long bit = 1L << observer;
+        if ((knownBy[slot] & bit) == 0) {
+            if (observer >= knownCounts.length) {
+                int observers = observer + 1;
+                int[][] grownCounts = Arrays.copyOf(knownCounts, observers);
+                for (int i = knownCounts.length; i < observers; i++) {
+                    grownCounts[i] = new int[TYPES];
+                }
+                knownCounts = grownCounts;
+                knownSizes = Arrays.copyOf(knownSizes, observers);
+            }
+            knownBy[slot] |= bit;
+            knownCounts[observer][elements[slot].getType().ordinal()]++;
+            knownSizes[observer]++;
+            knownMarks++;
+        }
+    }
+
+    /**
+     * Marks every card as unknown to every observer.
+     */
+    void forget() {
+        if (knownMarks == 0) {
+            return;
+        }
+        Arrays.fill(knownBy, 0);
+        for (int[] counts : knownCounts) {
+            Arrays.fill(counts, 0);
+        }
+        Arrays.fill(knownSizes, 0);
+        knownMarks = 0;
+    }
+}
@@ -1,8 +1,8 @@
 package explodingkittens.model;
 
 import explodingkittens.controller.CatCardStealInputHandler;
+import explodingkittens.controller.GameContext;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -11,7 +11,6 @@ import java.util.stream.Collectors;
  */
 public class CatCard extends Card {
     private final CatType catType;
-    private static CatCardStealInputHandler inputHandler;
 
     public CatCard(CatType catType) {
         super(CardType.CAT_CARD);
@@ -26,12 +25,22 @@ public class CatCard extends Card {
         return catType;
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
-     * Sets the input handler for card stealing.
-     * @param handler The input handler to use
+     * Sets the input handler for card stealing on the table bound to the calling thread.
+     * @param handler The input handler to use, or null to remove it
+     * @throws IllegalStateException if no table is bound to the calling thread
      */
     public static void setInputHandler(CatCardStealInputHandler handler) {
-        inputHandler = handler;
+        GameContext.currentTable().setCatCardStealHandler(handler);
+    }
+
+    private static CatCardStealInputHandler currentInputHandler() {
+        return GameContext.getCatCardStealHandler();
     }
 
     protected CatCard findFirstCatCard(List<Card> hand) {
@@ -46,7 +55,8 @@ public class CatCard extends Card {
     protected CatCard findSecondCatCard(List<Card> hand, CatCard firstCard) {
         boolean foundFirst = false;
         for (Card card : hand) {
-            if (card == firstCard) {
+            // Copies of a cat card may share one instance, so only skip the first match
+            if (!foundFirst && card == firstCard) {
                 foundFirst = true;
                 continue;
             }
@@ -59,17 +69,21 @@ public class CatCard extends Card {
 
     protected List<Player> getAvailableTargets(List<Player> turnOrder, Player currentPlayer) {
         return turnOrder.stream()
-            .filter(p -> p != currentPlayer && p.isAlive() && !p.getHand().isEmpty())
+            .filter(p -> p != currentPlayer && p.isAlive() && p.hasCards())
             .collect(Collectors.toList());
     }
 
     protected void validateInputHandler() {
-        if (inputHandler == null) {
+        if (currentInputHandler() == null) {
             throw new IllegalStateException("Input handler not set");
         }
     }
 
     protected CatCard[] findCatCardPair(List<Card> hand) {
+        // Player hands count their cat cards, so a missing pair is rejected without a scan
+        if (hand instanceof Hand && ((Hand) hand).count(catType) < 2) {
+            throw new IllegalStateException("Player must have two cat cards to use this effect");
+        }
         CatCard firstCard = findFirstCatCard(hand);
         if (firstCard == null) {
             throw new IllegalStateException("Player must have two cat cards to use this effect");
@@ -89,7 +103,7 @@ public class CatCard extends Card {
             throw new IllegalStateException("No valid target players available");
         }
 
-        Player targetPlayer = inputHandler.selectTargetPlayer(availablePlayers);
+        Player targetPlayer = currentInputHandler().selectTargetPlayer(availablePlayers);
         if (targetPlayer == null || !availablePlayers.contains(targetPlayer)) {
             throw new IllegalArgumentException("Invalid target player selection");
         }
@@ -97,8 +111,8 @@ public class CatCard extends Card {
     }
 
     protected int selectCardIndex(Player targetPlayer) {
-        int cardIndex = inputHandler.selectCardIndex(targetPlayer.getHand().size());
-        if (cardIndex < 0 || cardIndex >= targetPlayer.getHand().size()) {
+        int cardIndex = currentInputHandler().selectCardIndex(targetPlayer.getHandSize());
+        if (cardIndex < 0 || cardIndex >= targetPlayer.getHandSize()) {
             throw new IllegalArgumentException("Invalid card index selection");
         }
         return cardIndex;
@@ -111,19 +125,41 @@ public class CatCard extends Card {
     }
 
     protected void validateTargetPlayer(Player targetPlayer) {
-        if (targetPlayer.getHand().isEmpty()) {
+        if (!targetPlayer.hasCards()) {
             throw new IllegalStateException("Target player has no cards");
         }
     }
 
+    /**
+     * Plays the cat card and carries out the steal itself: the pair leaves the current
+     * player's hand and the chosen card moves from the target to the current player.
+     * @param turnOrder The list of players in turn order
+     * @param gameDeck The game deck
+     * @throws IllegalStateException if the steal cannot be made
+     */
     @Override
     public void effect(List<Player> turnOrder, Deck gameDeck) {
+        CatCardEffect steal = resolve(turnOrder, gameDeck);
+        Player currentPlayer = turnOrder.get(0);
+        Player targetPlayer = turnOrder.stream()
+            .filter(p -> p.getName().equals(steal.getTargetPlayerName()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Target player not found"));
+        currentPlayer.removeCard(steal.getFirstCard());
+        currentPlayer.removeCard(steal.getSecondCard());
+        Card stolenCard = targetPlayer.getRealHand().get(steal.getTargetCardIndex());
+        targetPlayer.removeCard(stolenCard);
+        currentPlayer.receiveCard(stolenCard);
+    }
+
+    @Override
+    public CatCardEffect resolve(List<Player> turnOrder, Deck gameDeck) {
         validateInputHandler();
         Player currentPlayer = turnOrder.get(0);
         validatePlayerTurns(currentPlayer);
         
         // Find two cat cards of the same type
-        CatCard[] catCards = findCatCardPair(currentPlayer.getHand());
+        CatCard[] catCards = findCatCardPair(currentPlayer.getRealHand());
         
         // Get available targets and validate
         List<Player> availableTargets = getAvailableTargets(turnOrder, currentPlayer);
@@ -138,8 +174,8 @@ public class CatCard extends Card {
         // Select card to steal
         int cardIndex = selectCardIndex(targetPlayer);
 
-        // Throw CatCardEffect to handle the actual card stealing
-        throw new CatCardEffect(catCards[0], catCards[1], targetPlayer, cardIndex);
+        // Hand the steal back to the caller, which moves the cards
+        return new CatCardEffect(catCards[0], catCards[1], targetPlayer, cardIndex);
     }
 
     /**
@@ -150,116 +186,4 @@ public class CatCard extends Card {
     public void play(Player currentPlayer, List<Player> turnOrder) {
         effect(turnOrder, null);
     }
-
-    /**
-     * Result of a cat card effect, containing the cards to be removed and the target information.
-     */
-    public static final class CatCardEffect extends RuntimeException {
-        private final CatCard firstCard;
-        private final CatCard secondCard;
-        private final CatCard thirdCard;
-        private final String targetPlayerName;
-        private final List<Card> targetPlayerHand;
-        private final int targetCardIndex;
-        private final CardType requestedCardType;
-        private final CatType requestedCatType;
-
-        public CatCardEffect(CatCard firstCard, CatCard secondCard, Player targetPlayer, 
-                int targetCardIndex) {
-            super("Cat card effect");
-            this.firstCard = firstCard;
-            this.secondCard = secondCard;
-            this.thirdCard = null;
-            this.requestedCardType = null;
-            this.requestedCatType = null;
-            // Store immutable data instead of mutable Player object
-            this.targetPlayerName = targetPlayer.getName();
-            this.targetPlayerHand = new ArrayList<>(targetPlayer.getHand());
-            this.targetCardIndex = targetCardIndex;
-        }
-
-        public CatCardEffect(CatCard firstCard, CatCard secondCard, CatCard thirdCard,
-                String currentPlayerName, CardType requestedCardType) {
-            super("Cat card effect");
-            this.firstCard = firstCard;
-            this.secondCard = secondCard;
-            this.thirdCard = thirdCard;
-            this.requestedCardType = requestedCardType;
-            // 根据请求的卡牌类型设置猫牌类型
-            if (requestedCardType == CardType.CAT_CARD) {
-                // 如果是猫牌，使用第一张猫牌的类型
-                this.requestedCatType = firstCard.getCatType();
-            } 
-            else {
-                this.requestedCatType = null;
-            }
-            this.targetPlayerName = currentPlayerName;
-            this.targetPlayerHand = null;
-            this.targetCardIndex = -1;
-        }
-
-        /**
-         * Gets the first cat card involved in the effect.
-         * @return The first cat card
-         */
-        public CatCard getFirstCard() { 
-            return firstCard; 
-        }
-
-        /**
-         * Gets the second cat card involved in the effect.
-         * @return The second cat card
-         */
-        public CatCard getSecondCard() { 
-            return secondCard; 
-        }
-
-        /**
-         * Gets the third cat card involved in the effect.
-         * @return The third cat card
-         */
-        public CatCard getThirdCard() {
-            return thirdCard;
-        }
-
-        /**
-         * Gets the target player's name.
-         * @return The target player's name
-         */
-        public String getTargetPlayerName() { 
-            return targetPlayerName;
-        }
-
-        /**
-         * Gets a copy of the target player's hand.
-         * @return A copy of the target player's hand
-         */
-        public List<Card> getTargetPlayerHand() {
-            return targetPlayerHand != null ? new ArrayList<>(targetPlayerHand) : null;
-        }
-
-        /**
-         * Gets the index of the target card in the target player's hand.
-         * @return The target card index
-         */
-        public int getTargetCardIndex() { 
-            return targetCardIndex; 
-        }
-
-        /**
-         * Gets the requested card type for the effect.
-         * @return The requested card type
-         */
-        public CardType getRequestedCardType() {
-            return requestedCardType;
-        }
-
-        /**
-         * Gets the requested cat type for the effect.
-         * @return The requested cat type
-         */
-        public CatType getRequestedCatType() {
-            return requestedCatType;
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package explodingkittens.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a cat card effect, containing the cards to be removed and the target information.
+ * It is returned by {@link Card#resolve(List, Deck)} and carried out by the caller.
+ */
+public final class CatCardEffect {
+    private final CatCard firstCard;
+    private final CatCard secondCard;
+    private final CatCard thirdCard;
+    private final String targetPlayerName;
+    private final List<Card> targetPlayerHand;
+    private final int targetCardIndex;
+    private final CardType requestedCardType;
+    private final CatType requestedCatType;
+
+    /**
+     * Creates the effect of a pair of cat cards stealing a card.
+     * @param firstCard The first cat card of the pair
+     * @param secondCard The second cat card of the pair
+     * @param targetPlayer The player to steal from
+     * @param targetCardIndex The index of the card to steal in the target's hand
+     */
+    public CatCardEffect(CatCard firstCard, CatCard secondCard, Player targetPlayer,
+            int targetCardIndex) {
+        this.firstCard = firstCard;
+        this.secondCard = secondCard;
+        this.thirdCard = null;
+        this.requestedCardType = null;
+        this.requestedCatType = null;
+        // Store immutable data instead of mutable Player object
+        this.targetPlayerName = targetPlayer.getName();
+        this.targetPlayerHand = new ArrayList<>(targetPlayer.getRealHand());
+        this.targetCardIndex = targetCardIndex;
+    }
+
+    /**
+     * Creates the effect of three cat cards requesting a card type.
+     * @param firstCard The first cat card
+     * @param secondCard The second cat card
+     * @param thirdCard The third cat card
+     * @param currentPlayerName The name of the player making the request
+     * @param requestedCardType The requested card type
+     */
+    public CatCardEffect(CatCard firstCard, CatCard secondCard, CatCard thirdCard,
+            String currentPlayerName, CardType requestedCardType) {
+        this.firstCard = firstCard;
+        this.secondCard = secondCard;
+        this.thirdCard = thirdCard;
+        this.requestedCardType = requestedCardType;
+        // 根据请求的卡牌类型设置猫牌类型
+        if (requestedCardType == CardType.CAT_CARD) {
+            // 如果是猫牌，使用第一张猫牌的类型
+            this.requestedCatType = firstCard.getCatType();
+        }
+        else {
+            this.requestedCatType = null;
+        }
+        this.targetPlayerName = currentPlayerName;
+        this.targetPlayerHand = null;
+        this.targetCardIndex = -1;
+    }
+
+    /**
+     * Gets the first cat card involved in the effect.
+     * @return The first cat card
+     */
+    public CatCard getFirstCard() {
+        return firstCard;
+    }
+
+    /**
+     * Gets the second cat card involved in the effect.
+     * @return The second cat card
+     */
+    public CatCard getSecondCard() {
+        return secondCard;
+    }
+
+    /**
+     * Gets the third cat card involved in the effect.
+     * @return The third cat card
+     */
+    public CatCard getThirdCard() {
+        return thirdCard;
+    }
+
+    /**
+     * Gets the target player's name.
+     * @return The target player's name
+     */
+    public String getTargetPlayerName() {
+        return targetPlayerName;
+    }
+
+    /**
+     * Gets the target player's hand as it was when the effect was made.
+     * @return A read-only view of the copied hand, or null for a request
+     */
+    public List<Card> getTargetPlayerHand() {
+        return targetPlayerHand != null ? Collections.unmodifiableList(targetPlayerHand) : null;
+    }
+
+    /**
+     * Gets the index of the target card in the target player's hand.
+     * @return The target card index
+     */
+    public int getTargetCardIndex() {
+        return targetCardIndex;
+    }
+
+    /**
+     * Gets the requested card type for the effect.
+     * @return The requested card type
+     */
+    public CardType getRequestedCardType() {
+        return requestedCardType;
+    }
+
+    /**
+     * Gets the requested cat type for the effect.
+     * @return The requested cat type
+     */
+    public CatType getRequestedCatType() {
+        return requestedCatType;
+    }
+}
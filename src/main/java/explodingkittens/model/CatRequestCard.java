@@ -62,6 +62,18 @@ public final class CatRequestCard extends CatCard {
         return new CatCardRequestController(ControllerHolder.inputHandler);
     }
 
+    /**
+     * Runs the request directly through the controller; there is no follow-up to return.
+     * @param turnOrder The list of players in turn order
+     * @param gameDeck The game deck
+     * @return always null
+     */
+    @Override
+    public CatCardEffect resolve(List<Player> turnOrder, Deck gameDeck) {
+        effect(turnOrder, gameDeck);
+        return null;
+    }
+
     /**
      * Effect of the cat request card.
      * The player must have three cat cards of the EXACT SAME TYPE.
@@ -106,15 +118,7 @@ public final class CatRequestCard extends CatCard {
     }
 
     private void validateCatCards(Player currentPlayer) {
-        List<Card> hand = currentPlayer.getHand();
-        int sameTypeCount = 0;
-        for (Card card : hand) {
-            if (card instanceof CatCard 
-                    && ((CatCard) card).getCatType() == catType) {
-                sameTypeCount++;
-            }
-        }
-        if (sameTypeCount < 3) {
+        if (currentPlayer.countCatCards(catType) < 3) {
             throw new IllegalStateException(
                 "Need three cat cards of the EXACT SAME TYPE");
         }
@@ -122,7 +126,7 @@ public final class CatRequestCard extends CatCard {
 
     private List<Player> getAvailablePlayers(List<Player> turnOrder, Player currentPlayer) {
         List<Player> availablePlayers = turnOrder.stream()
-            .filter(p -> p != currentPlayer && p.isAlive() && !p.getHand().isEmpty())
+            .filter(p -> p != currentPlayer && p.isAlive() && p.hasCards())
             .collect(Collectors.toList());
         if (availablePlayers.isEmpty()) {
             throw new IllegalStateException("No other players available");
@@ -0,0 +1,363 @@
+package explodingkittens.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deck stored as one byte per card, for simulations that build and copy many decks.
+ * A code is the CardType ordinal, or for cat cards the number of card types plus the
+ * CatType ordinal. Cards are kept bottom first, so drawing from the top is constant-time.
+ * Draw, insert, shuffle and copyFrom allocate nothing.
+ * Conversion to and from {@link Deck} lets card effects run on the object representation.
+ */
+public class CompactDeck {
+    private static final CardType[] CARD_TYPES = CardType.values();
+    private static final CatType[] CAT_TYPES = CatType.values();
+    private static final int CAT_BASE = CARD_TYPES.length;
+    private static final int MIN_CAPACITY = 64;
+
+    private byte[] codes;
+    private int size;
+
+    /**
+     * Creates an empty compact deck.
+     */
+    public CompactDeck() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty compact deck that can hold the given number of cards without growing.
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public CompactDeck(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.codes = new byte[capacity];
+    }
+
+    /**
+     * Encodes a deck.
+     * @param deck the deck to encode
+     * @return a compact deck with the same cards in the same order
+     * @throws IllegalArgumentException if deck is null
+     */
+    public static CompactDeck of(Deck deck) {
+        if (deck == null) {
+            throw new IllegalArgumentException("Deck cannot be null");
+        }
+        List<Card> cards = deck.getUnmodifiableCards();
+        CompactDeck compact = new CompactDeck(Math.max(MIN_CAPACITY, cards.size()));
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            compact.codes[compact.size++] = encode(cards.get(i));
+        }
+        return compact;
+    }
+
+    /**
+     * Gets the code of a card.
+     * @param card the card to encode
+     * @return the card code
+     * @throws IllegalArgumentException if card is null
+     */
+    public static byte encode(Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("Card cannot be null");
+        }
+        if (card instanceof CatCard) {
+            return (byte) (CAT_BASE + ((CatCard) card).getCatType().ordinal());
+        }
+        return (byte) card.getType().ordinal();
+    }
+
+    /**
+     * Gets the code of a card type.
+     * @param type a card type other than CAT_CARD
+     * @return the card code
+     * @throws IllegalArgumentException if type is null or CAT_CARD
+     */
+    public static byte encode(CardType type) {
+        if (type == null || type == CardType.CAT_CARD) {
+            throw new IllegalArgumentException("Card type must be a non-cat type");
+        }
+        return (byte) type.ordinal();
+    }
+
+    /**
+     * Gets the code of a cat card.
+     * @param catType the cat type
+     * @return the card code
+     * @throws IllegalArgumentException if catType is null
+     */
+    public static byte encode(CatType catType) {
+        if (catType == null) {
+            throw new IllegalArgumentException("Cat type cannot be null");
+        }
+        return (byte) (CAT_BASE + catType.ordinal());
+    }
+
+    /**
+     * Gets the card type of a code.
+     * @param code the card code
+     * @return the card type
+     * @throws IllegalArgumentException if the code is invalid
+     */
+    public static CardType typeOf(byte code) {
+        checkCode(code);
+        return code >= CAT_BASE ? CardType.CAT_CARD : CARD_TYPES[code];
+    }
+
+    /**
+     * Gets the cat type of a code.
+     * @param code the card code
+     * @return the cat type, or null if the code is not a cat card
+     * @throws IllegalArgumentException if the code is invalid
+     */
+    public static CatType catTypeOf(byte code) {
+        checkCode(code);
+        return code >= CAT_BASE ? CAT_TYPES[code - CAT_BASE] : null;
+    }
+
+    /**
+     * Creates a card for a code.
+     * Stateless cards come from the CardRegistry; stateful cards are new instances.
+     * @param code the card code
+     * @return the card
+     * @throws IllegalArgumentException if the code is invalid
+     */
+    public static Card decode(byte code) {
+        CardType type = typeOf(code);
+        if (type == CardType.CAT_CARD) {
+            return CardRegistry.get(catTypeOf(code));
+        }
+        if (CardRegistry.isShared(type)) {
+            return CardRegistry.get(type);
+        }
+        switch (type) {
+            case ATTACK:
+                return new AttackCard();
+            case FAVOR:
+                return new FavorCard();
+            case SEE_THE_FUTURE:
+                return new SeeTheFutureCard();
+            case DRAW_FROM_BOTTOM:
+                return new DrawFromBottomCard();
+            case SNATCH:
+                return new SnatchCard();
+            default:
+                throw new IllegalArgumentException("Unsupported card type: " + type);
+        }
+    }
+
+    private static void checkCode(byte code) {
+        if (code < 0 || code >= CAT_BASE + CAT_TYPES.length) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+    }
+
+    /**
+     * Decodes this deck.
+     * @return a Deck with the same cards in the same order
+     */
+    public Deck toDeck() {
+        Deck deck = new Deck();
+        List<Card> cards = deck.getRealCards();
+        for (int i = size - 1; i >= 0; i--) {
+            cards.add(decode(codes[i]));
+        }
+        return deck;
+    }
+
+    /**
+     * Decodes the cards of this deck.
+     * @return a new list of cards, top card first
+     */
+    public List<Card> getCards() {
+        List<Card> cards = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            cards.add(decode(codes[i]));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the number of cards in the deck.
+     * @return the size of the deck
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the deck is empty.
+     * @return true if the deck is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the code of a card without removing it.
+     * @param position the position from the top (0-based)
+     * @return the card code
+     * @throws IllegalArgumentException if position is invalid
+     */
+    public byte peek(int position) {
+        if (position < 0 || position >= size) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        return codes[size - 1 - position];
+    }
+
+    /**
+     * Draws the top card.
+     * @return the code of the drawn card
+     * @throws IllegalStateException if the deck is empty
+     */
+    public byte drawOne() {
+        if (size == 0) {
+            throw new IllegalStateException("Cannot draw from an empty deck");
+        }
+        return codes[--size];
+    }
+
+    /**
+     * Removes the bottom card.
+     * @return the code of the removed card
+     * @throws IllegalStateException if the deck is empty
+     */
+    public byte removeBottomCard() {
+        if (size == 0) {
+            throw new IllegalStateException("Cannot draw from an empty deck");
+        }
+        byte bottom = codes[0];
+        size--;
+        System.arraycopy(codes, 1, codes, 0, size);
+        return bottom;
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     * @param code the card code
+     * @throws IllegalArgumentException if the code is invalid
+     */
+    public void addCard(byte code) {
+        insertAt(code, 0);
+    }
+
+    /**
+     * Inserts a card at the specified position.
+     * @param code the card code
+     * @param position the position from the top (0-based), up to size for the bottom
+     * @throws IllegalArgumentException if the code or position is invalid
+     */
+    public void insertAt(byte code, int position) {
+        checkCode(code);
+        if (position < 0 || position > size) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        if (size == codes.length) {
+            byte[] grown = new byte[Math.max(MIN_CAPACITY, codes.length << 1)];
+            System.arraycopy(codes, 0, grown, 0, size);
+            codes = grown;
+        }
+        int index = size - position;
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        codes[index] = code;
+        size++;
+    }
+
+    /**
+     * Shuffles the deck in place with a Fisher-Yates shuffle.
+     * @param random the random generator to use
+     * @throws IllegalArgumentException if random is null
+     */
+    public void shuffle(Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = codes[i];
+            codes[i] = codes[j];
+            codes[j] = swap;
+        }
+    }
+
+    /**
+     * Switches the top and bottom halves of the deck, keeping an odd middle card in place.
+     * Same result as {@link Deck#switchTopAndBottomHalf()}, done with three in-place reversals.
+     */
+    public void switchTopAndBottomHalf() {
+        int half = size / 2;
+        reverse(0, size);
+        reverse(0, half);
+        reverse(size - half, size);
+    }
+
+    /**
+     * Moves cards from the top of the deck to the bottom, keeping their order.
+     * @param count the number of cards to move
+     * @throws IllegalArgumentException if count is negative or larger than the deck
+     */
+    public void moveTopToBottom(int count) {
+        if (count < 0 || count > size) {
+            throw new IllegalArgumentException("Invalid card count: " + count);
+        }
+        reverse(0, size);
+        reverse(0, count);
+        reverse(count, size);
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            byte swap = codes[i];
+            codes[i] = codes[j];
+            codes[j] = swap;
+        }
+    }
+
+    /**
+     * Counts the cards with a code.
+     * @param code the card code
+     * @return the number of matching cards
+     */
+    public int count(byte code) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the contents of this deck with those of another, reusing this buffer when it fits.
+     * @param other the deck to copy
+     * @throws IllegalArgumentException if other is null
+     */
+    public void copyFrom(CompactDeck other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Deck cannot be null");
+        }
+        if (codes.length < other.size) {
+            codes = new byte[other.codes.length];
+        }
+        System.arraycopy(other.codes, 0, codes, 0, other.size);
+        size = other.size;
+    }
+
+    /**
+     * Creates an independent copy of this deck.
+     * @return the copy
+     */
+    public CompactDeck copy() {
+        CompactDeck copy = new CompactDeck(codes.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+}
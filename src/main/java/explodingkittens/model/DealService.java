@@ -20,7 +20,7 @@ public class DealService {
         }
         
         for (Player player : players) {
-            player.receiveCard(new DefuseCard());
+            player.receiveCard(CardRegistry.get(CardType.DEFUSE));
         }
     }
 
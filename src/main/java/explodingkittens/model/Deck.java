@@ -4,32 +4,101 @@ import explodingkittens.exceptions.EmptyDeckException;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
 /**
  * Represents a deck of cards in the Exploding Kittens game.
+ * Cards are kept in a circular array with index 0 as the top, so drawing from
+ * either end and moving cards from the top to the bottom are constant-time.
+ * The deck also keeps its card counts per type and remembers, for each player, which
+ * positions hold a card that player has seen: cards shown to a player by
+ * {@link #peek(Player, int)} and a card a player put back with
+ * {@link #insertAt(Player, Card, int)} stay known to that player alone, wherever draws
+ * and moves take them, until they leave the deck or the deck is shuffled. The chances
+ * it reports for a player therefore use only what that player has seen.
  */
 public class Deck {
-    private List<Card> cards;
+    /** Composition slots checked by validateDeck; other card types may be in any number. */
+    private static final int[] VALIDATED_SLOTS;
+    /** Expected composition per player count, only meaningful at VALIDATED_SLOTS. */
+    private static final int[][] EXPECTED_COMPOSITION = new int[5][];
+    /** getCardCounts key per composition slot, null for the slot of all cat cards. */
+    private static final String[] COUNT_KEYS = new String[CardRing.COMPOSITION_SIZE];
+
+    static {
+        CardType[] mainTypes = {
+            CardType.ATTACK, CardType.SKIP, CardType.SHUFFLE, CardType.SEE_THE_FUTURE, CardType.NOPE
+        };
+        CatType[] catTypes = CatType.values();
+        VALIDATED_SLOTS = new int[1 + mainTypes.length + catTypes.length];
+        int next = 0;
+        VALIDATED_SLOTS[next++] = CardRing.compositionSlot(CardType.DEFUSE);
+        for (CardType type : mainTypes) {
+            VALIDATED_SLOTS[next++] = CardRing.compositionSlot(type);
+        }
+        for (CatType type : catTypes) {
+            VALIDATED_SLOTS[next++] = CardRing.compositionSlot(type);
+        }
+        for (int players = 2; players <= 4; players++) {
+            int[] expected = new int[CardRing.COMPOSITION_SIZE];
+            expected[CardRing.compositionSlot(CardType.DEFUSE)] = 5 - players;
+            for (CardType type : mainTypes) {
+                expected[CardRing.compositionSlot(type)] = type == CardType.NOPE ? 4 : 2;
+            }
+            for (CatType type : catTypes) {
+                expected[CardRing.compositionSlot(type)] = 5;
+            }
+            EXPECTED_COMPOSITION[players] = expected;
+        }
+
+        for (CardType type : CardType.values()) {
+            if (type != CardType.CAT_CARD) {
+                String name = type.name().toLowerCase(Locale.ROOT);
+                COUNT_KEYS[CardRing.compositionSlot(type)] =
+                    Character.toUpperCase(name.charAt(0)) + name.substring(1) + "Card";
+            }
+        }
+        for (CatType type : catTypes) {
+            COUNT_KEYS[CardRing.compositionSlot(type)] = "CatCard_" + type.name();
+        }
+    }
+
+    private CardRing cards;
+    private Random random;
+    /** Observer number of each player who has seen a card of this deck. */
+    private final Map<Player, Integer> observers = new IdentityHashMap<>();
 
     /**
      * Creates a new empty deck.
      */
     public Deck() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardRing();
     }
 
     /**
-     * Copy constructor, implements deep copy.
+     * Copy constructor. Stateful cards are cloned, shareable cards are shared,
+     * and the copy keeps drawing from the same random source.
      * @param other the Deck object to copy
      */
     public Deck(Deck other) {
-        this.cards = new ArrayList<>();
+        this.random = other.random;
+        this.cards = new CardRing(other.cards.size());
         for (Card card : other.cards) {
-            this.cards.add(card.clone()); // assume Card implements clone()
+            this.cards.add(card.copy());
+        }
+        this.observers.putAll(other.observers);
+        for (int i = 0; other.cards.hasKnowledge() && i < other.cards.size(); i++) {
+            for (long bits = other.cards.knownBy(i); bits != 0; bits &= bits - 1) {
+                this.cards.reveal(Long.numberOfTrailingZeros(bits), i);
+            }
         }
     }
 
@@ -43,17 +112,30 @@ public class Deck {
         if (cards.isEmpty()) {
             throw new IllegalStateException("Cannot draw from an empty deck");
         }
-        return cards.remove(0);
+        return cards.removeFirst();
     }
 
     /**
-     * Inserts a card at the specified position in the deck.
+     * Inserts a card at the specified position in the deck without anyone knowing where.
      * 
      * @param card The card to insert
      * @param position The position to insert the card at (0-based)
      * @throws IllegalArgumentException if position is invalid or card is null
      */
     public void insertAt(Card card, int position) {
+        insertAt(null, card, position);
+    }
+
+    /**
+     * Inserts a card at the specified position in the deck, which only the inserting
+     * player then knows, e.g. a defused Exploding Kitten put back in secret.
+     * @param observer the player inserting the card, or null if nobody knows where it went
+     * @param card the card to insert
+     * @param position the position to insert the card at (0-based)
+     * @throws IllegalArgumentException if position is invalid or card is null
+     * @throws IllegalStateException if the deck already tracks the most players it can
+     */
+    public void insertAt(Player observer, Card card, int position) {
         if (card == null) {
             throw new IllegalArgumentException("Card cannot be null");
         }
@@ -61,6 +143,27 @@ public class Deck {
             throw new IllegalArgumentException("Invalid position: " + position);
         }
         cards.add(position, card);
+        if (observer != null) {
+            cards.reveal(observerNumber(observer), position);
+        }
+    }
+
+    private int observerNumber(Player observer) {
+        Integer number = observers.get(observer);
+        if (number == null) {
+            if (observers.size() == CardRing.MAX_OBSERVERS) {
+                throw new IllegalStateException(
+                    "A deck tracks at most " + CardRing.MAX_OBSERVERS + " players");
+            }
+            number = observers.size();
+            observers.put(observer, number);
+        }
+        return number;
+    }
+
+    private int knownNumber(Player observer) {
+        Integer number = observer == null ? null : observers.get(observer);
+        return number == null ? -1 : number;
     }
 
     /**
@@ -77,10 +180,146 @@ public class Deck {
     }
 
     /**
-     * Shuffles the deck.
+     * Shows the top cards of the deck to a player, who then knows them.
+     * @param observer the player shown the cards, or null if nobody is to remember them
+     * @param count the number of cards to show
+     * @return up to count cards from the top, top first
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the deck already tracks the most players it can
+     */
+    public List<Card> peek(Player observer, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        int shown = Math.min(count, cards.size());
+        int number = observer == null || shown == 0 ? -1 : observerNumber(observer);
+        List<Card> top = new ArrayList<>(shown);
+        for (int i = 0; i < shown; i++) {
+            top.add(cards.get(i));
+            if (number >= 0) {
+                cards.reveal(number, i);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Shows the top cards of the deck to a player into a caller's buffer.
+     * Unlike {@link #peek(Player, int)} it allocates nothing, so a buffer can be reused.
+     * @param observer the player shown the cards, or null if nobody is to remember them
+     * @param count the number of cards to show
+     * @param buffer receives the cards, top first, from index 0
+     * @return the number of cards shown, less than count if the deck is smaller
+     * @throws IllegalArgumentException if count is negative, buffer is null or shorter than count
+     * @throws IllegalStateException if the deck already tracks the most players it can
+     */
+    public int peek(Player observer, int count, Card[] buffer) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        if (buffer == null || buffer.length < count) {
+            throw new IllegalArgumentException("Buffer must hold " + count + " cards");
+        }
+        int shown = Math.min(count, cards.size());
+        int number = observer == null || shown == 0 ? -1 : observerNumber(observer);
+        for (int i = 0; i < shown; i++) {
+            buffer[i] = cards.get(i);
+            if (number >= 0) {
+                cards.reveal(number, i);
+            }
+        }
+        return shown;
+    }
+
+    /**
+     * Reads the card at a position without showing it to anyone, so it does not become known.
+     * @param position the position, 0 being the top
+     * @return the card
+     * @throws IndexOutOfBoundsException if position is outside the deck
+     */
+    public Card get(int position) {
+        return cards.get(position);
+    }
+
+    /**
+     * Walks the top cards of the deck without copying them or showing them to anyone.
+     * @param count the number of cards to walk, at most the whole deck
+     * @return a cursor over up to count cards, top first
+     * @throws IllegalArgumentException if count is negative
+     */
+    public Cursor cursor(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        return new Cursor(Math.min(count, cards.size()));
+    }
+
+    /**
+     * Counts the cards of a type in the deck without scanning it.
+     * @param type the card type
+     * @return the number of cards of that type
+     */
+    public int countCards(CardType type) {
+        return cards.count(type);
+    }
+
+    /**
+     * Checks if a player has seen the card at a position since the last shuffle.
+     * @param observer the player, or null for someone who has seen nothing
+     * @param position the position, 0 being the top
+     * @return true if the card is known to the player
+     * @throws IndexOutOfBoundsException if position is outside the deck
+     */
+    public boolean isKnown(Player observer, int position) {
+        long seenBy = cards.knownBy(position);
+        int number = knownNumber(observer);
+        return number >= 0 && (seenBy & (1L << number)) != 0;
+    }
+
+    /**
+     * Computes the chance, as a player sees it, that the card at a position is of a type.
+     * A position the player knows is certain; the positions they do not know share the
+     * cards they have not seen evenly.
+     * @param observer the player, or null for someone who has seen nothing
+     * @param type the card type
+     * @param position the position, 0 being the top
+     * @return the probability, between 0 and 1
+     * @throws IndexOutOfBoundsException if position is outside the deck
+     */
+    public double getChance(Player observer, CardType type, int position) {
+        if (isKnown(observer, position)) {
+            return cards.get(position).getType() == type ? 1 : 0;
+        }
+        int number = knownNumber(observer);
+        if (number < 0) {
+            return cards.count(type) / (double) cards.size();
+        }
+        int unknownOfType = cards.count(type) - cards.countKnown(number, type);
+        return unknownOfType / (double) (cards.size() - cards.knownSize(number));
+    }
+
+    /**
+     * Computes the chance, as a player sees it, that the next draw is an Exploding Kitten.
+     * @param observer the player, or null for someone who has seen nothing
+     * @return the probability, or 0 if the deck is empty
+     */
+    public double getExplodingKittenChance(Player observer) {
+        return cards.isEmpty() ? 0 : getChance(observer, CardType.EXPLODING_KITTEN, 0);
+    }
+
+    /**
+     * Shuffles the deck with its random source.
      */
     public void shuffle() {
-        Collections.shuffle(cards, new Random());
+        shuffle(null);
+    }
+
+    /**
+     * Sets the random source used by {@link #shuffle()}, normally the game's seeded one.
+     * @param random the random source, or null to use a fresh unseeded one per shuffle
+     */
+    public void setRandom(Random random) {
+        this.random = random;
     }
 
     /**
@@ -128,7 +367,7 @@ public class Deck {
         if (cards.isEmpty()) {
             throw new EmptyDeckException();
         }
-        return cards.remove(0);
+        return cards.removeFirst();
     }
 
     /**
@@ -142,26 +381,26 @@ public class Deck {
         }
         
         this.cards.clear();
-        this.addCards(new DefuseCard(), 5-playerCount);
+        this.addCards(CardRegistry.get(CardType.DEFUSE), 5-playerCount);
         this.addCards(new AttackCard(), 2);
-        this.addCards(new SkipCard(), 2);
-        this.addCards(new ShuffleCard(), 2);
+        this.addCards(CardRegistry.get(CardType.SKIP), 2);
+        this.addCards(CardRegistry.get(CardType.SHUFFLE), 2);
         this.addCards(new SeeTheFutureCard(), 2);
-        this.addCards(new NopeCard(), 4);
-        this.addCards(new WatermelonCatCard(), 5);
-        this.addCards(new BeardCatCard(), 5);
-        this.addCards(new HairyPotatoCatCard(), 5);
-        this.addCards(new RainbowCatCard(), 5);
-        this.addCards(new TacoCatCard(), 5);
+        this.addCards(CardRegistry.get(CardType.NOPE), 4);
+        this.addCards(CardRegistry.get(CatType.WATERMELON_CAT), 5);
+        this.addCards(CardRegistry.get(CatType.BEARD_CAT), 5);
+        this.addCards(CardRegistry.get(CatType.HAIRY_POTATO_CAT), 5);
+        this.addCards(CardRegistry.get(CatType.RAINBOW_CAT), 5);
+        this.addCards(CardRegistry.get(CatType.TACOCAT), 5);
         this.addCards(new SnatchCard(), 1);
-        this.addCards(new SwitchDeckByHalfCard(), 1);
-        this.addCards(new TimeRewindCard(), 1);
+        this.addCards(CardRegistry.get(CardType.SWITCH_DECK_BY_HALF), 1);
+        this.addCards(CardRegistry.get(CardType.TIME_REWIND), 1);
         this.addCards(new FavorCard(), 1);
         this.addCards(new DrawFromBottomCard(), 2);
-        this.addCards(new ReverseCard(), 2);
-        this.addCards(new SuperSkipCard(), 2);
-        this.addCards(new DoubleSkipCard(), 2);
-        this.addCards(new FeralCatCard(), 5);
+        this.addCards(CardRegistry.get(CardType.REVERSE), 2);
+        this.addCards(CardRegistry.get(CardType.SUPER_SKIP), 2);
+        this.addCards(CardRegistry.get(CardType.DOUBLE_SKIP), 2);
+        this.addCards(CardRegistry.get(CatType.FERAL_CAT), 5);
     }
     
     /**
@@ -178,7 +417,7 @@ public class Deck {
             throw new IllegalArgumentException("Count cannot be negative");
         }
         for (int i = 0; i < count; i++) {
-            this.cards.add(card.clone());
+            this.cards.add(card.copy());
         }
     }
     
@@ -191,96 +430,62 @@ public class Deck {
         if (card == null) {
             throw new IllegalArgumentException("Card cannot be null");
         }
-        this.cards.add(card.clone());
+        this.cards.add(card.copy());
     }
     
     /**
-     * Returns counts of each card type in the deck.
-     * @return A map containing the count of each card type
+     * Returns counts of each card type in the deck, read from the composition vector.
+     * Cat cards are counted per cat type under "CatCard_" keys, e.g. CatCard_TACOCAT.
+     * @return A map containing the count of each card type in the deck
      */
     public Map<String, Integer> getCardCounts() {
         Map<String, Integer> counts = new HashMap<>();
-        for (Card card : cards) {
-            String key;
-            if (card instanceof CatCard) {
-                key = "CatCard_" + ((CatCard) card).getCatType().name();  // e.g., CatCard_TACOCAT
-            } 
-            else {
-                // Handle special cases
-                String base = card.getType().name().toLowerCase();
-                switch (base) {
-                    case "see_the_future":
-                        key = "See_the_futureCard";
-                        break;
-                    case "switch_deck_by_half":
-                        key = "Switch_deck_by_halfCard";
-                        break;
-                    case "time_rewind":
-                        key = "Time_rewindCard";
-                        break;
-                    case "draw_from_bottom":
-                        key = "Draw_from_bottomCard";
-                        break;
-                    case "super_skip":
-                        key = "Super_skipCard";
-                        break;
-                    case "double_skip":
-                        key = "Double_skipCard";
-                        break;
-                    default:
-                        key = Character.toUpperCase(base.charAt(0)) + base.substring(1) + "Card";
-                }
+        for (int slot = 0; slot < COUNT_KEYS.length; slot++) {
+            int count = cards.composition(slot);
+            if (count > 0 && COUNT_KEYS[slot] != null) {
+                counts.put(COUNT_KEYS[slot], count);
             }
-            counts.put(key, counts.getOrDefault(key, 0) + 1);
         }
         return counts;
     }
-    
 
     /**
-     * Determines the type key for a card.
-     * @param card The card to determine the type for
-     * @return A string key representing the card type
+     * Counts the cat cards of a cat type in the deck without scanning it.
+     * @param type the cat type
+     * @return the number of cat cards of that type
      */
-    private String getCardTypeKey(Card card) {
-        if (card instanceof CatCard) {
-            return "CatCard_" + ((CatCard) card).getCatType().name();
-        } 
-        if (card instanceof DefuseCard) {
-            return "DefuseCard";
-        } 
-        if (card instanceof AttackCard) {
-            return "AttackCard";
-        } 
-        if (card instanceof SkipCard) {
-            return "SkipCard";
-        } 
-        if (card instanceof ShuffleCard) {
-            return "ShuffleCard";
-        } 
-        if (card instanceof SeeTheFutureCard) {
-            return "See_the_futureCard";
-        } 
-        if (card instanceof NopeCard) {
-            return "NopeCard";
-        }
-        if (card instanceof ExplodingKittenCard) {
-            return "Exploding_kittenCard";
+    public int countCats(CatType type) {
+        return cards.composition(CardRing.compositionSlot(type));
+    }
+
+    /**
+     * Copies the deck composition: the count of every card type, by CardType ordinal,
+     * followed by the count of every cat type, by CatType ordinal.
+     * @return a new vector of CardType.values().length + CatType.values().length counts
+     */
+    public int[] getComposition() {
+        int[] composition = new int[CardRing.COMPOSITION_SIZE];
+        for (int slot = 0; slot < composition.length; slot++) {
+            composition[slot] = cards.composition(slot);
         }
-        return "UnknownCard";
+        return composition;
     }
 
     /**
      * Shuffles the deck of cards using the provided random generator.
-     * If no random generator is provided, uses a default one.
+     * If no random generator is provided, uses the deck's own random source.
      * @param random the random generator to use for shuffling, or null to use default
      */
     public void shuffle(Random random) {
-        Collections.shuffle(cards, random != null ? random : new Random());
+        Random source = random != null ? random : this.random;
+        Collections.shuffle(cards, source != null ? source : new Random());
+        cards.forget();
     }
 
     /**
      * Validates that the deck contains the correct number of cards for the given player count.
+     * Compares the kept composition against the expected one for that player count,
+     * without looking at the cards.
      * @param playerCount the number of players in the game
      * @return true if the deck is valid, false otherwise
      */
@@ -288,49 +493,9 @@ public class Deck {
         if (playerCount < 2 || playerCount > 4) {
             return false;
         }
-        Map<String, Integer> counts = getCardCounts();
-        System.out.println("DEBUG: Card counts = " + counts);
-        if (!validateDefuse(counts, playerCount)) {
-            System.out.println("Invalid defuse count");
-            return false;
-        }
-        if (!validateMainCards(counts)) {
-            System.out.println("Invalid main cards");
-            return false;
-        }
-        if (!validateCatCards(counts)) {
-            System.out.println("Invalid cat cards");
-            return false;
-        }
-        return true;
-    }
-
-    private boolean validateDefuse(Map<String, Integer> counts, int playerCount) {
-        return counts.getOrDefault("DefuseCard", 0) == 5 - playerCount;
-    }
-
-    private boolean validateMainCards(Map<String, Integer> counts) {
-        if (counts.getOrDefault("AttackCard", 0) != 2) {
-            return false;
-        }
-        if (counts.getOrDefault("SkipCard", 0) != 2) {
-            return false;
-        }
-        if (counts.getOrDefault("ShuffleCard", 0) != 2) {
-            return false;
-        }
-        if (counts.getOrDefault("See_the_futureCard", 0) != 2) {
-            return false;
-        }
-        if (counts.getOrDefault("NopeCard", 0) != 4) {
-            return false;
-        }
-        return true;
-    }
-
-    private boolean validateCatCards(Map<String, Integer> counts) {
-        for (CatType type : CatType.values()) {
-            if (counts.getOrDefault("CatCard_" + type.name(), 0) != 5) {
+        int[] expected = EXPECTED_COMPOSITION[playerCount];
+        for (int slot : VALIDATED_SLOTS) {
+            if (cards.composition(slot) != expected[slot]) {
                 return false;
             }
         }
@@ -346,8 +511,9 @@ public class Deck {
         if (count < 0) {
             throw new IllegalArgumentException("Count cannot be negative");
         }
+        Card kitten = CardRegistry.get(CardType.EXPLODING_KITTEN);
         for (int i = 0; i < count; i++) {
-            this.cards.add(new ExplodingKittenCard());
+            this.cards.add(kitten);
         }
     }
 
@@ -363,27 +529,15 @@ public class Deck {
         }
 
         int mid = size / 2;
-        List<Card> topHalf;
-        List<Card> bottomHalf;
-
+        // Rotating the top half under the bottom half swaps them in place
         if (size % 2 == 0) {
             // Even number of cards
-            topHalf = new ArrayList<>(cards.subList(0, mid));
-            bottomHalf = new ArrayList<>(cards.subList(mid, size));
-            cards.clear();
-            cards.addAll(bottomHalf);
-            cards.addAll(topHalf);
+            cards.rotate(mid);
         } 
         else {
             // Odd number of cards - middle card stays in place
-            topHalf = new ArrayList<>(cards.subList(0, mid));
-            Card middle = cards.get(mid);
-            bottomHalf = new ArrayList<>(cards.subList(mid + 1, size));
-
-            cards.clear();
-            cards.addAll(bottomHalf);
-            cards.add(middle);
-            cards.addAll(topHalf);
+            cards.rotate(mid + 1);
+            cards.add(mid, cards.removeLast());
         }
     }
 
@@ -416,6 +570,76 @@ public class Deck {
         if (cards.isEmpty()) {
             throw new EmptyDeckException();
         }
-        return cards.remove(cards.size() - 1);
+        return cards.removeLast();
+    }
+
+    /**
+     * Moves cards from the top of the deck to the bottom, keeping their order.
+     * @param count the number of cards to move
+     * @throws IllegalArgumentException if count is negative or larger than the deck
+     */
+    public void moveTopToBottom(int count) {
+        if (count < 0 || count > cards.size()) {
+            throw new IllegalArgumentException("Invalid card count: " + count);
+        }
+        cards.rotate(count);
+    }
+
+    /**
+     * Forward cursor over the top cards of a deck.
+     * It reads the live deck, so changing the deck while walking it fails fast.
+     */
+    public final class Cursor implements Iterator<Card> {
+        private final int end;
+        private final int expectedModCount;
+        private int position;
+
+        private Cursor(int end) {
+            this.end = end;
+            this.expectedModCount = cards.modifications();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        /**
+         * Moves to the next card.
+         * @return the card
+         * @throws NoSuchElementException if the cursor is past its last card
+         * @throws ConcurrentModificationException if the deck changed since the cursor was made
+         */
+        @Override
+        public Card next() {
+            if (cards.modifications() != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (position >= end) {
+                throw new NoSuchElementException();
+            }
+            return cards.get(position++);
+        }
+
+        /**
+         * Gets the position of the card the next call to {@link #next()} returns.
+         * @return the position, 0 being the top
+         */
+        public int position() {
+            return position;
+        }
+
+        /**
+         * Checks if a player has seen the card last returned since the last shuffle.
+         * @param observer the player, or null for someone who has seen nothing
+         * @return true if the card is known to the player
+         * @throws IllegalStateException if {@link #next()} has not been called
+         */
+        public boolean isKnown(Player observer) {
+            if (position == 0) {
+                throw new IllegalStateException("No card read yet");
+            }
+            return Deck.this.isKnown(observer, position - 1);
+        }
     }
 }
@@ -15,6 +15,11 @@ public class DefuseCard extends Card {
         super(CardType.DEFUSE);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * The effect of the DefuseCard.
      * @param turnOrder The order of players in the game.
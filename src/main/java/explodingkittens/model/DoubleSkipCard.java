@@ -8,6 +8,11 @@ public class DoubleSkipCard extends Card {
         super(CardType.DOUBLE_SKIP);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     @Override
     public void effect(List<Player> turnOrder, Deck gameDeck) {
         // DoubleSkip card effect: Reduce leftTurns by 2, but not below 0
@@ -13,11 +13,15 @@ import explodingkittens.view.GameView;
  * If played as a defense to an Attack Card, each card ends 1 attack turn.
  */
 public class DrawFromBottomCard extends Card {
-    private final GameView view;
+    private GameView view;
+    private GameView explodingKittenView;
 
+    /**
+     * Creates a new DrawFromBottomCard.
+     * Its console view is only created if the card is played without a view set.
+     */
     public DrawFromBottomCard() {
         super(CardType.DRAW_FROM_BOTTOM);
-        this.view = new ConsoleGameView();
     }
 
     /**
@@ -29,6 +33,16 @@ public class DrawFromBottomCard extends Card {
         this.view = view;
     }
 
+    /**
+     * Sets the view used to report the drawn card and to resolve an Exploding Kitten.
+     * Without it, an Exploding Kitten drawn from the bottom is resolved on the console.
+     * @param view The view to use for displaying game information
+     */
+    public void setView(GameView view) {
+        this.view = view;
+        this.explodingKittenView = view;
+    }
+
     /**
      * Executes the effect of the Draw From Bottom card.
      * Draws the bottom card from the deck and gives it to the current player.
@@ -45,7 +59,7 @@ public class DrawFromBottomCard extends Card {
         if (deck == null) {
             throw new IllegalArgumentException("Deck cannot be null");
         }
-        if (deck.getCards().isEmpty()) {
+        if (deck.isEmpty()) {
             throw new IllegalStateException(
                 "Cannot draw from an empty deck"
             );
@@ -56,15 +70,17 @@ public class DrawFromBottomCard extends Card {
         Card bottomCard = deck.removeBottomCard();
 
         // Display the drawn card using the view
+        if (view == null) {
+            view = new ConsoleGameView();
+        }
         view.displayCardDrawnFromBottom(bottomCard);
 
         // Check if the drawn card is an Exploding Kitten
         if (bottomCard instanceof ExplodingKittenCard) {
             // Handle the Exploding Kitten
-            TurnService turnService = new TurnService(
-                new ConsoleGameView(), 
-                new CardEffectService(new ConsoleGameView())
-                );
+            GameView resolver = explodingKittenView != null 
+                ? explodingKittenView : new ConsoleGameView();
+            TurnService turnService = new TurnService(resolver, new CardEffectService(resolver));
             turnService.handleExplodingKitten(currentPlayer, (ExplodingKittenCard) bottomCard);
         } 
         else {
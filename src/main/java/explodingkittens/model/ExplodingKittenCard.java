@@ -1,5 +1,6 @@
 package explodingkittens.model;
 
+import explodingkittens.controller.GameContext;
 import java.util.List;
 
 /**
@@ -16,6 +17,11 @@ public class ExplodingKittenCard extends Card {
         super(CardType.EXPLODING_KITTEN);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * The effect of the ExplodingKittenCard.
      * @param turnOrder The order of players in the game.
@@ -26,7 +32,7 @@ public class ExplodingKittenCard extends Card {
         // 如果当前玩家没有拆弹卡，则将其标记为死亡
         Player currentPlayer = turnOrder.get(0);
         if (!currentPlayer.hasDefuse()) {
-            currentPlayer.setAlive(false);
+            GameContext.eliminatePlayer(currentPlayer);
         }
     }
 } 
\ No newline at end of file
@@ -16,10 +16,10 @@ public class FavorCard extends Card {
 
     /**
      * Creates a new Favor card.
+     * Its console view is only created if the card is played without a view set.
      */
     public FavorCard() {
         super(CardType.FAVOR);
-        this.view = new FavorCardView();
     }
 
     /**
@@ -30,6 +30,14 @@ public class FavorCard extends Card {
         return new FavorCardView();
     }
 
+    /**
+     * Sets the view used to pick the target player and the given card.
+     * @param view The view to use
+     */
+    public void setView(FavorCardView view) {
+        this.view = view;
+    }
+
     /**
      * Creates a new Favor card with a specific view (for testing purposes).
      * @param view The view to use
@@ -58,6 +66,9 @@ public class FavorCard extends Card {
         List<Player> availablePlayers = turnOrder.subList(1, turnOrder.size());
 
         // Get target player selection
+        if (view == null) {
+            view = new FavorCardView();
+        }
         int targetIndex = view.promptTargetPlayer(availablePlayers);
         Player targetPlayer = availablePlayers.get(targetIndex);
 
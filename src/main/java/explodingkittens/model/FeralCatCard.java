@@ -13,31 +13,6 @@ public class FeralCatCard extends CatCard {
         super(CatType.FERAL_CAT);
     }
 
-    @Override
-    public void effect(List<Player> turnOrder, Deck gameDeck) {
-        validateInputHandler();
-        Player currentPlayer = turnOrder.get(0);
-        validatePlayerTurns(currentPlayer);
-        
-        // Find two cat cards (one feral cat and one other cat)
-        CatCard[] catCards = findCatCardPair(currentPlayer.getHand());
-        
-        // Get available targets and validate
-        List<Player> availableTargets = getAvailableTargets(turnOrder, currentPlayer);
-        if (availableTargets.isEmpty()) {
-            throw new IllegalStateException("No valid target players available");
-        }
-
-        // Select target player and validate
-        Player targetPlayer = selectTargetPlayer(turnOrder, currentPlayer);
-        validateTargetPlayer(targetPlayer);
-
-        // Select card to steal
-        int cardIndex = selectCardIndex(targetPlayer);
-
-        // Throw CatCardEffect to handle the actual card stealing
-        throw new CatCardEffect(catCards[0], catCards[1], targetPlayer, cardIndex);
-    }
 
     /**
      * Override the findCatCardPair method to allow Feral Cat to pair with any other cat card
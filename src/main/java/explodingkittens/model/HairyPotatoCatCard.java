@@ -1,7 +1,5 @@
 package explodingkittens.model;
 
-import java.util.List;
-
 /**
  * Represents a Rainbow Cat card in the Exploding Kittens game.
  * Rainbow Cat cards can be used to steal any card from other players,
@@ -12,30 +10,4 @@ public class HairyPotatoCatCard extends CatCard {
     public HairyPotatoCatCard() {
         super(CatType.HAIRY_POTATO_CAT);
     }
-
-    @Override
-    public void effect(List<Player> turnOrder, Deck gameDeck) {
-        validateInputHandler();
-        Player currentPlayer = turnOrder.get(0);
-        validatePlayerTurns(currentPlayer);
-        
-        // Find two rainbow cat cards
-        CatCard[] catCards = findCatCardPair(currentPlayer.getHand());
-        
-        // Get available targets and validate
-        List<Player> availableTargets = getAvailableTargets(turnOrder, currentPlayer);
-        if (availableTargets.isEmpty()) {
-            throw new IllegalStateException("No valid target players available");
-        }
-
-        // Select target player and validate
-        Player targetPlayer = selectTargetPlayer(turnOrder, currentPlayer);
-        validateTargetPlayer(targetPlayer);
-
-        // Select card to steal
-        int cardIndex = selectCardIndex(targetPlayer);
-
-        // Throw CatCardEffect to handle the actual card stealing
-        throw new CatCardEffect(catCards[0], catCards[1], targetPlayer, cardIndex);
-    }
 } 
\ No newline at end of file
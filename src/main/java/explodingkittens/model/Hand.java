@@ -0,0 +1,119 @@
+package explodingkittens.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of the cards in a player's hand that keeps a count per CardType and per CatType.
+ * Every change goes through add, set and remove, so the counts stay correct even when
+ * the list is modified through {@link Player#getRealHand()}, and type queries are O(1).
+ */
+final class Hand extends AbstractList<Card> implements RandomAccess {
+    private final List<Card> cards;
+    private final int[] typeCounts = new int[CardType.values().length];
+    private final int[] catCounts = new int[CatType.values().length];
+
+    Hand() {
+        this.cards = new ArrayList<>();
+    }
+
+    Hand(Hand other) {
+        this.cards = new ArrayList<>(other.cards);
+        System.arraycopy(other.typeCounts, 0, typeCounts, 0, typeCounts.length);
+        System.arraycopy(other.catCounts, 0, catCounts, 0, catCounts.length);
+    }
+
+    private void count(Card card, int delta) {
+        typeCounts[card.getType().ordinal()] += delta;
+        if (card instanceof CatCard) {
+            catCounts[((CatCard) card).getCatType().ordinal()] += delta;
+        }
+    }
+
+    private static void checkCard(Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("Card cannot be null");
+        }
+    }
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        checkCard(card);
+        Card previous = cards.set(index, card);
+        count(previous, -1);
+        count(card, 1);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        checkCard(card);
+        cards.add(index, card);
+        count(card, 1);
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card removed = cards.remove(index);
+        count(removed, -1);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        cards.clear();
+        Arrays.fill(typeCounts, 0);
+        Arrays.fill(catCounts, 0);
+        modCount++;
+    }
+
+    /**
+     * Counts the cards of a type.
+     * @param type the card type
+     * @return the number of cards of that type
+     */
+    int count(CardType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * Counts the cat cards of a cat type.
+     * @param catType the cat type
+     * @return the number of cat cards of that type
+     */
+    int count(CatType catType) {
+        return catCounts[catType.ordinal()];
+    }
+
+    /**
+     * Finds the first card of a type.
+     * @param type the card type
+     * @return the index of the card, or -1 if there is none
+     */
+    int indexOf(CardType type) {
+        if (count(type) == 0) {
+            return -1;
+        }
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i).getType() == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -6,6 +6,11 @@ public class NopeCard extends Card {
     public NopeCard() {
         super(CardType.NOPE);
     }
+
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
     @Override
     public void effect(List<Player> turnOrder, Deck gameDeck) {
     }
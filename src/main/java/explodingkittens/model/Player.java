@@ -1,15 +1,13 @@
 package explodingkittens.model;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Represents a player in the game.
  */
 public class Player {
     private final String name;
-    private final List<Card> hand;
+    private final Hand hand;
     private int leftTurns;
     private boolean alive;
 
@@ -19,7 +17,7 @@ public class Player {
      */
     public Player(String name) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand();
         this.leftTurns = 1;
         this.alive = true;
     }
@@ -79,8 +77,7 @@ public class Player {
      * @return true if the player has at least one defuse card, false otherwise
      */
     public boolean hasDefuse() {
-        return hand.stream()
-                .anyMatch(card -> card.getType() == CardType.DEFUSE);
+        return hand.count(CardType.DEFUSE) > 0;
     }
 
     /**
@@ -88,7 +85,7 @@ public class Player {
      * @return a copy of the player's hand
      */
     public List<Card> getHand() {
-        return new ArrayList<>(hand);
+        return new Hand(hand);
     }
 
     /**
@@ -100,6 +97,22 @@ public class Player {
         return hand;
     }
 
+    /**
+     * Counts the cards in the player's hand without copying it.
+     * @return the number of cards in the hand
+     */
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    /**
+     * Checks if the player holds any card, without copying the hand.
+     * @return true if the hand is not empty
+     */
+    public boolean hasCards() {
+        return !hand.isEmpty();
+    }
+
     /**
      * Removes a card from the player's hand.
      * @param card the card to remove
@@ -141,10 +154,7 @@ public class Player {
      * Uses a defuse card.
      */
     public void useDefuse() {
-        Optional<Card> defuse = hand.stream()
-                .filter(card -> card.getType() == CardType.DEFUSE)
-                .findFirst();
-        defuse.ifPresent(hand::remove);
+        removeCardOfType(CardType.DEFUSE);
     }
 
     /**
@@ -153,8 +163,7 @@ public class Player {
      * @return true if the player has at least one card of the specified type
      */
     public boolean hasCardOfType(CardType type) {
-        return hand.stream()
-                .anyMatch(card -> card.getType() == type);
+        return hand.count(type) > 0;
     }
 
     /**
@@ -163,13 +172,25 @@ public class Player {
      * @return the removed card, or null if no card of that type was found
      */
     public Card removeCardOfType(CardType type) {
-        Optional<Card> card = hand.stream()
-                .filter(c -> c.getType() == type)
-                .findFirst();
-        if (card.isPresent()) {
-            hand.remove(card.get());
-            return card.get();
-        }
-        return null;
+        int index = hand.indexOf(type);
+        return index < 0 ? null : hand.remove(index);
+    }
+
+    /**
+     * Counts the cards of a type in the player's hand.
+     * @param type the card type
+     * @return the number of cards of that type
+     */
+    public int countCards(CardType type) {
+        return hand.count(type);
+    }
+
+    /**
+     * Counts the cat cards of a cat type in the player's hand.
+     * @param catType the cat type
+     * @return the number of cat cards of that type
+     */
+    public int countCatCards(CatType catType) {
+        return hand.count(catType);
     }
 } 
\ No newline at end of file
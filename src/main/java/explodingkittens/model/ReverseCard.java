@@ -1,9 +1,8 @@
 package explodingkittens.model;
 
 import java.util.List;
-import java.util.Collections;
-import java.util.ArrayList;
 import explodingkittens.controller.GameContext;
+import explodingkittens.util.ConsoleOutput;
 
 /**
  * Represents a Reverse card in the game.
@@ -21,6 +20,11 @@ public class ReverseCard extends Card {
         super(CardType.REVERSE);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * Executes the effect of the Reverse card.
      * Reverses the turn order and ends the current player's turn without drawing a card.
@@ -48,32 +52,30 @@ public class ReverseCard extends Card {
         }
 
         try {
-            // Create a new ArrayList with reversed order
-            List<Player> reversedOrder = new ArrayList<>(turnOrder);
-            Collections.reverse(reversedOrder);
-            
-            // Set the new turn order in GameContext
-            GameContext.setTurnOrder(reversedOrder);
+            // Reverse the order in place; the list passed in is a view that follows it
+            GameContext.reverseTurnOrder();
             
             // Print the new turn order
-            System.out.println("\nTurn order after Reverse card:");
-            for (int i = 0; i < reversedOrder.size(); i++) {
-                Player p = reversedOrder.get(i);
-                System.out.println((i + 1) + ". " + p.getName() + 
-                    (p.isAlive() ? "" : " (Eliminated)"));
+            if (ConsoleOutput.isVerbose()) {
+                ConsoleOutput.println("\nTurn order after Reverse card:");
+                for (int i = 0; i < turnOrder.size(); i++) {
+                    Player p = turnOrder.get(i);
+                    ConsoleOutput.println((i + 1) + ". " + p.getName() + 
+                        (p.isAlive() ? "" : " (Eliminated)"));
+                }
+                ConsoleOutput.println();
             }
-            System.out.println();
         } 
         catch (Exception e) {
             // If something goes wrong during reverse, try to recover
-            System.out.println("\nError during reverse operation: " + e.getMessage());
-            System.out.println("Attempting to recover...");
+            ConsoleOutput.println("\nError during reverse operation: " + e.getMessage());
+            ConsoleOutput.println("Attempting to recover...");
             
             // Try to find a valid next player
             for (int i = 0; i < turnOrder.size(); i++) {
                 if (turnOrder.get(i).isAlive()) {
                     GameContext.setCurrentPlayerIndex(i);
-                    System.out.println("Recovered: Next player will be " 
+                    ConsoleOutput.println("Recovered: Next player will be " 
                         + turnOrder.get(i).getName());
                     return;
                 }
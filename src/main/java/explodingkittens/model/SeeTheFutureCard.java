@@ -1,8 +1,8 @@
 package explodingkittens.model;
 
+import explodingkittens.util.ConsoleOutput;
 import explodingkittens.view.SeeTheFutureView;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * A card that allows the player to see the top two cards of the deck.
@@ -28,28 +28,40 @@ public class SeeTheFutureCard extends Card {
 
     @Override
     public void effect(List<Player> turnOrder, Deck deck) {
-        List<Card> topCards = peekTopTwoCards(deck);
+        Player viewer = turnOrder == null || turnOrder.isEmpty() ? null : turnOrder.get(0);
+        List<Card> topCards = peekTopTwoCards(viewer, deck);
 
         // 这里用注入的 view 展示
         if (view != null) {
             view.display(topCards);
         } 
         else {
-            System.out.println("No view available to display future cards!");
+            ConsoleOutput.println("No view available to display future cards!");
         }
     }
 
     /**
-     * Peeks at the top two cards of the deck.
+     * Peeks at the top two cards of the deck without anyone remembering them.
      * @param deck the deck to peek from
      * @return a list containing up to two cards from the top of the deck
      * @throws IllegalArgumentException if deck is null
      */
     public List<Card> peekTopTwoCards(Deck deck) {
+        return peekTopTwoCards(null, deck);
+    }
+
+    /**
+     * Peeks at the top two cards of the deck for a player, who the deck then counts as
+     * knowing them.
+     * @param viewer the player who played the card, or null if nobody is to remember them
+     * @param deck the deck to peek from
+     * @return a list containing up to two cards from the top of the deck
+     * @throws IllegalArgumentException if deck is null
+     */
+    public List<Card> peekTopTwoCards(Player viewer, Deck deck) {
         if (deck == null) {
             throw new IllegalArgumentException("Deck cannot be null.");
         }
-        int size = Math.min(2, deck.getCards().size());
-        return new ArrayList<>(deck.getCards().subList(0, size));
+        return deck.peek(viewer, 2);
     }
 }
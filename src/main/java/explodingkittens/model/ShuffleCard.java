@@ -1,4 +1,5 @@
 package explodingkittens.model;
+import explodingkittens.util.ConsoleOutput;
 import java.util.List;
 
 /**
@@ -13,6 +14,11 @@ public class ShuffleCard extends Card {
         super(CardType.SHUFFLE);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * Play this card: triggers deck shuffle.
      * @param players the list of players in the game
@@ -24,6 +30,6 @@ public class ShuffleCard extends Card {
             throw new IllegalArgumentException("Deck cannot be null when playing ShuffleCard.");
         }
         deck.shuffle();
-        System.out.println("ShuffleCard played: deck has been shuffled!");
+        ConsoleOutput.println("ShuffleCard played: deck has been shuffled!");
     }
 }
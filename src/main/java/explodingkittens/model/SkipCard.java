@@ -8,6 +8,11 @@ public class SkipCard extends Card {
         super(CardType.SKIP);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     @Override
     public void effect(List<Player> turnOrder, Deck gameDeck) {
         // Skip card effect: Reduce leftTurns by 1, but not below 0
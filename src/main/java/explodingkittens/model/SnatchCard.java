@@ -1,25 +1,33 @@
 package explodingkittens.model;
 
 import java.util.List;
-import java.util.Random;
+import explodingkittens.controller.GameContext;
 import explodingkittens.view.FavorCardView;
 
 public class SnatchCard extends Card {
     
-    private static final Random RANDOM = new Random();
-    private final FavorCardView favorCardView;
+    private FavorCardView favorCardView;
     
     /**
      * Creates a new Snatch card.
+     * Its console view is only created if the card is played without a view set.
      */
     public SnatchCard() {
         super(CardType.SNATCH);
-        this.favorCardView = new FavorCardView();
     }
     
+    /**
+     * Sets the view used to pick the target player.
+     * @param view The view to use
+     */
+    public void setView(FavorCardView view) {
+        this.favorCardView = view;
+    }
+
     /**
      * Effect of the Snatch card: Randomly takes a card from the target player's hand.
      * Uses FavorCardView's promptTargetPlayer method to select the target player.
+     * The card is picked with the game's random source, so seeded games replay it.
      * 
      * @param turnOrder List of players in turn order
      * @param gameDeck The game deck (not used in this effect)
@@ -33,6 +41,9 @@ public class SnatchCard extends Card {
         
         Player currentPlayer = turnOrder.get(0);
         List<Player> availablePlayers = turnOrder.subList(1, turnOrder.size());
+        if (favorCardView == null) {
+            favorCardView = new FavorCardView();
+        }
         int targetIndex = favorCardView.promptTargetPlayer(availablePlayers);
         Player targetPlayer = availablePlayers.get(targetIndex);
         
@@ -41,7 +52,7 @@ public class SnatchCard extends Card {
             throw new IllegalStateException("Target player has no cards to snatch");
         }
         
-        int randomIndex = RANDOM.nextInt(targetHand.size());
+        int randomIndex = GameContext.getRandom().nextInt(targetHand.size());
         Card snatchedCard = targetHand.remove(randomIndex);
         currentPlayer.receiveCard(snatchedCard);
     }
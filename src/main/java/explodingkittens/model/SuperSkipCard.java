@@ -7,6 +7,11 @@ public class SuperSkipCard extends Card {
         super(CardType.SUPER_SKIP);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     @Override
     public void effect(List<Player> turnOrder, Deck gameDeck) {
         // SuperSkip card effect: Unconditionally skip current player
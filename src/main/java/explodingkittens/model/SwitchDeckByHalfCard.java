@@ -11,6 +11,11 @@ public class SwitchDeckByHalfCard extends Card {
         super(CardType.SWITCH_DECK_BY_HALF);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     @Override
     public void effect(List<Player> turnOrder, Deck deck) {
         if (deck == null) {
@@ -1,7 +1,6 @@
 package explodingkittens.model;
 
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Represents a Time Rewind card in the game.
@@ -17,6 +16,11 @@ public class TimeRewindCard extends Card {
         super(CardType.TIME_REWIND);
     }
 
+    @Override
+    protected boolean isShareable() {
+        return true;
+    }
+
     /**
      * Executes the effect of the Time Rewind card.
      * Moves the top 3 cards from the deck to the bottom.
@@ -32,27 +36,13 @@ public class TimeRewindCard extends Card {
             throw new IllegalArgumentException("Game deck cannot be null");
         }
 
-        if (gameDeck.getCards().size() < 3) {
+        if (gameDeck.size() < 3) {
             throw new IllegalStateException(
                 "Cannot rewind time: deck must have at least 3 cards"
             );
         }
 
-        // Move top 3 cards to bottom
-        List<Card> cards = gameDeck.getRealCards();
-        // Get the top three cards by their exact position
-        Card first = cards.get(0);
-        Card second = cards.get(1);
-        Card third = cards.get(2);
-        
-        // Remove them in reverse order to avoid index shifting
-        cards.remove(2);
-        cards.remove(1);
-        cards.remove(0);
-        
-        // Add them to the bottom
-        cards.add(first);
-        cards.add(second);
-        cards.add(third);
+        // Rotating keeps the order of the three cards and what players know about them
+        gameDeck.moveTopToBottom(3);
     }
 }
\ No newline at end of file
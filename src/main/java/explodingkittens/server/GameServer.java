@@ -0,0 +1,389 @@
+package explodingkittens.server;
+
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multiplayer server that hosts many tables in one process.
+ * A single thread runs a java.nio Selector over every connection: it accepts clients,
+ * reads their lines and writes what the tables send them, so connected clients that are
+ * not playing cost no thread. Clients that JOIN wait in a lobby, and each time enough of
+ * them are waiting a table is started on the table pool, whose thread plays the game
+ * through the regular controller with one RemotePolicy per seat. After each played card,
+ * every seat holding a Nope is asked at once, for one Nope window. See {@link Protocol}
+ * for the messages.
+ */
+public class GameServer implements Closeable {
+    private static final int READ_BUFFER_BYTES = 8192;
+
+    private static final long DEFAULT_NOPE_WINDOW_MILLIS = 5000;
+
+    private final int playersPerTable;
+    private final long answerTimeoutMillis;
+    private volatile long nopeWindowMillis;
+    private final ExecutorService tables;
+    private final GameRandom random = new GameRandom();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+    private final Deque<Session> lobby = new ArrayDeque<>();
+    private final Queue<Session> writeRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final AtomicInteger finishedTables = new AtomicInteger();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread ioThread;
+    private volatile boolean running;
+
+    /**
+     * Creates a server.
+     * @param playersPerTable the players seated at each table (2-4)
+     * @param maxTables the tables played at the same time; later tables wait for a thread
+     * @param answerTimeoutMillis the time a client has to answer each question
+     * @throws IllegalArgumentException if a count is out of range or the timeout is not positive
+     */
+    public GameServer(int playersPerTable, int maxTables, long answerTimeoutMillis) {
+        if (playersPerTable < 2 || playersPerTable > 4) {
+            throw new IllegalArgumentException("Tables need between 2 and 4 players");
+        }
+        if (maxTables <= 0 || answerTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Table count and timeout must be positive");
+        }
+        this.playersPerTable = playersPerTable;
+        this.answerTimeoutMillis = answerTimeoutMillis;
+        this.nopeWindowMillis = Math.min(answerTimeoutMillis, DEFAULT_NOPE_WINDOW_MILLIS);
+        this.tables = Executors.newFixedThreadPool(maxTables, runnable -> {
+            Thread thread = new Thread(runnable, "game-table");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets how long every seat holding a Nope has to answer, all at once, after a card is
+     * played; applies to tables started afterwards.
+     * @param millis the Nope window in milliseconds
+     * @throws IllegalArgumentException if millis is not positive
+     */
+    public void setNopeWindow(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Nope window must be positive");
+        }
+        this.nopeWindowMillis = millis;
+    }
+
+    /**
+     * Binds the server and starts its selector thread.
+     * @param address the address to listen on; port 0 picks a free port
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalStateException if the server was already started
+     */
+    public synchronized void start(InetSocketAddress address) throws IOException {
+        if (selector != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        ioThread = new Thread(this::runSelector, "game-server-io");
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     * @return the bound port
+     * @throws IllegalStateException if the server is not started
+     */
+    public int getPort() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("Server not started");
+        }
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of open client connections.
+     * @return the connection count
+     */
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * Gets the number of tables being played.
+     * @return the active table count
+     */
+    public int getActiveTables() {
+        return activeTables.get();
+    }
+
+    /**
+     * Gets the number of tables that finished their game.
+     * @return the finished table count
+     */
+    public int getFinishedTables() {
+        return finishedTables.get();
+    }
+
+    /**
+     * Waits until the selector thread stops.
+     * @throws InterruptedException if the caller is interrupted
+     */
+    public void awaitTermination() throws InterruptedException {
+        Thread thread = ioThread;
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Stops the server: closes every connection and abandons the tables in play.
+     * @throws IOException if the listening channel cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        tables.shutdownNow();
+        if (selector != null) {
+            selector.wakeup();
+            try {
+                ioThread.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+    }
+
+    private void requestWrite(Session session) {
+        writeRequests.add(session);
+        selector.wakeup();
+    }
+
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select();
+                Session pending;
+                while ((pending = writeRequests.poll()) != null) {
+                    SelectionKey key = pending.getChannel().keyFor(selector);
+                    if (key != null && key.isValid()) {
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    }
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        }
+        catch (IOException | ClosedSelectorException e) {
+            ConsoleOutput.println("Game server stopped: " + e.getMessage());
+        }
+        finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Session) {
+                    disconnect(key);
+                }
+            }
+            try {
+                selector.close();
+            }
+            catch (IOException e) {
+                ConsoleOutput.println("Cannot close selector: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        try {
+            if (key.isReadable()) {
+                read(key);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(key);
+            }
+        }
+        catch (IOException | IllegalStateException e) {
+            disconnect(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.register(selector, SelectionKey.OP_READ, new Session(channel, this::requestWrite));
+            sessions.incrementAndGet();
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Session session = (Session) key.attachment();
+        readBuffer.clear();
+        int read = session.getChannel().read(readBuffer);
+        if (read < 0) {
+            disconnect(key);
+            return;
+        }
+        readBuffer.flip();
+        for (String line : session.receive(readBuffer)) {
+            if (!key.isValid()) {
+                return;
+            }
+            handleLine(key, session, line);
+        }
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        Session session = (Session) key.attachment();
+        ByteBuffer buffer;
+        while ((buffer = session.pendingOutput()) != null) {
+            session.getChannel().write(buffer);
+            if (buffer.hasRemaining()) {
+                return;
+            }
+            session.outputWritten();
+        }
+        // A send racing with this line queues a new write request, which sets OP_WRITE again
+        key.interestOps(SelectionKey.OP_READ);
+    }
+
+    private void handleLine(SelectionKey key, Session session, String line) {
+        if (Protocol.QUIT.equalsIgnoreCase(line.trim())) {
+            disconnect(key);
+            return;
+        }
+        if (session.isSeated()) {
+            if (!session.answer(line)) {
+                session.send("ERROR No question is open");
+            }
+            return;
+        }
+        String[] words = line.trim().split(" +", 2);
+        if (!Protocol.JOIN.equalsIgnoreCase(words[0]) || words.length < 2) {
+            session.send("ERROR Send JOIN <name> to wait for a table");
+            return;
+        }
+        if (!Protocol.isValidName(words[1])) {
+            session.send("ERROR Names are 1 to " + Protocol.MAX_NAME_LENGTH
+                + " letters, digits, '_' or '-'");
+            return;
+        }
+        if (lobby.contains(session)) {
+            session.send("ERROR Already waiting for a table");
+            return;
+        }
+        session.setName(words[1]);
+        session.send("WELCOME " + words[1]);
+        lobby.add(session);
+        if (lobby.size() >= playersPerTable) {
+            List<Session> seats = new ArrayList<>(playersPerTable);
+            for (int i = 0; i < playersPerTable; i++) {
+                Session seat = lobby.poll();
+                seat.setSeated(true);
+                seats.add(seat);
+            }
+            long seed = random.nextLong();
+            activeTables.incrementAndGet();
+            tables.execute(() -> playTable(seats, seed));
+        }
+    }
+
+    private void disconnect(SelectionKey key) {
+        Session session = (Session) key.attachment();
+        key.cancel();
+        if (session.isClosed()) {
+            return;
+        }
+        lobby.remove(session);
+        session.close();
+        try {
+            session.getChannel().close();
+        }
+        catch (IOException e) {
+            // The connection is gone either way
+        }
+        sessions.decrementAndGet();
+    }
+
+    /**
+     * Plays one game on a table thread.
+     * @param seats the clients in seating order
+     * @param seed the seed of the game
+     */
+    private void playTable(List<Session> seats, long seed) {
+        ConsoleOutput.setQuiet(true);
+        try {
+            GameRandom tableRandom = new GameRandom(seed);
+            List<RemotePolicy> policies = new ArrayList<>(seats.size());
+            List<String> names = new ArrayList<>(seats.size());
+            for (int i = 0; i < seats.size(); i++) {
+                Session seat = seats.get(i);
+                policies.add(new RemotePolicy(seat, answerTimeoutMillis,
+                    new GameRandom(tableRandom.nextLong())));
+                names.add(uniqueName(names, seat.getName(), i));
+            }
+            String table = String.join(" ", names);
+            for (int i = 0; i < seats.size(); i++) {
+                seats.get(i).send("START " + i + " " + table);
+            }
+            GameSimulator simulator = new GameSimulator(new ArrayList<DecisionPolicy>(policies),
+                tableRandom);
+            simulator.setSeatNames(names);
+            simulator.playGame(tableRandom.nextLong(),
+                new TableView(seats, policies, nopeWindowMillis));
+        }
+        finally {
+            for (Session seat : seats) {
+                seat.setSeated(false);
+                seat.send("END");
+            }
+            activeTables.decrementAndGet();
+            finishedTables.incrementAndGet();
+            ConsoleOutput.setQuiet(false);
+        }
+    }
+
+    private static String uniqueName(List<String> taken, String name, int seat) {
+        return taken.contains(name) ? name + "-" + (seat + 1) : name;
+    }
+}
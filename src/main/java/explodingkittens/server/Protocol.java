@@ -0,0 +1,154 @@
+package explodingkittens.server;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CatCard;
+import explodingkittens.model.Player;
+import java.util.List;
+
+/**
+ * Line-based text protocol spoken between the game server and its clients.
+ * Every message is one UTF-8 line made of space-separated words. Cards are written as
+ * their type name, or their cat type name for cat cards.
+ *
+ * <p>Client to server:
+ * <ul>
+ *   <li>{@code JOIN <name>} waits for the next table, at most once per game</li>
+ *   <li>{@code QUIT} closes the connection</li>
+ *   <li>during a game, one answer line per {@code ASK}</li>
+ * </ul>
+ *
+ * <p>Server to client:
+ * <ul>
+ *   <li>{@code WELCOME <name>} after a valid JOIN</li>
+ *   <li>{@code START <seat> <names...>} when the table starts</li>
+ *   <li>{@code ASK PLAY <cards...>}: a hand index, or {@code PASS} to stop playing</li>
+ *   <li>{@code ASK NOPE <card>}, {@code ASK DEFUSE}: {@code YES} or {@code NO}; Nope
+ *       questions go to every seat holding a Nope at once and close with the window</li>
+ *   <li>{@code ASK POSITION <deck size>}: a position between 0 and the deck size</li>
+ *   <li>{@code ASK TARGET <names...>}: an index into the names</li>
+ *   <li>{@code ASK STEAL <hand size>}: an index into the target's hidden hand</li>
+ *   <li>{@code ASK GIVE <cards...>}: an index into the cards</li>
+ *   <li>{@code TURN}, {@code PLAYED}, {@code NOPE}, {@code NOPED}, {@code DREW},
+ *       {@code DEFUSED}, {@code STOLE}, {@code FUTURE}, {@code ELIMINATED} and
+ *       {@code WINNER} events naming the player involved</li>
+ *   <li>{@code END} when the game is over; the client may JOIN again</li>
+ *   <li>{@code ERROR <message>} after an invalid line, or an answer while no ASK is open;
+ *       an ASK stays open after an invalid answer</li>
+ * </ul>
+ * An ASK that is not answered in time, or asked of a closed connection, is answered
+ * by the server: no card played, no Nope, Defuse used and random picks otherwise.
+ */
+final class Protocol {
+    static final int MAX_LINE_BYTES = 1024;
+    static final int MAX_NAME_LENGTH = 20;
+
+    static final String JOIN = "JOIN";
+    static final String QUIT = "QUIT";
+    static final String PASS = "PASS";
+    static final String YES = "YES";
+    static final String NO = "NO";
+
+    private Protocol() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Writes a card as a protocol word.
+     * @param card the card
+     * @return the cat type name for cat cards, the card type name otherwise
+     */
+    static String token(Card card) {
+        if (card instanceof CatCard) {
+            return ((CatCard) card).getCatType().name();
+        }
+        return card.getType().name();
+    }
+
+    /**
+     * Writes cards as space-separated protocol words.
+     * @param cards the cards
+     * @return the words, empty for no cards
+     */
+    static String tokens(List<Card> cards) {
+        StringBuilder line = new StringBuilder();
+        for (Card card : cards) {
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(token(card));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Writes player names as space-separated protocol words.
+     * @param players the players
+     * @return the names, empty for no players
+     */
+    static String names(List<Player> players) {
+        StringBuilder line = new StringBuilder();
+        for (Player player : players) {
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(player.getName());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Checks that a name can be used as a single protocol word.
+     * @param name the requested name
+     * @return true if the name is 1 to 20 letters, digits, '_' or '-'
+     */
+    static boolean isValidName(String name) {
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a yes or no answer.
+     * @param line the answer line
+     * @return true for YES, false for NO, ignoring case
+     * @throws IllegalArgumentException for any other line
+     */
+    static boolean parseYesNo(String line) {
+        if (YES.equalsIgnoreCase(line)) {
+            return true;
+        }
+        if (NO.equalsIgnoreCase(line)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Answer YES or NO");
+    }
+
+    /**
+     * Reads a number answer within bounds.
+     * @param line the answer line
+     * @param min the smallest valid number
+     * @param max the largest valid number
+     * @return the number
+     * @throws IllegalArgumentException if the line is not a number between min and max
+     */
+    static int parseNumber(String line, int min, int max) {
+        int value;
+        try {
+            value = Integer.parseInt(line);
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Answer a number between " + min + " and " + max, e);
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Answer a number between " + min + " and " + max);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,152 @@
+package explodingkittens.server;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.RandomPolicy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Decision policy of a seat played by a remote client.
+ * Every question is sent to the client as an ASK line and the game thread waits for the
+ * answer; invalid answers get an ERROR line and the question stays open. When the client
+ * does not answer in time or has disconnected, a passive policy answers instead, so a
+ * table never waits on a lost player. Nope questions can also be asked without waiting,
+ * so a table can ask every seat at once.
+ */
+final class RemotePolicy implements DecisionPolicy {
+    private final Session session;
+    private final long timeoutNanos;
+    private final DecisionPolicy fallback;
+
+    /**
+     * Creates the policy of one remote seat.
+     * @param session the client's session
+     * @param timeoutMillis the time the client has for each answer
+     * @param random the random source of the fallback answers
+     */
+    RemotePolicy(Session session, long timeoutMillis, Random random) {
+        this.session = session;
+        this.timeoutNanos = timeoutMillis * 1_000_000L;
+        this.fallback = new RandomPolicy(random, 0, 0);
+    }
+
+    /**
+     * Asks the client a question and waits until it answers validly.
+     * @param question the question, without the ASK word
+     * @param parser reads an answer, throwing IllegalArgumentException if it is invalid
+     * @param <T> the answer type
+     * @return the parsed answer, or null if the client did not answer in time
+     */
+    private <T> T ask(String question, Function<String, T> parser) {
+        CompletableFuture<T> answer = askLater(question, parser);
+        try {
+            return answer.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+        finally {
+            answer.cancel(false);
+        }
+    }
+
+    /**
+     * Asks the client a question without waiting.
+     * Invalid answers get an ERROR line and the question stays open.
+     * @param question the question, without the ASK word
+     * @param parser reads an answer, throwing IllegalArgumentException if it is invalid
+     * @param <T> the answer type
+     * @return the parsed answer, completed with null if the session closes first;
+     *     cancelling it closes the question
+     */
+    private <T> CompletableFuture<T> askLater(String question, Function<String, T> parser) {
+        CompletableFuture<T> answer = new CompletableFuture<>();
+        listen(answer, parser);
+        session.send("ASK " + question);
+        return answer;
+    }
+
+    private <T> void listen(CompletableFuture<T> answer, Function<String, T> parser) {
+        CompletableFuture<String> line = session.expectAnswer();
+        answer.whenComplete((value, error) -> line.cancel(false));
+        line.thenAccept(text -> {
+            if (text == null) {
+                answer.complete(null);
+                return;
+            }
+            try {
+                answer.complete(parser.apply(text.trim()));
+            }
+            catch (IllegalArgumentException e) {
+                listen(answer, parser);
+                session.send("ERROR " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Asks the client whether to Nope a card, without waiting.
+     * @param card the card that was played
+     * @return true to Nope, or null if the session closes first; cancelling it closes
+     *     the question
+     */
+    CompletableFuture<Boolean> playNopeLater(Card card) {
+        return askLater("NOPE " + Protocol.token(card), Protocol::parseYesNo);
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        Integer index = ask("PLAY " + Protocol.tokens(hand), line -> Protocol.PASS.equalsIgnoreCase(line)
+            ? -1 : Protocol.parseNumber(line, 0, hand.size() - 1));
+        return index == null || index < 0 ? null : hand.get(index);
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        Boolean nope = ask("NOPE " + Protocol.token(card), Protocol::parseYesNo);
+        return nope == null ? fallback.playNope(player, card) : nope;
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        Boolean defuse = ask("DEFUSE", Protocol::parseYesNo);
+        return defuse == null ? fallback.useDefuse(player) : defuse;
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        Integer position = ask("POSITION " + deckSize, line -> Protocol.parseNumber(line, 0, deckSize));
+        return position == null ? fallback.chooseKittenPosition(player, deckSize) : position;
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        Integer index = ask("TARGET " + Protocol.names(candidates),
+            line -> Protocol.parseNumber(line, 0, candidates.size() - 1));
+        return index == null ? fallback.chooseTarget(player, candidates) : candidates.get(index);
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        Integer index = ask("STEAL " + handSize, line -> Protocol.parseNumber(line, 0, handSize - 1));
+        return index == null ? fallback.chooseCardIndex(player, handSize) : index;
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        Integer index = ask("GIVE " + Protocol.tokens(cards),
+            line -> Protocol.parseNumber(line, 0, cards.size() - 1));
+        return index == null ? fallback.chooseCardToGive(player, cards) : cards.get(index);
+    }
+}
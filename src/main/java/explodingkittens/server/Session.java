@@ -0,0 +1,177 @@
+package explodingkittens.server;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * State of one client connection.
+ * The server's selector thread feeds it the bytes read from the socket and drains its
+ * output; the thread running the client's table sends lines and opens questions. At most
+ * one question is open at a time, and a line received while none is open is not an answer.
+ * An idle session holds no thread and no read buffer of its own, only the bytes of
+ * an unfinished line.
+ */
+final class Session {
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final SocketChannel channel;
+    private final Consumer<Session> writeRequest;
+    private final Queue<ByteBuffer> output = new ConcurrentLinkedQueue<>();
+    private byte[] partial = NO_BYTES;
+    private int partialLength;
+    private String name;
+    private volatile boolean seated;
+    private volatile boolean closed;
+    private CompletableFuture<String> question;
+
+    /**
+     * Creates a session.
+     * @param channel the client's channel, or null for a detached session
+     * @param writeRequest called after every send so the server starts writing
+     */
+    Session(SocketChannel channel, Consumer<Session> writeRequest) {
+        this.channel = channel;
+        this.writeRequest = writeRequest;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    boolean isSeated() {
+        return seated;
+    }
+
+    void setSeated(boolean seated) {
+        this.seated = seated;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Queues a line for the client; does nothing once the session is closed.
+     * Safe to call from any thread.
+     * @param line the line, without its line break
+     */
+    void send(String line) {
+        if (closed) {
+            return;
+        }
+        output.add(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8)));
+        writeRequest.accept(this);
+    }
+
+    /**
+     * Gets the output not yet written to the socket.
+     * @return the first pending buffer, or null if everything was written
+     */
+    ByteBuffer pendingOutput() {
+        return output.peek();
+    }
+
+    /**
+     * Drops the first pending buffer once it has been fully written.
+     */
+    void outputWritten() {
+        output.poll();
+    }
+
+    /**
+     * Splits received bytes into lines, keeping an unfinished line for the next call.
+     * Line breaks may be LF or CRLF.
+     * @param buffer the received bytes, from position to limit
+     * @return the complete lines, without their line breaks
+     * @throws IllegalStateException if a line is longer than the protocol allows
+     */
+    List<String> receive(ByteBuffer buffer) {
+        List<String> lines = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                int length = partialLength;
+                if (length > 0 && partial[length - 1] == '\r') {
+                    length--;
+                }
+                lines.add(new String(partial, 0, length, StandardCharsets.UTF_8));
+                partialLength = 0;
+                continue;
+            }
+            if (partialLength == Protocol.MAX_LINE_BYTES) {
+                throw new IllegalStateException("Line too long");
+            }
+            if (partialLength == partial.length) {
+                partial = Arrays.copyOf(partial, Math.max(64, partial.length * 2));
+            }
+            partial[partialLength++] = b;
+        }
+        if (partialLength == 0) {
+            partial = NO_BYTES;
+        }
+        return lines;
+    }
+
+    /**
+     * Opens a question, replacing the one still open if any.
+     * @return the future answer line, completed with null if the session closes first;
+     *     cancelling it closes the question
+     */
+    synchronized CompletableFuture<String> expectAnswer() {
+        CompletableFuture<String> answer = new CompletableFuture<>();
+        if (closed) {
+            answer.complete(null);
+        }
+        else {
+            question = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Answers the open question with a line received during a game.
+     * @param line the answer line
+     * @return true if a question was open
+     */
+    boolean answer(String line) {
+        CompletableFuture<String> answer;
+        synchronized (this) {
+            answer = question;
+            question = null;
+        }
+        return answer != null && answer.complete(line);
+    }
+
+    /**
+     * Marks the session closed and answers the open question with null.
+     * The server closes the channel itself.
+     */
+    void close() {
+        CompletableFuture<String> answer;
+        synchronized (this) {
+            closed = true;
+            answer = question;
+            question = null;
+        }
+        output.clear();
+        if (answer != null) {
+            answer.complete(null);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package explodingkittens.server;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.service.NopeService;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.PolicyGameView;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game view of a table played over the network.
+ * Prompts reach the clients through their RemotePolicy; this view sends them the game's
+ * events. Events about hidden cards name the card only to the players who see it.
+ * Nopes are asked of every seat at once, in a timed window.
+ */
+final class TableView extends PolicyGameView {
+    private final List<Session> sessions;
+    private final List<RemotePolicy> policies;
+    private final long nopeWindowMillis;
+    private final Map<Player, Session> sessionOf = new IdentityHashMap<>();
+    private final Map<Player, RemotePolicy> policyOf = new IdentityHashMap<>();
+
+    /**
+     * Creates the view of a table.
+     * @param sessions the clients in seating order
+     * @param policies the clients' policies in seating order
+     * @param nopeWindowMillis how long the seats have to answer each Nope window
+     */
+    TableView(List<Session> sessions, List<RemotePolicy> policies, long nopeWindowMillis) {
+        this.sessions = sessions;
+        this.policies = policies;
+        this.nopeWindowMillis = nopeWindowMillis;
+    }
+
+    private void broadcast(String line) {
+        for (Session session : sessions) {
+            session.send(line);
+        }
+    }
+
+    private void tell(Player player, String line) {
+        Session session = sessionOf.get(player);
+        if (session != null) {
+            session.send(line);
+        }
+    }
+
+    /**
+     * Sends one line to the players who see a card and another to everyone else.
+     * @param seeing the players who see the card
+     * @param known the line naming the card
+     * @param hidden the line without the card
+     */
+    private void broadcast(List<Player> seeing, String known, String hidden) {
+        for (Map.Entry<Player, Session> entry : sessionOf.entrySet()) {
+            entry.getValue().send(seeing.contains(entry.getKey()) ? known : hidden);
+        }
+    }
+
+    @Override
+    public void seat(Player player, DecisionPolicy policy) {
+        super.seat(player, policy);
+        policyOf.putIfAbsent(player, policies.get(sessionOf.size()));
+        sessionOf.putIfAbsent(player, sessions.get(sessionOf.size()));
+    }
+
+    @Override
+    public NopeService createNopeService() {
+        return new NopeService(this, (player, card) -> policyOf.get(player).playNopeLater(card),
+            nopeWindowMillis);
+    }
+
+    @Override
+    public void displayCurrentPlayer(Player player) {
+        super.displayCurrentPlayer(player);
+        broadcast("TURN " + player.getName());
+    }
+
+    @Override
+    public Card selectCardToPlay(Player player, List<Card> hand) {
+        Card card = super.selectCardToPlay(player, hand);
+        if (card != null) {
+            broadcast("PLAYED " + player.getName() + " " + Protocol.token(card));
+        }
+        return card;
+    }
+
+    @Override
+    public void showError(String message) {
+        super.showError(message);
+        tell(getActivePlayer(), "ERROR " + message);
+    }
+
+    @Override
+    public void displayPlayedNope(Player player) {
+        super.displayPlayedNope(player);
+        broadcast("NOPE " + player.getName());
+    }
+
+    @Override
+    public void showCardNoped(Player player, Card card) {
+        super.showCardNoped(player, card);
+        broadcast("NOPED " + player.getName() + " " + Protocol.token(card));
+    }
+
+    @Override
+    public void showCardDrawn(Player player, Card card) {
+        super.showCardDrawn(player, card);
+        String line = "DREW " + player.getName();
+        broadcast(List.of(player), line + " " + Protocol.token(card), line);
+    }
+
+    @Override
+    public void displayDefuseSuccess(Player player, int position) {
+        super.displayDefuseSuccess(player, position);
+        String line = "DEFUSED " + player.getName();
+        broadcast(List.of(player), line + " " + position, line);
+    }
+
+    @Override
+    public void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card) {
+        super.displayCardStolen(sourcePlayer, targetPlayer, card);
+        String line = "STOLE " + sourcePlayer.getName() + " " + targetPlayer.getName();
+        broadcast(List.of(sourcePlayer, targetPlayer), line + " " + Protocol.token(card), line);
+    }
+
+    @Override
+    public void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card) {
+        super.displayCardRequested(sourcePlayer, targetPlayer, card);
+        if (card != null) {
+            String line = "STOLE " + sourcePlayer.getName() + " " + targetPlayer.getName();
+            broadcast(List.of(sourcePlayer, targetPlayer), line + " " + Protocol.token(card), line);
+        }
+    }
+
+    @Override
+    public void displayFuture(Player player, List<Card> cards) {
+        super.displayFuture(player, cards);
+        tell(player, "FUTURE " + Protocol.tokens(cards));
+    }
+
+    @Override
+    public void displayPlayerEliminated(Player player) {
+        super.displayPlayerEliminated(player);
+        broadcast("ELIMINATED " + player.getName());
+    }
+
+    @Override
+    public void displayWinner(Player winner) {
+        super.displayWinner(winner);
+        broadcast("WINNER " + winner.getName());
+    }
+}
@@ -2,11 +2,16 @@ package explodingkittens.service;
 
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CardType;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Deck;
+import explodingkittens.model.DrawFromBottomCard;
+import explodingkittens.model.FavorCard;
 import explodingkittens.model.Player;
 import explodingkittens.model.SeeTheFutureCard;
+import explodingkittens.model.SnatchCard;
+import explodingkittens.view.FavorCardView;
 import explodingkittens.view.SeeTheFutureView;
 import explodingkittens.view.GameView;
 import java.util.List;
@@ -17,11 +22,27 @@ import java.util.stream.Collectors;
  * This service is responsible for executing the effects of cards when they are played.
  */
 public class CardEffectService {
-    private final SeeTheFutureView seeTheFutureView = new SeeTheFutureView();
+    private final SeeTheFutureView seeTheFutureView;
+    private final FavorCardView favorCardView;
     private final GameView view;
     
     public CardEffectService(GameView view) {
+        this(view, new SeeTheFutureView(), null);
+    }
+
+    /**
+     * Creates a service whose card-specific views are supplied by the caller,
+     * e.g. headless views that never touch the console.
+     * @param view the main game view
+     * @param seeTheFutureView the view injected into See The Future cards
+     * @param favorCardView the view injected into Favor and Snatch cards,
+     *        or null to let those cards keep their own console view
+     */
+    public CardEffectService(GameView view, SeeTheFutureView seeTheFutureView,
+            FavorCardView favorCardView) {
         this.view = view;
+        this.seeTheFutureView = seeTheFutureView;
+        this.favorCardView = favorCardView;
     }
     
     /**
@@ -48,74 +69,91 @@ public class CardEffectService {
         if (card instanceof SeeTheFutureCard) {
             ((SeeTheFutureCard) card).setView(seeTheFutureView);
         }
+        injectViews(card);
 
-        try {
-            card.effect(turnOrder, deck);
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            // handle cat card effect
-            Player currentPlayer = turnOrder.get(0);
+        CatCardEffect effect = card.resolve(turnOrder, deck);
+        if (effect != null) {
+            applyCatCardEffect(effect, turnOrder);
+        }
+    }
+
+    private void applyCatCardEffect(CatCardEffect effect, List<Player> turnOrder) {
+        // handle cat card effect
+        Player currentPlayer = turnOrder.get(0);
+        
+        // remove used cat cards
+        currentPlayer.removeCard(effect.getFirstCard());
+        currentPlayer.removeCard(effect.getSecondCard());
+        
+        if (effect.getThirdCard() != null) {
+            // handle three cat cards request card
+            currentPlayer.removeCard(effect.getThirdCard());
+            CardType requestedType = effect.getRequestedCardType();
             
-            // remove used cat cards
-            currentPlayer.removeCard(effect.getFirstCard());
-            currentPlayer.removeCard(effect.getSecondCard());
+            // select target player
+            Player targetPlayer = selectTargetPlayer(turnOrder, currentPlayer);
+            view.displayCatCardEffect("request", currentPlayer, targetPlayer);
             
-            if (effect.getThirdCard() != null) {
-                // handle three cat cards request card
-                currentPlayer.removeCard(effect.getThirdCard());
-                CardType requestedType = effect.getRequestedCardType();
-                
-                // select target player
-                Player targetPlayer = selectTargetPlayer(turnOrder, currentPlayer);
-                view.displayCatCardEffect("request", currentPlayer, targetPlayer);
+            // check if target player has requested card type
+            boolean hasRequestedCard = targetPlayer.hasCardOfType(requestedType);
+
+            if (hasRequestedCard) {
+                // filter out cards of requested type
+                List<Card> matchingCards = targetPlayer.getRealHand().stream()
+                    .filter(c -> c.getType() == requestedType)
+                    .collect(Collectors.toList());
                 
-                // check if target player has requested card type
-                boolean hasRequestedCard = targetPlayer.getHand().stream()
-                    .anyMatch(c -> c.getType() == requestedType);
-                    
-                if (hasRequestedCard) {
-                    // filter out cards of requested type
-                    List<Card> matchingCards = targetPlayer.getHand().stream()
-                        .filter(c -> c.getType() == requestedType)
-                        .collect(Collectors.toList());
-                    
-                    // let target player select a card of requested type
-                    Card requestedCard = view.selectCardFromPlayer(targetPlayer, matchingCards);
-                    if (requestedCard != null) {
-                        targetPlayer.removeCard(requestedCard);
-                        currentPlayer.receiveCard(requestedCard);
-                        view.displayCardRequested(currentPlayer, targetPlayer, requestedCard);
-                    } 
-                    else {
-                        view.displayCardRequested(currentPlayer, targetPlayer, null);
-                        view.showError("No card was selected.");
-                    }
+                // let target player select a card of requested type
+                Card requestedCard = view.selectCardFromPlayer(targetPlayer, matchingCards);
+                if (requestedCard != null) {
+                    targetPlayer.removeCard(requestedCard);
+                    currentPlayer.receiveCard(requestedCard);
+                    view.displayCardRequested(currentPlayer, targetPlayer, requestedCard);
                 } 
                 else {
                     view.displayCardRequested(currentPlayer, targetPlayer, null);
-                    view.showError("Target player does not have the requested card type.");
+                    view.showError("No card was selected.");
                 }
             } 
             else {
-                // handle two cat cards steal effect
-                Player targetPlayer = turnOrder.stream()
-                    .filter(p -> p.getName().equals(effect.getTargetPlayerName()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Target player not found"));
-                    
-                view.displayCatCardEffect("steal", currentPlayer, targetPlayer);
-                
-                Card stolenCard = effect.getTargetPlayerHand().get(effect.getTargetCardIndex());
-                targetPlayer.removeCard(stolenCard);
-                currentPlayer.receiveCard(stolenCard);
-                view.displayCardStolen(currentPlayer, targetPlayer, stolenCard);
+                view.displayCardRequested(currentPlayer, targetPlayer, null);
+                view.showError("Target player does not have the requested card type.");
             }
+        } 
+        else {
+            // handle two cat cards steal effect
+            Player targetPlayer = turnOrder.stream()
+                .filter(p -> p.getName().equals(effect.getTargetPlayerName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Target player not found"));
+                
+            view.displayCatCardEffect("steal", currentPlayer, targetPlayer);
+            
+            Card stolenCard = effect.getTargetPlayerHand().get(effect.getTargetCardIndex());
+            targetPlayer.removeCard(stolenCard);
+            currentPlayer.receiveCard(stolenCard);
+            view.displayCardStolen(currentPlayer, targetPlayer, stolenCard);
+        }
+    }
+
+    private void injectViews(Card card) {
+        if (card instanceof DrawFromBottomCard) {
+            ((DrawFromBottomCard) card).setView(view);
+        }
+        if (favorCardView == null) {
+            return;
+        }
+        if (card instanceof FavorCard) {
+            ((FavorCard) card).setView(favorCardView);
+        }
+        else if (card instanceof SnatchCard) {
+            ((SnatchCard) card).setView(favorCardView);
         }
     }
 
     private Player selectTargetPlayer(List<Player> turnOrder, Player currentPlayer) {
         List<Player> availablePlayers = turnOrder.stream()
-            .filter(p -> p != currentPlayer && p.isAlive() && !p.getHand().isEmpty())
+            .filter(p -> p != currentPlayer && p.isAlive() && p.hasCards())
             .collect(Collectors.toList());
             
         if (availablePlayers.isEmpty()) {
@@ -135,11 +173,9 @@ public class CardEffectService {
         if (card == null) {
             return;
         }
-        try {
-            card.effect(turnOrder, gameDeck);
-        } 
-        catch (CatCard.CatCardEffect e) {
-            handleCatCardEffect(e, turnOrder);
+        CatCardEffect effect = card.resolve(turnOrder, gameDeck);
+        if (effect != null) {
+            handleCatCardEffect(effect, turnOrder);
         }
     }
 
@@ -148,7 +184,7 @@ public class CardEffectService {
      * @param effect The cat card effect to handle
      * @param turnOrder The current turn order
      */
-    private void handleCatCardEffect(CatCard.CatCardEffect effect, List<Player> turnOrder) {
+    private void handleCatCardEffect(CatCardEffect effect, List<Player> turnOrder) {
         Player sourcePlayer = turnOrder.get(0);
         Player targetPlayer = turnOrder.stream()
             .filter(p -> p.getName().equals(effect.getTargetPlayerName()))
@@ -171,7 +207,7 @@ public class CardEffectService {
      * @throws IllegalStateException if the target player is not alive or has no cards
      */
     private void handleStealEffect(Player sourcePlayer, Player targetPlayer, 
-            CatCard.CatCardEffect effect) {
+            CatCardEffect effect) {
         // Remove the two cat cards used for the effect
         sourcePlayer.removeCard(effect.getFirstCard());
         sourcePlayer.removeCard(effect.getSecondCard());
@@ -208,7 +244,7 @@ public class CardEffectService {
      * @param effect The cat card effect
      */
     private void handleRequestEffect(Player sourcePlayer, Player targetPlayer, 
-            CatCard.CatCardEffect effect) {
+            CatCardEffect effect) {
         // Remove the three cat cards used for the effect
         sourcePlayer.removeCard(effect.getFirstCard());
         sourcePlayer.removeCard(effect.getSecondCard());
@@ -216,7 +252,7 @@ public class CardEffectService {
         
         // Check if target player has the requested card type
         CardType requestedType = effect.getRequestedCardType();
-        List<Card> targetHand = targetPlayer.getHand();
+        List<Card> targetHand = targetPlayer.getRealHand();
         
         // 过滤出指定类型的卡牌
         List<Card> matchingCards = targetHand.stream()
@@ -3,7 +3,8 @@ package explodingkittens.service;
 import explodingkittens.model.Deck;
 import explodingkittens.model.Player;
 import explodingkittens.model.Card;
-import explodingkittens.model.DefuseCard;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
 import explodingkittens.exceptions.InvalidDeckException;
 import explodingkittens.exceptions.EmptyDeckException;
 import explodingkittens.exceptions.InvalidPlayersListException;
@@ -36,7 +37,7 @@ public class DealService {
         }
 
         for (Player player : players) {
-            player.receiveCard(new DefuseCard());
+            player.receiveCard(CardRegistry.get(CardType.DEFUSE));
         }
     }
 
@@ -9,16 +9,50 @@ import explodingkittens.view.GameView;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 /**
  * Service for handling Nope card logic.
+ * By default every player holding a Nope is asked in turn through the view. With a Nope
+ * window, all of them are asked at once and the first to answer yes plays a Nope, which
+ * opens a new window; the chain ends when everyone has passed or the window times out.
  */
 public class NopeService {
 
     private final GameView view;
+    private final BiFunction<Player, Card, CompletableFuture<Boolean>> nopePrompt;
+    private final long windowNanos;
 
     public NopeService(GameView view) {
         this.view = view;
+        this.nopePrompt = null;
+        this.windowNanos = 0;
+    }
+
+    /**
+     * Creates a service that asks for Nopes in timed windows.
+     * A prompt that completes with null or fails, or is still open when the window
+     * closes, counts as a pass; open prompts are cancelled when their window closes.
+     * @param view the view that displays played Nopes
+     * @param nopePrompt asks a player whether to Nope a card, answering later
+     * @param windowMillis how long each window stays open
+     * @throws IllegalArgumentException if nopePrompt is null or windowMillis is not positive
+     */
+    public NopeService(GameView view, BiFunction<Player, Card, CompletableFuture<Boolean>> nopePrompt,
+            long windowMillis) {
+        if (nopePrompt == null) {
+            throw new IllegalArgumentException("Nope prompt cannot be null");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Nope window must be positive");
+        }
+        this.view = view;
+        this.nopePrompt = nopePrompt;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
     }
 
     /**
@@ -49,6 +83,20 @@ public class NopeService {
             throw new IllegalStateException("Current player not found in turn order");
         }
 
+        if (nopePrompt != null) {
+            Player noper;
+            while ((noper = openNopeWindow(allPlayers, currentIndex, targetCard)) != null) {
+                Card nope = noper.removeCardOfType(CardType.NOPE);
+                if (nope == null) {
+                    break;
+                }
+                playedNopeCards.add(nope);
+                view.displayPlayedNope(noper);
+                view.displayPlayerHand(noper);
+            }
+            return isNegated(currentPlayer, playedNopeCards);
+        }
+
         // Start Nope chain
         boolean someonePlayedNope = true;
         while (someonePlayedNope) {
@@ -80,6 +128,57 @@ public class NopeService {
         return isNegated(currentPlayer, playedNopeCards);
     }
 
+    /**
+     * Asks every alive player holding a Nope at once and waits for the first yes.
+     * @param allPlayers the turn order
+     * @param currentIndex the index of the player whose card may be noped
+     * @param targetCard the card that was played
+     * @return the first player who answered yes, or null if nobody did within the window
+     */
+    private Player openNopeWindow(List<Player> allPlayers, int currentIndex, Card targetCard) {
+        List<Player> asked = new ArrayList<>();
+        for (int i = 0; i < allPlayers.size(); i++) {
+            Player p = allPlayers.get((currentIndex + 1 + i) % allPlayers.size());
+            if (p.isAlive() && p.hasCardOfType(CardType.NOPE)) {
+                asked.add(p);
+            }
+        }
+        if (asked.isEmpty()) {
+            return null;
+        }
+        long deadline = System.nanoTime() + windowNanos;
+        BlockingQueue<Integer> answered = new LinkedBlockingQueue<>();
+        List<CompletableFuture<Boolean>> answers = new ArrayList<>(asked.size());
+        try {
+            for (int i = 0; i < asked.size(); i++) {
+                int seat = i;
+                CompletableFuture<Boolean> answer = nopePrompt.apply(asked.get(i), targetCard);
+                answers.add(answer);
+                answer.whenComplete((nope, error) -> answered.add(seat));
+            }
+            for (int pending = asked.size(); pending > 0; pending--) {
+                Integer seat = answered.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (seat == null) {
+                    return null;
+                }
+                CompletableFuture<Boolean> answer = answers.get(seat);
+                if (!answer.isCompletedExceptionally() && Boolean.TRUE.equals(answer.join())) {
+                    return asked.get(seat);
+                }
+            }
+            return null;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        finally {
+            for (CompletableFuture<Boolean> answer : answers) {
+                answer.cancel(false);
+            }
+        }
+    }
+
     /**
      * Core logic: odd = negated, even = allowed.
      * @param player The player whose card effect is being checked
@@ -9,6 +9,7 @@ import explodingkittens.model.ExplodingKittenCard;
 import explodingkittens.model.AttackCard;
 import explodingkittens.model.DrawFromBottomCard;
 import explodingkittens.model.Player;
+import explodingkittens.util.ConsoleOutput;
 import explodingkittens.view.GameView;
 
 import java.util.List;
@@ -63,45 +64,34 @@ public class TurnService {
         int drawsLeft = player.getLeftTurns();
         for (int i = 0; i < drawsLeft; i++) {
             drawPhase(player);       
-            if (GameContext.isGameOver()) {
+            // An eliminated player must not keep drawing (and discarding) Exploding Kittens
+            if (GameContext.isGameOver() || !player.isAlive()) {
                 break;
             }
         }
         
         // Finally, end the sub-turn and adjust player order
-        if (!GameContext.isGameOver()) {
+        if (!GameContext.isGameOver() && player.isAlive()) {
             // Reset leftTurns to 1 for next turn
             player.setLeftTurns(1);
             
             // Print the current turn order before moving player
-            List<Player> turnOrder = GameContext.getTurnOrder();
-            System.out.println("\nCurrent turn order:");
-            for (int i = 0; i < turnOrder.size(); i++) {
-                Player p = turnOrder.get(i);
-                System.out.println((i + 1) + ". " + p.getName() + 
-                    (p.isAlive() ? "" : " (Eliminated)"));
-            }
-            // System.out.println();
+            printTurnOrder("\nCurrent turn order:", null);
             
             // Move current player to end of turn order
             GameContext.movePlayerToEnd(player);
             
             // Print the new turn order
-            turnOrder = GameContext.getTurnOrder();
-            System.out.println("\nTurn order after player " + player.getName() + "'s turn:");
-            for (int i = 0; i < turnOrder.size(); i++) {
-                Player p = turnOrder.get(i);
-                System.out.println((i + 1) + ". " + p.getName() + 
-                    (p.isAlive() ? "" : " (Eliminated)"));
-            }
-            // System.out.println();
+            printTurnOrder("\nTurn order after player " + player.getName() + "'s turn:", null);
             
             // Set the next player to be the first player in the new order
             GameContext.setCurrentPlayerIndex(0);
             
             // Print the next player
             Player nextPlayer = GameContext.getCurrentPlayer();
-            System.out.println("Next player will be: " + nextPlayer.getName() + "\n");
+            if (ConsoleOutput.isVerbose()) {
+                ConsoleOutput.println("Next player will be: " + nextPlayer.getName() + "\n");
+            }
         }
     }
 
@@ -196,15 +186,7 @@ public class TurnService {
             }
             
             // Print current player order after drawing
-            List<Player> turnOrder = GameContext.getTurnOrder();
-            System.out.println("\nCurrent player order after drawing:");
-            for (int i = 0; i < turnOrder.size(); i++) {
-                Player p = turnOrder.get(i);
-                System.out.println((i + 1) + ". " + p.getName() + 
-                    (p == player ? " (Current)" : "") + 
-                    (p.isAlive() ? "" : " (Eliminated)"));
-            }
-            // System.out.println();
+            printTurnOrder("\nCurrent player order after drawing:", player);
         } 
         catch (EmptyDeckException ede) {
             throw ede;
@@ -222,25 +204,40 @@ public class TurnService {
             /* use Defuse → reinsert into deck at specified position */
             player.useDefuse();
             int pos = view.selectExplodingKittenPosition(GameContext.getGameDeck().size());
-            GameContext.getGameDeck().insertAt(ek, pos);
+            GameContext.getGameDeck().insertAt(player, ek, pos);
             view.displayDefuseSuccess(player, pos);
         } 
         else {
-            /* no Defuse → eliminate */
-            player.setAlive(false);
+            /* no Defuse → eliminate, counted by the table, and leave the turn order */
+            GameContext.eliminatePlayer(player);
             view.displayPlayerEliminated(player);
+            List<Player> turnOrder = GameContext.getTurnOrder();
+            if (turnOrder != null && turnOrder.contains(player)) {
+                GameContext.removePlayer(player);
+            }
         }
         
         // Print current player order after handling exploding kitten
+        printTurnOrder("\nCurrent player order after handling exploding kitten:", player);
+    }
+
+    /**
+     * Prints the turn order diagnostics, skipped entirely unless console output is verbose.
+     * @param header the line printed before the order
+     * @param current the player to mark as current, or null for no marker
+     */
+    private void printTurnOrder(String header, Player current) {
+        if (!ConsoleOutput.isVerbose()) {
+            return;
+        }
         List<Player> turnOrder = GameContext.getTurnOrder();
-        System.out.println("\nCurrent player order after handling exploding kitten:");
+        ConsoleOutput.println(header);
         for (int i = 0; i < turnOrder.size(); i++) {
             Player p = turnOrder.get(i);
-            System.out.println((i + 1) + ". " + p.getName() + 
-                (p == player ? " (Current)" : "") + 
+            ConsoleOutput.println((i + 1) + ". " + p.getName() + 
+                (p == current ? " (Current)" : "") + 
                 (p.isAlive() ? "" : " (Eliminated)"));
         }
-        // System.out.println();
     }
 
     /**
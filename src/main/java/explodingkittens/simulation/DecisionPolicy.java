@@ -0,0 +1,66 @@
+package explodingkittens.simulation;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import java.util.List;
+
+/**
+ * Strategy that answers every decision a player faces during a game.
+ * A headless game asks the policy of the deciding player instead of prompting a console.
+ */
+public interface DecisionPolicy {
+    /**
+     * Chooses the next card to play during the play phase.
+     * @param player the player whose turn it is
+     * @param hand the player's current hand
+     * @return the card to play, or null to stop playing and draw
+     */
+    Card chooseCardToPlay(Player player, List<Card> hand);
+
+    /**
+     * Decides whether to answer a played card with a Nope.
+     * @param player the player holding a Nope card
+     * @param card the card that was played
+     * @return true to play a Nope card
+     */
+    boolean playNope(Player player, Card card);
+
+    /**
+     * Decides whether to spend a Defuse card on a drawn Exploding Kitten.
+     * @param player the player who drew the Exploding Kitten
+     * @return true to defuse
+     */
+    boolean useDefuse(Player player);
+
+    /**
+     * Chooses where to reinsert a defused Exploding Kitten.
+     * @param player the player who defused
+     * @param deckSize the number of cards left in the deck
+     * @return the insert position, between 0 and deckSize inclusive
+     */
+    int chooseKittenPosition(Player player, int deckSize);
+
+    /**
+     * Chooses the victim of a steal, favor, snatch or request.
+     * @param player the player choosing
+     * @param candidates the players that may be targeted, never empty
+     * @return one of the candidates
+     */
+    Player chooseTarget(Player player, List<Player> candidates);
+
+    /**
+     * Chooses a face-down card to take from another player's hand.
+     * @param player the player choosing
+     * @param handSize the size of the target's hand
+     * @return an index between 0 and handSize - 1
+     */
+    int chooseCardIndex(Player player, int handSize);
+
+    /**
+     * Chooses which card to hand over to another player.
+     * @param player the player giving the card
+     * @param cards the cards the player may give, never empty
+     * @return one of the cards
+     */
+    Card chooseCardToGive(Player player, List<Card> cards);
+}
@@ -0,0 +1,277 @@
+package explodingkittens.simulation;
+
+import explodingkittens.controller.GameController;
+import explodingkittens.controller.GameTable;
+import explodingkittens.exceptions.GameOverException;
+import explodingkittens.journal.GameJournalWriter;
+import explodingkittens.journal.GameRecorder;
+import explodingkittens.journal.RecordingPolicy;
+import explodingkittens.model.Card;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import explodingkittens.service.CardEffectService;
+import explodingkittens.service.DealService;
+import explodingkittens.service.TurnService;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import explodingkittens.view.GameView;
+import explodingkittens.view.SeeTheFutureView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs complete games without a console.
+ * Each game is set up like GameSetupController does, then played through the regular
+ * GameController, TurnService and card effects with every prompt answered by the seated
+ * DecisionPolicy instances. Every game gets its own GameTable, so separate simulators
+ * can run on separate threads at the same time, and its own GameRandom seeded from the
+ * simulator's random, so a game is fully determined by that seed and the policies.
+ */
+public class GameSimulator {
+    private static final int INITIAL_HAND_SIZE = 5;
+
+    private final List<DecisionPolicy> seats;
+    private final Random random;
+    private final DealService dealService = new DealService();
+    private GameJournalWriter journal;
+    private List<String> seatNames;
+
+    /**
+     * Creates a simulator for one policy per seat.
+     * @param seats the policies in seating order, one per player (2-4)
+     * @param random the random source that seeds every game
+     * @throws IllegalArgumentException if the seat count is invalid or random is null
+     */
+    public GameSimulator(List<DecisionPolicy> seats, Random random) {
+        if (seats == null || seats.size() < 2 || seats.size() > 4) {
+            throw new IllegalArgumentException("Simulations need between 2 and 4 seats");
+        }
+        if (seats.contains(null)) {
+            throw new IllegalArgumentException("Seats cannot contain null policies");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.seats = new ArrayList<>(seats);
+        this.random = random;
+    }
+
+    /**
+     * Records every following game, with its seed and all policy decisions, into a journal.
+     * The simulator does not close the journal.
+     * @param journal the journal to append to, or null to stop recording
+     */
+    public void setJournal(GameJournalWriter journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Names the players of every following game, in seating order.
+     * @param names one name per seat, or null for the default names Seat1, Seat2, ...
+     * @throws IllegalArgumentException if the name count does not match the seat count
+     */
+    public void setSeatNames(List<String> names) {
+        if (names != null && names.size() != seats.size()) {
+            throw new IllegalArgumentException("Need exactly one name per seat");
+        }
+        this.seatNames = names == null ? null : new ArrayList<>(names);
+    }
+
+    /**
+     * Plays a batch of games and measures throughput.
+     * @param games the number of games to play
+     * @return the aggregated report
+     * @throws IllegalArgumentException if games is negative
+     */
+    public SimulationReport run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative");
+        }
+        SimulationReport report = new SimulationReport(seats.size());
+        boolean wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < games; i++) {
+                PolicyGameView view = playGame();
+                report.recordGame(view.getWinnerSeat(), view.getTurns());
+            }
+        }
+        finally {
+            report.setElapsedNanos(System.nanoTime() - start);
+            ConsoleOutput.setQuiet(!wasEnabled);
+        }
+        return report;
+    }
+
+    /**
+     * Plays a single game to completion, seeded from the simulator's random source.
+     * @return the view of the finished game, holding its winner and turn count
+     */
+    public PolicyGameView playGame() {
+        return playGame(random.nextLong());
+    }
+
+    /**
+     * Plays a single game to completion from a given seed.
+     * The seed fixes the deal and every shuffle, so policies that answer the same way
+     * get the same game.
+     * @param seed the seed of the game's random source
+     * @return the view of the finished game, holding its winner and turn count
+     */
+    public PolicyGameView playGame(long seed) {
+        return playGame(seed, new PolicyGameView());
+    }
+
+    /**
+     * Plays a single game to completion from a given seed through a given view.
+     * Subclasses of PolicyGameView can follow the game's events this way.
+     * @param seed the seed of the game's random source
+     * @param view a view with no player seated yet
+     * @return the view, holding the winner and turn count
+     * @throws IllegalArgumentException if view is null
+     */
+    public PolicyGameView playGame(long seed, PolicyGameView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("View cannot be null");
+        }
+        play(seed, view);
+        return view;
+    }
+
+    /**
+     * Plays a game from a given seed for a number of turns and stops as the next turn
+     * is about to start.
+     * @param seed the seed of the game's random source
+     * @param turns the number of turns to play
+     * @return the table at that point, or the final table if the game ended sooner
+     * @throws IllegalArgumentException if turns is negative
+     */
+    public GameTable playTurns(long seed, int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turn count cannot be negative");
+        }
+        PolicyGameView view = new PolicyGameView();
+        view.setTurnLimit(turns);
+        return play(seed, view);
+    }
+
+    /**
+     * Seats the policies in a view and deals a game from a given seed without playing it,
+     * so the game can be played elsewhere, e.g. on a table scheduler's thread.
+     * The game is not recorded in the journal.
+     * @param seed the seed of the game's random source
+     * @param view a view with no player seated yet
+     * @return the dealt table, ready to play with {@link #createTurnService}
+     * @throws IllegalArgumentException if view is null
+     */
+    public GameTable deal(long seed, PolicyGameView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("View cannot be null");
+        }
+        List<Player> players = createPlayers();
+        for (int i = 0; i < seats.size(); i++) {
+            view.seat(players.get(i), seats.get(i));
+        }
+        return createTable(seed, players);
+    }
+
+    private GameTable play(long seed, PolicyGameView view) {
+        List<Player> players = createPlayers();
+        GameRecorder recorder = null;
+        if (journal != null) {
+            recorder = new GameRecorder(journal, players);
+            recorder.gameStarted(seed);
+            view.setRecorder(recorder);
+        }
+        for (int i = 0; i < seats.size(); i++) {
+            DecisionPolicy policy = seats.get(i);
+            view.seat(players.get(i), recorder == null ? policy : new RecordingPolicy(policy, recorder));
+        }
+
+        GameTable table = createTable(seed, players);
+        playOut(table, view);
+        if (recorder != null) {
+            recorder.gameEnded(view.getWinnerSeat(), view.getTurns());
+        }
+        return table;
+    }
+
+    private List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < seats.size(); i++) {
+            players.add(new Player(seatNames == null ? "Seat" + (i + 1) : seatNames.get(i)));
+        }
+        return players;
+    }
+
+    private GameTable createTable(long seed, List<Player> players) {
+        GameRandom gameRandom = new GameRandom(seed);
+        GameTable table = new GameTable();
+        table.setRandom(gameRandom);
+        table.setGameDeck(buildDeck(players, gameRandom));
+        table.setTurnOrder(players);
+        return table;
+    }
+
+    /**
+     * Plays a prepared table to the end through the regular controller, turn service and
+     * card effects, with every prompt answered through the view.
+     * @param table the table, with turn order, deck and random source set
+     * @param view the view with every player of the table seated
+     */
+    static void playOut(GameTable table, PolicyGameView view) {
+        GameController controller = new GameController(view, createTurnService(table, view, view), table);
+        try {
+            controller.start();
+        }
+        catch (GameOverException e) {
+            // Counted as an aborted game unless the view stopped it at its turn limit
+        }
+    }
+
+    /**
+     * Wires the turn service of a table whose players are seated in a policy view.
+     * Turn prompts and events go through the given view, which is either the policy view
+     * itself or a view wrapping it; Nope, Favor and See The Future go to the policy view
+     * directly.
+     * @param table the table, whose cat card steals the policy view answers
+     * @param policies the view with every player of the table seated
+     * @param view the view the turn service and card effects talk to
+     * @return the turn service
+     */
+    public static TurnService createTurnService(GameTable table, PolicyGameView policies, GameView view) {
+        table.setCatCardStealHandler(policies);
+        CardEffectService effects = new CardEffectService(view, new PolicySeeTheFutureView(policies),
+            new PolicyFavorCardView(policies));
+        return new TurnService(view, effects, policies.createNopeService());
+    }
+
+    private Deck buildDeck(List<Player> players, GameRandom gameRandom) {
+        Deck deck = new Deck();
+        deck.initializeBaseDeck(players.size());
+        dealService.dealDefuses(deck, players);
+        deck.shuffle(gameRandom);
+        dealService.dealInitialHands(deck, players, INITIAL_HAND_SIZE);
+        deck.addExplodingKittens(players.size() - 1);
+        deck.shuffle(gameRandom);
+        return deck;
+    }
+
+    /**
+     * See The Future view that hands the peeked cards to the game view instead of the console.
+     */
+    private static final class PolicySeeTheFutureView extends SeeTheFutureView {
+        private final PolicyGameView view;
+
+        PolicySeeTheFutureView(PolicyGameView view) {
+            this.view = view;
+        }
+
+        @Override
+        public void display(List<Card> cards) {
+            view.displayFuture(view.getActivePlayer(), cards);
+        }
+    }
+}
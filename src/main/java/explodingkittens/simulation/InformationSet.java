@@ -0,0 +1,181 @@
+package explodingkittens.simulation;
+
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.Card;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import explodingkittens.util.GameRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * What one player knows about a running game: the turn order, every player's turn
+ * count and hand size, the deck size, their own hand, and the pool of cards they cannot
+ * see, which is the deck and the other hands together.
+ * {@link #determinize(Random, List)} deals the unseen pool at random into a playable table.
+ * Seats are positions in the turn order at capture time. Cards a player saw through
+ * See The Future are not tracked.
+ */
+final class InformationSet {
+    private final int observerSeat;
+    private final int currentIndex;
+    private final String[] names;
+    private final int[] leftTurns;
+    private final int[] handSizes;
+    private final List<List<Card>> known = new ArrayList<>();
+    private final List<Card> unseen = new ArrayList<>();
+    private Card deckTop;
+
+    private InformationSet(List<Player> turnOrder, int observerSeat, int currentIndex,
+            Deck deck) {
+        int count = turnOrder.size();
+        this.observerSeat = observerSeat;
+        this.currentIndex = currentIndex;
+        this.names = new String[count];
+        this.leftTurns = new int[count];
+        this.handSizes = new int[count];
+        unseen.addAll(deck.getUnmodifiableCards());
+        for (int seat = 0; seat < count; seat++) {
+            Player player = turnOrder.get(seat);
+            List<Card> hand = player.getRealHand();
+            names[seat] = player.getName();
+            leftTurns[seat] = player.getLeftTurns();
+            handSizes[seat] = hand.size();
+            known.add(new ArrayList<>());
+            if (seat == observerSeat) {
+                known.get(seat).addAll(hand);
+            }
+            else {
+                unseen.addAll(hand);
+            }
+        }
+    }
+
+    /**
+     * Captures what a player knows about a table.
+     * @param table the running game
+     * @param observer the player whose view is captured
+     * @return the information set
+     * @throws IllegalStateException if the game is not running or the player is not in it
+     */
+    static InformationSet capture(GameTable table, Player observer) {
+        List<Player> turnOrder = table.getTurnOrder();
+        if (turnOrder == null || table.getGameDeck() == null) {
+            throw new IllegalStateException("Game is not properly initialized");
+        }
+        int observerSeat = seatOf(turnOrder, observer);
+        if (observerSeat < 0) {
+            throw new IllegalStateException(observer.getName() + " is not in the turn order");
+        }
+        int currentIndex = seatOf(turnOrder, table.getCurrentPlayer());
+        return new InformationSet(turnOrder, observerSeat, Math.max(0, currentIndex),
+            table.getGameDeck());
+    }
+
+    /**
+     * Finds a player's seat by identity.
+     * @param players the players in seat order
+     * @param player the player to find
+     * @return the seat, or -1
+     */
+    static int seatOf(List<Player> players, Player player) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    int getObserverSeat() {
+        return observerSeat;
+    }
+
+    int getCurrentSeat() {
+        return currentIndex;
+    }
+
+    int getSeatCount() {
+        return names.length;
+    }
+
+    /**
+     * Makes a card public knowledge in a seat's hand, for example a card being played.
+     * @param seat the seat holding the card
+     * @param card the card
+     */
+    void reveal(int seat, Card card) {
+        byte code = CompactDeck.encode(card);
+        for (int i = 0; i < unseen.size(); i++) {
+            if (CompactDeck.encode(unseen.get(i)) == code) {
+                unseen.remove(i);
+                known.get(seat).add(card);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts a card back into a seat's hand that the seat no longer holds, growing the hand.
+     * @param seat the seat
+     * @param card the card
+     */
+    void returnToHand(int seat, Card card) {
+        known.get(seat).add(card);
+        handSizes[seat]++;
+    }
+
+    /**
+     * Puts a known card on top of every dealt deck.
+     * @param card the card
+     */
+    void setDeckTop(Card card) {
+        deckTop = card;
+    }
+
+    /**
+     * Deals the unseen cards at random into a table of fresh players.
+     * The table is not bound to any thread; card instances that carry state are copied
+     * so playouts never touch the cards of the real game.
+     * @param random the random source for the deal and the table
+     * @param players receives the new players in seat order
+     * @return the table, with the same turn position as the captured game
+     */
+    GameTable determinize(Random random, List<Player> players) {
+        Card[] pool = unseen.toArray(new Card[0]);
+        for (int i = pool.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card swap = pool[i];
+            pool[i] = pool[j];
+            pool[j] = swap;
+        }
+        int next = 0;
+        for (int seat = 0; seat < names.length; seat++) {
+            Player player = new Player(names[seat]);
+            player.setLeftTurns(leftTurns[seat]);
+            List<Card> hand = player.getRealHand();
+            for (Card card : known.get(seat)) {
+                hand.add(card.copy());
+            }
+            while (hand.size() < handSizes[seat] && next < pool.length) {
+                hand.add(pool[next++].copy());
+            }
+            players.add(player);
+        }
+        GameTable table = new GameTable();
+        table.setRandom(new GameRandom(random.nextLong()));
+        table.setGameDeck(new Deck());
+        List<Card> cards = table.getGameDeck().getRealCards();
+        if (deckTop != null) {
+            cards.add(deckTop.copy());
+        }
+        while (next < pool.length) {
+            cards.add(pool[next++].copy());
+        }
+        table.setTurnOrder(players);
+        table.setCurrentPlayerIndex(currentIndex);
+        return table;
+    }
+}
@@ -0,0 +1,297 @@
+package explodingkittens.simulation;
+
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import explodingkittens.journal.DecisionKind;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Player;
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Computer player that answers with information-set Monte Carlo tree search.
+ * For each card play, Nope, Exploding Kitten position and target question it captures
+ * what the player knows about the game, then repeatedly deals the unseen cards at random
+ * and plays the game out through the regular controller, growing a search tree whose
+ * nodes are shared by every deal. With more than one thread, each thread grows its own
+ * tree from its own deals for the same time budget, and the root answers are merged by
+ * visit count. Defuses are always used, a stolen card index is picked at random, and the
+ * card given away for a Favor is a random one other than a Defuse or a Nope.
+ * The policy reads the game through GameContext, so it must be asked on the thread that
+ * runs the game.
+ */
+public class IsmctsPolicy implements DecisionPolicy {
+    private static final int PLAYOUT_TURN_LIMIT = 400;
+
+    private final Random random;
+    private final long budgetNanos;
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final RandomPolicy fallback;
+    private int playoutLimit = -1;
+    private Card lastPlayed;
+    private int searches;
+    private long playouts;
+    private long searchNanos;
+
+    /**
+     * Creates a search policy that runs its threads on the common pool.
+     * @param random the random source for the deals
+     * @param budgetMillis the search time per question in milliseconds
+     * @param threads the number of independent search trees per question
+     * @throws IllegalArgumentException if random is null or budget or threads is not positive
+     */
+    public IsmctsPolicy(Random random, long budgetMillis, int threads) {
+        this(random, budgetMillis, threads, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search policy.
+     * @param random the random source for the deals
+     * @param budgetMillis the search time per question in milliseconds
+     * @param threads the number of independent search trees per question
+     * @param pool the pool that runs the trees when there is more than one
+     * @throws IllegalArgumentException if random or pool is null or budget or threads is
+     *     not positive
+     */
+    public IsmctsPolicy(Random random, long budgetMillis, int threads, ForkJoinPool pool) {
+        if (random == null || pool == null) {
+            throw new IllegalArgumentException("Random and pool cannot be null");
+        }
+        if (budgetMillis <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Budget and threads must be positive");
+        }
+        this.random = random;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.pool = pool;
+        this.fallback = new RandomPolicy(random);
+    }
+
+    /**
+     * Caps the playouts of each tree per question, on top of the time budget.
+     * With a cap that is reached before the budget, the answers only depend on the
+     * random source.
+     * @param playouts the playouts per tree, or a negative value for no cap
+     */
+    public void setPlayoutLimit(int playouts) {
+        this.playoutLimit = playouts;
+    }
+
+    /**
+     * Gets the number of questions answered by searching.
+     * @return the search count
+     */
+    public int getSearches() {
+        return searches;
+    }
+
+    /**
+     * Gets the number of playouts that reached the searched question, over all threads.
+     * @return the playout count
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Gets the wall-clock time spent searching.
+     * @return the time in nanoseconds
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    /**
+     * Gets the search throughput over all threads.
+     * @return playouts per second of wall-clock search time, or 0 before the first search
+     */
+    public double getPlayoutsPerSecond() {
+        return searchNanos == 0 ? 0 : playouts * 1e9 / searchNanos;
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        int[] keys = SearchPlayout.playKeys(hand);
+        Card card = null;
+        if (keys.length > 1) {
+            InformationSet info = InformationSet.capture(GameContext.currentTable(), player);
+            int choice = search(info, DecisionKind.CARD_TO_PLAY, -1, SearchPlayout.PASS, keys);
+            card = choice < 0 ? fallback.chooseCardToPlay(player, hand)
+                : SearchPlayout.cardFor(hand, keys[choice]);
+        }
+        lastPlayed = card;
+        return card;
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        InformationSet info = InformationSet.capture(GameContext.currentTable(), player);
+        int current = info.getCurrentSeat();
+        info.reveal(current, card);
+        int choice = search(info, DecisionKind.PLAY_NOPE, current, CompactDeck.encode(card),
+            new int[] {0, 1});
+        return choice < 0 ? fallback.playNope(player, card) : choice == 1;
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        return true;
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        InformationSet info = InformationSet.capture(GameContext.currentTable(), player);
+        int seat = info.getObserverSeat();
+        info.returnToHand(seat, CardRegistry.get(CardType.DEFUSE));
+        info.setDeckTop(CardRegistry.get(CardType.EXPLODING_KITTEN));
+        int[] keys = SearchPlayout.positionKeys(deckSize);
+        int choice = search(info, DecisionKind.KITTEN_POSITION, seat, SearchPlayout.PASS, keys);
+        return choice < 0 ? fallback.chooseKittenPosition(player, deckSize) : keys[choice];
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        if (candidates.size() == 1 || lastPlayed == null) {
+            return fallback.chooseTarget(player, candidates);
+        }
+        GameTable table = GameContext.currentTable();
+        InformationSet info = InformationSet.capture(table, player);
+        int[] keys = new int[candidates.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = InformationSet.seatOf(table.getTurnOrder(), candidates.get(i));
+        }
+        int choice = search(info, DecisionKind.TARGET, info.getObserverSeat(),
+            CompactDeck.encode(lastPlayed), keys);
+        return choice < 0 ? fallback.chooseTarget(player, candidates) : candidates.get(choice);
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        return fallback.chooseCardIndex(player, handSize);
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        List<Card> spare = new ArrayList<>();
+        for (Card card : cards) {
+            if (card.getType() != CardType.DEFUSE && card.getType() != CardType.NOPE) {
+                spare.add(card);
+            }
+        }
+        return fallback.chooseCardToGive(player, spare.isEmpty() ? cards : spare);
+    }
+
+    /**
+     * Searches one question and merges the trees.
+     * @param info what the player knows
+     * @param kind the question
+     * @param forcedSeat the seat whose first card play is replayed, or -1
+     * @param forcedKey the card code of that play, or PASS
+     * @param keys the legal answers
+     * @return the index of the most visited answer, or -1 if no playout reached the question
+     * @throws IllegalStateException if a search thread fails or the caller is interrupted
+     */
+    private int search(InformationSet info, DecisionKind kind, int forcedSeat, int forcedKey,
+            int[] keys) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        List<SearchNode> roots = new ArrayList<>(threads);
+        if (threads == 1) {
+            roots.add(grow(info, kind, forcedSeat, forcedKey, random.nextLong(), deadline));
+        }
+        else {
+            List<Callable<SearchNode>> trees = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                long seed = random.nextLong();
+                trees.add(() -> grow(info, kind, forcedSeat, forcedKey, seed, deadline));
+            }
+            try {
+                for (Future<SearchNode> tree : pool.invokeAll(trees)) {
+                    roots.add(tree.get());
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Search interrupted", e);
+            }
+            catch (ExecutionException e) {
+                throw new IllegalStateException("Search failed", e.getCause());
+            }
+        }
+        long[] visits = new long[keys.length];
+        for (SearchNode root : roots) {
+            playouts += root.getVisits();
+            for (SearchNode child : root.getChildren()) {
+                if (child.getSeat() != root.getSeat() || child.getKind() != kind) {
+                    continue;
+                }
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == child.getKey()) {
+                        visits[i] += child.getVisits();
+                    }
+                }
+            }
+        }
+        searches++;
+        searchNanos += System.nanoTime() - start;
+        int best = -1;
+        for (int i = 0; i < keys.length; i++) {
+            if (visits[i] > 0 && (best < 0 || visits[i] > visits[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Grows one search tree until the deadline or the playout limit.
+     * @param info what the player knows
+     * @param kind the question
+     * @param forcedSeat the seat whose first card play is replayed, or -1
+     * @param forcedKey the card code of that play, or PASS
+     * @param seed the seed of this tree's deals and rollouts
+     * @param deadline the System.nanoTime() value to stop at
+     * @return the root of the tree
+     */
+    private SearchNode grow(InformationSet info, DecisionKind kind, int forcedSeat,
+            int forcedKey, long seed, long deadline) {
+        GameRandom treeRandom = new GameRandom(seed);
+        DecisionPolicy rollout = new RandomPolicy(treeRandom);
+        SearchNode root = new SearchNode(info.getObserverSeat(), kind, SearchPlayout.PASS);
+        boolean wasEnabled = ConsoleOutput.isEnabled();
+        ConsoleOutput.setQuiet(true);
+        try {
+            for (int played = 0; (playoutLimit < 0 || played < playoutLimit)
+                    && System.nanoTime() < deadline; played++) {
+                List<Player> players = new ArrayList<>(info.getSeatCount());
+                GameTable table = info.determinize(treeRandom, players);
+                SearchPlayout playout = new SearchPlayout(root, kind, forcedSeat, forcedKey,
+                    rollout, treeRandom, players);
+                PolicyGameView view = new PolicyGameView();
+                view.setTurnLimit(PLAYOUT_TURN_LIMIT);
+                for (int seat = 0; seat < players.size(); seat++) {
+                    view.seat(players.get(seat), playout.seat(seat));
+                }
+                GameSimulator.playOut(table, view);
+                if (playout.isRootReached()) {
+                    playout.backpropagate(view.getWinnerSeat());
+                }
+            }
+        }
+        finally {
+            ConsoleOutput.setQuiet(!wasEnabled);
+        }
+        return root;
+    }
+}
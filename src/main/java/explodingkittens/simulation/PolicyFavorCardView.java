@@ -0,0 +1,51 @@
+package explodingkittens.simulation;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import explodingkittens.view.FavorCardView;
+import java.util.List;
+
+/**
+ * FavorCardView used by Favor and Snatch cards in headless games.
+ * The active player's policy picks the target, and the target's policy picks the card to give.
+ */
+public class PolicyFavorCardView extends FavorCardView {
+    private final PolicyGameView gameView;
+    private Player target;
+
+    /**
+     * Creates a favor view backed by the policies seated in the given game view.
+     * @param gameView the headless game view of the same game
+     */
+    public PolicyFavorCardView(PolicyGameView gameView) {
+        this.gameView = gameView;
+    }
+
+    @Override
+    public int promptTargetPlayer(List<Player> availablePlayers) {
+        if (availablePlayers == null || availablePlayers.isEmpty()) {
+            throw new IllegalArgumentException("Available players list cannot be null or empty");
+        }
+        Player chooser = gameView.getActivePlayer();
+        target = gameView.policyOf(chooser).chooseTarget(chooser, availablePlayers);
+        int index = availablePlayers.indexOf(target);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid selection");
+        }
+        return index;
+    }
+
+    @Override
+    public int promptCardSelection(List<Card> cards) {
+        if (cards == null || cards.isEmpty()) {
+            throw new IllegalArgumentException("Cards list cannot be null or empty");
+        }
+        Card card = gameView.policyOf(target).chooseCardToGive(target, cards);
+        int index = cards.indexOf(card);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid selection");
+        }
+        gameView.displayCardStolen(gameView.getActivePlayer(), target, card);
+        return index;
+    }
+}
@@ -0,0 +1,358 @@
+package explodingkittens.simulation;
+
+import explodingkittens.controller.CatCardStealController;
+import explodingkittens.controller.CatCardStealInputHandler;
+import explodingkittens.journal.GameRecorder;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Player;
+import explodingkittens.service.NopeService;
+import explodingkittens.view.GameView;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless GameView that answers every prompt from the deciding player's DecisionPolicy.
+ * Display methods do nothing, so a game driven through this view performs no console I/O.
+ * It also serves as the cat card steal input handler for the same game, and forwards
+ * game events to a GameRecorder when one is attached.
+ */
+public class PolicyGameView implements GameView, CatCardStealInputHandler {
+    private final Map<Player, DecisionPolicy> policies = new IdentityHashMap<>();
+    private final List<Player> seated = new ArrayList<>();
+    private final List<int[]> cardsPlayed = new ArrayList<>();
+    private Player activePlayer;
+    private Player defusingPlayer;
+    private Player winner;
+    private boolean playRejected;
+    private int turns;
+    private GameRecorder recorder;
+    private int turnLimit = -1;
+
+    /**
+     * Assigns the policy that decides for a player, in seating order.
+     * @param player the seated player
+     * @param policy the policy answering the player's prompts
+     * @throws IllegalArgumentException if player or policy is null
+     */
+    public void seat(Player player, DecisionPolicy policy) {
+        if (player == null || policy == null) {
+            throw new IllegalArgumentException("Player and policy must not be null");
+        }
+        if (policies.put(player, policy) == null) {
+            seated.add(player);
+            cardsPlayed.add(new int[CardType.values().length]);
+        }
+    }
+
+    /**
+     * Attaches a recorder that receives the game's events.
+     * @param recorder the recorder, or null to stop recording
+     */
+    public void setRecorder(GameRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Stops the game when the turn after the given number of turns is about to start.
+     * The game loop reports the stop as an aborted game; the table keeps the state
+     * at the start of that turn.
+     * @param turns the number of turns to allow, or -1 for no limit
+     */
+    public void setTurnLimit(int turns) {
+        this.turnLimit = turns;
+    }
+
+    /**
+     * Checks if the game was stopped by the turn limit.
+     * @return true if the turn limit was reached
+     */
+    public boolean isTurnLimitReached() {
+        return turnLimit >= 0 && turns >= turnLimit && winner == null;
+    }
+
+    /**
+     * Gets the winner announced by the game loop.
+     * @return the winner, or null if the game has not finished
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the seat of the winner.
+     * @return the winner's seat index starting at 0, or -1 if there is no winner
+     */
+    public int getWinnerSeat() {
+        return winner == null ? -1 : seated.indexOf(winner);
+    }
+
+    /**
+     * Gets the number of turns started so far.
+     * @return the turn count
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the player whose turn is in progress.
+     * @return the active player, or null before the first turn
+     */
+    public Player getActivePlayer() {
+        return activePlayer;
+    }
+
+    /**
+     * Gets how many cards of a type a seat chose to play, Nopes included.
+     * Plays that the turn service rejected as invalid are counted as well.
+     * @param seat the seat index, starting at 0
+     * @param type the card type
+     * @return the play count
+     */
+    public int getCardsPlayed(int seat, CardType type) {
+        return cardsPlayed.get(seat)[type.ordinal()];
+    }
+
+    private void recordPlay(Player player, CardType type) {
+        int seat = seated.indexOf(player);
+        if (seat >= 0) {
+            cardsPlayed.get(seat)[type.ordinal()]++;
+        }
+    }
+
+    /**
+     * Creates the Nope service of a game played through this view.
+     * @return a service that asks each Nope holder's policy in turn
+     */
+    public NopeService createNopeService() {
+        return new NopeService(this);
+    }
+
+    DecisionPolicy policyOf(Player player) {
+        DecisionPolicy policy = policies.get(player);
+        if (policy == null) {
+            throw new IllegalStateException("No policy seated for " + player.getName());
+        }
+        return policy;
+    }
+
+    @Override
+    public void displayCurrentPlayer(Player player) {
+        if (turnLimit >= 0 && turns >= turnLimit) {
+            throw new IllegalStateException("Turn limit of " + turnLimit + " reached");
+        }
+        activePlayer = player;
+        turns++;
+        if (recorder != null) {
+            recorder.turnStarted(player);
+        }
+    }
+
+    @Override
+    public void displayPlayerHand(Player player) {
+    }
+
+    @Override
+    public void displayOtherPlayerHand(Player player) {
+    }
+
+    @Override
+    public void displayHandForSelection(Player player, List<Card> hand) {
+    }
+
+    @Override
+    public String promptPlayerAction(Player player) {
+        activePlayer = player;
+        playRejected = false;
+        return "play";
+    }
+
+    @Override
+    public void displayPlayerEliminated(Player player) {
+        if (recorder != null) {
+            recorder.eliminated(player);
+        }
+    }
+
+    @Override
+    public void displayWinner(Player winner) {
+        this.winner = winner;
+    }
+
+    @Override
+    public void displayGameOver() {
+    }
+
+    @Override
+    public void displayDrawResult(Card card) {
+    }
+
+    @Override
+    public int promptDefusePosition(int deckSize) {
+        return selectExplodingKittenPosition(deckSize);
+    }
+
+    @Override
+    public Card promptPlayCard(Player player, List<Card> hand) {
+        return selectCardToPlay(player, hand);
+    }
+
+    @Override
+    public void displayPlayedCard(Player player, Card card) {
+    }
+
+    /**
+     * Asks the player's policy for a card to play.
+     * After a rejected play the phase ends, so a policy cannot loop on an invalid card.
+     * @param player The current player
+     * @param hand The player's hand
+     * @return The selected card, or null to end the play phase
+     */
+    @Override
+    public Card selectCardToPlay(Player player, List<Card> hand) {
+        if (playRejected || hand.isEmpty()) {
+            return null;
+        }
+        Card card = policyOf(player).chooseCardToPlay(player, hand);
+        if (card != null) {
+            recordPlay(player, card.getType());
+            if (recorder != null) {
+                recorder.played(player, card);
+            }
+        }
+        return card;
+    }
+
+    @Override
+    public void showError(String message) {
+        playRejected = true;
+    }
+
+    @Override
+    public void showCardPlayed(Player player, Card card) {
+    }
+
+    @Override
+    public boolean checkForNope(Player player, Card card) {
+        return false;
+    }
+
+    @Override
+    public void showCardNoped(Player player, Card card) {
+        if (recorder != null) {
+            recorder.noped(player, card);
+        }
+    }
+
+    @Override
+    public void showCardDrawn(Player player, Card card) {
+        if (recorder != null) {
+            recorder.drew(player, card);
+        }
+    }
+
+    @Override
+    public boolean confirmDefuse(Player player) {
+        defusingPlayer = player;
+        return policyOf(player).useDefuse(player);
+    }
+
+    @Override
+    public int selectExplodingKittenPosition(int deckSize) {
+        Player player = defusingPlayer != null ? defusingPlayer : activePlayer;
+        int position = policyOf(player).chooseKittenPosition(player, deckSize);
+        return Math.max(0, Math.min(deckSize, position));
+    }
+
+    @Override
+    public void displayDefuseUsed(Player player) {
+    }
+
+    @Override
+    public void displayDefuseSuccess(Player player, int position) {
+        defusingPlayer = null;
+        if (recorder != null) {
+            recorder.defused(player, position);
+        }
+    }
+
+    @Override
+    public boolean promptPlayNope(Player player, Card card) {
+        return policyOf(player).playNope(player, card);
+    }
+
+    @Override
+    public void displayPlayedNope(Player player) {
+        recordPlay(player, CardType.NOPE);
+        if (recorder != null) {
+            recorder.playedNope(player);
+        }
+    }
+
+    @Override
+    public void showCurrentPlayerTurn(Player player) {
+    }
+
+    @Override
+    public void displayCatCardEffect(String effectType, Player sourcePlayer,
+            Player targetPlayer) {
+    }
+
+    @Override
+    public void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card) {
+        if (recorder != null) {
+            recorder.stole(sourcePlayer, targetPlayer, card);
+        }
+    }
+
+    @Override
+    public void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card) {
+        if (recorder != null && card != null) {
+            recorder.stole(sourcePlayer, targetPlayer, card);
+        }
+    }
+
+    @Override
+    public Player selectTargetPlayer(List<Player> availablePlayers) {
+        return policyOf(activePlayer).chooseTarget(activePlayer, availablePlayers);
+    }
+
+    @Override
+    public Card selectCardFromPlayer(Player targetPlayer, List<Card> hand) {
+        if (hand.isEmpty()) {
+            return null;
+        }
+        return policyOf(targetPlayer).chooseCardToGive(targetPlayer, hand);
+    }
+
+    @Override
+    public boolean handleWinningCombo(Player player, List<Card> hand) {
+        return false;
+    }
+
+    @Override
+    public void displayCardDrawnFromBottom(Card card) {
+    }
+
+    /**
+     * Shows the cards peeked with See The Future; policies do not use peeks.
+     * @param player the player who peeked
+     * @param cards the top cards of the deck, top first
+     */
+    public void displayFuture(Player player, List<Card> cards) {
+    }
+
+    @Override
+    public int selectCardIndex(int handSize) {
+        return policyOf(activePlayer).chooseCardIndex(activePlayer, handSize);
+    }
+
+    @Override
+    public void handleCardSteal(Player currentPlayer, List<Player> turnOrder, CatType catType) {
+        new CatCardStealController(this).handleCardSteal(currentPlayer, turnOrder, catType);
+    }
+}
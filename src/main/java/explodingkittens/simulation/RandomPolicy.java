@@ -0,0 +1,129 @@
+package explodingkittens.simulation;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatCard;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Baseline policy that makes uniformly random legal choices.
+ * It always defuses and only plays cat cards when it holds a matching pair.
+ */
+public class RandomPolicy implements DecisionPolicy {
+    private final Random random;
+    private final double playChance;
+    private final double nopeChance;
+
+    /**
+     * Creates a random policy with default play and nope chances.
+     * @param random the random source used for every decision
+     */
+    public RandomPolicy(Random random) {
+        this(random, 0.5, 0.3);
+    }
+
+    /**
+     * Creates a random policy.
+     * @param random the random source used for every decision
+     * @param playChance the chance of playing a card instead of ending the play phase
+     * @param nopeChance the chance of answering a card with a Nope
+     * @throws IllegalArgumentException if random is null or a chance is outside [0, 1]
+     */
+    public RandomPolicy(Random random, double playChance, double nopeChance) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        if (playChance < 0 || playChance > 1 || nopeChance < 0 || nopeChance > 1) {
+            throw new IllegalArgumentException("Chances must be between 0 and 1");
+        }
+        this.random = random;
+        this.playChance = playChance;
+        this.nopeChance = nopeChance;
+    }
+
+    @Override
+    public Card chooseCardToPlay(Player player, List<Card> hand) {
+        if (random.nextDouble() >= playChance) {
+            return null;
+        }
+        List<Card> playable = new ArrayList<>();
+        for (Card card : hand) {
+            if (isPlayable(card, hand)) {
+                playable.add(card);
+            }
+        }
+        if (playable.isEmpty()) {
+            return null;
+        }
+        return playable.get(random.nextInt(playable.size()));
+    }
+
+    @Override
+    public boolean playNope(Player player, Card card) {
+        return random.nextDouble() < nopeChance;
+    }
+
+    @Override
+    public boolean useDefuse(Player player) {
+        return true;
+    }
+
+    @Override
+    public int chooseKittenPosition(Player player, int deckSize) {
+        return random.nextInt(deckSize + 1);
+    }
+
+    @Override
+    public Player chooseTarget(Player player, List<Player> candidates) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    @Override
+    public int chooseCardIndex(Player player, int handSize) {
+        return random.nextInt(handSize);
+    }
+
+    @Override
+    public Card chooseCardToGive(Player player, List<Card> cards) {
+        return cards.get(random.nextInt(cards.size()));
+    }
+
+    /**
+     * Checks if a card can be played on its own from the given hand.
+     * @param card the candidate card
+     * @param hand the hand holding the card
+     * @return true if playing the card can take effect
+     */
+    static boolean isPlayable(Card card, List<Card> hand) {
+        CardType type = card.getType();
+        if (type == CardType.DEFUSE || type == CardType.NOPE
+                || type == CardType.EXPLODING_KITTEN) {
+            return false;
+        }
+        if (type != CardType.CAT_CARD) {
+            return true;
+        }
+        CatType catType = ((CatCard) card).getCatType();
+        // Copies may share one instance, so skip the card itself once instead of by identity
+        boolean skippedSelf = false;
+        for (Card other : hand) {
+            if (!skippedSelf && other == card) {
+                skippedSelf = true;
+                continue;
+            }
+            if (!(other instanceof CatCard)) {
+                continue;
+            }
+            CatType otherType = ((CatCard) other).getCatType();
+            if (catType == CatType.FERAL_CAT ? otherType != CatType.FERAL_CAT
+                    : otherType == catType) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,109 @@
+package explodingkittens.simulation;
+
+import explodingkittens.journal.DecisionKind;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Node of an information-set search tree.
+ * A node stands for one answer given by one seat to one kind of question; which
+ * answers exist below it depends on the determinization, so every child also counts
+ * how often it was available, and UCB selection uses that count instead of the
+ * parent's visits.
+ */
+final class SearchNode {
+    private final int seat;
+    private final DecisionKind kind;
+    private final int key;
+    private final List<SearchNode> children = new ArrayList<>(4);
+    private int visits;
+    private int availability;
+    private double reward;
+
+    SearchNode(int seat, DecisionKind kind, int key) {
+        this.seat = seat;
+        this.kind = kind;
+        this.key = key;
+    }
+
+    int getSeat() {
+        return seat;
+    }
+
+    DecisionKind getKind() {
+        return kind;
+    }
+
+    int getKey() {
+        return key;
+    }
+
+    int getVisits() {
+        return visits;
+    }
+
+    List<SearchNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * Finds the child for an answer.
+     * @param childSeat the answering seat
+     * @param childKind the question
+     * @param childKey the answer
+     * @return the child, or null if the answer was never expanded
+     */
+    SearchNode find(int childSeat, DecisionKind childKind, int childKey) {
+        for (int i = 0; i < children.size(); i++) {
+            SearchNode child = children.get(i);
+            if (child.key == childKey && child.seat == childSeat && child.kind == childKind) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the child for a new answer.
+     * @param childSeat the answering seat
+     * @param childKind the question
+     * @param childKey the answer
+     * @return the new child
+     */
+    SearchNode expand(int childSeat, DecisionKind childKind, int childKey) {
+        SearchNode child = new SearchNode(childSeat, childKind, childKey);
+        child.availability = 1;
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * Marks this answer as legal in the current determinization.
+     */
+    void markAvailable() {
+        availability++;
+    }
+
+    /**
+     * Scores this answer for selection.
+     * @param exploration the UCB exploration constant
+     * @return the mean reward plus the exploration bonus
+     */
+    double ucb(double exploration) {
+        if (visits == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return reward / visits + exploration * Math.sqrt(Math.log(availability) / visits);
+    }
+
+    /**
+     * Counts a finished playout through this node.
+     * @param winnerSeat the seat that won the playout, or -1 if nobody did
+     */
+    void update(int winnerSeat) {
+        visits++;
+        if (winnerSeat == seat) {
+            reward++;
+        }
+    }
+}
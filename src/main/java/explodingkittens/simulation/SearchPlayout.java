@@ -0,0 +1,296 @@
+package explodingkittens.simulation;
+
+import explodingkittens.journal.DecisionKind;
+import explodingkittens.model.Card;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Answers the questions of one playout of an information-set search.
+ * A playout restarts the current turn of a determinized table, so it first replays the
+ * moves that led to the searched question: an optional forced card play, with every
+ * other question before the root answered passively. From the root question on, answers
+ * are selected down the tree with UCB until an unexpanded answer is added, and the rest
+ * of the game is played by the rollout policy. Choosing a card index and a card to give
+ * are never part of the tree.
+ */
+final class SearchPlayout {
+    /** Answer key for playing no card. */
+    static final int PASS = -1;
+
+    private static final double EXPLORATION = 0.7;
+
+    private final SearchNode root;
+    private final int rootSeat;
+    private final DecisionKind rootKind;
+    private final int forcedSeat;
+    private final int forcedKey;
+    private final DecisionPolicy rollout;
+    private final Random random;
+    private final List<Player> players;
+    private final List<SearchNode> path = new ArrayList<>();
+    private boolean forcedPending;
+    private boolean rootReached;
+    private SearchNode cursor;
+
+    /**
+     * Creates a playout.
+     * @param root the root of the search tree
+     * @param rootKind the searched question, asked of the root node's seat
+     * @param forcedSeat the seat whose first card play is forced, or -1
+     * @param forcedKey the card code of the forced play, or PASS
+     * @param rollout the policy for questions outside the tree
+     * @param random the random source for expansion
+     * @param players the playout's players in seat order
+     */
+    SearchPlayout(SearchNode root, DecisionKind rootKind, int forcedSeat, int forcedKey,
+            DecisionPolicy rollout, Random random, List<Player> players) {
+        this.root = root;
+        this.rootSeat = root.getSeat();
+        this.rootKind = rootKind;
+        this.forcedSeat = forcedSeat;
+        this.forcedKey = forcedKey;
+        this.rollout = rollout;
+        this.random = random;
+        this.players = players;
+        this.forcedPending = forcedSeat >= 0;
+    }
+
+    /**
+     * Creates the policy for a seat.
+     * @param seat the seat index
+     * @return the policy
+     */
+    DecisionPolicy seat(int seat) {
+        return new Seat(seat);
+    }
+
+    /**
+     * Checks if the playout got to the searched question.
+     * @return true if the root question was asked
+     */
+    boolean isRootReached() {
+        return rootReached;
+    }
+
+    /**
+     * Counts the finished playout on the root and every selected node.
+     * @param winnerSeat the winning seat, or -1
+     */
+    void backpropagate(int winnerSeat) {
+        root.update(winnerSeat);
+        for (SearchNode node : path) {
+            node.update(winnerSeat);
+        }
+    }
+
+    /**
+     * Computes the answer keys of a card play question.
+     * @param hand the hand to play from
+     * @return PASS followed by the code of every playable card, without repeats
+     */
+    static int[] playKeys(List<Card> hand) {
+        int[] keys = new int[hand.size() + 1];
+        int count = 0;
+        keys[count++] = PASS;
+        for (Card card : hand) {
+            if (!RandomPolicy.isPlayable(card, hand)) {
+                continue;
+            }
+            int code = CompactDeck.encode(card);
+            if (indexOf(keys, count, code) < 0) {
+                keys[count++] = code;
+            }
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(keys, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Finds the card for a card play answer.
+     * @param hand the hand
+     * @param key the answer key
+     * @return the first card with that code, or null for PASS or a missing card
+     */
+    static Card cardFor(List<Card> hand, int key) {
+        if (key == PASS) {
+            return null;
+        }
+        for (Card card : hand) {
+            if (CompactDeck.encode(card) == key) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Computes the answer keys of an Exploding Kitten position question.
+     * Only the top three places, the middle and the bottom are considered.
+     * @param deckSize the deck size
+     * @return the distinct positions
+     */
+    static int[] positionKeys(int deckSize) {
+        int[] candidates = {0, 1, 2, deckSize / 2, deckSize};
+        int[] keys = new int[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            if (position <= deckSize && indexOf(keys, count, position) < 0) {
+                keys[count++] = position;
+            }
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(keys, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    private static int indexOf(int[] keys, int count, int key) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decides whether a question is answered from the tree.
+     * @param seat the asking seat
+     * @param kind the question
+     * @return true if the tree answers, false if the caller answers passively or by rollout
+     */
+    private boolean inTree(int seat, DecisionKind kind) {
+        if (!rootReached && seat == rootSeat && kind == rootKind) {
+            rootReached = true;
+            forcedPending = false;
+            cursor = root;
+        }
+        return cursor != null;
+    }
+
+    private boolean beforeRoot() {
+        return !rootReached;
+    }
+
+    /**
+     * Selects an answer from the tree, expanding one untried answer if there is any.
+     * @param seat the asking seat
+     * @param kind the question
+     * @param keys the legal answers
+     * @return the index of the chosen answer
+     */
+    private int select(int seat, DecisionKind kind, int[] keys) {
+        SearchNode node = cursor;
+        int untried = 0;
+        for (int key : keys) {
+            SearchNode child = node.find(seat, kind, key);
+            if (child == null) {
+                untried++;
+            }
+            else {
+                child.markAvailable();
+            }
+        }
+        if (untried > 0) {
+            int pick = random.nextInt(untried);
+            for (int i = 0; i < keys.length; i++) {
+                if (node.find(seat, kind, keys[i]) != null) {
+                    continue;
+                }
+                if (pick == 0) {
+                    path.add(node.expand(seat, kind, keys[i]));
+                    cursor = null;
+                    return i;
+                }
+                pick--;
+            }
+        }
+        int best = 0;
+        SearchNode bestChild = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < keys.length; i++) {
+            SearchNode child = node.find(seat, kind, keys[i]);
+            double score = child.ucb(EXPLORATION);
+            if (score > bestScore) {
+                best = i;
+                bestChild = child;
+                bestScore = score;
+            }
+        }
+        path.add(bestChild);
+        cursor = bestChild;
+        return best;
+    }
+
+    /**
+     * Policy of one playout seat.
+     */
+    private final class Seat implements DecisionPolicy {
+        private final int seat;
+
+        Seat(int seat) {
+            this.seat = seat;
+        }
+
+        @Override
+        public Card chooseCardToPlay(Player player, List<Card> hand) {
+            if (forcedPending && seat == forcedSeat) {
+                forcedPending = false;
+                return cardFor(hand, forcedKey);
+            }
+            if (inTree(seat, DecisionKind.CARD_TO_PLAY)) {
+                int[] keys = playKeys(hand);
+                return cardFor(hand, keys[select(seat, DecisionKind.CARD_TO_PLAY, keys)]);
+            }
+            return beforeRoot() ? null : rollout.chooseCardToPlay(player, hand);
+        }
+
+        @Override
+        public boolean playNope(Player player, Card card) {
+            if (inTree(seat, DecisionKind.PLAY_NOPE)) {
+                return select(seat, DecisionKind.PLAY_NOPE, new int[] {0, 1}) == 1;
+            }
+            return !beforeRoot() && rollout.playNope(player, card);
+        }
+
+        @Override
+        public boolean useDefuse(Player player) {
+            return true;
+        }
+
+        @Override
+        public int chooseKittenPosition(Player player, int deckSize) {
+            if (inTree(seat, DecisionKind.KITTEN_POSITION)) {
+                int[] keys = positionKeys(deckSize);
+                return keys[select(seat, DecisionKind.KITTEN_POSITION, keys)];
+            }
+            return rollout.chooseKittenPosition(player, deckSize);
+        }
+
+        @Override
+        public Player chooseTarget(Player player, List<Player> candidates) {
+            if (inTree(seat, DecisionKind.TARGET)) {
+                int[] keys = new int[candidates.size()];
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = InformationSet.seatOf(players, candidates.get(i));
+                }
+                return candidates.get(select(seat, DecisionKind.TARGET, keys));
+            }
+            return rollout.chooseTarget(player, candidates);
+        }
+
+        @Override
+        public int chooseCardIndex(Player player, int handSize) {
+            return rollout.chooseCardIndex(player, handSize);
+        }
+
+        @Override
+        public Card chooseCardToGive(Player player, List<Card> cards) {
+            return rollout.chooseCardToGive(player, cards);
+        }
+    }
+}
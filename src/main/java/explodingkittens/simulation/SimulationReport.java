@@ -0,0 +1,104 @@
+package explodingkittens.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Aggregated outcome of a batch of simulated games.
+ */
+public class SimulationReport {
+    private final int[] winsPerSeat;
+    private int games;
+    private int abortedGames;
+    private long totalTurns;
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty report for the given number of seats.
+     * @param seats the number of players per game
+     */
+    public SimulationReport(int seats) {
+        this.winsPerSeat = new int[seats];
+    }
+
+    void recordGame(int winnerSeat, int turns) {
+        games++;
+        totalTurns += turns;
+        if (winnerSeat < 0) {
+            abortedGames++;
+        }
+        else {
+            winsPerSeat[winnerSeat]++;
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played, including aborted ones.
+     * @return the game count
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     * @return the aborted game count
+     */
+    public int getAbortedGames() {
+        return abortedGames;
+    }
+
+    /**
+     * Gets the number of games won by a seat.
+     * @param seat the seat index, starting at 0
+     * @return the win count
+     */
+    public int getWins(int seat) {
+        return winsPerSeat[seat];
+    }
+
+    /**
+     * Gets the share of all games won by a seat.
+     * @param seat the seat index, starting at 0
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) winsPerSeat[seat] / games;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     * @return the average game length in turns
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets the wall-clock time spent playing the batch.
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     * @return the number of games completed per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "%d games (%d aborted) in %.3f s: %.1f games/s, %.1f turns/game, wins per seat %s",
+            games, abortedGames, elapsedNanos / 1e9, getGamesPerSecond(), getAverageTurns(),
+            Arrays.toString(winsPerSeat));
+    }
+}
@@ -0,0 +1,151 @@
+package explodingkittens.simulation;
+
+import explodingkittens.util.ConsoleOutput;
+import explodingkittens.util.GameRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a batch of headless games between policies on a fork-join pool.
+ * The game range is split recursively; every leaf plays its games sequentially into its
+ * own report and the partial reports are summed while joining, so workers share no
+ * mutable state. Each game is seeded from the tournament seed and its index alone and
+ * seating rotates with the index, so results do not depend on the pool size.
+ */
+public class Tournament {
+    /** Games played by one leaf task before splitting stops paying off. */
+    static final int LEAF_GAMES = 64;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final List<TournamentEntry> entries;
+    private final long seed;
+
+    /**
+     * Creates a tournament in which every entry plays in every game.
+     * @param entries the contestants, one per seat (2-4)
+     * @param seed the seed that determines every game
+     * @throws IllegalArgumentException if the entry count is invalid or an entry is null
+     */
+    public Tournament(List<TournamentEntry> entries, long seed) {
+        if (entries == null || entries.size() < 2 || entries.size() > 4) {
+            throw new IllegalArgumentException("Tournaments need between 2 and 4 entries");
+        }
+        if (entries.contains(null)) {
+            throw new IllegalArgumentException("Entries cannot contain null");
+        }
+        this.entries = new ArrayList<>(entries);
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the tournament on the common fork-join pool.
+     * @param games the number of games to play
+     * @return the merged report
+     * @throws IllegalArgumentException if games is negative
+     */
+    public TournamentReport run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the tournament on the given pool.
+     * @param games the number of games to play
+     * @param pool the pool whose workers play the games
+     * @return the merged report
+     * @throws IllegalArgumentException if games is negative or pool is null
+     */
+    public TournamentReport run(int games, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        long start = System.nanoTime();
+        TournamentReport report = pool.invoke(new GameRangeTask(0, games));
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    private TournamentReport newReport() {
+        List<String> names = new ArrayList<>();
+        for (TournamentEntry entry : entries) {
+            names.add(entry.getName());
+        }
+        return new TournamentReport(names);
+    }
+
+    /**
+     * Plays one game with seating rotated by the game index.
+     * @param index the game index
+     * @param report the report to record the game into
+     */
+    private void playGame(int index, TournamentReport report) {
+        int seats = entries.size();
+        GameRandom random = new GameRandom(mix(seed + index * GOLDEN_GAMMA));
+        int[] entryOfSeat = new int[seats];
+        List<DecisionPolicy> policies = new ArrayList<>();
+        for (int seat = 0; seat < seats; seat++) {
+            entryOfSeat[seat] = (seat + index) % seats;
+            policies.add(entries.get(entryOfSeat[seat]).createPolicy(random.split()));
+        }
+        PolicyGameView view = new GameSimulator(policies, random).playGame();
+        report.recordGame(entryOfSeat, view);
+    }
+
+    /**
+     * Spreads neighbouring seeds over the whole long range (SplitMix64 finalizer).
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays games [from, to), splitting in halves above LEAF_GAMES.
+     */
+    private final class GameRangeTask extends RecursiveTask<TournamentReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GameRangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentReport compute() {
+            if (to - from <= LEAF_GAMES) {
+                return playRange();
+            }
+            int mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, mid);
+            left.fork();
+            TournamentReport right = new GameRangeTask(mid, to).compute();
+            return left.join().merge(right);
+        }
+
+        private TournamentReport playRange() {
+            TournamentReport report = newReport();
+            boolean wasEnabled = ConsoleOutput.isEnabled();
+            ConsoleOutput.setQuiet(true);
+            try {
+                for (int i = from; i < to; i++) {
+                    playGame(i, report);
+                }
+            }
+            finally {
+                ConsoleOutput.setQuiet(!wasEnabled);
+            }
+            return report;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package explodingkittens.simulation;
+
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * A named contestant in a tournament.
+ * Policies may keep state such as their own random source, so the entry holds a factory
+ * and every game gets fresh policy instances created from that game's seeded random.
+ */
+public class TournamentEntry {
+    private final String name;
+    private final Function<Random, DecisionPolicy> factory;
+
+    /**
+     * Creates a tournament entry.
+     * @param name the name shown in the report
+     * @param factory creates a policy from the random source it should use
+     * @throws IllegalArgumentException if name or factory is null
+     */
+    public TournamentEntry(String name, Function<Random, DecisionPolicy> factory) {
+        if (name == null || factory == null) {
+            throw new IllegalArgumentException("Name and factory must not be null");
+        }
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the entry name.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a fresh policy for one game.
+     * @param random the random source for the policy
+     * @return the policy
+     * @throws IllegalStateException if the factory returns null
+     */
+    public DecisionPolicy createPolicy(Random random) {
+        DecisionPolicy policy = factory.apply(random);
+        if (policy == null) {
+            throw new IllegalStateException("Factory for " + name + " returned no policy");
+        }
+        return policy;
+    }
+}
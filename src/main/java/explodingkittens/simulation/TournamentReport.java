@@ -0,0 +1,172 @@
+package explodingkittens.simulation;
+
+import explodingkittens.model.CardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Aggregated outcome of a tournament, per entry rather than per seat.
+ * Partial reports built by separate workers are combined with merge.
+ */
+public class TournamentReport {
+    private static final int CARD_TYPES = CardType.values().length;
+
+    private final List<String> names;
+    private final int[] wins;
+    private final long[][] cardsPlayed;
+    private int games;
+    private int abortedGames;
+    private long totalTurns;
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty report.
+     * @param names the entry names in entry order
+     */
+    public TournamentReport(List<String> names) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.wins = new int[names.size()];
+        this.cardsPlayed = new long[names.size()][CARD_TYPES];
+    }
+
+    /**
+     * Records a finished game.
+     * @param entryOfSeat the entry index seated at each seat
+     * @param view the view of the finished game
+     */
+    void recordGame(int[] entryOfSeat, PolicyGameView view) {
+        games++;
+        totalTurns += view.getTurns();
+        int winnerSeat = view.getWinnerSeat();
+        if (winnerSeat < 0) {
+            abortedGames++;
+        }
+        else {
+            wins[entryOfSeat[winnerSeat]]++;
+        }
+        CardType[] types = CardType.values();
+        for (int seat = 0; seat < entryOfSeat.length; seat++) {
+            long[] counts = cardsPlayed[entryOfSeat[seat]];
+            for (int type = 0; type < CARD_TYPES; type++) {
+                counts[type] += view.getCardsPlayed(seat, types[type]);
+            }
+        }
+    }
+
+    /**
+     * Adds another partial report for the same entries into this one.
+     * @param other the report to add
+     * @return this report
+     */
+    TournamentReport merge(TournamentReport other) {
+        games += other.games;
+        abortedGames += other.abortedGames;
+        totalTurns += other.totalTurns;
+        for (int entry = 0; entry < wins.length; entry++) {
+            wins[entry] += other.wins[entry];
+            for (int type = 0; type < CARD_TYPES; type++) {
+                cardsPlayed[entry][type] += other.cardsPlayed[entry][type];
+            }
+        }
+        return this;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the entry names in entry order.
+     * @return the names
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Gets the number of games played, including aborted ones.
+     * @return the game count
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     * @return the aborted game count
+     */
+    public int getAbortedGames() {
+        return abortedGames;
+    }
+
+    /**
+     * Gets the number of games won by an entry.
+     * @param entry the entry index, starting at 0
+     * @return the win count
+     */
+    public int getWins(int entry) {
+        return wins[entry];
+    }
+
+    /**
+     * Gets the share of all games won by an entry.
+     * Every entry plays in every game, so this is also its per-game win rate.
+     * @param entry the entry index, starting at 0
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int entry) {
+        return games == 0 ? 0 : (double) wins[entry] / games;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     * @return the average game length in turns
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets how many cards of a type an entry played over the whole tournament.
+     * @param entry the entry index, starting at 0
+     * @param type the card type
+     * @return the play count
+     */
+    public long getCardsPlayed(int entry, CardType type) {
+        return cardsPlayed[entry][type.ordinal()];
+    }
+
+    /**
+     * Gets the wall-clock time spent playing the tournament.
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the tournament throughput.
+     * @return the number of games completed per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+            "%d games (%d aborted) in %.3f s: %.1f games/s, %.1f turns/game",
+            games, abortedGames, elapsedNanos / 1e9, getGamesPerSecond(), getAverageTurns()));
+        for (int entry = 0; entry < wins.length; entry++) {
+            long played = 0;
+            for (long count : cardsPlayed[entry]) {
+                played += count;
+            }
+            sb.append(String.format(Locale.ROOT, "%n  %s: %d wins (%.1f%%), %d cards played",
+                names.get(entry), wins[entry], getWinRate(entry) * 100, played));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package explodingkittens.util;
+
+/**
+ * Central sink for everything the game prints on the console: the lines of the console
+ * views and the diagnostic lines the engine prints outside of a view (turn order dumps,
+ * shuffle and reverse notices).
+ * Output is enabled by default and can be silenced per thread, so headless
+ * simulations do not pay for console I/O while an interactive game on another
+ * thread keeps printing. A thread can also render through a ConsoleRenderer, which
+ * batches a frame per prompt and sets the verbosity; without one, every line is printed
+ * at once and diagnostics are included.
+ */
+public final class ConsoleOutput {
+    private static final ThreadLocal<Boolean> QUIET = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<ConsoleRenderer> RENDERER = new ThreadLocal<>();
+
+    private ConsoleOutput() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Checks if output is enabled for the calling thread.
+     * @return true if lines written on this thread reach System.out
+     */
+    public static boolean isEnabled() {
+        return !QUIET.get();
+    }
+
+    /**
+     * Silences or re-enables output for the calling thread.
+     * @param quiet true to drop all output written on this thread
+     */
+    public static void setQuiet(boolean quiet) {
+        if (quiet) {
+            QUIET.set(true);
+        }
+        else {
+            QUIET.remove();
+        }
+    }
+
+    /**
+     * Checks if diagnostic lines are printed on the calling thread, so callers can skip
+     * building them.
+     * @return true unless the thread is quiet or renders below VERBOSE
+     */
+    public static boolean isVerbose() {
+        ConsoleRenderer renderer = RENDERER.get();
+        return isEnabled() && (renderer == null || renderer.isDiagnosticEnabled());
+    }
+
+    /**
+     * Gets the renderer of the calling thread.
+     * @return the renderer, or null if lines are printed directly
+     */
+    public static ConsoleRenderer getRenderer() {
+        return RENDERER.get();
+    }
+
+    /**
+     * Renders the calling thread's output through a renderer.
+     * The previous renderer is flushed first so no output is lost.
+     * @param renderer the renderer, or null to print lines directly again
+     */
+    public static void setRenderer(ConsoleRenderer renderer) {
+        ConsoleRenderer previous = RENDERER.get();
+        if (previous != null) {
+            previous.flush();
+        }
+        if (renderer == null) {
+            RENDERER.remove();
+        }
+        else {
+            RENDERER.set(renderer);
+        }
+    }
+
+    /**
+     * Prints a diagnostic line unless the calling thread is quiet or not verbose.
+     * @param line the line to print
+     */
+    public static void println(String line) {
+        if (!isEnabled()) {
+            return;
+        }
+        ConsoleRenderer renderer = RENDERER.get();
+        if (renderer == null) {
+            System.out.println(line);
+        }
+        else {
+            renderer.diagnostic(line);
+        }
+    }
+
+    /**
+     * Prints an empty diagnostic line unless the calling thread is quiet or not verbose.
+     */
+    public static void println() {
+        println("");
+    }
+
+    /**
+     * Prints a line of game output unless the calling thread is quiet.
+     * @param line the line to print
+     */
+    public static void line(String line) {
+        if (!isEnabled()) {
+            return;
+        }
+        ConsoleRenderer renderer = RENDERER.get();
+        if (renderer == null) {
+            System.out.println(line);
+        }
+        else {
+            renderer.line(line);
+        }
+    }
+
+    /**
+     * Prints game output without a line break, e.g. a prompt, unless the calling thread
+     * is quiet.
+     * @param text the text to print
+     */
+    public static void text(String text) {
+        if (!isEnabled()) {
+            return;
+        }
+        ConsoleRenderer renderer = RENDERER.get();
+        if (renderer == null) {
+            System.out.print(text);
+        }
+        else {
+            renderer.text(text);
+        }
+    }
+
+    /**
+     * Prints the calling thread's pending frame. Console views call this before
+     * reading input.
+     */
+    public static void flush() {
+        ConsoleRenderer renderer = RENDERER.get();
+        if (renderer == null) {
+            System.out.flush();
+        }
+        else {
+            renderer.flush();
+        }
+    }
+}
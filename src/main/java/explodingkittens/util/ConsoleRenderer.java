@@ -0,0 +1,136 @@
+package explodingkittens.util;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.PrintStream;
+
+/**
+ * Renders console output in frames.
+ * A buffered renderer collects everything written between two prompts into one frame
+ * and prints it with a single write when the prompt flushes it, instead of one
+ * autoflushed write per line. An unbuffered renderer prints every line as it comes.
+ * Diagnostic lines are only kept at VERBOSE, and nothing is kept at QUIET.
+ */
+public final class ConsoleRenderer {
+    private static final int FRAME_CAPACITY = 1024;
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    private final PrintStream out;
+    private final Verbosity verbosity;
+    private final boolean buffered;
+    private final StringBuilder frame;
+
+    /**
+     * Creates a renderer printing to System.out, looked up at each write so a replaced
+     * System.out is followed.
+     * @param verbosity how much to print
+     * @param buffered true to print once per frame, false to print every line
+     * @throws IllegalArgumentException if verbosity is null
+     */
+    public ConsoleRenderer(Verbosity verbosity, boolean buffered) {
+        this(null, verbosity, buffered);
+    }
+
+    /**
+     * Creates a renderer printing to a given stream.
+     * @param out the stream to print to, or null for System.out
+     * @param verbosity how much to print
+     * @param buffered true to print once per frame, false to print every line
+     * @throws IllegalArgumentException if verbosity is null
+     */
+    public ConsoleRenderer(PrintStream out, Verbosity verbosity, boolean buffered) {
+        if (verbosity == null) {
+            throw new IllegalArgumentException("Verbosity cannot be null");
+        }
+        this.out = out;
+        this.verbosity = verbosity;
+        this.buffered = buffered;
+        this.frame = new StringBuilder(buffered ? FRAME_CAPACITY : 0);
+    }
+
+    /**
+     * Gets how much the renderer prints.
+     * @return the verbosity
+     */
+    public Verbosity getVerbosity() {
+        return verbosity;
+    }
+
+    /**
+     * Checks if the renderer prints once per frame.
+     * @return true if output waits for {@link #flush()}
+     */
+    public boolean isBuffered() {
+        return buffered;
+    }
+
+    /**
+     * Checks if diagnostic lines are printed, so callers can skip building them.
+     * @return true at VERBOSE
+     */
+    public boolean isDiagnosticEnabled() {
+        return verbosity == Verbosity.VERBOSE;
+    }
+
+    /**
+     * Writes a line of game output unless the renderer is quiet.
+     * @param line the line, without its line break
+     */
+    public void line(String line) {
+        if (verbosity != Verbosity.QUIET) {
+            write(line, true);
+        }
+    }
+
+    /**
+     * Writes game output without a line break, e.g. a prompt, unless the renderer is quiet.
+     * @param text the text
+     */
+    public void text(String text) {
+        if (verbosity != Verbosity.QUIET) {
+            write(text, false);
+        }
+    }
+
+    /**
+     * Writes a diagnostic line, only at VERBOSE.
+     * @param line the line, without its line break
+     */
+    public void diagnostic(String line) {
+        if (isDiagnosticEnabled()) {
+            write(line, true);
+        }
+    }
+
+    private void write(String text, boolean newLine) {
+        if (!buffered) {
+            if (newLine) {
+                stream().println(text);
+            }
+            else {
+                stream().print(text);
+            }
+            return;
+        }
+        frame.append(text);
+        if (newLine) {
+            frame.append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Prints the current frame with one write and starts the next one.
+     * Called before reading input, so the prompt is on screen when the player answers.
+     */
+    public void flush() {
+        PrintStream stream = stream();
+        if (frame.length() > 0) {
+            stream.print(frame.toString());
+            frame.setLength(0);
+        }
+        stream.flush();
+    }
+
+    private PrintStream stream() {
+        return out != null ? out : System.out;
+    }
+}
@@ -0,0 +1,87 @@
+package explodingkittens.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Per-game random source backed by a {@link SplittableRandom}.
+ * It extends Random so it can be handed to Collections.shuffle and every other API that
+ * takes one, but it skips Random's atomic seed updates; an instance must stay confined
+ * to the thread that plays its game. Independent streams for policies or sub-games
+ * are taken with {@link #split()}, so one seed determines a whole game.
+ */
+public class GameRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private SplittableRandom source;
+
+    /**
+     * Creates a random source with an unpredictable seed.
+     */
+    public GameRandom() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a random source whose sequence is determined by the seed.
+     * @param seed the seed
+     */
+    public GameRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private GameRandom(SplittableRandom source) {
+        this.source = source;
+    }
+
+    /**
+     * Creates an independent random source from this one.
+     * Consumes values from this source, so splitting is deterministic too.
+     * @return the new random source
+     */
+    public GameRandom split() {
+        return new GameRandom(source.split());
+    }
+
+    /**
+     * Restarts the sequence from a seed.
+     * @param seed the new seed
+     */
+    @Override
+    public void setSeed(long seed) {
+        // Random's constructor calls this before our field is assigned
+        if (source != null) {
+            source = new SplittableRandom(seed);
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (source.nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return source.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return source.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return source.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return source.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return source.nextBoolean();
+    }
+}
@@ -1,16 +1,19 @@
 package explodingkittens.util;
 
-import java.text.MessageFormat;
 import java.util.Locale;
-import java.util.ResourceBundle;
 
 /**
  * Utility class for handling internationalization (i18n) in the application.
- * Provides methods to load and access translated messages.
+ * Provides methods to load and access translated messages, read from the
+ * {@link MessageCatalog} of the current locale.
+ * A session, i.e. the thread running a table or serving one player, can bind its own
+ * locale with {@link #bindLocale(Locale)}; threads without one use the default locale.
+ * Lookups only read the thread's binding and a shared immutable catalog, so they take
+ * no lock, and one session changing its language leaves every other session alone.
  */
 public class I18nUtil {
-    private static ResourceBundle messages;
-    private static Locale currentLocale;
+    private static final ThreadLocal<MessageCatalog> SESSION_CATALOG = new ThreadLocal<>();
+    private static volatile MessageCatalog defaultCatalog;
 
     // ✅ Add this private constructor
     private I18nUtil() {
@@ -19,74 +22,118 @@ public class I18nUtil {
 
     /**
      * Initialize the I18nUtil with the default locale (English).
+     * Every shipped locale is loaded, so a missing message fails here.
+     * @throws IllegalStateException if a shipped locale is missing a message
      */
     public static void initialize() {
+        MessageCatalog.preload();
         setLocale(Locale.ENGLISH);
     }
 
     /**
-     * Set the locale for the application.
+     * Set the default locale, used by threads that have not bound a locale of their own.
      * @param locale The locale to set
+     * @throws IllegalArgumentException if locale is null
+     * @throws IllegalStateException if the locale is missing a message
      */
     public static void setLocale(Locale locale) {
-        currentLocale = locale;
-        if (locale.equals(Locale.CHINESE)) {
-            messages = ResourceBundle.getBundle("messages", new Locale("zh", "CN"));
-        } 
-        else {
-            messages = ResourceBundle.getBundle("messages", locale);
-        }
+        defaultCatalog = MessageCatalog.forLocale(locale);
+    }
+
+    /**
+     * Binds a locale to the calling thread's session.
+     * Until {@link #unbindLocale()} is called, messages looked up on this thread use it.
+     * @param locale The locale of the session
+     * @return The locale previously bound to this thread, or null if there was none
+     * @throws IllegalArgumentException if locale is null
+     * @throws IllegalStateException if the locale is missing a message
+     */
+    public static Locale bindLocale(Locale locale) {
+        MessageCatalog previous = SESSION_CATALOG.get();
+        SESSION_CATALOG.set(MessageCatalog.forLocale(locale));
+        return previous != null ? previous.getLocale() : null;
+    }
+
+    /**
+     * Unbinds the locale of the calling thread, which then uses the default locale again.
+     */
+    public static void unbindLocale() {
+        SESSION_CATALOG.remove();
+    }
+
+    /**
+     * Gets the catalog used by the calling thread.
+     * @return The session's catalog, else the default catalog, or null if neither is set
+     */
+    public static MessageCatalog getCatalog() {
+        MessageCatalog session = SESSION_CATALOG.get();
+        return session != null ? session : defaultCatalog;
     }
 
     /**
-     * Get the current locale.
-     * @return The current locale
+     * Get the current locale of the calling thread.
+     * @return The session's locale, else the default locale, or null if neither is set
      */
     public static Locale getCurrentLocale() {
-        return currentLocale;
+        MessageCatalog current = getCatalog();
+        return current != null ? current.getLocale() : null;
+    }
+
+    /**
+     * Get a translated message.
+     * @param id The message id
+     * @return The translated message, or its key if no locale is set
+     */
+    public static String getMessage(MessageId id) {
+        MessageCatalog current = getCatalog();
+        return current != null ? current.get(id) : id.getKey();
+    }
+
+    /**
+     * Get a translated message with parameters.
+     * @param id The message id
+     * @param params The parameters to insert into the message
+     * @return The translated message with parameters, or its key if no locale is set
+     */
+    public static String getMessage(MessageId id, Object... params) {
+        MessageCatalog current = getCatalog();
+        return current != null ? current.format(id, params) : id.getKey();
     }
 
     /**
      * Get a translated message for the given key.
      * @param key The message key
-     * @return The translated message
+     * @return The translated message, or the key if it has no translation
      */
     public static String getMessage(String key) {
-        try {
-            return messages.getString(key);
-        }
-        catch (Exception e) {
-            System.out.println("Catch block hit: " + key + " - " + e.getClass().getName());
-            return key; // Return the key if translation is not found
-        }
+        MessageCatalog current = getCatalog();
+        String message = current != null ? current.get(key) : null;
+        return message != null ? message : key;
     }
 
     /**
      * Get a translated message with parameters.
      * @param key The message key
      * @param params The parameters to insert into the message
-     * @return The translated message with parameters
+     * @return The translated message with parameters, or the key if it has no translation
      */
     public static String getMessage(String key, Object... params) {
-        try {
-            String message = messages.getString(key);
-            return MessageFormat.format(message, params);
-        }
-        catch (Exception e) {
-            System.out.println("Catch block hit: " + key + " - " + e.getClass().getName());
-            return key; // Return the key if translation is not found
-        }
+        MessageCatalog current = getCatalog();
+        String message = current != null ? current.format(key, params) : null;
+        return message != null ? message : key;
     }
 
     /**
      * Switch between English and Chinese locales.
+     * A thread with a bound locale switches only its own session.
      */
     public static void toggleLanguage() {
-        if (currentLocale.equals(Locale.ENGLISH)) {
-            setLocale(Locale.CHINESE);
+        Locale next = Locale.ENGLISH.equals(getCurrentLocale()) ? Locale.CHINESE : Locale.ENGLISH;
+        if (SESSION_CATALOG.get() != null) {
+            bindLocale(next);
         }
         else {
-            setLocale(Locale.ENGLISH);
+            setLocale(next);
         }
     }
-} 
\ No newline at end of file
+}
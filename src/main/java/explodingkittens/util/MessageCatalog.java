@@ -0,0 +1,192 @@
+package explodingkittens.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The messages of one locale, read once from the messages bundle files.
+ * A locale's messages are the base file overlaid with its language file and then its
+ * language and country file, e.g. messages.properties, messages_zh.properties and
+ * messages_zh_CN.properties. Messages with a {@link MessageId} are kept in an array
+ * indexed by the id, with their formats compiled when the catalog is loaded, and a
+ * catalog missing any of them fails to load instead of failing at each lookup.
+ * Catalogs are cached per locale and never change once loaded, so every thread can read
+ * them without locking. MessageFormat is not thread-safe, so each thread formats with
+ * its own copies of the compiled formats, cloned the first time it uses each one.
+ */
+public final class MessageCatalog {
+    /** Locales the game ships messages for, checked by {@link #preload()}. */
+    public static final List<Locale> SHIPPED_LOCALES =
+        Collections.unmodifiableList(Arrays.asList(Locale.ENGLISH, Locale.CHINESE));
+
+    private static final String BUNDLE = "messages";
+    private static final Map<Locale, MessageCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+    private final Locale locale;
+    private final String[] messages;
+    private final MessageFormat[] formats;
+    private final ThreadLocal<MessageFormat[]> threadFormats;
+    private final Map<String, String> byKey;
+
+    private MessageCatalog(Locale locale, String[] messages, Map<String, String> byKey) {
+        this.locale = locale;
+        this.messages = messages;
+        this.byKey = byKey;
+        this.formats = new MessageFormat[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            formats[i] = new MessageFormat(messages[i]);
+        }
+        this.threadFormats = ThreadLocal.withInitial(() -> new MessageFormat[messages.length]);
+    }
+
+    /**
+     * Gets the catalog of a locale, loading it on first use.
+     * @param locale the locale
+     * @return the catalog
+     * @throws IllegalArgumentException if locale is null
+     * @throws IllegalStateException if a message id has no message for the locale
+     */
+    public static MessageCatalog forLocale(Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("Locale cannot be null");
+        }
+        return CATALOGS.computeIfAbsent(locale, l -> load(BUNDLE, l));
+    }
+
+    /**
+     * Loads the catalog of every shipped locale, so a missing message stops the game
+     * at startup rather than when the locale is chosen.
+     * @throws IllegalStateException if a shipped locale is missing a message
+     */
+    public static void preload() {
+        for (Locale locale : SHIPPED_LOCALES) {
+            forLocale(locale);
+        }
+    }
+
+    /**
+     * Loads a catalog from a bundle without caching it.
+     * @param bundle the base name of the bundle files on the classpath
+     * @param locale the locale
+     * @return the catalog
+     * @throws IllegalStateException if the base file cannot be read or a message id
+     *         has no message for the locale
+     */
+    static MessageCatalog load(String bundle, Locale locale) {
+        Properties properties = new Properties();
+        if (!read(bundle + ".properties", properties)) {
+            throw new IllegalStateException("Missing message bundle " + bundle);
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            read(bundle + "_" + locale.getLanguage() + ".properties", properties);
+            if (!locale.getCountry().isEmpty()) {
+                read(bundle + "_" + locale.getLanguage() + "_" + locale.getCountry()
+                    + ".properties", properties);
+            }
+        }
+
+        MessageId[] ids = MessageId.values();
+        String[] messages = new String[ids.length];
+        List<String> missing = new ArrayList<>();
+        for (MessageId id : ids) {
+            messages[id.ordinal()] = properties.getProperty(id.getKey());
+            if (messages[id.ordinal()] == null) {
+                missing.add(id.getKey());
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing messages for locale '" + locale + "': "
+                + String.join(", ", missing));
+        }
+        Map<String, String> byKey = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            byKey.put(key, properties.getProperty(key));
+        }
+        return new MessageCatalog(locale, messages, byKey);
+    }
+
+    private static boolean read(String resource, Properties properties) {
+        InputStream in = MessageCatalog.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            return false;
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            return true;
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + resource, e);
+        }
+    }
+
+    /**
+     * Gets the locale of the catalog.
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Gets a message as written in the bundle.
+     * @param id the message id
+     * @return the message
+     */
+    public String get(MessageId id) {
+        return messages[id.ordinal()];
+    }
+
+    /**
+     * Formats a message with the calling thread's copy of its precompiled format.
+     * @param id the message id
+     * @param params the values of the message's placeholders
+     * @return the formatted message
+     */
+    public String format(MessageId id, Object... params) {
+        MessageFormat[] own = threadFormats.get();
+        MessageFormat format = own[id.ordinal()];
+        if (format == null) {
+            format = (MessageFormat) formats[id.ordinal()].clone();
+            own[id.ordinal()] = format;
+        }
+        return format.format(params);
+    }
+
+    /**
+     * Gets a message by its bundle key, including keys without a message id.
+     * @param key the key
+     * @return the message, or null if the bundle has no such key
+     */
+    public String get(String key) {
+        MessageId id = MessageId.forKey(key);
+        return id != null ? get(id) : byKey.get(key);
+    }
+
+    /**
+     * Formats a message found by its bundle key, including keys without a message id.
+     * @param key the key
+     * @param params the values of the message's placeholders
+     * @return the formatted message, or null if the bundle has no such key
+     */
+    public String format(String key, Object... params) {
+        MessageId id = MessageId.forKey(key);
+        if (id != null) {
+            return format(id, params);
+        }
+        String message = byKey.get(key);
+        return message == null ? null : MessageFormat.format(message, params);
+    }
+}
@@ -0,0 +1,124 @@
+package explodingkittens.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Identifies a message of the messages bundle.
+ * Every id must have a message in every locale, which {@link MessageCatalog} checks when
+ * it loads a locale, and looking a message up by id is an array read.
+ */
+public enum MessageId {
+    ACTION_CHOOSE("action.choose"),
+    CARD_COMBO_CANCEL("card.combo.cancel"),
+    CARD_COMBO_CHOICE("card.combo.choice"),
+    CARD_COMBO_INVALID("card.combo.invalid"),
+    CARD_COMBO_MUST_BE_CAT("card.combo.must.be.cat"),
+    CARD_COMBO_REQUEST("card.combo.request"),
+    CARD_COMBO_SAME_TYPE("card.combo.same.type"),
+    CARD_COMBO_SELECT("card.combo.select"),
+    CARD_COMBO_SINGLE_ERROR("card.combo.single.error"),
+    CARD_COMBO_STEAL("card.combo.steal"),
+    CARD_COMBO_TYPE("card.combo.type"),
+    CARD_DEFUSE_POSITION("card.defuse.position"),
+    CARD_DRAWN("card.drawn"),
+    CARD_DRAWN_FROM_BOTTOM("card.drawn.from.bottom"),
+    CARD_EFFECT_REQUESTING("card.effect.requesting"),
+    CARD_EFFECT_STEALING("card.effect.stealing"),
+    CARD_REQUEST_TYPE("card.request.type"),
+    CARD_SELECT("card.select"),
+    CARDTYPE_ATTACK("cardtype.attack"),
+    CARDTYPE_BEARD_CAT("cardtype.beard.cat"),
+    CARDTYPE_CANCEL("cardtype.cancel"),
+    CARDTYPE_CATTERMELON("cardtype.cattermelon"),
+    CARDTYPE_CHOICE("cardtype.choice"),
+    CARDTYPE_DEFUSE("cardtype.defuse"),
+    CARDTYPE_DOUBLE_SKIP("cardtype.double.skip"),
+    CARDTYPE_DRAW_BOTTOM("cardtype.draw.bottom"),
+    CARDTYPE_FAVOR("cardtype.favor"),
+    CARDTYPE_FERAL_CAT("cardtype.feral.cat"),
+    CARDTYPE_HAIRY_POTATO_CAT("cardtype.hairy.potato.cat"),
+    CARDTYPE_NOPE("cardtype.nope"),
+    CARDTYPE_RAINBOW_CAT("cardtype.rainbow.cat"),
+    CARDTYPE_REVERSE("cardtype.reverse"),
+    CARDTYPE_SEE_FUTURE("cardtype.see.future"),
+    CARDTYPE_SHUFFLE("cardtype.shuffle"),
+    CARDTYPE_SKIP("cardtype.skip"),
+    CARDTYPE_SNATCH("cardtype.snatch"),
+    CARDTYPE_SUPER_SKIP("cardtype.super.skip"),
+    CARDTYPE_SWITCH_DECK("cardtype.switch.deck"),
+    CARDTYPE_TACO_CAT("cardtype.taco.cat"),
+    CARDTYPE_TIME_REWIND("cardtype.time.rewind"),
+    CARDTYPE_WATERMELON_CAT("cardtype.watermelon.cat"),
+    DEFUSE_CONFIRM("defuse.confirm"),
+    DEFUSE_SUCCESS("defuse.success"),
+    DEFUSE_USED("defuse.used"),
+    ERROR_FATAL("error.fatal"),
+    ERROR_INVALID_MOVE("error.invalid.move"),
+    ERROR_PREFIX("error.prefix"),
+    GAME_END("game.end"),
+    GAME_OVER("game.over"),
+    NOPE_CARD_NOPED("nope.card.noped"),
+    NOPE_PLAYED("nope.played"),
+    NOPE_PLAYER_PROMPT("nope.player.prompt"),
+    NOPE_PROMPT("nope.prompt"),
+    PLAYER_ACTION_CHOICE("player.action.choice"),
+    PLAYER_ACTION_CHOICE_RANGE("player.action.choice.range"),
+    PLAYER_ACTION_COMBO("player.action.combo"),
+    PLAYER_ACTION_DRAW("player.action.draw"),
+    PLAYER_ACTION_END("player.action.end"),
+    PLAYER_ACTION_PLAY("player.action.play"),
+    PLAYER_ACTION_SINGLE("player.action.single"),
+    PLAYER_ACTION_WINNING("player.action.winning"),
+    PLAYER_AVAILABLE("player.available"),
+    PLAYER_CURRENT("player.current"),
+    PLAYER_DREW("player.drew"),
+    PLAYER_ELIMINATED("player.eliminated"),
+    PLAYER_HAND("player.hand"),
+    PLAYER_HAND_EMPTY("player.hand.empty"),
+    PLAYER_NO_CARDS("player.no.cards"),
+    PLAYER_PLAYED("player.played"),
+    PLAYER_RECEIVED("player.received"),
+    PLAYER_SELECT("player.select"),
+    PLAYER_SELECT_CARD("player.select.card"),
+    PLAYER_SELECT_SPECIFIC("player.select.specific"),
+    PLAYER_STOLE("player.stole"),
+    PLAYER_TURN("player.turn"),
+    PLAYER_WINNER("player.winner"),
+    SELECT_LANGUAGE("select.language"),
+    SETUP_ERROR_INVALID_INTEGER("setup.error.invalid.integer"),
+    SETUP_PLAYER_COUNT("setup.player.count"),
+    SETUP_PLAYER_NAME("setup.player.name"),
+    UI_WELCOME("ui.welcome");
+
+    private static final Map<String, MessageId> BY_KEY = new HashMap<>();
+
+    static {
+        for (MessageId id : values()) {
+            BY_KEY.put(id.key, id);
+        }
+    }
+
+    private final String key;
+
+    MessageId(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the key of the message in the bundle files.
+     * @return the key, e.g. ui.welcome
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Finds the id of a bundle key.
+     * @param key the key
+     * @return the id, or null if the key has no id
+     */
+    public static MessageId forKey(String key) {
+        return BY_KEY.get(key);
+    }
+}
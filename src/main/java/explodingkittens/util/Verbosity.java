@@ -0,0 +1,13 @@
+package explodingkittens.util;
+
+/**
+ * How much a ConsoleRenderer prints.
+ */
+public enum Verbosity {
+    /** Nothing at all. */
+    QUIET,
+    /** What the players need: views, prompts and results. */
+    NORMAL,
+    /** Also the engine's diagnostic lines, such as turn order dumps. */
+    VERBOSE
+}
@@ -0,0 +1,99 @@
+package explodingkittens.view;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Game view whose prompts return at once with a future answer.
+ * A view backed by a network connection, a UI event loop or a console reader thread can
+ * complete the answer whenever the player has decided, without holding a thread while
+ * the player thinks. Display methods are the same as in GameView. Answers of type
+ * Boolean and Integer must not be null; a prompt that fails completes exceptionally.
+ * {@link AwaitingGameView} lets the turn engine play through an async view.
+ */
+public interface AsyncGameView extends GameDisplay {
+    /**
+     * Prompts the player for their action.
+     * @param player the current player
+     * @return the action chosen by the player ("draw" or "play")
+     */
+    CompletableFuture<String> promptPlayerAction(Player player);
+
+    /**
+     * Prompts the player to choose a position to insert the defuse card.
+     * @param deckSize the size of the deck
+     * @return the position chosen by the player
+     */
+    CompletableFuture<Integer> promptDefusePosition(int deckSize);
+
+    /**
+     * Prompts the player to choose a card to play.
+     * @param player the player
+     * @param hand the player's hand
+     * @return the card chosen by the player
+     */
+    CompletableFuture<Card> promptPlayCard(Player player, List<Card> hand);
+
+    /**
+     * Prompts the player to select a card to play.
+     * @param player the current player
+     * @param hand the player's hand
+     * @return the selected card, or null if the player ends the play phase
+     */
+    CompletableFuture<Card> selectCardToPlay(Player player, List<Card> hand);
+
+    /**
+     * Checks if any player wants to play a Nope card.
+     * @param player the player who played the card
+     * @param card the card that was played
+     * @return true if a Nope card was played
+     */
+    CompletableFuture<Boolean> checkForNope(Player player, Card card);
+
+    /**
+     * Confirms if the player wants to use their defuse card.
+     * @param player the player who drew the exploding kitten
+     * @return true if the player uses the defuse card
+     */
+    CompletableFuture<Boolean> confirmDefuse(Player player);
+
+    /**
+     * Prompts the player to select a position to insert the exploding kitten.
+     * @param deckSize the size of the deck
+     * @return the selected position, 0 being the top
+     */
+    CompletableFuture<Integer> selectExplodingKittenPosition(int deckSize);
+
+    /**
+     * Prompts the player to play a Nope card.
+     * @param player the player asked
+     * @param card the card that was played
+     * @return true if a Nope card was played
+     */
+    CompletableFuture<Boolean> promptPlayNope(Player player, Card card);
+
+    /**
+     * Selects a target player.
+     * @param availablePlayers the players that may be targeted
+     * @return the selected target player
+     */
+    CompletableFuture<Player> selectTargetPlayer(List<Player> availablePlayers);
+
+    /**
+     * Selects a card from a player's hand.
+     * @param targetPlayer the target player
+     * @param hand the player's hand
+     * @return the selected card
+     */
+    CompletableFuture<Card> selectCardFromPlayer(Player targetPlayer, List<Card> hand);
+
+    /**
+     * Handles a winning combo.
+     * @param player the current player
+     * @param hand the player's hand
+     * @return true if the player plays a winning combo
+     */
+    CompletableFuture<Boolean> handleWinningCombo(Player player, List<Card> hand);
+}
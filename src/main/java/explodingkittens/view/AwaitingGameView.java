@@ -0,0 +1,231 @@
+package explodingkittens.view;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.Player;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Blocking GameView over an AsyncGameView, so the turn engine can play through a view
+ * whose prompts answer with futures. Displays are forwarded as they are; each prompt waits
+ * on the calling thread for its future. A failed prompt rethrows its runtime exception,
+ * and the game loop ends the game on it.
+ */
+public class AwaitingGameView implements GameView {
+    private final AsyncGameView view;
+
+    /**
+     * Creates a blocking view over an async one.
+     * @param view the async view answering the prompts
+     * @throws IllegalArgumentException if view is null
+     */
+    public AwaitingGameView(AsyncGameView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("View cannot be null");
+        }
+        this.view = view;
+    }
+
+    /**
+     * Waits for a prompt's answer.
+     * @param answer the future answer
+     * @param <T> the answer type
+     * @return the answer, possibly null
+     * @throws IllegalStateException if the view returned no future, the prompt failed with a
+     *     checked exception or the waiting thread was interrupted
+     */
+    private static <T> T await(CompletableFuture<T> answer) {
+        if (answer == null) {
+            throw new IllegalStateException("Prompt returned no answer");
+        }
+        try {
+            return answer.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an answer", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Prompt failed", e.getCause());
+        }
+    }
+
+    /**
+     * Waits for a prompt's answer that cannot be null.
+     * @param answer the future answer
+     * @param <T> the answer type
+     * @return the answer
+     * @throws IllegalStateException if the answer is null or cannot be awaited
+     */
+    private static <T> T awaitValue(CompletableFuture<T> answer) {
+        T value = await(answer);
+        if (value == null) {
+            throw new IllegalStateException("Prompt completed without an answer");
+        }
+        return value;
+    }
+
+    @Override
+    public String promptPlayerAction(Player player) {
+        return await(view.promptPlayerAction(player));
+    }
+
+    @Override
+    public int promptDefusePosition(int deckSize) {
+        return awaitValue(view.promptDefusePosition(deckSize));
+    }
+
+    @Override
+    public Card promptPlayCard(Player player, List<Card> hand) {
+        return await(view.promptPlayCard(player, hand));
+    }
+
+    @Override
+    public Card selectCardToPlay(Player player, List<Card> hand) {
+        return await(view.selectCardToPlay(player, hand));
+    }
+
+    @Override
+    public boolean checkForNope(Player player, Card card) {
+        return awaitValue(view.checkForNope(player, card));
+    }
+
+    @Override
+    public boolean confirmDefuse(Player player) {
+        return awaitValue(view.confirmDefuse(player));
+    }
+
+    @Override
+    public int selectExplodingKittenPosition(int deckSize) {
+        return awaitValue(view.selectExplodingKittenPosition(deckSize));
+    }
+
+    @Override
+    public boolean promptPlayNope(Player player, Card card) {
+        return awaitValue(view.promptPlayNope(player, card));
+    }
+
+    @Override
+    public Player selectTargetPlayer(List<Player> availablePlayers) {
+        return await(view.selectTargetPlayer(availablePlayers));
+    }
+
+    @Override
+    public Card selectCardFromPlayer(Player targetPlayer, List<Card> hand) {
+        return await(view.selectCardFromPlayer(targetPlayer, hand));
+    }
+
+    @Override
+    public boolean handleWinningCombo(Player player, List<Card> hand) {
+        return awaitValue(view.handleWinningCombo(player, hand));
+    }
+
+    @Override
+    public void displayCurrentPlayer(Player player) {
+        view.displayCurrentPlayer(player);
+    }
+
+    @Override
+    public void displayPlayerHand(Player player) {
+        view.displayPlayerHand(player);
+    }
+
+    @Override
+    public void displayOtherPlayerHand(Player player) {
+        view.displayOtherPlayerHand(player);
+    }
+
+    @Override
+    public void displayHandForSelection(Player player, List<Card> hand) {
+        view.displayHandForSelection(player, hand);
+    }
+
+    @Override
+    public void displayPlayerEliminated(Player player) {
+        view.displayPlayerEliminated(player);
+    }
+
+    @Override
+    public void displayWinner(Player winner) {
+        view.displayWinner(winner);
+    }
+
+    @Override
+    public void displayGameOver() {
+        view.displayGameOver();
+    }
+
+    @Override
+    public void displayDrawResult(Card card) {
+        view.displayDrawResult(card);
+    }
+
+    @Override
+    public void displayPlayedCard(Player player, Card card) {
+        view.displayPlayedCard(player, card);
+    }
+
+    @Override
+    public void showError(String message) {
+        view.showError(message);
+    }
+
+    @Override
+    public void showCardPlayed(Player player, Card card) {
+        view.showCardPlayed(player, card);
+    }
+
+    @Override
+    public void showCardNoped(Player player, Card card) {
+        view.showCardNoped(player, card);
+    }
+
+    @Override
+    public void showCardDrawn(Player player, Card card) {
+        view.showCardDrawn(player, card);
+    }
+
+    @Override
+    public void displayDefuseUsed(Player player) {
+        view.displayDefuseUsed(player);
+    }
+
+    @Override
+    public void displayDefuseSuccess(Player player, int position) {
+        view.displayDefuseSuccess(player, position);
+    }
+
+    @Override
+    public void displayPlayedNope(Player player) {
+        view.displayPlayedNope(player);
+    }
+
+    @Override
+    public void showCurrentPlayerTurn(Player player) {
+        view.showCurrentPlayerTurn(player);
+    }
+
+    @Override
+    public void displayCatCardEffect(String effectType, Player sourcePlayer, Player targetPlayer) {
+        view.displayCatCardEffect(effectType, sourcePlayer, targetPlayer);
+    }
+
+    @Override
+    public void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card) {
+        view.displayCardStolen(sourcePlayer, targetPlayer, card);
+    }
+
+    @Override
+    public void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card) {
+        view.displayCardRequested(sourcePlayer, targetPlayer, card);
+    }
+
+    @Override
+    public void displayCardDrawnFromBottom(Card card) {
+        view.displayCardDrawnFromBottom(card);
+    }
+}
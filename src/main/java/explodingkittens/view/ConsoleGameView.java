@@ -4,11 +4,14 @@ import explodingkittens.model.Player;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CatType;
 import explodingkittens.model.Deck;
 import explodingkittens.model.BasicCard;
 import explodingkittens.controller.GameContext;
+import explodingkittens.util.ConsoleOutput;
 import explodingkittens.util.I18nUtil;
+import explodingkittens.util.MessageId;
 import java.util.List;
 import java.util.Scanner;
 import java.nio.charset.StandardCharsets;
@@ -32,7 +35,7 @@ public class ConsoleGameView implements GameView {
 
     @Override
     public void displayCurrentPlayer(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("player.current", player.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_CURRENT, player.getName()));
     }
 
     @Override
@@ -52,26 +55,28 @@ public class ConsoleGameView implements GameView {
 
     @Override
     public String promptPlayerAction(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("action.choose"));
-        System.out.println(I18nUtil.getMessage("player.action.draw"));
-        System.out.println(I18nUtil.getMessage("player.action.play"));
-        System.out.print(I18nUtil.getMessage("player.action.choice") + " ");
-        return scanner.nextLine().trim().equals("1") ? "draw" : "play";
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.ACTION_CHOOSE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_DRAW));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_PLAY));
+        ConsoleOutput.text(I18nUtil.getMessage(MessageId.PLAYER_ACTION_CHOICE) + " ");
+        return readLine().trim().equals("1") ? "draw" : "play";
     }
 
     @Override
     public void displayPlayerEliminated(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("player.eliminated", player.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_ELIMINATED, player.getName()));
     }
 
     @Override
     public void displayWinner(Player winner) {
-        System.out.println("\n" + I18nUtil.getMessage("player.winner", winner.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_WINNER, winner.getName()));
+        ConsoleOutput.flush();
     }
 
     @Override
     public void displayGameOver() {
-        System.out.println("\n" + I18nUtil.getMessage("game.over"));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.GAME_OVER));
+        ConsoleOutput.flush();
     }
 
     @Override
@@ -79,28 +84,28 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("card.drawn", cardName));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_DRAWN, cardName));
     }
 
     @Override
     public int promptDefusePosition(int deckSize) {
-        System.out.println("\n" + I18nUtil.getMessage("card.defuse.position", deckSize));
-        return Integer.parseInt(scanner.nextLine().trim());
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_DEFUSE_POSITION, deckSize));
+        return Integer.parseInt(readLine().trim());
     }
 
     @Override
     public Card promptPlayCard(Player player, List<Card> hand) {
         while (true) {
-            handView.displayHandWithIndices(I18nUtil.getMessage("player.hand", player.getName()), hand);
-            System.out.println("\n" + I18nUtil.getMessage("action.choose"));
-            System.out.println(I18nUtil.getMessage("player.action.single"));
-            System.out.println(I18nUtil.getMessage("player.action.combo"));
-            System.out.println(I18nUtil.getMessage("player.action.winning"));
-            System.out.println(I18nUtil.getMessage("player.action.end"));
-            System.out.print(I18nUtil.getMessage("player.action.choice.range") + " ");
+            handView.displayHandWithIndices(I18nUtil.getMessage(MessageId.PLAYER_HAND, player.getName()), hand);
+            ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.ACTION_CHOOSE));
+            ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_SINGLE));
+            ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_COMBO));
+            ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_WINNING));
+            ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_ACTION_END));
+            ConsoleOutput.text(I18nUtil.getMessage(MessageId.PLAYER_ACTION_CHOICE_RANGE) + " ");
             
             try {
-                int choice = Integer.parseInt(scanner.nextLine().trim());
+                int choice = Integer.parseInt(readLine().trim());
                 
                 if (choice == 0) {
                     return null;
@@ -115,24 +120,24 @@ public class ConsoleGameView implements GameView {
                     return handleWinningComboOption(player, hand);
                 }
                 else {
-                    System.out.println(I18nUtil.getMessage("error.invalid.move"));
+                    ConsoleOutput.line(I18nUtil.getMessage(MessageId.ERROR_INVALID_MOVE));
                 }
             }
             catch (NumberFormatException e) {
-                System.out.println(I18nUtil.getMessage("error.invalid.move"));
+                ConsoleOutput.line(I18nUtil.getMessage(MessageId.ERROR_INVALID_MOVE));
             }
         }
     }
 
     private Card handleSingleCardPlay(Player player, List<Card> hand) {
-        System.out.println("\n" + I18nUtil.getMessage("card.select"));
-        int cardChoice = Integer.parseInt(scanner.nextLine().trim());
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_SELECT));
+        int cardChoice = Integer.parseInt(readLine().trim());
         if (cardChoice == 0) {
             return null;
         }
         Card selectedCard = hand.get(cardChoice - 1);
         if (selectedCard.getType() == CardType.CAT_CARD) {
-            showError(I18nUtil.getMessage("card.combo.single.error"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_SINGLE_ERROR));
             return promptPlayCard(player, hand);
         }
         return selectedCard;
@@ -156,14 +161,14 @@ public class ConsoleGameView implements GameView {
     private Card handleStealCombo(Player player, List<Card> hand) {
         List<Integer> selectedIndices = promptCatCardSelection(2, hand);
         if (selectedIndices == null || selectedIndices.size() != 2) {
-            showError(I18nUtil.getMessage("card.combo.invalid"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_INVALID));
             return promptPlayCard(player, hand);
         }
         
         // check if selected cards are all the same type of cat cards
         Card firstCard = hand.get(selectedIndices.get(0));
         if (!(firstCard instanceof CatCard)) {
-            showError(I18nUtil.getMessage("card.combo.must.be.cat"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_MUST_BE_CAT));
             return promptPlayCard(player, hand);
         }
         
@@ -171,7 +176,7 @@ public class ConsoleGameView implements GameView {
         for (int i = 1; i < selectedIndices.size(); i++) {
             Card card = hand.get(selectedIndices.get(i));
             if (!(card instanceof CatCard) || ((CatCard) card).getCatType() != catType) {
-                showError(I18nUtil.getMessage("card.combo.same.type"));
+                showError(I18nUtil.getMessage(MessageId.CARD_COMBO_SAME_TYPE));
                 return promptPlayCard(player, hand);
             }
         }
@@ -182,14 +187,14 @@ public class ConsoleGameView implements GameView {
     private Card handleRequestCombo(Player player, List<Card> hand) {
         List<Integer> selectedIndices = promptCatCardSelection(3, hand);
         if (selectedIndices == null || selectedIndices.size() != 3) {
-            showError(I18nUtil.getMessage("card.combo.invalid"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_INVALID));
             return promptPlayCard(player, hand);
         }
         
         // check if selected cards are all the same type of cat cards
         Card firstCard = hand.get(selectedIndices.get(0));
         if (!(firstCard instanceof CatCard)) {
-            showError(I18nUtil.getMessage("card.combo.must.be.cat"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_MUST_BE_CAT));
             return promptPlayCard(player, hand);
         }
         
@@ -197,7 +202,7 @@ public class ConsoleGameView implements GameView {
         for (int i = 1; i < selectedIndices.size(); i++) {
             Card card = hand.get(selectedIndices.get(i));
             if (!(card instanceof CatCard) || ((CatCard) card).getCatType() != catType) {
-                showError(I18nUtil.getMessage("card.combo.same.type"));
+                showError(I18nUtil.getMessage(MessageId.CARD_COMBO_SAME_TYPE));
                 return promptPlayCard(player, hand);
             }
         }
@@ -211,12 +216,12 @@ public class ConsoleGameView implements GameView {
         // create a CatCard object to trigger request effect
         return new CatCard(catType) {
             @Override
-            public void effect(List<Player> turnOrder, Deck gameDeck) {
+            public CatCardEffect resolve(List<Player> turnOrder, Deck gameDeck) {
                 CatCard firstCatCard = (CatCard)hand.get(selectedIndices.get(0));
                 CatCard secondCatCard = (CatCard)hand.get(selectedIndices.get(1));
                 CatCard thirdCatCard = (CatCard)hand.get(selectedIndices.get(2));
                 
-                throw new CatCard.CatCardEffect(
+                return new CatCardEffect(
                     firstCatCard,
                     secondCatCard,
                     thirdCatCard,
@@ -236,14 +241,14 @@ public class ConsoleGameView implements GameView {
     public boolean handleWinningCombo(Player player, List<Card> hand) {
         List<Integer> selectedIndices = promptCatCardSelection(5, hand);
         if (selectedIndices == null || selectedIndices.size() != 5) {
-            showError(I18nUtil.getMessage("card.combo.invalid"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_INVALID));
             return false;
         }
 
         // 验证选择的卡牌是否都是相同类型的猫牌
         Card firstCard = hand.get(selectedIndices.get(0));
         if (!(firstCard instanceof CatCard)) {
-            showError(I18nUtil.getMessage("card.combo.must.be.cat"));
+            showError(I18nUtil.getMessage(MessageId.CARD_COMBO_MUST_BE_CAT));
             return false;
         }
 
@@ -251,7 +256,7 @@ public class ConsoleGameView implements GameView {
         for (int i = 1; i < selectedIndices.size(); i++) {
             Card card = hand.get(selectedIndices.get(i));
             if (!(card instanceof CatCard) || ((CatCard) card).getCatType() != catType) {
-                showError(I18nUtil.getMessage("card.combo.same.type"));
+                showError(I18nUtil.getMessage(MessageId.CARD_COMBO_SAME_TYPE));
                 return false;
             }
         }
@@ -261,7 +266,7 @@ public class ConsoleGameView implements GameView {
         List<Player> turnOrder = GameContext.getTurnOrder();
         for (Player p : turnOrder) {
             if (p != player) {
-                p.setAlive(false);
+                GameContext.eliminatePlayer(p);
             }
         }
         return true;
@@ -272,7 +277,7 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("player.played", player.getName(), cardName));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_PLAYED, player.getName(), cardName));
     }
 
     @Override
@@ -282,7 +287,7 @@ public class ConsoleGameView implements GameView {
 
     @Override
     public void showError(String message) {
-        System.out.println("\n" + I18nUtil.getMessage("error.prefix", message));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.ERROR_PREFIX, message));
     }
 
     @Override
@@ -292,13 +297,13 @@ public class ConsoleGameView implements GameView {
 
     @Override
     public boolean checkForNope(Player player, Card card) {
-        System.out.println("\n" + I18nUtil.getMessage("nope.prompt"));
-        return scanner.nextLine().trim().equalsIgnoreCase("y");
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.NOPE_PROMPT));
+        return readLine().trim().equalsIgnoreCase("y");
     }
 
     @Override
     public void showCardNoped(Player player, Card card) {
-        System.out.println("\n" + I18nUtil.getMessage("nope.card.noped", player.getName(), card));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.NOPE_CARD_NOPED, player.getName(), card));
     }
 
     @Override
@@ -306,57 +311,57 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("player.drew", player.getName(), cardName));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_DREW, player.getName(), cardName));
     }
 
     @Override
     public boolean confirmDefuse(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("defuse.confirm", player.getName()));
-        return scanner.nextLine().trim().equalsIgnoreCase("y");
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.DEFUSE_CONFIRM, player.getName()));
+        return readLine().trim().equalsIgnoreCase("y");
     }
 
     @Override
     public int selectExplodingKittenPosition(int deckSize) {
-        System.out.println("\n" + I18nUtil.getMessage("card.defuse.position", deckSize));
-        return Integer.parseInt(scanner.nextLine().trim());
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_DEFUSE_POSITION, deckSize));
+        return Integer.parseInt(readLine().trim());
     }
 
     @Override
     public void displayDefuseUsed(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("defuse.used", player.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.DEFUSE_USED, player.getName()));
     }
 
     @Override
     public void displayDefuseSuccess(Player player, int position) {
-        System.out.println("\n" + I18nUtil.getMessage("defuse.success", 
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.DEFUSE_SUCCESS, 
             player.getName(), position));
     }
 
     @Override
     public boolean promptPlayNope(Player player, Card card) {
-        System.out.println("\n" + I18nUtil.getMessage("nope.player.prompt", player.getName()));
-        return scanner.nextLine().trim().equalsIgnoreCase("y");
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.NOPE_PLAYER_PROMPT, player.getName()));
+        return readLine().trim().equalsIgnoreCase("y");
     }
 
     @Override
     public void displayPlayedNope(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("nope.played", player.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.NOPE_PLAYED, player.getName()));
     }
 
     @Override
     public void showCurrentPlayerTurn(Player player) {
-        System.out.println("\n" + I18nUtil.getMessage("player.turn", player.getName()));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_TURN, player.getName()));
     }
 
     @Override
     public Player selectTargetPlayer(List<Player> availablePlayers) {
-        System.out.println(I18nUtil.getMessage("player.available"));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.PLAYER_AVAILABLE));
         for (int i = 0; i < availablePlayers.size(); i++) {
-            System.out.println((i + 1) + ". " + availablePlayers.get(i).getName());
+            ConsoleOutput.line((i + 1) + ". " + availablePlayers.get(i).getName());
         }
-        String message = I18nUtil.getMessage("player.select", availablePlayers.size());
-        System.out.print(message + " ");
-        int choice = Integer.parseInt(scanner.nextLine().trim());
+        String message = I18nUtil.getMessage(MessageId.PLAYER_SELECT, availablePlayers.size());
+        ConsoleOutput.text(message + " ");
+        int choice = Integer.parseInt(readLine().trim());
         return availablePlayers.get(choice - 1);
     }
 
@@ -384,19 +389,19 @@ public class ConsoleGameView implements GameView {
             }
             
             if (filteredHand.isEmpty()) {
-                System.out.println("\n" + I18nUtil.getMessage("player.no.cards", 
+                ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_NO_CARDS, 
                     requestedCatType));
                 return null;
             }
 
-            System.out.println("\n" 
-                + I18nUtil.getMessage("player.select.specific", requestedCatType));
+            ConsoleOutput.line("\n" 
+                + I18nUtil.getMessage(MessageId.PLAYER_SELECT_SPECIFIC, requestedCatType));
             for (int i = 0; i < filteredHand.size(); i++) {
                 CatCard catCard = (CatCard) filteredHand.get(i);
-                System.out.println((i + 1) + ". " + catCard.getCatType());
+                ConsoleOutput.line((i + 1) + ". " + catCard.getCatType());
             }
-            System.out.print(I18nUtil.getMessage("card.combo.choice") + " ");
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            ConsoleOutput.text(I18nUtil.getMessage(MessageId.CARD_COMBO_CHOICE) + " ");
+            int choice = Integer.parseInt(readLine().trim());
             if (choice < 1 || choice > filteredHand.size()) {
                 return null;
             }
@@ -405,8 +410,8 @@ public class ConsoleGameView implements GameView {
 
         // 对于非猫牌，显示所有卡牌
         handView.displayHandWithIndices(targetPlayer.getName(), hand);
-        System.out.print(I18nUtil.getMessage("player.select.card", hand.size()) + " ");
-        int choice = Integer.parseInt(scanner.nextLine().trim());
+        ConsoleOutput.text(I18nUtil.getMessage(MessageId.PLAYER_SELECT_CARD, hand.size()) + " ");
+        int choice = Integer.parseInt(readLine().trim());
         return hand.get(choice - 1);
     }
 
@@ -414,11 +419,11 @@ public class ConsoleGameView implements GameView {
     public void displayCatCardEffect(String effectType, Player sourcePlayer, 
             Player targetPlayer) {
         if (effectType.equals("steal")) {
-            System.out.println("\n" + I18nUtil.getMessage("card.effect.stealing", 
+            ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_EFFECT_STEALING, 
                 sourcePlayer.getName(), targetPlayer.getName()));
         } 
         else if (effectType.equals("request")) {
-            System.out.println("\n" + I18nUtil.getMessage("card.effect.requesting", 
+            ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_EFFECT_REQUESTING, 
                 sourcePlayer.getName(), targetPlayer.getName()));
         }
     }
@@ -428,7 +433,7 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("player.stole", 
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_STOLE, 
             sourcePlayer.getName(), cardName, targetPlayer.getName()));
     }
 
@@ -437,7 +442,7 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("player.received", 
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_RECEIVED, 
             sourcePlayer.getName(), cardName, targetPlayer.getName()));
     }
 
@@ -446,21 +451,21 @@ public class ConsoleGameView implements GameView {
         String cardName = card instanceof CatCard ? 
             ((CatCard) card).getCatType().toString() : 
             card.getType().toString();
-        System.out.println("\n" + I18nUtil.getMessage("card.drawn.from.bottom", cardName));
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_DRAWN_FROM_BOTTOM, cardName));
     }
 
     private int promptComboType() {
-        System.out.println("\n" + I18nUtil.getMessage("card.combo.type"));
-        System.out.println(I18nUtil.getMessage("card.combo.steal"));
-        System.out.println(I18nUtil.getMessage("card.combo.request"));
-        System.out.println(I18nUtil.getMessage("card.combo.cancel"));
-        System.out.print(I18nUtil.getMessage("card.combo.choice") + " ");
-        return Integer.parseInt(scanner.nextLine().trim());
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_COMBO_TYPE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARD_COMBO_STEAL));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARD_COMBO_REQUEST));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARD_COMBO_CANCEL));
+        ConsoleOutput.text(I18nUtil.getMessage(MessageId.CARD_COMBO_CHOICE) + " ");
+        return Integer.parseInt(readLine().trim());
     }
 
     private List<Integer> promptCatCardSelection(int count, List<Card> hand) {
-        System.out.println("\n" + I18nUtil.getMessage("card.combo.select", count));
-        String[] cardChoices = scanner.nextLine().trim().split(" ");
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_COMBO_SELECT, count));
+        String[] cardChoices = readLine().trim().split(" ");
         if (cardChoices.length != count) {
             return null;
         }
@@ -482,32 +487,32 @@ public class ConsoleGameView implements GameView {
     }
 
     private CardType promptRequestedCardType() {
-        System.out.println("\n" + I18nUtil.getMessage("card.request.type"));
-        System.out.println(I18nUtil.getMessage("cardtype.attack"));
-        System.out.println(I18nUtil.getMessage("cardtype.skip"));
-        System.out.println(I18nUtil.getMessage("cardtype.super.skip"));
-        System.out.println(I18nUtil.getMessage("cardtype.double.skip"));
-        System.out.println(I18nUtil.getMessage("cardtype.favor"));
-        System.out.println(I18nUtil.getMessage("cardtype.shuffle"));
-        System.out.println(I18nUtil.getMessage("cardtype.see.future"));
-        System.out.println(I18nUtil.getMessage("cardtype.nope"));
-        System.out.println(I18nUtil.getMessage("cardtype.switch.deck"));
-        System.out.println(I18nUtil.getMessage("cardtype.draw.bottom"));
-        System.out.println(I18nUtil.getMessage("cardtype.snatch"));
-        System.out.println(I18nUtil.getMessage("cardtype.reverse"));
-        System.out.println(I18nUtil.getMessage("cardtype.time.rewind"));
-        System.out.println(I18nUtil.getMessage("cardtype.taco.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.beard.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.cattermelon"));
-        System.out.println(I18nUtil.getMessage("cardtype.rainbow.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.hairy.potato.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.watermelon.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.feral.cat"));
-        System.out.println(I18nUtil.getMessage("cardtype.defuse"));
-        System.out.println(I18nUtil.getMessage("cardtype.cancel"));
-        System.out.print(I18nUtil.getMessage("cardtype.choice") + " ");
+        ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.CARD_REQUEST_TYPE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_ATTACK));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SKIP));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SUPER_SKIP));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_DOUBLE_SKIP));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_FAVOR));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SHUFFLE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SEE_FUTURE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_NOPE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SWITCH_DECK));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_DRAW_BOTTOM));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_SNATCH));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_REVERSE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_TIME_REWIND));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_TACO_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_BEARD_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_CATTERMELON));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_RAINBOW_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_HAIRY_POTATO_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_WATERMELON_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_FERAL_CAT));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_DEFUSE));
+        ConsoleOutput.line(I18nUtil.getMessage(MessageId.CARDTYPE_CANCEL));
+        ConsoleOutput.text(I18nUtil.getMessage(MessageId.CARDTYPE_CHOICE) + " ");
         
-        int choice = Integer.parseInt(scanner.nextLine().trim());
+        int choice = Integer.parseInt(readLine().trim());
         switch (choice) {
             case 1: return CardType.ATTACK;
             case 2: return CardType.SKIP;
@@ -541,4 +546,13 @@ public class ConsoleGameView implements GameView {
         }
         return promptPlayCard(player, hand);  // 如果失败，重新提示选择
     }
-} 
\ No newline at end of file
+
+    /**
+     * Prints the pending frame, then reads the player's answer.
+     * @return the next input line
+     */
+    private String readLine() {
+        ConsoleOutput.flush();
+        return scanner.nextLine();
+    }
+}
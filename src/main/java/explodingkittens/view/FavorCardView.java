@@ -3,6 +3,7 @@ package explodingkittens.view;
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
 import explodingkittens.model.Player;
+import explodingkittens.util.ConsoleOutput;
 import java.util.List;
 import java.util.Scanner;
 import java.nio.charset.StandardCharsets;
@@ -48,13 +49,13 @@ public class FavorCardView {
         }
         
         // Display all available players
-        System.out.println("\nAvailable players to ask for a favor:");
+        ConsoleOutput.line("\nAvailable players to ask for a favor:");
         for (int i = 0; i < availablePlayers.size(); i++) {
-            System.out.printf("%d: %s%n", i, availablePlayers.get(i).getName());
+            ConsoleOutput.line(String.format("%d: %s", i, availablePlayers.get(i).getName()));
         }
-        System.out.print("Please select a player to ask for a favor (enter number): ");
+        ConsoleOutput.text("Please select a player to ask for a favor (enter number): ");
         
-        String input = userInput != null ? userInput : scanner.nextLine();
+        String input = userInput != null ? userInput : readLine();
         try {
             int selection = Integer.parseInt(input);
             if (selection >= 0 && selection < availablePlayers.size()) {
@@ -83,17 +84,17 @@ public class FavorCardView {
         }
         
         // Display all available cards
-        System.out.println("\nChoose a card to give to the current player:");
+        ConsoleOutput.line("\nChoose a card to give to the current player:");
         for (int i = 0; i < cards.size(); i++) {
             Card card = cards.get(i);
             String cardName = card instanceof CatCard ? 
                 ((CatCard) card).getCatType().name() : 
                 card.getType().name();
-            System.out.printf("%d: %s%n", i, cardName);
+            ConsoleOutput.line(String.format("%d: %s", i, cardName));
         }
-        System.out.print("Please select a card to give (enter number): ");
+        ConsoleOutput.text("Please select a card to give (enter number): ");
         
-        String input = userInput != null ? userInput : scanner.nextLine();
+        String input = userInput != null ? userInput : readLine();
         try {
             int selection = Integer.parseInt(input);
             if (selection >= 0 && selection < cards.size()) {
@@ -107,4 +108,13 @@ public class FavorCardView {
             throw new IllegalArgumentException("Please enter a valid number.");
         }
     }
+
+    /**
+     * Prints the pending frame, then reads the player's answer.
+     * @return the next input line
+     */
+    private String readLine() {
+        ConsoleOutput.flush();
+        return scanner.nextLine();
+    }
 }
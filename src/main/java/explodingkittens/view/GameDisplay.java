@@ -0,0 +1,149 @@
+package explodingkittens.view;
+
+import explodingkittens.model.Player;
+import explodingkittens.model.Card;
+import java.util.List;
+
+/**
+ * The display side of a game view: every method shows something and returns at once.
+ * Shared by the blocking GameView and the AsyncGameView.
+ */
+public interface GameDisplay {
+    /**
+     * Displays the current player.
+     * @param player the current player
+     */
+    void displayCurrentPlayer(Player player);
+
+    /**
+     * Displays a player's hand.
+     * @param player the player whose hand to display
+     */
+    void displayPlayerHand(Player player);
+
+    /**
+     * Displays a player's hand without card indices (for other players' hands).
+     * @param player the player whose hand to display
+     */
+    void displayOtherPlayerHand(Player player);
+
+    /**
+     * Displays a player's hand for card selection.
+     * @param player the player whose hand to display
+     * @param hand the list of cards to display
+     */
+    void displayHandForSelection(Player player, List<Card> hand);
+
+    /**
+     * Displays when a player is eliminated.
+     * @param player the eliminated player
+     */
+    void displayPlayerEliminated(Player player);
+
+    /**
+     * Displays the winner of the game.
+     * @param winner the winning player
+     */
+    void displayWinner(Player winner);
+
+    /**
+     * Displays the game over message.
+     */
+    void displayGameOver();
+
+    /**
+     * Displays the result of drawing a card.
+     * @param card the card that was drawn
+     */
+    void displayDrawResult(Card card);
+
+    /**
+     * Displays when a player plays a card.
+     * @param player the player who played the card
+     * @param card the card that was played
+     */
+    void displayPlayedCard(Player player, Card card);
+
+    /**
+     * Shows an error message to the player.
+     * @param message The error message
+     */
+    void showError(String message);
+
+    /**
+     * Shows that a card has been played.
+     * @param player The player who played the card
+     * @param card The card that was played
+     */
+    void showCardPlayed(Player player, Card card);
+
+    /**
+     * Shows that a card was noped.
+     * @param player The player whose card was noped
+     * @param card The card that was noped
+     */
+    void showCardNoped(Player player, Card card);
+
+    /**
+     * Shows that a card was drawn.
+     * @param player The player who drew the card
+     * @param card The card that was drawn
+     */
+    void showCardDrawn(Player player, Card card);
+
+    /**
+     * Displays when a player uses a defuse card.
+     * @param player the player who used the defuse card
+     */
+    void displayDefuseUsed(Player player);
+
+    /**
+     * Displays when a defuse card is successfully used and the exploding kitten is inserted.
+     * @param player the player who used the defuse card
+     * @param position the position where the exploding kitten was inserted
+     */
+    void displayDefuseSuccess(Player player, int position);
+
+    
+    /**
+     * Displays when a Nope card was played.
+     * @param player The player who played the Nope card
+     */
+    void displayPlayedNope(Player player);
+
+    /**
+     * Displays the current player's turn.
+     * @param player the player whose turn it is
+     */
+    void showCurrentPlayerTurn(Player player);
+
+    /**
+     * Displays cat card effect.
+     * @param effectType the effect type ("steal" or "request")
+     * @param sourcePlayer the source player
+     * @param targetPlayer the target player
+     */
+    void displayCatCardEffect(String effectType, Player sourcePlayer, Player targetPlayer);
+
+    /**
+     * Displays when a card was stolen.
+     * @param sourcePlayer the player who stole the card
+     * @param targetPlayer the player who was stolen from
+     * @param card the card that was stolen
+     */
+    void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card);
+
+    /**
+     * Displays when a card was requested.
+     * @param sourcePlayer the player who requested the card
+     * @param targetPlayer the player who was requested
+     * @param card the card that was requested
+     */
+    void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card);
+
+    /**
+     * Displays the card drawn from bottom.
+     * @param card The card drawn from bottom
+     */
+    void displayCardDrawnFromBottom(Card card);
+}
@@ -3,6 +3,7 @@ package explodingkittens.view;
 import explodingkittens.exceptions.InvalidNicknameException;
 import explodingkittens.exceptions.InvalidPlayerCountException;
 import explodingkittens.util.I18nUtil;
+import explodingkittens.util.MessageId;
 import java.nio.charset.StandardCharsets;
 import java.util.InputMismatchException;
 import java.util.Scanner;
@@ -33,13 +34,13 @@ public class GameSetupView {
     public int promptPlayerCount() {
         while (true) {
             try {
-                System.out.print(I18nUtil.getMessage("setup.player.count") + "\n");
+                System.out.print(I18nUtil.getMessage(MessageId.SETUP_PLAYER_COUNT) + "\n");
                 int count = sc.nextInt();
                 sc.nextLine(); // 消费换行符
                 return count;
             }
             catch (InputMismatchException e) {
-                showError(I18nUtil.getMessage("setup.error.invalid.integer"));
+                showError(I18nUtil.getMessage(MessageId.SETUP_ERROR_INVALID_INTEGER));
                 sc.nextLine();
             }
         }
@@ -50,7 +51,7 @@ public class GameSetupView {
      * @return the nickname entered by the user
      */
     public String promptNickname(int playerIndex){
-        System.out.print(I18nUtil.getMessage("setup.player.name", playerIndex) + " ");
+        System.out.print(I18nUtil.getMessage(MessageId.SETUP_PLAYER_NAME, playerIndex) + " ");
         String nickname = sc.nextLine();
         return nickname;
     }
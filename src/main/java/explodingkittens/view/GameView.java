@@ -6,33 +6,9 @@ import java.util.List;
 
 /**
  * Interface for the game view that handles all user interactions and display.
+ * Prompts block until the player answers.
  */
-public interface GameView {
-    /**
-     * Displays the current player.
-     * @param player the current player
-     */
-    void displayCurrentPlayer(Player player);
-
-    /**
-     * Displays a player's hand.
-     * @param player the player whose hand to display
-     */
-    void displayPlayerHand(Player player);
-
-    /**
-     * Displays a player's hand without card indices (for other players' hands).
-     * @param player the player whose hand to display
-     */
-    void displayOtherPlayerHand(Player player);
-
-    /**
-     * Displays a player's hand for card selection.
-     * @param player the player whose hand to display
-     * @param hand the list of cards to display
-     */
-    void displayHandForSelection(Player player, List<Card> hand);
-
+public interface GameView extends GameDisplay {
     /**
      * Prompts the player for their action.
      * @param player the current player
@@ -40,29 +16,6 @@ public interface GameView {
      */
     String promptPlayerAction(Player player);
 
-    /**
-     * Displays when a player is eliminated.
-     * @param player the eliminated player
-     */
-    void displayPlayerEliminated(Player player);
-
-    /**
-     * Displays the winner of the game.
-     * @param winner the winning player
-     */
-    void displayWinner(Player winner);
-
-    /**
-     * Displays the game over message.
-     */
-    void displayGameOver();
-
-    /**
-     * Displays the result of drawing a card.
-     * @param card the card that was drawn
-     */
-    void displayDrawResult(Card card);
-
     /**
      * Prompts the player to choose a position to insert the defuse card.
      * @param deckSize the size of the deck
@@ -78,13 +31,6 @@ public interface GameView {
      */
     Card promptPlayCard(Player player, List<Card> hand);
 
-    /**
-     * Displays when a player plays a card.
-     * @param player the player who played the card
-     * @param card the card that was played
-     */
-    void displayPlayedCard(Player player, Card card);
-
     /**
      * Prompts the player to select a card to play.
      * @param player The current player
@@ -93,19 +39,6 @@ public interface GameView {
      */
     Card selectCardToPlay(Player player, List<Card> hand);
 
-    /**
-     * Shows an error message to the player.
-     * @param message The error message
-     */
-    void showError(String message);
-
-    /**
-     * Shows that a card has been played.
-     * @param player The player who played the card
-     * @param card The card that was played
-     */
-    void showCardPlayed(Player player, Card card);
-
     /**
      * Checks if any player wants to play a Nope card.
      * @param player The player who played the card
@@ -114,20 +47,6 @@ public interface GameView {
      */
     boolean checkForNope(Player player, Card card);
 
-    /**
-     * Shows that a card was noped.
-     * @param player The player whose card was noped
-     * @param card The card that was noped
-     */
-    void showCardNoped(Player player, Card card);
-
-    /**
-     * Shows that a card was drawn.
-     * @param player The player who drew the card
-     * @param card The card that was drawn
-     */
-    void showCardDrawn(Player player, Card card);
-
     /**
      * Confirms if the player wants to use their defuse card.
      * @param player The player who drew the exploding kitten
@@ -142,19 +61,6 @@ public interface GameView {
      */
     int selectExplodingKittenPosition(int deckSize);
 
-    /**
-     * Displays when a player uses a defuse card.
-     * @param player the player who used the defuse card
-     */
-    void displayDefuseUsed(Player player);
-
-    /**
-     * Displays when a defuse card is successfully used and the exploding kitten is inserted.
-     * @param player the player who used the defuse card
-     * @param position the position where the exploding kitten was inserted
-     */
-    void displayDefuseSuccess(Player player, int position);
-
     /**
      * Prompts the player to play a Nope card.
      * @param player The player who played the card
@@ -162,42 +68,6 @@ public interface GameView {
      * @return true if a Nope card was played, false otherwise
      */
     boolean promptPlayNope(Player player, Card card);
-    
-    /**
-     * Displays when a Nope card was played.
-     * @param player The player who played the Nope card
-     */
-    void displayPlayedNope(Player player);
-
-    /**
-     * Displays the current player's turn.
-     * @param player the player whose turn it is
-     */
-    void showCurrentPlayerTurn(Player player);
-
-    /**
-     * Displays cat card effect.
-     * @param effectType the effect type ("steal" or "request")
-     * @param sourcePlayer the source player
-     * @param targetPlayer the target player
-     */
-    void displayCatCardEffect(String effectType, Player sourcePlayer, Player targetPlayer);
-
-    /**
-     * Displays when a card was stolen.
-     * @param sourcePlayer the player who stole the card
-     * @param targetPlayer the player who was stolen from
-     * @param card the card that was stolen
-     */
-    void displayCardStolen(Player sourcePlayer, Player targetPlayer, Card card);
-
-    /**
-     * Displays when a card was requested.
-     * @param sourcePlayer the player who requested the card
-     * @param targetPlayer the player who was requested
-     * @param card the card that was requested
-     */
-    void displayCardRequested(Player sourcePlayer, Player targetPlayer, Card card);
 
     /**
      * Selects a target player.
@@ -222,11 +92,4 @@ public interface GameView {
      * @return true if the player successfully plays a winning combo, false otherwise
      */
     boolean handleWinningCombo(Player player, List<Card> hand);
-
-    /**
-     * Displays the card drawn from bottom.
-     * @param card The card drawn from bottom
-     */
-    void displayCardDrawnFromBottom(Card card);
-
-} 
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package explodingkittens.view;
 
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
+import explodingkittens.util.ConsoleOutput;
 import explodingkittens.util.I18nUtil;
+import explodingkittens.util.MessageId;
 import java.util.List;
 
 /**
@@ -19,20 +21,20 @@ public class HandView {
      */
     public void displayHand(String playerName, List<Card> hand, boolean showIndices) {
         if (hand.isEmpty()) {
-            System.out.println("\n" + I18nUtil.getMessage("player.hand.empty", playerName));
+            ConsoleOutput.line("\n" + I18nUtil.getMessage(MessageId.PLAYER_HAND_EMPTY, playerName));
             return;
         }
 
-        System.out.println("\n" + playerName);
+        ConsoleOutput.line("\n" + playerName);
         
         // Display one card per line
         for (int i = 0; i < hand.size(); i++) {
             String cardName = getCardDisplayName(hand.get(i));
             if (showIndices) {
-                System.out.printf("%d. %s%n", i + 1, cardName);
+                ConsoleOutput.line(String.format("%d. %s", i + 1, cardName));
             } 
             else {
-                System.out.println(cardName);
+                ConsoleOutput.line(cardName);
             }
         }
     }
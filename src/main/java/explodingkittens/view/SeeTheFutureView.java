@@ -2,6 +2,7 @@ package explodingkittens.view;
 
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
+import explodingkittens.util.ConsoleOutput;
 import java.util.List;
 
 /**
@@ -13,13 +14,13 @@ public class SeeTheFutureView {
      * @param cards the list of cards to display
      */
     public void display(List<Card> cards) {
-        System.out.println("===== You see the future cards =====");
+        ConsoleOutput.line("===== You see the future cards =====");
         for (Card c : cards) {
             if (c instanceof CatCard) {
-                System.out.println("- " + ((CatCard) c).getCatType().name());
+                ConsoleOutput.line("- " + ((CatCard) c).getCatType().name());
             }
             else {
-                System.out.println("- " + c.getType());
+                ConsoleOutput.line("- " + c.getType());
             }
         }
     }
@@ -14,6 +14,7 @@ import explodingkittens.exceptions.GameOverException;
 import explodingkittens.view.GameView;
 import explodingkittens.model.Player;
 import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
 import explodingkittens.util.ChainedInputStream;
 
 import java.util.Arrays;
@@ -202,6 +203,7 @@ class MainTest {
         GameView mockView = mock(GameView.class);
         Player winner = new Player("Winner");
         winner.setAlive(true);
+        GameContext.bind(new GameTable());
         GameContext.setTurnOrder(Arrays.asList(winner));
         // 还可以设置 GameContext.setGameDeck(...) 等
 
@@ -213,6 +215,9 @@ class MainTest {
         catch (GameOverException e) {
             // ignore
         }
+        finally {
+            GameContext.unbind();
+        }
         // 不用 verify，只要能走完就能cover
     }
 
@@ -1,5 +1,6 @@
 package explodingkittens.controller;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +25,7 @@ class CatCardStealControllerTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         turnOrder = new ArrayList<>();
         currentPlayer = new Player("Player1");
         targetPlayer = new Player("Player2");
@@ -33,6 +35,11 @@ class CatCardStealControllerTest {
         controller = new CatCardStealController(inputHandler);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     private class MockCatCardStealInputHandler implements CatCardStealInputHandler {
         @Override
         public Player selectTargetPlayer(List<Player> availablePlayers) {
@@ -1,5 +1,6 @@
 package explodingkittens.controller;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -26,11 +27,17 @@ class ConsoleCatCardStealInputHandlerTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         // Use an empty input stream for setup
         scanner = new Scanner(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8);
         inputHandler = new ConsoleCatCardStealInputHandler(scanner);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     @Test
     @DisplayName("Test Case 1: Constructor with null scanner")
     void testConstructorWithNullScanner() {
@@ -1,5 +1,6 @@
 package explodingkittens.controller;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -8,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
@@ -30,8 +32,12 @@ class GameContextTest {
 		deck = new Deck();
 		deck.initializeBaseDeck(3);
 		
-		// Reset GameContext before each test
-		GameContext.reset();
+		GameContext.bind(new GameTable());
+	}
+
+	@AfterEach
+	void tearDown() {
+		GameContext.unbind();
 	}
 
 	@Test
@@ -169,4 +175,65 @@ class GameContextTest {
 		assertNull(GameContext.getTurnOrder());
 		assertNull(GameContext.getGameDeck());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testBoundTableIsolatesState() {
+		GameContext.setTurnOrder(players);
+		GameTable table = new GameTable();
+		List<Player> others = new ArrayList<>();
+		others.add(new Player("Other1"));
+		others.add(new Player("Other2"));
+
+		GameTable previous = GameContext.bind(table);
+		assertNotNull(previous);
+		try {
+			assertSame(table, GameContext.currentTable());
+			GameContext.setTurnOrder(others);
+			assertEquals(others, table.getTurnOrder());
+		}
+		finally {
+			GameContext.bind(previous);
+		}
+		assertEquals(players, GameContext.getTurnOrder());
+	}
+
+	@Test
+	void testBindReturnsPreviousTable() {
+		GameTable first = new GameTable();
+		GameTable second = new GameTable();
+		try {
+			GameContext.bind(first);
+			assertSame(first, GameContext.bind(second));
+			assertSame(second, GameContext.currentTable());
+		}
+		finally {
+			GameContext.unbind();
+		}
+	}
+
+	@Test
+	void testBindNullTable() {
+		assertThrows(IllegalArgumentException.class, () -> GameContext.bind(null));
+	}
+
+	@Test
+	void testTablesAreBoundPerThread() throws InterruptedException {
+		boolean[] otherBound = new boolean[1];
+		Thread other = new Thread(() -> otherBound[0] = GameContext.isBound());
+		other.start();
+		other.join();
+
+		assertTrue(GameContext.isBound());
+		assertFalse(otherBound[0]);
+	}
+
+	@Test
+	void testUnboundThreadHasNoGameState() {
+		GameContext.unbind();
+
+		assertFalse(GameContext.isBound());
+		assertThrows(IllegalStateException.class, GameContext::currentTable);
+		assertThrows(IllegalStateException.class, GameContext::getTurnOrder);
+		assertThrows(IllegalStateException.class, () -> GameContext.setGameDeck(deck));
+	}
+}
@@ -6,6 +6,7 @@ import explodingkittens.model.PlayerService;
 import explodingkittens.view.GameSetupView;
 import explodingkittens.service.DealService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -48,8 +49,12 @@ class GameSetupControllerSetupGameTest {
     @BeforeEach
     void setUp() {
         controller = new GameSetupController(view, playerService, dealService, new Scanner(System.in, StandardCharsets.UTF_8));
-        // Reset GameContext before each test
-        GameContext.reset();
+        GameContext.bind(new GameTable());
+    }
+
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
     }
 
     @Test
@@ -8,6 +8,7 @@ import explodingkittens.model.PlayerService;
 import explodingkittens.view.GameSetupView;
 import explodingkittens.service.DealService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -35,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import explodingkittens.exceptions.InvalidPlayerCountException;
 import explodingkittens.exceptions.InvalidNicknameException;
 import explodingkittens.exceptions.InvalidDeckException;
@@ -54,8 +56,31 @@ class GameSetupControllerTest {
     @BeforeEach
     void setUp() {
         controller = new GameSetupController(view, playerService, dealService, new Scanner(System.in, StandardCharsets.UTF_8));
-        // Reset GameContext before each test
-        GameContext.reset();
+        GameContext.bind(new GameTable());
+    }
+
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
+    @Test
+    void testSetupGameBindsAndFillsTheGivenTable() throws Exception {
+        GameTable table = new GameTable();
+        GameSetupController tableController = new GameSetupController(view, playerService,
+            dealService, new Scanner(System.in, StandardCharsets.UTF_8), table);
+        when(view.promptPlayerCount()).thenReturn(2);
+        when(view.promptNickname(anyInt())).thenReturn("Player1", "Player2");
+        when(playerService.createPlayer(anyString())).thenReturn(new Player("Player1"), new Player("Player2"));
+
+        tableController.setupGame();
+
+        assertSame(table, tableController.getTable());
+        assertSame(table, GameContext.currentTable());
+        assertEquals(2, table.getTurnOrder().size());
+        assertNotNull(table.getCatCardStealHandler());
+        assertThrows(IllegalArgumentException.class, () -> new GameSetupController(view, playerService,
+            dealService, new Scanner(System.in, StandardCharsets.UTF_8), null));
     }
 
     @Test
@@ -0,0 +1,167 @@
+package explodingkittens.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.model.AttackCard;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameSnapshotTest {
+    private GameTable table;
+    private List<Player> players;
+    private Deck deck;
+
+    @BeforeEach
+    void setUp() {
+        table = new GameTable();
+        players = new ArrayList<>();
+        players.add(new Player("Player1"));
+        players.add(new Player("Player2"));
+        players.add(new Player("Player3"));
+        players.get(0).receiveCard(CardRegistry.get(CardType.DEFUSE));
+        players.get(1).receiveCard(CardRegistry.get(CatType.TACOCAT));
+        deck = new Deck();
+        deck.addCard(CardRegistry.get(CardType.SKIP));
+        deck.addCard(CardRegistry.get(CardType.EXPLODING_KITTEN));
+        deck.addCard(CardRegistry.get(CardType.SHUFFLE));
+        table.setTurnOrder(players);
+        table.setGameDeck(deck);
+        deck = table.getGameDeck();
+    }
+
+    @Test
+    void snapshotRequiresTurnOrder() {
+        assertThrows(IllegalStateException.class, () -> new GameTable().snapshot());
+    }
+
+    @Test
+    void restoreRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> table.restore(null));
+    }
+
+    @Test
+    void snapshotReportsSizes() {
+        GameSnapshot snapshot = table.snapshot();
+
+        assertEquals(3, snapshot.getPlayerCount());
+        assertEquals(3, snapshot.getDeckSize());
+        assertEquals(1, snapshot.getHandSize(0));
+        assertEquals(0, snapshot.getHandSize(2));
+    }
+
+    @Test
+    void restoreUndoesDrawsTurnsAndEliminations() {
+        List<Card> deckBefore = deck.getCards();
+        GameSnapshot snapshot = table.snapshot();
+
+        players.get(0).receiveCard(deck.drawOne());
+        players.get(0).setLeftTurns(3);
+        players.get(1).getRealHand().clear();
+        players.get(1).setAlive(false);
+        table.removePlayer(players.get(1));
+        table.nextTurn();
+        table.setGameOver(true);
+
+        table.restore(snapshot);
+
+        assertEquals(players, table.getTurnOrder());
+        assertSame(players.get(0), table.getCurrentPlayer());
+        assertFalse(table.isGameOver());
+        assertSame(deck, table.getGameDeck());
+        assertEquals(deckBefore, deck.getCards());
+        assertEquals(1, players.get(0).getHand().size());
+        assertEquals(1, players.get(0).getLeftTurns());
+        assertTrue(players.get(1).isAlive());
+        assertEquals(1, players.get(1).countCatCards(CatType.TACOCAT));
+    }
+
+    @Test
+    void snapshotCanBeRestoredRepeatedly() {
+        GameSnapshot snapshot = table.snapshot();
+
+        for (int i = 0; i < 3; i++) {
+            players.get(2).receiveCard(deck.drawOne());
+            table.nextTurn();
+            table.restore(snapshot);
+
+            assertEquals(3, deck.size());
+            assertTrue(players.get(2).getHand().isEmpty());
+            assertSame(players.get(0), table.getCurrentPlayer());
+        }
+    }
+
+    @Test
+    void restoreKeepsCardInstances() {
+        Card attack = new AttackCard();
+        deck.getRealCards().add(attack);
+        GameSnapshot snapshot = table.snapshot();
+
+        players.get(0).receiveCard(deck.removeBottomCard());
+        table.restore(snapshot);
+
+        assertSame(attack, deck.getRealCards().get(deck.size() - 1));
+        assertEquals(1, players.get(0).getHand().size());
+    }
+
+    @Test
+    void laterChangesDoNotAffectSnapshot() {
+        GameSnapshot snapshot = table.snapshot();
+
+        deck.drawOne();
+        players.get(2).receiveCard(CardRegistry.get(CardType.NOPE));
+
+        assertEquals(3, snapshot.getDeckSize());
+        assertEquals(0, snapshot.getHandSize(2));
+    }
+
+    @Test
+    void restoreKeepsDeckAbsence() {
+        GameTable noDeck = new GameTable();
+        noDeck.setTurnOrder(players);
+        GameSnapshot snapshot = noDeck.snapshot();
+        noDeck.setGameDeck(new Deck());
+
+        noDeck.restore(snapshot);
+
+        assertNull(noDeck.getGameDeck());
+        assertEquals(0, snapshot.getDeckSize());
+    }
+
+    @Test
+    void restoreCreatesDeckWhenMissing() {
+        GameSnapshot snapshot = table.snapshot();
+        GameTable other = new GameTable();
+
+        other.restore(snapshot);
+
+        assertEquals(deck.getCards(), other.getGameDeck().getCards());
+        assertEquals(players, other.getTurnOrder());
+    }
+
+    @Test
+    void contextForwardsToBoundTable() {
+        GameContext.bind(table);
+        try {
+            GameSnapshot snapshot = GameContext.snapshot();
+            deck.drawOne();
+            GameContext.restore(snapshot);
+        }
+        finally {
+            GameContext.unbind();
+        }
+        assertEquals(3, deck.size());
+    }
+}
@@ -0,0 +1,212 @@
+package explodingkittens.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import explodingkittens.exceptions.GameOverException;
+import explodingkittens.model.Deck;
+import explodingkittens.model.ExplodingKittenCard;
+import explodingkittens.model.Player;
+import explodingkittens.service.CardEffectService;
+import explodingkittens.service.TurnService;
+import explodingkittens.util.GameRandom;
+import explodingkittens.util.I18nUtil;
+import explodingkittens.view.GameView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameTableTest {
+    private GameTable table;
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        table = new GameTable();
+        players = new ArrayList<>();
+        players.add(new Player("Player1"));
+        players.add(new Player("Player2"));
+        players.add(new Player("Player3"));
+    }
+
+    @Test
+    void newTableIsEmpty() {
+        assertNull(table.getTurnOrder());
+        assertNull(table.getGameDeck());
+        assertFalse(table.isGameOver());
+        assertThrows(IllegalStateException.class, () -> table.getCurrentPlayer());
+        assertThrows(IllegalStateException.class, () -> table.getDeckSize());
+    }
+
+    @Test
+    void tablesDoNotShareState() {
+        GameTable other = new GameTable();
+        table.setTurnOrder(players);
+        table.setGameOver(true);
+
+        assertNull(other.getTurnOrder());
+        assertFalse(other.isGameOver());
+        assertTrue(table.isGameOver());
+    }
+
+    @Test
+    void turnRotationAndRemoval() {
+        table.setTurnOrder(players);
+        table.movePlayerToEnd(players.get(0));
+        assertSame(players.get(1), table.getCurrentPlayer());
+
+        table.removePlayer(players.get(1));
+        assertEquals(2, table.getTurnOrder().size());
+        assertSame(players.get(2), table.getCurrentPlayer());
+    }
+
+    @Test
+    void nextTurnSkipsEliminatedPlayers() {
+        table.setTurnOrder(players);
+        players.get(1).setAlive(false);
+        table.nextTurn();
+        assertSame(players.get(2), table.getCurrentPlayer());
+    }
+
+    @Test
+    void setGameDeckCopiesDeck() {
+        Deck deck = new Deck();
+        deck.initializeBaseDeck(3);
+        table.setGameDeck(deck);
+        assertEquals(deck.size(), table.getDeckSize());
+        assertThrows(IllegalArgumentException.class, () -> table.setGameDeck(null));
+    }
+
+    @Test
+    void resetClearsHandler() {
+        CatCardStealInputHandler handler = mock(CatCardStealInputHandler.class);
+        table.setCatCardStealHandler(handler);
+        assertSame(handler, table.getCatCardStealHandler());
+
+        table.setTurnOrder(players);
+        table.reset();
+        assertNull(table.getCatCardStealHandler());
+        assertNull(table.getTurnOrder());
+    }
+
+    @Test
+    void seededRandomDrivesDeckShuffles() {
+        Deck deck = new Deck();
+        deck.initializeBaseDeck(3);
+        GameTable other = new GameTable();
+        table.setGameDeck(deck);
+        other.setGameDeck(deck);
+
+        table.setRandom(new GameRandom(11L));
+        other.setRandom(new GameRandom(11L));
+        table.getGameDeck().shuffle();
+        other.getGameDeck().shuffle();
+
+        assertEquals(table.getGameDeck().getCards(), other.getGameDeck().getCards());
+        assertThrows(IllegalArgumentException.class, () -> table.setRandom(null));
+    }
+
+    @Test
+    void resetReplacesRandom() {
+        GameRandom random = new GameRandom(1L);
+        table.setRandom(random);
+        assertSame(random, table.getRandom());
+
+        table.reset();
+        assertTrue(table.getRandom() != random);
+    }
+
+    @Test
+    void reverseKeepsTheCurrentPlayerAndGameOverFlag() {
+        table.setTurnOrder(players);
+        table.nextTurn();
+        table.setGameOver(true);
+
+        table.reverseTurnOrder();
+
+        assertSame(players.get(2), table.getTurnOrder().get(0));
+        assertSame(players.get(1), table.getCurrentPlayer());
+        assertTrue(table.isGameOver());
+        assertThrows(IllegalStateException.class, () -> new GameTable().reverseTurnOrder());
+    }
+
+    @Test
+    void turnOrderIsAReadOnlyView() {
+        table.setTurnOrder(players);
+        List<Player> order = table.getTurnOrder();
+
+        table.movePlayerToEnd(players.get(0));
+
+        assertSame(players.get(0), order.get(2));
+        assertThrows(UnsupportedOperationException.class, () -> order.remove(0));
+    }
+
+    @Test
+    void aliveCountFollowsEliminations() {
+        assertEquals(0, table.getAliveCount());
+        table.setTurnOrder(players);
+        assertEquals(3, table.getAliveCount());
+
+        table.eliminatePlayer(players.get(0));
+        assertEquals(2, table.getAliveCount());
+        assertSame(players.get(1), table.getCurrentPlayer());
+
+        players.get(1).setAlive(false);
+        table.removePlayer(players.get(1));
+        assertEquals(1, table.getAliveCount());
+        assertThrows(IllegalArgumentException.class, () -> table.eliminatePlayer(null));
+    }
+
+    @Test
+    void startBindsTheTableLocaleForTheGame() throws GameOverException {
+        I18nUtil.setLocale(Locale.ENGLISH);
+        table.setTurnOrder(players);
+        table.setLocale(Locale.CHINESE);
+        GameView view = mock(GameView.class);
+        List<Locale> seen = new ArrayList<>();
+        doAnswer(invocation -> {
+            seen.add(I18nUtil.getCurrentLocale());
+            throw new IllegalStateException("stop");
+        }).when(view).displayCurrentPlayer(any());
+
+        assertThrows(GameOverException.class,
+            () -> new GameController(view, mock(TurnService.class), table).start());
+
+        assertEquals(List.of(Locale.CHINESE), seen);
+        assertEquals(Locale.ENGLISH, I18nUtil.getCurrentLocale());
+        table.reset();
+        assertNull(table.getLocale());
+    }
+
+    @Test
+    void explodingWithoutDefuseIsCountedBeforeTheEliminationIsShown() {
+        table.setTurnOrder(players);
+        table.setGameDeck(new Deck());
+        GameView view = mock(GameView.class);
+        List<Integer> aliveSeen = new ArrayList<>();
+        doAnswer(invocation -> aliveSeen.add(GameContext.getAliveCount()))
+            .when(view).displayPlayerEliminated(any());
+        TurnService turnService = new TurnService(view, new CardEffectService(view));
+
+        GameContext.bind(table);
+        try {
+            turnService.handleExplodingKitten(players.get(0), new ExplodingKittenCard());
+        }
+        finally {
+            GameContext.unbind();
+        }
+
+        assertEquals(List.of(2), aliveSeen);
+        assertFalse(players.get(0).isAlive());
+        assertEquals(2, table.getAliveCount());
+    }
+}
@@ -0,0 +1,108 @@
+package explodingkittens.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TurnOrderTest {
+    private Player alice;
+    private Player bob;
+    private Player carol;
+    private Player dave;
+    private TurnOrder order;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Player("Alice");
+        bob = new Player("Bob");
+        carol = new Player("Carol");
+        dave = new Player("Dave");
+        order = new TurnOrder(Arrays.asList(alice, bob, carol, dave));
+    }
+
+    @Test
+    void readsPlayersFrontFirst() {
+        assertEquals(Arrays.asList(alice, bob, carol, dave), new ArrayList<>(order));
+        assertEquals(2, order.indexOf(carol));
+        assertTrue(order.contains(dave));
+        assertFalse(order.contains(new Player("Eve")));
+        assertThrows(IndexOutOfBoundsException.class, () -> order.get(4));
+    }
+
+    @Test
+    void movesPlayersToTheEnd() {
+        order.moveToEnd(alice);
+        assertEquals(Arrays.asList(bob, carol, dave, alice), new ArrayList<>(order));
+
+        order.moveToEnd(alice);
+        assertEquals(Arrays.asList(bob, carol, dave, alice), new ArrayList<>(order));
+
+        order.moveToEnd(carol);
+        assertEquals(Arrays.asList(bob, dave, alice, carol), new ArrayList<>(order));
+        assertEquals(3, order.indexOf(carol));
+        assertThrows(IllegalArgumentException.class, () -> order.moveToEnd(new Player("Eve")));
+    }
+
+    @Test
+    void reversesAndKeepsRotating() {
+        order.moveToEnd(alice);
+        order.reverse();
+        assertEquals(Arrays.asList(alice, dave, carol, bob), new ArrayList<>(order));
+        assertEquals(1, order.indexOf(dave));
+
+        order.moveToEnd(alice);
+        assertEquals(Arrays.asList(dave, carol, bob, alice), new ArrayList<>(order));
+
+        order.reverse();
+        order.remove(carol);
+        assertEquals(Arrays.asList(alice, bob, dave), new ArrayList<>(order));
+        assertEquals(2, order.indexOf(dave));
+    }
+
+    @Test
+    void keepsTheAliveCount() {
+        assertEquals(4, order.aliveCount());
+
+        order.eliminate(bob);
+        assertFalse(bob.isAlive());
+        assertEquals(3, order.aliveCount());
+        order.remove(bob);
+        assertEquals(3, order.aliveCount());
+
+        carol.setAlive(false);
+        order.remove(carol);
+        assertEquals(2, order.aliveCount());
+    }
+
+    @Test
+    void findAliveSkipsAndRecountsDeadPlayers() {
+        bob.setAlive(false);
+        carol.setAlive(false);
+
+        assertEquals(3, order.findAlive(1));
+        assertEquals(2, order.aliveCount());
+
+        alice.setAlive(false);
+        dave.setAlive(false);
+        assertEquals(-1, order.findAlive(0));
+        assertEquals(0, order.aliveCount());
+    }
+
+    @Test
+    void playersListedTwiceAreFoundLinearly() {
+        List<Player> twice = Arrays.asList(alice, bob, alice);
+        TurnOrder repeated = new TurnOrder(twice);
+
+        assertEquals(0, repeated.indexOf(alice));
+        repeated.remove(alice);
+        assertEquals(Arrays.asList(bob, alice), new ArrayList<>(repeated));
+    }
+}
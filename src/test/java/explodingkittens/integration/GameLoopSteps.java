@@ -1,6 +1,7 @@
 package explodingkittens.integration;
 
 import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
 import explodingkittens.exceptions.InvalidCardException;
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
@@ -90,9 +91,10 @@ public class GameLoopSteps {
         playerService = new PlayerService();
         dealService = new DealService();
         cardEffectService = new CardEffectService(view);
-        setupController = new GameSetupController(setupView, playerService, dealService, scanner);
+        GameTable table = new GameTable();
+        GameContext.bind(table);
+        setupController = new GameSetupController(setupView, playerService, dealService, scanner, table);
         turnService = new TurnService(view, cardEffectService);
-        GameContext.reset();
         gameInitialized = false;
     }
 
@@ -101,7 +103,7 @@ public class GameLoopSteps {
      */
     @AfterEach
     public void tearDown() {
-        GameContext.reset();
+        GameContext.unbind();
         gameInitialized = false;
     }
 
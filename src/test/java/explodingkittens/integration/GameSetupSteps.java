@@ -2,6 +2,7 @@ package explodingkittens.integration;
 
 import explodingkittens.controller.GameSetupController;
 import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
 import explodingkittens.model.Card;
@@ -60,8 +61,9 @@ public class GameSetupSteps {
         view = Mockito.mock(GameSetupView.class);
         playerService = new PlayerService();
         dealService = new DealService();
-        controller = new GameSetupController(view, playerService, dealService, new Scanner(System.in, StandardCharsets.UTF_8));
-        GameContext.reset();
+        GameTable table = new GameTable();
+        GameContext.bind(table);
+        controller = new GameSetupController(view, playerService, dealService, new Scanner(System.in, StandardCharsets.UTF_8), table);
         gameInitialized = false;
     }
 
@@ -70,7 +72,7 @@ public class GameSetupSteps {
      */
     @AfterEach
     public void tearDown() {
-        GameContext.reset();
+        GameContext.unbind();
         gameInitialized = false;
     }
 
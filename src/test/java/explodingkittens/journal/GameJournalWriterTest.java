@@ -0,0 +1,118 @@
+package explodingkittens.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameJournalWriterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsRoundTrip() throws IOException {
+        Path file = dir.resolve("games.ekj");
+        long[] values = {0, 1, -1, 63, -64, 64, 300, Long.MAX_VALUE, Long.MIN_VALUE};
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            for (long value : values) {
+                writer.append(GameEventType.DECISION, 3, -1, value);
+            }
+            assertEquals(values.length, writer.getRecords());
+        }
+
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            for (long value : values) {
+                GameEvent event = reader.next();
+                assertEquals(GameEventType.DECISION, event.getType());
+                assertEquals(3, event.getSeat());
+                assertEquals(-1, event.getTarget());
+                assertEquals(value, event.getValue());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void smallRecordsTakeFourBytes() throws IOException {
+        Path file = dir.resolve("small.ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            for (int i = 0; i < 100; i++) {
+                writer.append(GameEventType.DRAW, i % 4, -1, i % 30);
+            }
+        }
+        assertEquals(4 + 100 * 4, Files.size(file));
+    }
+
+    @Test
+    void smallBufferFlushesAsItFills() throws IOException {
+        Path file = dir.resolve("batched.ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file, GameJournalWriter.MAX_RECORD_BYTES)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.append(GameEventType.TURN, i % 4, -1, i);
+            }
+        }
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, reader.next().getValue());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void reopenedJournalAppends() throws IOException {
+        Path file = dir.resolve("append.ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            writer.append(GameEventType.GAME_START, 2, -1, 42);
+        }
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            writer.append(GameEventType.GAME_END, 1, -1, 17);
+        }
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertEquals(GameEventType.GAME_START, reader.next().getType());
+            GameEvent end = reader.next();
+            assertEquals(GameEventType.GAME_END, end.getType());
+            assertEquals(17, end.getValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void truncatedRecordIsReported() throws IOException {
+        Path file = dir.resolve("torn.ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            writer.append(GameEventType.GAME_START, 2, -1, Long.MAX_VALUE);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertThrows(EOFException.class, reader::next);
+        }
+    }
+
+    @Test
+    void rejectsFilesWithoutMagic() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> new GameJournalReader(file));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GameJournalWriter(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameJournalWriter(dir.resolve("x.ekj"), 4));
+        assertThrows(IllegalArgumentException.class, () -> new GameJournalReader(null));
+        assertThrows(IllegalArgumentException.class, () -> GameEventType.fromCode(99));
+        assertThrows(IllegalArgumentException.class, () -> DecisionKind.fromCode(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GameEvent(null, 0, 0, 0));
+    }
+}
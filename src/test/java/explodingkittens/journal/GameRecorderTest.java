@@ -0,0 +1,150 @@
+package explodingkittens.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import explodingkittens.controller.GameContext;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.RandomPolicy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameRecorderTest {
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        GameContext.unbind();
+    }
+
+    private static List<GameEvent> readAll(Path file) throws IOException {
+        List<GameEvent> events = new ArrayList<>();
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            for (GameEvent event = reader.next(); event != null; event = reader.next()) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    @Test
+    void eventsAreStoredBySeatAndCardCode() throws IOException {
+        Path file = dir.resolve("events.ekj");
+        Player first = new Player("First");
+        Player second = new Player("Second");
+        Card skip = CardRegistry.get(CardType.SKIP);
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            GameRecorder recorder = new GameRecorder(writer, Arrays.asList(first, second));
+            recorder.gameStarted(99L);
+            recorder.turnStarted(second);
+            recorder.drew(second, skip);
+            recorder.stole(first, second, skip);
+            recorder.defused(first, 4);
+            recorder.eliminated(second);
+            recorder.gameEnded(0, 12);
+        }
+
+        List<GameEvent> events = readAll(file);
+        assertEquals(7, events.size());
+        assertEquals(GameEventType.GAME_START, events.get(0).getType());
+        assertEquals(2, events.get(0).getSeat());
+        assertEquals(99L, events.get(0).getValue());
+        assertEquals(1, events.get(1).getSeat());
+        assertEquals(CompactDeck.encode(skip), events.get(2).getValue());
+        assertEquals(0, events.get(3).getSeat());
+        assertEquals(1, events.get(3).getTarget());
+        assertEquals(4, events.get(4).getValue());
+        assertEquals(GameEventType.ELIMINATED, events.get(5).getType());
+        assertEquals(12, events.get(6).getValue());
+    }
+
+    @Test
+    void recordingPolicyStoresAnswersAsIndexes() throws IOException {
+        Path file = dir.resolve("decisions.ekj");
+        Player player = new Player("P");
+        Player other = new Player("O");
+        Card skip = CardRegistry.get(CardType.SKIP);
+        Card nope = CardRegistry.get(CardType.NOPE);
+        List<Card> hand = Arrays.asList(skip, nope);
+        DecisionPolicy delegate = mock(DecisionPolicy.class);
+        when(delegate.chooseCardToPlay(player, hand)).thenReturn(nope);
+        when(delegate.chooseTarget(player, Arrays.asList(player, other))).thenReturn(other);
+        when(delegate.playNope(player, skip)).thenReturn(true);
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            RecordingPolicy policy = new RecordingPolicy(delegate,
+                new GameRecorder(writer, Arrays.asList(player, other)));
+            assertSame(nope, policy.chooseCardToPlay(player, hand));
+            assertSame(other, policy.chooseTarget(player, Arrays.asList(player, other)));
+            assertTrue(policy.playNope(player, skip));
+            assertNull(policy.chooseCardToGive(player, hand));
+        }
+
+        List<GameEvent> events = readAll(file);
+        assertEquals(DecisionKind.CARD_TO_PLAY, DecisionKind.fromCode(events.get(0).getTarget()));
+        assertEquals(1, events.get(0).getValue());
+        assertEquals(1, events.get(1).getValue());
+        assertEquals(1, events.get(2).getValue());
+        assertEquals(-1, events.get(3).getValue());
+        assertThrows(IllegalArgumentException.class, () -> new RecordingPolicy(delegate, null));
+    }
+
+    @Test
+    void simulatedGamesAreJournaledFromStartToEnd() throws IOException {
+        Path file = dir.resolve("sim.ekj");
+        List<DecisionPolicy> seats = Arrays.asList(new RandomPolicy(new Random(1)),
+            new RandomPolicy(new Random(2)), new RandomPolicy(new Random(3)));
+        GameSimulator simulator = new GameSimulator(seats, new Random(4));
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            simulator.setJournal(writer);
+            simulator.run(5);
+        }
+
+        int starts = 0;
+        int ends = 0;
+        int draws = 0;
+        int decisions = 0;
+        for (GameEvent event : readAll(file)) {
+            switch (event.getType()) {
+                case GAME_START:
+                    starts++;
+                    assertEquals(3, event.getSeat());
+                    break;
+                case GAME_END:
+                    ends++;
+                    assertTrue(event.getSeat() >= 0);
+                    break;
+                case DRAW:
+                    draws++;
+                    break;
+                case DECISION:
+                    decisions++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        assertEquals(5, starts);
+        assertEquals(5, ends);
+        assertTrue(draws > 0);
+        assertTrue(decisions > 0);
+    }
+}
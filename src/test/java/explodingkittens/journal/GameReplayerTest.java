@@ -0,0 +1,146 @@
+package explodingkittens.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.Player;
+import explodingkittens.simulation.DecisionPolicy;
+import explodingkittens.simulation.GameSimulator;
+import explodingkittens.simulation.RandomPolicy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameReplayerTest {
+    @TempDir
+    Path dir;
+
+    private final GameReplayer replayer = new GameReplayer();
+
+    @AfterEach
+    void tearDown() {
+        GameContext.unbind();
+    }
+
+    private static GameSimulator simulator(int players, long seed) {
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            seats.add(new RandomPolicy(new Random(seed + i)));
+        }
+        return new GameSimulator(seats, new Random(seed));
+    }
+
+    private Path record(int players, int games, long seed) throws IOException {
+        Path file = dir.resolve("games-" + seed + ".ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            GameSimulator simulator = simulator(players, seed);
+            simulator.setJournal(writer);
+            simulator.run(games);
+        }
+        return file;
+    }
+
+    private GameRecord firstRecord(Path file) throws IOException {
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            return GameRecord.read(reader);
+        }
+    }
+
+    @Test
+    void replayReproducesEveryRecordedGame() throws IOException {
+        List<ReplayResult> results = replayer.replayAll(record(4, 40, 3L));
+
+        assertEquals(40, results.size());
+        for (ReplayResult result : results) {
+            assertTrue(result.matches(), result.toString());
+        }
+    }
+
+    @Test
+    void replayTurnsRebuildsTheTableMidGame() throws IOException {
+        GameRecord record = firstRecord(record(3, 1, 8L));
+        int turns = record.getTurns() / 2;
+
+        GameTable replayed = replayer.replayTurns(record, turns);
+        // A simulator with the same policy seeds makes the same decisions
+        GameTable original = simulator(3, 8L).playTurns(record.getSeed(), turns);
+
+        assertEquals(original.getGameDeck().getCards(), replayed.getGameDeck().getCards());
+        List<Player> originalOrder = original.getTurnOrder();
+        List<Player> replayedOrder = replayed.getTurnOrder();
+        assertEquals(originalOrder.size(), replayedOrder.size());
+        for (int i = 0; i < originalOrder.size(); i++) {
+            assertEquals(originalOrder.get(i).getName(), replayedOrder.get(i).getName());
+            assertEquals(originalOrder.get(i).getHand(), replayedOrder.get(i).getHand());
+            assertEquals(originalOrder.get(i).getLeftTurns(), replayedOrder.get(i).getLeftTurns());
+        }
+    }
+
+    @Test
+    void replayTurnsZeroGivesTheDeal() throws IOException {
+        GameRecord record = firstRecord(record(2, 1, 5L));
+
+        GameTable table = replayer.replayTurns(record, 0);
+
+        for (Player player : table.getTurnOrder()) {
+            assertEquals(6, player.getHand().size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> replayer.replayTurns(record, -1));
+        assertThrows(IllegalArgumentException.class, () -> replayer.replayTurns(null, 1));
+    }
+
+    @Test
+    void missingDecisionsAreReportedAsDivergence() throws IOException {
+        GameRecord record = firstRecord(record(2, 1, 11L));
+        List<GameEvent> truncated = new ArrayList<>(record.getEvents());
+        int decisions = 0;
+        for (int i = truncated.size() - 1; i >= 0 && decisions < 3; i--) {
+            if (truncated.get(i).getType() == GameEventType.DECISION) {
+                truncated.remove(i);
+                decisions++;
+            }
+        }
+        GameRecord tampered = new GameRecord(record.getSeed(), record.getPlayers(), truncated,
+            record.getWinnerSeat(), record.getTurns());
+
+        ReplayResult result = replayer.replay(tampered);
+
+        assertFalse(result.matches());
+        assertEquals(record.getDecisions().size() - 3, result.getDivergence());
+    }
+
+    @Test
+    void unusedDecisionsAreReportedAsDivergence() throws IOException {
+        GameRecord record = firstRecord(record(2, 1, 12L));
+        List<GameEvent> padded = new ArrayList<>(record.getEvents());
+        padded.add(new GameEvent(GameEventType.DECISION, 0, DecisionKind.PLAY_NOPE.ordinal(), 0));
+        GameRecord tampered = new GameRecord(record.getSeed(), record.getPlayers(), padded,
+            record.getWinnerSeat(), record.getTurns());
+
+        ReplayResult result = replayer.replay(tampered);
+
+        assertFalse(result.matches());
+        assertEquals(record.getDecisions().size(), result.getDivergence());
+    }
+
+    @Test
+    void journalEndingInsideAGameIsRejected() throws IOException {
+        Path file = dir.resolve("cut.ekj");
+        try (GameJournalWriter writer = new GameJournalWriter(file)) {
+            writer.append(GameEventType.GAME_START, 2, -1, 1L);
+            writer.append(GameEventType.TURN, 0, -1, 0);
+        }
+        try (GameJournalReader reader = new GameJournalReader(file)) {
+            assertThrows(IOException.class, () -> GameRecord.read(reader));
+        }
+    }
+}
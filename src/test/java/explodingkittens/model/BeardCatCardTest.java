@@ -1,5 +1,6 @@
 package explodingkittens.model;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -11,9 +12,12 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -56,6 +60,7 @@ public class BeardCatCardTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         MockitoAnnotations.openMocks(this);
         card = new BeardCatCard();
         turnOrder = new ArrayList<>();
@@ -63,8 +68,8 @@ public class BeardCatCardTest {
         player1Hand = new ArrayList<>();
         player2Hand = new ArrayList<>();
         
-        when(player1.getHand()).thenReturn(player1Hand);
-        when(player2.getHand()).thenReturn(player2Hand);
+        stubHand(player1, player1Hand);
+        stubHand(player2, player2Hand);
         when(player1.getName()).thenReturn("Player1");
         when(player2.getName()).thenReturn("Player2");
         when(player1.getLeftTurns()).thenReturn(1);
@@ -76,6 +81,11 @@ public class BeardCatCardTest {
         CatCard.setInputHandler(inputHandler);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     @Test
     void testConstructor() {
         assertNotNull(card);
@@ -98,8 +108,7 @@ public class BeardCatCardTest {
         when(inputHandler.selectCardIndex(anyInt())).thenReturn(0);
         
         // Execute and verify
-        CatCard.CatCardEffect effect = assertThrows(CatCard.CatCardEffect.class, () -> 
-            card.effect(turnOrder, gameDeck));
+        CatCardEffect effect = card.resolve(turnOrder, gameDeck);
         
         assertEquals(player2.getName(), effect.getTargetPlayerName());
         assertEquals(player2Hand, effect.getTargetPlayerHand());
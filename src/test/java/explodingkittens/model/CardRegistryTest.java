@@ -0,0 +1,73 @@
+package explodingkittens.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+class CardRegistryTest {
+
+    @Test
+    void statelessTypesHaveOneInstance() {
+        assertSame(CardRegistry.get(CardType.SKIP), CardRegistry.get(CardType.SKIP));
+        assertEquals(CardType.NOPE, CardRegistry.get(CardType.NOPE).getType());
+        assertTrue(CardRegistry.isShared(CardType.EXPLODING_KITTEN));
+    }
+
+    @Test
+    void statefulTypesAreNotShared() {
+        assertFalse(CardRegistry.isShared(CardType.ATTACK));
+        assertFalse(CardRegistry.isShared(CardType.FAVOR));
+        assertThrows(IllegalArgumentException.class, () -> CardRegistry.get(CardType.SNATCH));
+        assertThrows(IllegalArgumentException.class, () -> CardRegistry.get(CardType.CAT_CARD));
+    }
+
+    @Test
+    void catCardsAreKeyedByCatType() {
+        for (CatType type : CatType.values()) {
+            assertEquals(type, CardRegistry.get(type).getCatType());
+        }
+        assertTrue(CardRegistry.get(CatType.TACOCAT) instanceof TacoCatCard);
+        assertThrows(IllegalArgumentException.class, () -> CardRegistry.get((CatType) null));
+    }
+
+    @Test
+    void copySharesStatelessAndClonesStatefulCards() {
+        Card skip = new SkipCard();
+        Card attack = new AttackCard();
+        assertSame(skip, skip.copy());
+        assertNotSame(attack, attack.copy());
+    }
+
+    @Test
+    void baseDeckUsesFewInstances() {
+        Deck deck = new Deck();
+        deck.initializeBaseDeck(4);
+        Map<Card, Boolean> distinct = new IdentityHashMap<>();
+        for (Card card : deck.getCards()) {
+            distinct.put(card, Boolean.TRUE);
+        }
+        // 15 shared kinds plus one instance per stateful copy (2 Attack, 2 See The Future,
+        // 2 Draw From Bottom, 1 Favor, 1 Snatch)
+        assertEquals(23, distinct.size());
+        assertTrue(deck.validateDeck(4));
+    }
+
+    @Test
+    void sharedCatPairIsFound() {
+        CatCard tacocat = CardRegistry.get(CatType.TACOCAT);
+        List<Card> hand = new ArrayList<>();
+        hand.add(tacocat);
+        hand.add(tacocat);
+        CatCard[] pair = tacocat.findCatCardPair(hand);
+        assertSame(tacocat, pair[0]);
+        assertSame(tacocat, pair[1]);
+    }
+}
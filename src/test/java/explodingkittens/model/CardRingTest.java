@@ -0,0 +1,213 @@
+package explodingkittens.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+class CardRingTest {
+    private CardRing ring;
+    private List<Card> reference;
+
+    @BeforeEach
+    void setUp() {
+        ring = new CardRing();
+        reference = new ArrayList<>();
+    }
+
+    private Card card(int i) {
+        return i % 2 == 0 ? new SkipCard() : new AttackCard();
+    }
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(17L);
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(6);
+            if (op < 2 || reference.isEmpty()) {
+                Card card = card(step);
+                int index = random.nextInt(reference.size() + 1);
+                ring.add(index, card);
+                reference.add(index, card);
+            }
+            else if (op == 2) {
+                assertSame(reference.remove(0), ring.removeFirst());
+            }
+            else if (op == 3) {
+                assertSame(reference.remove(reference.size() - 1), ring.removeLast());
+            }
+            else if (op == 4) {
+                int index = random.nextInt(reference.size());
+                assertSame(reference.remove(index), ring.remove(index));
+            }
+            else {
+                int count = random.nextInt(reference.size() + 1);
+                for (int i = 0; i < count; i++) {
+                    reference.add(reference.remove(0));
+                }
+                ring.rotate(count);
+            }
+            assertEquals(reference, ring);
+        }
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            ring.addFirst(card(i));
+            ring.addLast(card(i));
+        }
+        assertEquals(200, ring.size());
+    }
+
+    @Test
+    void rotateOnFullRingKeepsAllCards() {
+        CardRing full = new CardRing(16);
+        for (int i = 0; i < 16; i++) {
+            Card card = card(i);
+            full.add(card);
+            reference.add(card);
+        }
+        full.rotate(5);
+        for (int i = 0; i < 5; i++) {
+            reference.add(reference.remove(0));
+        }
+        assertEquals(reference, full);
+    }
+
+    @Test
+    void emptyRingRejectsRemoval() {
+        assertThrows(NoSuchElementException.class, () -> ring.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> ring.removeLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.add(1, new SkipCard()));
+    }
+
+    @Test
+    void clearEmptiesRing() {
+        ring.add(new SkipCard());
+        ring.add(new AttackCard());
+        ring.clear();
+        assertTrue(ring.isEmpty());
+        ring.add(new SkipCard());
+        assertEquals(CardType.SKIP, ring.get(0).getType());
+    }
+
+    @Test
+    void iteratorFailsFastOnStructuralChange() {
+        ring.add(new SkipCard());
+        ring.add(new AttackCard());
+        Iterator<Card> iterator = ring.iterator();
+        iterator.next();
+        ring.removeFirst();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void countsAndKnownFlagsFollowEveryChange() {
+        List<Boolean> knownReference = new ArrayList<>();
+        Random random = new Random(17L);
+        for (int step = 0; step < 2000; step++) {
+            int op = random.nextInt(6);
+            if (op == 0 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                Card card = card(random.nextInt(2));
+                ring.add(index, card);
+                reference.add(index, card);
+                knownReference.add(index, false);
+            }
+            else if (op == 1) {
+                int index = random.nextInt(reference.size());
+                ring.remove(index);
+                reference.remove(index);
+                knownReference.remove(index);
+            }
+            else if (op == 2) {
+                int index = random.nextInt(reference.size());
+                ring.reveal(0, index);
+                knownReference.set(index, true);
+            }
+            else if (op == 3) {
+                int count = random.nextInt(reference.size() + 1);
+                ring.rotate(count);
+                for (int i = 0; i < count; i++) {
+                    reference.add(reference.remove(0));
+                    knownReference.add(knownReference.remove(0));
+                }
+            }
+            else if (op == 4) {
+                ring.removeLast();
+                reference.remove(reference.size() - 1);
+                knownReference.remove(knownReference.size() - 1);
+            }
+            else {
+                int index = random.nextInt(reference.size());
+                Card card = card(random.nextInt(2));
+                ring.set(index, card);
+                reference.set(index, card);
+                knownReference.set(index, false);
+            }
+            assertEquals(reference, ring);
+            int skips = 0;
+            int knownSkips = 0;
+            int known = 0;
+            for (int i = 0; i < reference.size(); i++) {
+                boolean skip = reference.get(i).getType() == CardType.SKIP;
+                assertEquals(knownReference.get(i), ring.isKnown(0, i));
+                skips += skip ? 1 : 0;
+                knownSkips += skip && knownReference.get(i) ? 1 : 0;
+                known += knownReference.get(i) ? 1 : 0;
+            }
+            assertEquals(skips, ring.count(CardType.SKIP));
+            assertEquals(reference.size() - skips, ring.count(CardType.ATTACK));
+            assertEquals(knownSkips, ring.countKnown(0, CardType.SKIP));
+            assertEquals(known, ring.knownSize(0));
+        }
+    }
+
+    @Test
+    void forgetAndClearResetKnowledge() {
+        ring.add(new SkipCard());
+        ring.add(new AttackCard());
+        ring.reveal(1, 1);
+        ring.forget();
+        assertFalse(ring.isKnown(1, 1));
+        assertEquals(0, ring.countKnown(1, CardType.ATTACK));
+
+        ring.reveal(0, 0);
+        ring.clear();
+        assertEquals(0, ring.knownSize(0));
+        assertFalse(ring.hasKnowledge());
+        assertEquals(0, ring.count(CardType.SKIP));
+    }
+
+    @Test
+    void observersKnowOnlyWhatTheySaw() {
+        ring.add(new SkipCard());
+        ring.add(new AttackCard());
+        ring.reveal(0, 0);
+        ring.reveal(2, 1);
+
+        assertTrue(ring.isKnown(0, 0));
+        assertFalse(ring.isKnown(2, 0));
+        assertFalse(ring.isKnown(1, 1));
+        assertEquals(0b101L, ring.knownBy(0) | ring.knownBy(1));
+        assertEquals(1, ring.countKnown(2, CardType.ATTACK));
+        assertEquals(0, ring.countKnown(0, CardType.ATTACK));
+        assertEquals(0, ring.knownSize(1));
+
+        ring.removeFirst();
+        assertEquals(0, ring.knownSize(0));
+        assertEquals(1, ring.knownSize(2));
+        assertTrue(ring.isKnown(2, 0));
+    }
+}
@@ -1,7 +1,10 @@
 package explodingkittens.model;
 
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
 import explodingkittens.controller.ConsoleCatCardStealInputHandler;
 import explodingkittens.controller.CatCardStealInputHandler;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -9,7 +12,7 @@ import org.junit.jupiter.api.Assertions;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import java.util.ArrayList;
@@ -31,6 +34,7 @@ class CatCardTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         turnOrder = new ArrayList<>();
         gameDeck = new Deck();
         currentPlayer = new Player("Player1");
@@ -44,6 +48,11 @@ class CatCardTest {
         catCard3 = new CatCard(CatType.BEARD_CAT);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     private void setupInputHandler(String input) {
         // Create a new Scanner with the input string and UTF-8 encoding
         Scanner scanner = new Scanner(
@@ -62,15 +71,15 @@ class CatCardTest {
     }
 
     @Test
-    @DisplayName("Test CatCardEffect exception properties")
-    void testCatCardEffectException() {
+    @DisplayName("Test CatCardEffect properties")
+    void testCatCardEffectProperties() {
         CatCard card1 = new CatCard(CatType.TACOCAT);
         CatCard card2 = new CatCard(CatType.TACOCAT);
         CatCard card3 = new CatCard(CatType.TACOCAT);
         Player target = new Player("Target");
         target.receiveCard(new SkipCard());
 
-        CatCard.CatCardEffect effect = new CatCard.CatCardEffect(
+        CatCardEffect effect = new CatCardEffect(
             card1, card2, card3, target.getName(), CardType.ATTACK);
 
         assertEquals(card1, effect.getFirstCard());
@@ -81,14 +90,14 @@ class CatCardTest {
     }
 
     @Test
-    @DisplayName("Test CatCardEffect exception with null third card")
-    void testCatCardEffectExceptionWithNullThirdCard() {
+    @DisplayName("Test CatCardEffect with null third card")
+    void testCatCardEffectWithNullThirdCard() {
         CatCard card1 = new CatCard(CatType.TACOCAT);
         CatCard card2 = new CatCard(CatType.TACOCAT);
         Player target = new Player("Target");
         target.receiveCard(new SkipCard());
 
-        CatCard.CatCardEffect effect = new CatCard.CatCardEffect(
+        CatCardEffect effect = new CatCardEffect(
             card1, card2, null, target.getName(), null);
 
         assertEquals(card1, effect.getFirstCard());
@@ -136,17 +145,12 @@ class CatCardTest {
         currentPlayer.receiveCard(catCard2);
         targetPlayer.receiveCard(new SkipCard());
         
-        try {
-            catCard1.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            assertEquals(catCard1, effect.getFirstCard());
-            assertEquals(catCard2, effect.getSecondCard());
-            assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
-            assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
-            assertEquals(0, effect.getTargetCardIndex());
-        }
+        CatCardEffect effect = catCard1.resolve(turnOrder, gameDeck);
+        assertEquals(catCard1, effect.getFirstCard());
+        assertEquals(catCard2, effect.getSecondCard());
+        assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
+        assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
+        assertEquals(0, effect.getTargetCardIndex());
     }
 
     @Test
@@ -158,17 +162,12 @@ class CatCardTest {
         currentPlayer.receiveCard(new CatCard(CatType.TACOCAT));
         targetPlayer.receiveCard(new SkipCard());
         
-        try {
-            catCard1.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            assertEquals(catCard1, effect.getFirstCard());
-            assertEquals(catCard2, effect.getSecondCard());
-            assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
-            assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
-            assertEquals(0, effect.getTargetCardIndex());
-        }
+        CatCardEffect effect = catCard1.resolve(turnOrder, gameDeck);
+        assertEquals(catCard1, effect.getFirstCard());
+        assertEquals(catCard2, effect.getSecondCard());
+        assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
+        assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
+        assertEquals(0, effect.getTargetCardIndex());
     }
 
     @Test
@@ -219,17 +218,12 @@ class CatCardTest {
         targetPlayer.receiveCard(new AttackCard());
         targetPlayer.receiveCard(new FavorCard());
         
-        try {
-            catCard1.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            assertEquals(catCard1, effect.getFirstCard());
-            assertEquals(catCard2, effect.getSecondCard());
-            assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
-            assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
-            assertEquals(1, effect.getTargetCardIndex());
-        }
+        CatCardEffect effect = catCard1.resolve(turnOrder, gameDeck);
+        assertEquals(catCard1, effect.getFirstCard());
+        assertEquals(catCard2, effect.getSecondCard());
+        assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
+        assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
+        assertEquals(1, effect.getTargetCardIndex());
     }
 
     @Test
@@ -399,17 +393,11 @@ class CatCardTest {
         setupInputHandler("1\n1\n2\n2\n");
 
         // Test play method
-        try {
-            catCard1.play(currentPlayer, turnOrder);
-            fail("Should throw CatCardEffect");
-        }
-        catch (CatCard.CatCardEffect effect) {
-            assertEquals(catCard1, effect.getFirstCard());
-            assertEquals(catCard2, effect.getSecondCard());
-            assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
-            assertEquals(targetPlayer.getHand(), effect.getTargetPlayerHand());
-            assertEquals(0, effect.getTargetCardIndex());
-        }
+        catCard1.play(currentPlayer, turnOrder);
+
+        assertEquals(1, currentPlayer.getHandSize());
+        assertEquals(CardType.SKIP, currentPlayer.getRealHand().get(0).getType());
+        assertFalse(targetPlayer.hasCards());
     }
 
     @Test
@@ -545,17 +533,17 @@ class CatCardTest {
         CatCard card3 = new CatCard(CatType.BEARD_CAT);
 
         // requestedCardType 为 CAT_CARD，requestedCatType 应为 card1.getCatType()
-        CatCard.CatCardEffect effect1 = new CatCard.CatCardEffect(
+        CatCardEffect effect1 = new CatCardEffect(
             card1, card2, card3, "Player1", CardType.CAT_CARD);
         assertEquals(CatType.TACOCAT, effect1.getRequestedCatType());
 
         // requestedCardType 为 ATTACK，requestedCatType 应为 null
-        CatCard.CatCardEffect effect2 = new CatCard.CatCardEffect(
+        CatCardEffect effect2 = new CatCardEffect(
             card1, card2, card3, "Player1", CardType.ATTACK);
         assertNull(effect2.getRequestedCatType());
 
         // requestedCardType 为 null，requestedCatType 应为 null
-        CatCard.CatCardEffect effect3 = new CatCard.CatCardEffect(
+        CatCardEffect effect3 = new CatCardEffect(
             card1, card2, card3, "Player1", null);
         assertNull(effect3.getRequestedCatType());
     }
@@ -568,14 +556,14 @@ class CatCardTest {
         target.receiveCard(new SkipCard());
 
         // 构造 targetPlayerHand 不为 null 的 effect
-        CatCard.CatCardEffect effect1 = new CatCard.CatCardEffect(
+        CatCardEffect effect1 = new CatCardEffect(
             card1, card2, target, 0);
         List<Card> handCopy = effect1.getTargetPlayerHand();
         assertNotNull(handCopy);
         assertEquals(target.getHand(), handCopy);
         assertNotSame(target.getHand(), handCopy);
 
-        CatCard.CatCardEffect effect2 = new CatCard.CatCardEffect(
+        CatCardEffect effect2 = new CatCardEffect(
             card1, card2, null, "Player1", CardType.ATTACK);
         assertNull(effect2.getTargetPlayerHand());
     }
@@ -611,14 +599,9 @@ class CatCardTest {
         // Set up input handler
         setupInputHandler("1\n1\n2\n2\n");
         
-        try {
-            spyCard.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            // Verify that validateInputHandler was called
-            Mockito.verify(spyCard, Mockito.times(1)).validateInputHandler();
-        }
+        CatCardEffect effect = spyCard.resolve(turnOrder, gameDeck);
+        // Verify that validateInputHandler was called
+        Mockito.verify(spyCard, Mockito.times(1)).validateInputHandler();
     }
 
     @Test
@@ -635,14 +618,9 @@ class CatCardTest {
         // Set up input handler
         setupInputHandler("1\n1\n2\n2\n");
         
-        try {
-            spyCard.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            // Verify that validatePlayerTurns was called
-            Mockito.verify(spyCard, Mockito.times(1)).validatePlayerTurns(Mockito.any());
-        }
+        CatCardEffect effect = spyCard.resolve(turnOrder, gameDeck);
+        // Verify that validatePlayerTurns was called
+        Mockito.verify(spyCard, Mockito.times(1)).validatePlayerTurns(Mockito.any());
     }
 
     @Test
@@ -659,13 +637,29 @@ class CatCardTest {
         // Set up input handler
         setupInputHandler("1\n1\n2\n2\n");
         
-        try {
-            spyCard.effect(turnOrder, gameDeck);
-            fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            // Verify that validateTargetPlayer was called
-            Mockito.verify(spyCard, Mockito.times(1)).validateTargetPlayer(Mockito.any());
-        }
-    }
-}
\ No newline at end of file
+        CatCardEffect effect = spyCard.resolve(turnOrder, gameDeck);
+        // Verify that validateTargetPlayer was called
+        Mockito.verify(spyCard, Mockito.times(1)).validateTargetPlayer(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Test resolve returns the steal effect without throwing")
+    void testResolveReturnsEffect() {
+        setupInputHandler("1\n1\n");
+        currentPlayer.receiveCard(catCard1);
+        currentPlayer.receiveCard(catCard2);
+        targetPlayer.receiveCard(new SkipCard());
+
+        CatCardEffect effect = catCard1.resolve(turnOrder, gameDeck);
+
+        assertEquals(catCard1, effect.getFirstCard());
+        assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
+        assertEquals(0, effect.getTargetCardIndex());
+    }
+
+    @Test
+    @DisplayName("Test resolve of a non-cat card returns no effect")
+    void testResolveOfPlainCardReturnsNull() {
+        assertNull(new DefuseCard().resolve(turnOrder, gameDeck));
+    }
+}
@@ -0,0 +1,147 @@
+package explodingkittens.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class CompactDeckTest {
+    private Deck deck;
+
+    @BeforeEach
+    void setUp() {
+        deck = new Deck();
+        deck.initializeBaseDeck(3);
+        deck.addExplodingKittens(2);
+        deck.shuffle(new Random(5L));
+    }
+
+    private static List<String> describe(List<Card> cards) {
+        List<String> names = new ArrayList<>();
+        for (Card card : cards) {
+            names.add(card instanceof CatCard
+                ? ((CatCard) card).getCatType().name() : card.getType().name());
+        }
+        return names;
+    }
+
+    @Test
+    void roundTripKeepsOrder() {
+        CompactDeck compact = CompactDeck.of(deck);
+
+        assertEquals(deck.size(), compact.size());
+        assertEquals(describe(deck.getCards()), describe(compact.getCards()));
+        assertEquals(describe(deck.getCards()), describe(compact.toDeck().getCards()));
+    }
+
+    @Test
+    void drawAndPeekFollowDeck() {
+        CompactDeck compact = CompactDeck.of(deck);
+
+        assertEquals(CompactDeck.encode(deck.peekTop()), compact.peek(0));
+        assertEquals(CompactDeck.encode(deck.drawOne()), compact.drawOne());
+        assertEquals(CompactDeck.encode(deck.removeBottomCard()), compact.removeBottomCard());
+        assertEquals(deck.size(), compact.size());
+    }
+
+    @Test
+    void insertAtMatchesDeck() {
+        CompactDeck compact = CompactDeck.of(deck);
+        Card kitten = new ExplodingKittenCard();
+
+        deck.insertAt(kitten, 3);
+        compact.insertAt(CompactDeck.encode(kitten), 3);
+        deck.insertAt(kitten, deck.size());
+        compact.insertAt(CompactDeck.encode(kitten), compact.size());
+
+        assertEquals(describe(deck.getCards()), describe(compact.getCards()));
+    }
+
+    @Test
+    void insertGrowsEmptyDeck() {
+        CompactDeck compact = new CompactDeck(0);
+        for (int i = 0; i < 100; i++) {
+            compact.addCard(CompactDeck.encode(CardType.SKIP));
+        }
+        assertEquals(100, compact.count(CompactDeck.encode(CardType.SKIP)));
+    }
+
+    @Test
+    void switchHalvesMatchesDeckForOddAndEvenSizes() {
+        for (int trim = 0; trim < 2; trim++) {
+            if (trim == 1) {
+                deck.drawOne();
+            }
+            CompactDeck compact = CompactDeck.of(deck);
+            Deck expected = new Deck(deck);
+            expected.switchTopAndBottomHalf();
+            compact.switchTopAndBottomHalf();
+            assertEquals(describe(expected.getCards()), describe(compact.getCards()));
+        }
+    }
+
+    @Test
+    void moveTopToBottomMatchesDeck() {
+        CompactDeck compact = CompactDeck.of(deck);
+
+        deck.moveTopToBottom(3);
+        compact.moveTopToBottom(3);
+
+        assertEquals(describe(deck.getCards()), describe(compact.getCards()));
+        assertThrows(IllegalArgumentException.class, () -> compact.moveTopToBottom(-1));
+    }
+
+    @Test
+    void shuffleKeepsCards() {
+        CompactDeck compact = CompactDeck.of(deck);
+        byte kitten = CompactDeck.encode(CardType.EXPLODING_KITTEN);
+
+        compact.shuffle(new Random(11L));
+
+        assertEquals(deck.size(), compact.size());
+        assertEquals(2, compact.count(kitten));
+        assertEquals(5, compact.count(CompactDeck.encode(CatType.FERAL_CAT)));
+    }
+
+    @Test
+    void copyFromIsIndependent() {
+        CompactDeck original = CompactDeck.of(deck);
+        CompactDeck target = new CompactDeck(4);
+
+        target.copyFrom(original);
+        original.drawOne();
+
+        assertEquals(original.size() + 1, target.size());
+        assertEquals(describe(deck.getCards()), describe(target.getCards()));
+        assertEquals(describe(target.getCards()), describe(target.copy().getCards()));
+    }
+
+    @Test
+    void codesDecodeToSharedOrNewCards() {
+        assertSame(CardRegistry.get(CardType.NOPE), CompactDeck.decode(CompactDeck.encode(CardType.NOPE)));
+        assertSame(CardRegistry.get(CatType.TACOCAT),
+            CompactDeck.decode(CompactDeck.encode(CatType.TACOCAT)));
+        assertTrue(CompactDeck.decode(CompactDeck.encode(CardType.ATTACK)) instanceof AttackCard);
+        assertEquals(CardType.CAT_CARD, CompactDeck.typeOf(CompactDeck.encode(CatType.BEARD_CAT)));
+        assertNull(CompactDeck.catTypeOf(CompactDeck.encode(CardType.SKIP)));
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        CompactDeck empty = new CompactDeck();
+        assertThrows(IllegalStateException.class, empty::drawOne);
+        assertThrows(IllegalStateException.class, empty::removeBottomCard);
+        assertThrows(IllegalArgumentException.class, () -> empty.peek(0));
+        assertThrows(IllegalArgumentException.class, () -> empty.insertAt((byte) 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> CompactDeck.decode((byte) 100));
+        assertThrows(IllegalArgumentException.class, () -> CompactDeck.encode(CardType.CAT_CARD));
+        assertThrows(IllegalArgumentException.class, () -> CompactDeck.of(null));
+        assertThrows(IllegalArgumentException.class, () -> new CompactDeck(-1));
+    }
+}
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
 import explodingkittens.exceptions.EmptyDeckException;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -60,7 +62,9 @@ public class DeckTest {
         
         assertNotSame(deck, copyDeck);
         assertEquals(deck.size(), copyDeck.size());
-        assertNotSame(deck.getCards().get(0), copyDeck.getCards().get(0));
+        // Stateless cards are shared, stateful ones are cloned
+        assertSame(deck.getCards().get(0), copyDeck.getCards().get(0));
+        assertNotSame(deck.getCards().get(1), copyDeck.getCards().get(1));
     }
 
     @Test
@@ -257,6 +261,20 @@ public class DeckTest {
         assertNotEquals(beforeShuffle, afterShuffle);
     }
 
+    @Test
+    void testShuffleUsesDeckRandomSource() {
+        Deck first = new Deck();
+        first.initializeBaseDeck(2);
+        Deck second = new Deck(first);
+        first.setRandom(new Random(7));
+        second.setRandom(new Random(7));
+
+        first.shuffle();
+        second.shuffle(null);
+
+        assertEquals(first.getCards(), second.getCards());
+    }
+
     @Test
     void testShuffleWithNullRandom() {
         deck.addCards(skipCard, 5);
@@ -410,37 +428,6 @@ public class DeckTest {
         assertThrows(IllegalArgumentException.class, () -> deck.addExplodingKittens(-1));
     }
 
-    @Test
-    void testGetCardTypeKey() {
-        assertEquals("CatCard_TACOCAT", invokeGetCardTypeKey(new CatCard(CatType.TACOCAT)));
-        assertEquals("DefuseCard", invokeGetCardTypeKey(new DefuseCard()));
-        assertEquals("AttackCard", invokeGetCardTypeKey(new AttackCard()));
-        assertEquals("SkipCard", invokeGetCardTypeKey(new SkipCard()));
-        assertEquals("ShuffleCard", invokeGetCardTypeKey(new ShuffleCard()));
-        assertEquals("See_the_futureCard", invokeGetCardTypeKey(new SeeTheFutureCard()));
-        assertEquals("NopeCard", invokeGetCardTypeKey(new NopeCard()));
-        assertEquals("Exploding_kittenCard", invokeGetCardTypeKey(new ExplodingKittenCard()));
-        assertEquals("UnknownCard", invokeGetCardTypeKey(new Card(CardType.FAVOR) {
-            public Card clone() { 
-                return this; 
-            }
-            public void effect(java.util.List<Player> t, Deck d) {
-                // Empty effect
-            }
-        }));
-    }
-
-    private String invokeGetCardTypeKey(Card card) {
-        try {
-            java.lang.reflect.Method m = Deck.class.getDeclaredMethod("getCardTypeKey", Card.class);
-            m.setAccessible(true);
-            return (String) m.invoke(deck, card);
-        } 
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     @Test
     void testValidateCatCards() {
         // ✅ Test case 1: should be valid
@@ -495,64 +482,44 @@ public class DeckTest {
 
     @Test
     void testValidateDeckWithInvalidMainCards() {
-        Map<String, Integer> counts = new HashMap<>();
-        counts.put("DefuseCard", 3);
-        counts.put("AttackCard", 2);
-        counts.put("SkipCard", 2);
-        counts.put("ShuffleCard", 2);
-        counts.put("See_the_futureCard", 2);
-        counts.put("NopeCard", 4);
-        for (CatType type : CatType.values()) {
-            counts.put("CatCard_" + type.name(), 5);
-        }
-
-        // Test with valid counts first
-        assertTrue(invokeValidateMainCards(counts));
-
-        // Test invalid AttackCard count
-        counts.put("AttackCard", 1);
-        assertFalse(invokeValidateMainCards(counts));
-        counts.put("AttackCard", 2); // Reset
-
-        // Test invalid SkipCard count
-        counts.put("SkipCard", 1);
-        assertFalse(invokeValidateMainCards(counts));
-        counts.put("SkipCard", 2); // Reset
-
-        // Test invalid ShuffleCard count
-        counts.put("ShuffleCard", 1);
-        assertFalse(invokeValidateMainCards(counts));
-        counts.put("ShuffleCard", 2); // Reset
-
-        // Test invalid SeeTheFutureCard count
-        counts.put("See_the_futureCard", 1);
-        assertFalse(invokeValidateMainCards(counts));
-        counts.put("See_the_futureCard", 2); // Reset
+        CardType[] mainTypes = {
+            CardType.ATTACK, CardType.SKIP, CardType.SHUFFLE, CardType.SEE_THE_FUTURE, CardType.NOPE
+        };
+        for (CardType type : mainTypes) {
+            deck.initializeBaseDeck(2);
+            assertTrue(deck.validateDeck(2));
 
-        // Test invalid NopeCard count
-        counts.put("NopeCard", 3);
-        assertFalse(invokeValidateMainCards(counts));
+            for (int i = 0; i < deck.size(); i++) {
+                if (deck.get(i).getType() == type) {
+                    deck.getRealCards().remove(i);
+                    break;
+                }
+            }
+            assertFalse(deck.validateDeck(2), type + " count should be checked");
+        }
     }
 
     @Test
     void testValidateDeckWithInvalidCatCards() {
-        Map<String, Integer> counts = new HashMap<>();
-        counts.put("DefuseCard", 3);
-        counts.put("AttackCard", 3);
-        counts.put("SkipCard", 3);
-        counts.put("ShuffleCard", 4);
-        counts.put("SeeTheFutureCard", 4);
-        counts.put("NopeCard", 4);
-
-        // Test with invalid cat card count
         for (CatType type : CatType.values()) {
-            counts.put("CatCard_" + type.name(), 4); // Should be 5
+            deck.initializeBaseDeck(3);
+            deck.addCard(new CatCard(type));
+            assertFalse(deck.validateDeck(3), type + " count should be checked");
         }
-        assertFalse(invokeValidateCatCards(counts));
+        deck.initializeBaseDeck(3);
+        deck.getRealCards().removeIf(card -> card instanceof CatCard
+            && ((CatCard) card).getCatType() == CatType.TACOCAT);
+        assertFalse(deck.validateDeck(3));
+    }
 
-        // Test with missing cat type
-        counts.remove("CatCard_TACOCAT");
-        assertFalse(invokeValidateCatCards(counts));
+    @Test
+    void testValidateDeckIgnoresOtherCardTypes() {
+        deck.initializeBaseDeck(4);
+        deck.addExplodingKittens(3);
+        deck.addCard(new ReverseCard());
+
+        assertTrue(deck.validateDeck(4));
+        assertFalse(deck.validateDeck(3));
     }
 
     @Test
@@ -661,44 +628,18 @@ public class DeckTest {
     }
 
     @Test
-    void testValidateDeckPrintsDebugInfo() throws UnsupportedEncodingException {
-        // 保存原始的 System.out
+    void testValidateDeckPrintsNothing() throws UnsupportedEncodingException {
         PrintStream originalOut = System.out;
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8.name()));
 
         try {
-            // Test invalid defuse count
-            deck.clear();
             deck.initializeBaseDeck(2);
             deck.getRealCards().removeIf(card -> card instanceof DefuseCard);
             assertFalse(deck.validateDeck(2));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("DEBUG: Card counts"));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("Invalid defuse count"));
-            
-            // 清空输出
-            outContent.reset();
-            
-            // Test invalid main cards
-            deck.clear();
             deck.initializeBaseDeck(2);
-            deck.getRealCards().removeIf(card -> card instanceof AttackCard);
-            deck.addCard(shuffleCard);  // 使用 shuffleCard 字段
-            assertFalse(deck.validateDeck(2));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("DEBUG: Card counts"));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("Invalid main cards"));
-            
-            // 清空输出
-            outContent.reset();
-            
-            // Test invalid cat cards
-            deck.clear();
-            deck.initializeBaseDeck(2);
-            deck.getRealCards().removeIf(card -> card instanceof CatCard);
-            deck.addCard(catCard);
-            assertFalse(deck.validateDeck(2));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("DEBUG: Card counts"));
-            assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("Invalid cat cards"));
+            assertTrue(deck.validateDeck(2));
+            assertEquals("", outContent.toString(StandardCharsets.UTF_8));
         } 
         finally {
             System.setOut(originalOut);
@@ -716,39 +657,6 @@ public class DeckTest {
         }
     }
 
-    private boolean invokeValidateDefuse(Map<String, Integer> counts, int playerCount) {
-        try {
-            java.lang.reflect.Method m = Deck.class.getDeclaredMethod("validateDefuse", Map.class, int.class);
-            m.setAccessible(true);
-            return (boolean) m.invoke(deck, counts, playerCount);
-        } 
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private boolean invokeValidateMainCards(Map<String, Integer> counts) {
-        try {
-            java.lang.reflect.Method m = Deck.class.getDeclaredMethod("validateMainCards", Map.class);
-            m.setAccessible(true);
-            return (boolean) m.invoke(deck, counts);
-        } 
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private boolean invokeValidateCatCards(Map<String, Integer> counts) {
-        try {
-            java.lang.reflect.Method m = Deck.class.getDeclaredMethod("validateCatCards", Map.class);
-            m.setAccessible(true);
-            return (boolean) m.invoke(deck, counts);
-        } 
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     @Test
     void testCardCloneCatchBlockCoverageInCard() {
         Card card = new Card(CardType.ATTACK) {
@@ -776,4 +684,250 @@ public class DeckTest {
         // Test invalid boundaries
         assertThrows(IllegalArgumentException.class, () -> deck.addExplodingKittens(-1));  
     }
+
+    @Test
+    void testMoveTopToBottomKeepsOrder() {
+        deck.addCard(skipCard);
+        deck.addCard(attackCard);
+        deck.addCard(defuseCard);
+        deck.addCard(shuffleCard);
+
+        deck.moveTopToBottom(2);
+
+        List<Card> cards = deck.getCards();
+        assertEquals(CardType.DEFUSE, cards.get(0).getType());
+        assertEquals(CardType.SHUFFLE, cards.get(1).getType());
+        assertEquals(CardType.SKIP, cards.get(2).getType());
+        assertEquals(CardType.ATTACK, cards.get(3).getType());
+    }
+
+    @Test
+    void testMoveTopToBottomInvalidCount() {
+        deck.addCard(skipCard);
+        assertThrows(IllegalArgumentException.class, () -> deck.moveTopToBottom(-1));
+        assertThrows(IllegalArgumentException.class, () -> deck.moveTopToBottom(2));
+    }
+
+    @Test
+    void testDrawFromBothEndsAfterManyInsertions() {
+        for (int i = 0; i < 100; i++) {
+            deck.insertAt(i % 2 == 0 ? skipCard : attackCard, deck.size() / 2);
+        }
+        deck.insertAt(defuseCard, 0);
+        deck.addCard(shuffleCard);
+
+        assertEquals(102, deck.size());
+        assertEquals(CardType.DEFUSE, deck.drawOne().getType());
+        assertEquals(CardType.SHUFFLE, deck.removeBottomCard().getType());
+        assertEquals(100, deck.size());
+    }
+
+    @Test
+    void testCountCardsTracksEveryChange() {
+        deck.initializeBaseDeck(2);
+        deck.addExplodingKittens(1);
+        assertEquals(1, deck.countCards(CardType.EXPLODING_KITTEN));
+        assertEquals(30, deck.countCards(CardType.CAT_CARD));
+
+        Card top = deck.drawOne();
+        deck.removeBottomCard();
+        deck.getRealCards().add(new SkipCard());
+
+        int skips = 0;
+        for (Card card : deck.getCards()) {
+            skips += card.getType() == CardType.SKIP ? 1 : 0;
+        }
+        assertEquals(skips, deck.countCards(CardType.SKIP));
+        assertNotNull(top);
+    }
+
+    @Test
+    void testExplodingKittenChanceWithoutKnowledge() {
+        assertEquals(0, deck.getExplodingKittenChance(null));
+        deck.addCards(skipCard, 3);
+        deck.addExplodingKittens(1);
+
+        assertEquals(0.25, deck.getExplodingKittenChance(null), 1e-9);
+        assertEquals(0.25, deck.getChance(new Player("Alice"), CardType.EXPLODING_KITTEN, 3), 1e-9);
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> deck.getChance(null, CardType.EXPLODING_KITTEN, 4));
+    }
+
+    @Test
+    void testPeekMakesPositionsCertainForTheViewerOnly() {
+        Player viewer = new Player("Alice");
+        Player opponent = new Player("Bob");
+        deck.addCards(skipCard, 3);
+        deck.addExplodingKittens(1);
+        deck.moveTopToBottom(3);
+
+        List<Card> shown = deck.peek(viewer, 2);
+
+        assertEquals(2, shown.size());
+        assertEquals(CardType.EXPLODING_KITTEN, shown.get(0).getType());
+        assertTrue(deck.isKnown(viewer, 1));
+        assertEquals(1.0, deck.getExplodingKittenChance(viewer));
+        assertEquals(0.0, deck.getChance(viewer, CardType.EXPLODING_KITTEN, 1));
+        assertEquals(0.0, deck.getChance(viewer, CardType.EXPLODING_KITTEN, 2));
+        assertFalse(deck.isKnown(opponent, 0));
+        assertEquals(0.25, deck.getExplodingKittenChance(opponent), 1e-9);
+
+        deck.drawOne();
+        assertEquals(0.0, deck.getExplodingKittenChance(viewer));
+        assertFalse(deck.isKnown(viewer, 1));
+        assertThrows(IllegalArgumentException.class, () -> deck.peek(viewer, -1));
+    }
+
+    @Test
+    void testInsertedCardIsKnownToTheInserterUntilShuffle() {
+        Player inserter = new Player("Alice");
+        Player opponent = new Player("Bob");
+        deck.addCards(skipCard, 4);
+        deck.addExplodingKittens(1);
+        Card kitten = deck.removeBottomCard();
+
+        deck.insertAt(inserter, kitten, 2);
+
+        assertEquals(0.0, deck.getExplodingKittenChance(inserter));
+        assertEquals(1.0, deck.getChance(inserter, CardType.EXPLODING_KITTEN, 2));
+        assertFalse(deck.isKnown(opponent, 2));
+        assertEquals(0.2, deck.getChance(opponent, CardType.EXPLODING_KITTEN, 2), 1e-9);
+        assertEquals(0.2, deck.getExplodingKittenChance(null), 1e-9);
+        Deck copy = new Deck(deck);
+        assertTrue(copy.isKnown(inserter, 2));
+        assertFalse(copy.isKnown(opponent, 2));
+
+        deck.shuffle(new Random(1L));
+        assertFalse(deck.isKnown(inserter, 2));
+        assertEquals(0.2, deck.getExplodingKittenChance(inserter), 1e-9);
+    }
+
+    @Test
+    void testInsertWithoutObserverRevealsNothing() {
+        Player player = new Player("Alice");
+        deck.addCards(skipCard, 3);
+        deck.peek(player, 1);
+
+        deck.insertAt(CardRegistry.get(CardType.EXPLODING_KITTEN), 2);
+
+        assertFalse(deck.isKnown(player, 2));
+        assertEquals(1 / 3.0, deck.getChance(player, CardType.EXPLODING_KITTEN, 2), 1e-9);
+    }
+
+    @Test
+    void testKnowledgeMovesWithSwitchAndRotation() {
+        Player inserter = new Player("Alice");
+        deck.addCards(skipCard, 5);
+        deck.insertAt(inserter, CardRegistry.get(CardType.EXPLODING_KITTEN), 0);
+
+        deck.moveTopToBottom(1);
+        assertEquals(1.0, deck.getChance(inserter, CardType.EXPLODING_KITTEN, 5));
+
+        deck.switchTopAndBottomHalf();
+        assertEquals(1.0, deck.getChance(inserter, CardType.EXPLODING_KITTEN, 2));
+        assertEquals(0.0, deck.getExplodingKittenChance(inserter));
+    }
+
+    @Test
+    void testPeekIntoBufferShowsTopCards() {
+        Player viewer = new Player("Alice");
+        deck.addCards(skipCard, 2);
+        deck.addExplodingKittens(1);
+        Card[] buffer = new Card[3];
+
+        assertEquals(3, deck.peek(viewer, 3, buffer));
+        assertEquals(CardType.EXPLODING_KITTEN, buffer[2].getType());
+        assertTrue(deck.isKnown(viewer, 2));
+        assertEquals(1.0, deck.getChance(viewer, CardType.EXPLODING_KITTEN, 2));
+        assertFalse(deck.isKnown(new Player("Bob"), 2));
+
+        deck.drawOne();
+        deck.drawOne();
+        assertEquals(1, deck.peek(null, 3, buffer));
+        assertThrows(IllegalArgumentException.class, () -> deck.peek(viewer, 4, buffer));
+        assertThrows(IllegalArgumentException.class, () -> deck.peek(viewer, -1, buffer));
+    }
+
+    @Test
+    void testGetAndCursorReadWithoutRevealing() {
+        Player viewer = new Player("Alice");
+        deck.addCards(skipCard, 2);
+        deck.addExplodingKittens(1);
+        deck.peek(viewer, 1);
+
+        assertEquals(CardType.EXPLODING_KITTEN, deck.get(2).getType());
+        assertFalse(deck.isKnown(viewer, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.get(3));
+
+        Deck.Cursor cursor = deck.cursor(5);
+        assertThrows(IllegalStateException.class, () -> cursor.isKnown(viewer));
+        List<CardType> types = new ArrayList<>();
+        List<Boolean> known = new ArrayList<>();
+        while (cursor.hasNext()) {
+            types.add(cursor.next().getType());
+            known.add(cursor.isKnown(viewer));
+        }
+        assertEquals(List.of(CardType.SKIP, CardType.SKIP, CardType.EXPLODING_KITTEN), types);
+        assertEquals(List.of(true, false, false), known);
+        assertEquals(3, cursor.position());
+        assertThrows(NoSuchElementException.class, cursor::next);
+        assertThrows(IllegalArgumentException.class, () -> deck.cursor(-1));
+    }
+
+    @Test
+    void testCursorFailsFastWhenDeckChanges() {
+        deck.addCards(skipCard, 3);
+        Deck.Cursor cursor = deck.cursor(2);
+        cursor.next();
+
+        deck.drawOne();
+
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+    }
+
+    @Test
+    void testCursorFailsFastWhenDeckIsShuffled() {
+        deck.addCards(skipCard, 3);
+        Deck.Cursor cursor = deck.cursor(3);
+        cursor.next();
+
+        deck.shuffle(new Random(1));
+
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+    }
+
+    @Test
+    void testCompositionCountsCardAndCatTypes() {
+        deck.initializeBaseDeck(2);
+        deck.addExplodingKittens(1);
+
+        int[] composition = deck.getComposition();
+
+        assertEquals(CardType.values().length + CatType.values().length, composition.length);
+        assertEquals(3, composition[CardType.DEFUSE.ordinal()]);
+        assertEquals(1, composition[CardType.EXPLODING_KITTEN.ordinal()]);
+        assertEquals(30, composition[CardType.CAT_CARD.ordinal()]);
+        assertEquals(5, composition[CardType.values().length + CatType.TACOCAT.ordinal()]);
+        assertEquals(5, deck.countCats(CatType.FERAL_CAT));
+    }
+
+    @Test
+    void testCompositionFollowsEveryChange() {
+        deck.addCard(new CatCard(CatType.BEARD_CAT));
+        deck.insertAt(new CatCard(CatType.BEARD_CAT), 0);
+        deck.addCard(skipCard);
+        assertEquals(2, deck.countCats(CatType.BEARD_CAT));
+
+        deck.drawOne();
+        deck.removeBottomCard();
+        assertEquals(1, deck.countCats(CatType.BEARD_CAT));
+        assertEquals(Map.of("CatCard_BEARD_CAT", 1), deck.getCardCounts());
+
+        deck.getRealCards().set(0, skipCard);
+        assertEquals(0, deck.countCats(CatType.BEARD_CAT));
+        assertEquals(1, deck.countCards(CardType.SKIP));
+
+        deck.clear();
+        assertEquals(0, deck.getComposition()[CardType.SKIP.ordinal()]);
+    }
 }
@@ -53,7 +53,7 @@ class DrawFromBottomCardTest {
 
     @Test
     void testDrawFromEmptyDeckThrows() {
-        when(deck.getCards()).thenReturn(new ArrayList<>());
+        when(deck.isEmpty()).thenReturn(true);
         assertThrows(IllegalStateException.class, () -> card.effect(turnOrder, deck));
     }
 
@@ -172,7 +172,7 @@ class DrawFromBottomCardTest {
         verify(deck).removeBottomCard();
         verify(mockView).displayCardDrawnFromBottom(ek);
         verify(player).hasDefuse();
-        verify(player).setAlive(false);
+        mockedGameContext.verify(() -> GameContext.eliminatePlayer(player));
         verify(player, Mockito.times(2)).getName();
         verify(player).isAlive();
         verify(player).setLeftTurns(0);
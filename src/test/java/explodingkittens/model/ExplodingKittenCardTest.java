@@ -1,5 +1,7 @@
 package explodingkittens.model;
 
+import explodingkittens.controller.GameTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,11 +35,16 @@ public class ExplodingKittenCardTest {
         playerTurnOrder.add(player1);
         playerTurnOrder.add(player2);
         
-        GameContext.reset();
+        GameContext.bind(new GameTable());
         GameContext.setTurnOrder(playerTurnOrder);
         GameContext.setGameDeck(gameDeck);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     /**
      * Test that the card is created with correct type.
      */
@@ -1,5 +1,9 @@
 package explodingkittens.model;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -31,14 +35,15 @@ class FeralCatCardTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         MockitoAnnotations.openMocks(this);
         feralCatCard = new FeralCatCard();
         turnOrder = new ArrayList<>();
         currentPlayerHand = new ArrayList<>();
         targetPlayerHand = new ArrayList<>();
         
-        when(currentPlayer.getHand()).thenReturn(currentPlayerHand);
-        when(targetPlayer.getHand()).thenReturn(targetPlayerHand);
+        stubHand(currentPlayer, currentPlayerHand);
+        stubHand(targetPlayer, targetPlayerHand);
         when(currentPlayer.getName()).thenReturn("Current");
         when(targetPlayer.getName()).thenReturn("Target");
         when(currentPlayer.getLeftTurns()).thenReturn(1);
@@ -50,6 +55,11 @@ class FeralCatCardTest {
         CatCard.setInputHandler(inputHandler);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     @Test
     void testFeralCatCardCreation() {
         assertEquals(CatType.FERAL_CAT, feralCatCard.getCatType());
@@ -131,9 +141,7 @@ class FeralCatCardTest {
         when(inputHandler.selectCardIndex(targetPlayerHand.size())).thenReturn(0);
         
         // Execute and verify
-        CatCard.CatCardEffect effect = assertThrows(CatCard.CatCardEffect.class, () -> {
-            feralCatCard.effect(turnOrder, gameDeck);
-        });
+        CatCardEffect effect = feralCatCard.resolve(turnOrder, gameDeck);
         
         assertEquals(targetPlayer.getName(), effect.getTargetPlayerName());
         assertEquals(targetPlayerHand, effect.getTargetPlayerHand());
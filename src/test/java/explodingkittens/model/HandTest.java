@@ -0,0 +1,59 @@
+package explodingkittens.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class HandTest {
+
+    @Test
+    void countsTrackAddsAndRemovals() {
+        Hand hand = new Hand();
+        hand.add(new AttackCard());
+        hand.add(0, new CatCard(CatType.BEARD_CAT));
+        hand.addAll(Arrays.asList(new CatCard(CatType.BEARD_CAT), new AttackCard()));
+
+        assertEquals(2, hand.count(CardType.ATTACK));
+        assertEquals(2, hand.count(CatType.BEARD_CAT));
+        assertEquals(1, hand.indexOf(CardType.ATTACK));
+
+        hand.remove(1);
+        assertEquals(1, hand.count(CardType.ATTACK));
+        assertEquals(2, hand.indexOf(CardType.ATTACK));
+        assertEquals(-1, hand.indexOf(CardType.NOPE));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Hand hand = new Hand();
+        hand.add(new NopeCard());
+        Hand copy = new Hand(hand);
+        copy.add(new NopeCard());
+
+        assertEquals(1, hand.count(CardType.NOPE));
+        assertEquals(2, copy.count(CardType.NOPE));
+        List<Card> expected = new ArrayList<>(copy);
+        assertEquals(expected, copy);
+    }
+
+    @Test
+    void rejectsNullCards() {
+        Hand hand = new Hand();
+        assertThrows(IllegalArgumentException.class, () -> hand.add(null));
+        hand.add(new SkipCard());
+        assertThrows(IllegalArgumentException.class, () -> hand.set(0, null));
+    }
+
+    @Test
+    void findCatCardPairFailsFastOnHand() {
+        Hand hand = new Hand();
+        hand.add(new CatCard(CatType.TACOCAT));
+        CatCard card = new CatCard(CatType.TACOCAT);
+        assertThrows(IllegalStateException.class, () -> card.findCatCardPair(hand));
+        hand.add(new CatCard(CatType.TACOCAT));
+        assertEquals(2, card.findCatCardPair(hand).length);
+    }
+}
@@ -0,0 +1,30 @@
+package explodingkittens.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import java.util.List;
+
+/**
+ * Stubs the hand accessors of mocked players.
+ */
+public final class PlayerStubs {
+    private PlayerStubs() {
+    }
+
+    /**
+     * Makes a mocked player hold a hand through every hand accessor, so code reading
+     * the size or the real hand sees the same cards as code reading a copy.
+     * Stubs are lenient since each caller reads only some of the accessors.
+     * @param player the mocked player
+     * @param hand the cards the player holds
+     */
+    public static void stubHand(Player player, List<Card> hand) {
+        lenient().when(player.getHand()).thenReturn(hand);
+        lenient().when(player.getRealHand()).thenReturn(hand);
+        lenient().when(player.getHandSize()).thenAnswer(invocation -> hand.size());
+        lenient().when(player.hasCards()).thenAnswer(invocation -> !hand.isEmpty());
+        lenient().when(player.hasCardOfType(any())).thenAnswer(invocation ->
+            hand.stream().anyMatch(card -> card.getType() == invocation.getArgument(0)));
+    }
+}
@@ -322,4 +322,65 @@ class PlayerTest {
         String msg = "Turns should remain -1 when using skip card with negative turns";
         assertEquals(-1, player.getLeftTurns(), msg);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testCountsFollowHandChanges() {
+        player.receiveCard(new SkipCard());
+        player.receiveCard(new SkipCard());
+        player.receiveCard(new CatCard(CatType.TACOCAT));
+        player.receiveCard(new DefuseCard());
+
+        assertEquals(2, player.countCards(CardType.SKIP));
+        assertEquals(1, player.countCards(CardType.CAT_CARD));
+        assertEquals(1, player.countCatCards(CatType.TACOCAT));
+        assertEquals(0, player.countCatCards(CatType.BEARD_CAT));
+
+        player.useDefuse();
+        assertFalse(player.hasDefuse());
+        player.removeCard(new SkipCard());
+        assertEquals(1, player.countCards(CardType.SKIP));
+        assertEquals(CardType.SKIP, player.removeCardOfType(CardType.SKIP).getType());
+        assertFalse(player.hasCardOfType(CardType.SKIP));
+        assertNull(player.removeCardOfType(CardType.SKIP));
+    }
+
+    @Test
+    void testCountsFollowRealHandChanges() {
+        List<Card> realHand = player.getRealHand();
+        realHand.add(new NopeCard());
+        realHand.add(new CatCard(CatType.FERAL_CAT));
+        assertTrue(player.hasCardOfType(CardType.NOPE));
+
+        realHand.removeIf(card -> card.getType() == CardType.NOPE);
+        assertFalse(player.hasCardOfType(CardType.NOPE));
+        realHand.set(0, new CatCard(CatType.RAINBOW_CAT));
+        assertEquals(0, player.countCatCards(CatType.FERAL_CAT));
+        assertEquals(1, player.countCatCards(CatType.RAINBOW_CAT));
+        realHand.clear();
+        assertEquals(0, player.countCards(CardType.CAT_CARD));
+    }
+
+    @Test
+    void testGetHandCopyKeepsCounts() {
+        player.receiveCard(new DefuseCard());
+        List<Card> copy = player.getHand();
+        copy.clear();
+        assertTrue(player.hasDefuse());
+        assertEquals(1, player.getHand().size());
+    }
+
+    @Test
+    void testHandSizeAndHasCardsReadTheHandDirectly() {
+        assertEquals(0, player.getHandSize());
+        assertFalse(player.hasCards());
+
+        player.receiveCard(new SkipCard());
+        player.getRealHand().add(new NopeCard());
+        assertEquals(2, player.getHandSize());
+        assertTrue(player.hasCards());
+
+        player.removeCardOfType(CardType.SKIP);
+        player.removeCardOfType(CardType.NOPE);
+        assertFalse(player.hasCards());
+    }
+}
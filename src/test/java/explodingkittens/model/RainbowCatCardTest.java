@@ -1,5 +1,9 @@
 package explodingkittens.model;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -34,14 +38,15 @@ class RainbowCatCardTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         MockitoAnnotations.openMocks(this);
         rainbowCatCard = new RainbowCatCard();
         turnOrder = new ArrayList<>();
         currentPlayerHand = new ArrayList<>();
         targetPlayerHand = new ArrayList<>();
         
-        when(currentPlayer.getHand()).thenReturn(currentPlayerHand);
-        when(targetPlayer.getHand()).thenReturn(targetPlayerHand);
+        stubHand(currentPlayer, currentPlayerHand);
+        stubHand(targetPlayer, targetPlayerHand);
         when(currentPlayer.getName()).thenReturn("Current");
         when(targetPlayer.getName()).thenReturn("Target");
         when(currentPlayer.getLeftTurns()).thenReturn(1);
@@ -52,6 +57,11 @@ class RainbowCatCardTest {
         CatCard.setInputHandler(inputHandler);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     @Test
     void testRainbowCatCardCreation() {
         assertEquals(CatType.RAINBOW_CAT, rainbowCatCard.getCatType());
@@ -74,7 +84,7 @@ class RainbowCatCardTest {
 
     @Test
     void testEffectWithNoTargetPlayers() {
-        when(targetPlayer.getHand()).thenReturn(new ArrayList<>());
+        stubHand(targetPlayer, new ArrayList<>());
         assertThrows(IllegalStateException.class, () -> 
             rainbowCatCard.effect(turnOrder, gameDeck));
     }
@@ -101,8 +111,7 @@ class RainbowCatCardTest {
     @Test
     void testEffectWithTwoRainbowCatCards() {
         setupTwoRainbowCatCards();
-        RuntimeException effect = assertThrows(RuntimeException.class, 
-            () -> rainbowCatCard.effect(turnOrder, gameDeck));
+        CatCardEffect effect = rainbowCatCard.resolve(turnOrder, gameDeck);
         
         verifyCatCardEffect(effect);
     }
@@ -182,13 +191,12 @@ class RainbowCatCardTest {
         targetPlayerHand.add(targetCard);
         
         when(targetPlayer.isAlive()).thenReturn(true);
-        when(targetPlayer.getHand()).thenReturn(targetPlayerHand);
+        stubHand(targetPlayer, targetPlayerHand);
         when(inputHandler.selectTargetPlayer(anyList())).thenReturn(targetPlayer);
         when(inputHandler.selectCardIndex(anyInt())).thenReturn(0);
     }
 
-    private void verifyCatCardEffect(RuntimeException effect) {
-        assertEquals("Cat card effect", effect.getMessage());
+    private void verifyCatCardEffect(CatCardEffect effect) {
         assertTrue(effect.getClass().getName().contains("CatCardEffect"));
         
         try {
@@ -12,6 +12,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -23,7 +24,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyInt;
 
 @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_NO_SIDE_EFFECT")
@@ -99,10 +99,8 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenAnswer(invocation -> {
-            List<Player> newOrder = invocation.getArgument(0);
-            turnOrder.clear();
-            turnOrder.addAll(newOrder);
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenAnswer(invocation -> {
+            Collections.reverse(turnOrder);
             return null;
         });
         
@@ -146,10 +144,8 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1, player2, player3);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenAnswer(invocation -> {
-            List<Player> newOrder = invocation.getArgument(0);
-            turnOrder.clear();
-            turnOrder.addAll(newOrder);
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenAnswer(invocation -> {
+            Collections.reverse(turnOrder);
             return null;
         });
         
@@ -194,10 +190,8 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1, player2);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenAnswer(invocation -> {
-            List<Player> newOrder = invocation.getArgument(0);
-            turnOrder.clear();
-            turnOrder.addAll(newOrder);
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenAnswer(invocation -> {
+            Collections.reverse(turnOrder);
             return null;
         });
         
@@ -247,10 +241,8 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1, player2);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenAnswer(invocation -> {
-            List<Player> newOrder = invocation.getArgument(0);
-            turnOrder.clear();
-            turnOrder.addAll(newOrder);
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenAnswer(invocation -> {
+            Collections.reverse(turnOrder);
             return null;
         });
         
@@ -294,7 +286,7 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1, player2);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenThrow(new RuntimeException("Test error"));
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenThrow(new RuntimeException("Test error"));
         mockedGameContext.when(() -> GameContext.setCurrentPlayerIndex(anyInt())).thenAnswer(invocation -> {
             int index = invocation.getArgument(0);
             return null;
@@ -336,7 +328,7 @@ class ReverseCardTest {
         List<Player> mockTurnOrder = List.of(player1, player2);
         mockedGameContext.when(() -> GameContext.getTurnOrder()).thenReturn(mockTurnOrder);
         mockedGameContext.when(() -> GameContext.isGameOver()).thenReturn(false);
-        mockedGameContext.when(() -> GameContext.setTurnOrder(anyList())).thenThrow(new RuntimeException("Test error"));
+        mockedGameContext.when(GameContext::reverseTurnOrder).thenThrow(new RuntimeException("Test error"));
         
         // Execute and verify
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -10,6 +10,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -113,6 +114,25 @@ public class SeeTheFutureCardTest {
         assertEquals(2, fakeView.cardsShown.size(), "Should show 2 cards");
     }
 
+    /**
+     * Tests that only the player who played the card learns the top cards.
+     */
+    @Test
+    public void testEffectRevealsTopCardsToThePlayerOnly() {
+        Player player = new Player("Alice");
+        Player opponent = new Player("Bob");
+        seeTheFutureCard.setView(new FakeSeeTheFutureView());
+        deck.addCard(new AttackCard());
+        deck.addCard(new SkipCard());
+        deck.addCard(new ShuffleCard());
+
+        seeTheFutureCard.effect(List.of(player, opponent), deck);
+
+        assertTrue(deck.isKnown(player, 1));
+        assertFalse(deck.isKnown(player, 2));
+        assertFalse(deck.isKnown(opponent, 0));
+    }
+
     /**
      * Tests the effect method without a view.
      */
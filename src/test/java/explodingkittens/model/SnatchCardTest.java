@@ -1,5 +1,8 @@
 package explodingkittens.model;
 
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -40,6 +43,7 @@ class SnatchCardTest {
     
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         MockitoAnnotations.openMocks(this);
         mockDeck = new Deck();
         turnOrder = Arrays.asList(mockCurrentPlayer, mockTargetPlayer);
@@ -56,6 +60,11 @@ class SnatchCardTest {
             throw new RuntimeException("Failed to set mock view", e);
         }
     }
+
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
     
     /**
      * Test Case 1: targetPlayer has empty hand
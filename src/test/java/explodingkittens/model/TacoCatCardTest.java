@@ -1,5 +1,9 @@
 package explodingkittens.model;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -32,14 +36,15 @@ class TacoCatCardTest {
 
     @BeforeEach
     void setUp() {
+        GameContext.bind(new GameTable());
         MockitoAnnotations.openMocks(this);
         tacoCatCard = new TacoCatCard();
         turnOrder = new ArrayList<>();
         currentPlayerHand = new ArrayList<>();
         targetPlayerHand = new ArrayList<>();
         
-        when(currentPlayer.getHand()).thenReturn(currentPlayerHand);
-        when(targetPlayer.getHand()).thenReturn(targetPlayerHand);
+        stubHand(currentPlayer, currentPlayerHand);
+        stubHand(targetPlayer, targetPlayerHand);
         when(currentPlayer.getName()).thenReturn("Current");
         when(targetPlayer.getName()).thenReturn("Target");
         when(currentPlayer.getLeftTurns()).thenReturn(1);
@@ -50,6 +55,11 @@ class TacoCatCardTest {
         CatCard.setInputHandler(inputHandler);
     }
 
+    @AfterEach
+    void unbindTable() {
+        GameContext.unbind();
+    }
+
     @Test
     @DisplayName("Test TacoCatCard creation")
     void testTacoCatCardCreation() {
@@ -109,13 +119,8 @@ class TacoCatCardTest {
     void testSameCatCards() {
         setupTwoTacoCatCards();
         
-        try {
-            tacoCatCard.effect(turnOrder, gameDeck);
-            Assertions.fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            verifyCatCardEffect(effect);
-        }
+        CatCardEffect effect = tacoCatCard.resolve(turnOrder, gameDeck);
+        verifyCatCardEffect(effect);
     }
 
     private void setupTwoTacoCatCards() {
@@ -128,13 +133,12 @@ class TacoCatCardTest {
         targetPlayerHand.add(targetCard);
         
         when(targetPlayer.isAlive()).thenReturn(true);
-        when(targetPlayer.getHand()).thenReturn(targetPlayerHand);
+        stubHand(targetPlayer, targetPlayerHand);
         when(inputHandler.selectTargetPlayer(anyList())).thenReturn(targetPlayer);
         when(inputHandler.selectCardIndex(anyInt())).thenReturn(0);
     }
 
-    private void verifyCatCardEffect(RuntimeException effect) {
-        Assertions.assertEquals("Cat card effect", effect.getMessage());
+    private void verifyCatCardEffect(CatCardEffect effect) {
         Assertions.assertTrue(effect.getClass().getName().contains("CatCardEffect"));
         
         try {
@@ -220,13 +224,8 @@ class TacoCatCardTest {
         when(inputHandler.selectTargetPlayer(anyList())).thenReturn(targetPlayer);
         when(inputHandler.selectCardIndex(anyInt())).thenReturn(0);
         
-        try {
-            tacoCatCard.effect(turnOrder, gameDeck);
-            Assertions.fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            verifyCatCardEffect(effect);
-        }
+        CatCardEffect effect = tacoCatCard.resolve(turnOrder, gameDeck);
+        verifyCatCardEffect(effect);
     }
 
     @Test
@@ -236,13 +235,8 @@ class TacoCatCardTest {
         when(inputHandler.selectTargetPlayer(anyList())).thenReturn(targetPlayer);
         when(inputHandler.selectCardIndex(anyInt())).thenReturn(0);
         
-        try {
-            tacoCatCard.effect(turnOrder, gameDeck);
-            Assertions.fail("Should throw CatCardEffect");
-        } 
-        catch (CatCard.CatCardEffect effect) {
-            verifyCatCardEffect(effect);
-        }
+        CatCardEffect effect = tacoCatCard.resolve(turnOrder, gameDeck);
+        verifyCatCardEffect(effect);
     }
 
     @Test
@@ -7,24 +7,19 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TimeRewindCardTest {
     private TimeRewindCard card;
     private List<Player> turnOrder;
     private Deck deck;
-    private List<Card> deckCards;
 
     @BeforeEach
     void setUp() {
         card = new TimeRewindCard();
         turnOrder = new ArrayList<>();
-        deck = mock(Deck.class);
-        deckCards = new ArrayList<>();
-        when(deck.getCards()).thenReturn(deckCards);
-        when(deck.getRealCards()).thenReturn(deckCards);
+        deck = new Deck();
     }
 
     @Test
@@ -41,15 +36,15 @@ class TimeRewindCardTest {
 
     @Test
     void testSingleCardThrows() {
-        deckCards.add(mock(Card.class));
+        deck.addCard(new SkipCard());
         assertThrows(IllegalStateException.class, () -> 
             card.effect(turnOrder, deck));
     }
 
     @Test
     void testTwoCardsThrows() {
-        deckCards.add(mock(Card.class));
-        deckCards.add(mock(Card.class));
+        deck.addCard(new SkipCard());
+        deck.addCard(new SkipCard());
         assertThrows(IllegalStateException.class, () -> 
             card.effect(turnOrder, deck));
     }
@@ -61,16 +56,16 @@ class TimeRewindCardTest {
         Card card2 = new AttackCard();
         Card card3 = new FavorCard();
         
-        deckCards.add(card1);
-        deckCards.add(card2);
-        deckCards.add(card3);
+        deck.addCard(card1);
+        deck.addCard(card2);
+        deck.addCard(card3);
         
         card.effect(turnOrder, deck);
         
-        assertEquals(3, deckCards.size());
-        assertEquals(CardType.SKIP, deckCards.get(0).getType());
-        assertEquals(CardType.ATTACK, deckCards.get(1).getType());
-        assertEquals(CardType.FAVOR, deckCards.get(2).getType());
+        assertEquals(3, deck.size());
+        assertEquals(CardType.SKIP, deck.get(0).getType());
+        assertEquals(CardType.ATTACK, deck.get(1).getType());
+        assertEquals(CardType.FAVOR, deck.get(2).getType());
     }
 
     @Test
@@ -80,16 +75,34 @@ class TimeRewindCardTest {
         Card card3 = new FavorCard();
         Card card4 = new SeeTheFutureCard();
         
-        deckCards.add(card1);
-        deckCards.add(card2);
-        deckCards.add(card3);
-        deckCards.add(card4);
+        deck.addCard(card1);
+        deck.addCard(card2);
+        deck.addCard(card3);
+        deck.addCard(card4);
         
         card.effect(turnOrder, deck);
-        assertEquals(4, deckCards.size());
-        assertEquals(CardType.SEE_THE_FUTURE, deckCards.get(0).getType());
-        assertEquals(CardType.SKIP, deckCards.get(1).getType());
-        assertEquals(CardType.ATTACK, deckCards.get(2).getType());
-        assertEquals(CardType.FAVOR, deckCards.get(3).getType());
+        assertEquals(4, deck.size());
+        assertEquals(CardType.SEE_THE_FUTURE, deck.get(0).getType());
+        assertEquals(CardType.SKIP, deck.get(1).getType());
+        assertEquals(CardType.ATTACK, deck.get(2).getType());
+        assertEquals(CardType.FAVOR, deck.get(3).getType());
     }
-} 
+
+    @Test
+    void testRewoundCardsStayKnown() {
+        deck.addCard(new SkipCard());
+        deck.addCard(new AttackCard());
+        deck.addCard(new FavorCard());
+        deck.addCard(new SeeTheFutureCard());
+        Player viewer = new Player("Alice");
+        deck.peek(viewer, 2);
+
+        card.effect(turnOrder, deck);
+
+        assertFalse(deck.isKnown(viewer, 0));
+        assertTrue(deck.isKnown(viewer, 1));
+        assertTrue(deck.isKnown(viewer, 2));
+        assertFalse(deck.isKnown(new Player("Bob"), 1));
+        assertEquals(CardType.SKIP, deck.get(1).getType());
+    }
+}
@@ -0,0 +1,193 @@
+package explodingkittens.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GameServerTest {
+    private GameServer server;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(2, 4, 5_000);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        server.close();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(20_000);
+        sockets.add(socket);
+        return socket;
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static PrintWriter writer(Socket socket) throws IOException {
+        return new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    // Plays one seat with simple answers and returns every line received until END
+    private Callable<List<String>> client(String name) throws IOException {
+        Socket socket = connect();
+        return () -> {
+            BufferedReader in = reader(socket);
+            PrintWriter out = writer(socket);
+            out.println("JOIN " + name);
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                lines.add(line);
+                if ("END".equals(line)) {
+                    break;
+                }
+                if (line.startsWith("ASK PLAY")) {
+                    out.println("PASS");
+                }
+                else if (line.startsWith("ASK NOPE")) {
+                    out.println("NO");
+                }
+                else if (line.startsWith("ASK DEFUSE")) {
+                    out.println("YES");
+                }
+                else if (line.startsWith("ASK ")) {
+                    out.println("0");
+                }
+            }
+            return lines;
+        };
+    }
+
+    @Test
+    void constructorRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(1, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(5, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(2, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GameServer(2, 1, 0));
+        assertThrows(IllegalStateException.class, () -> server.start(new InetSocketAddress(0)));
+    }
+
+    @Test
+    void playsATableBetweenLoopbackClients() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> ann = pool.submit(client("Ann"));
+            waitFor(() -> server.getSessionCount() == 1);
+            Future<List<String>> bob = pool.submit(client("Ann"));
+
+            List<String> first = ann.get(60, TimeUnit.SECONDS);
+            List<String> second = bob.get(60, TimeUnit.SECONDS);
+
+            assertEquals("WELCOME Ann", first.get(0));
+            // Seats follow the order the JOIN lines arrive in; duplicate names get the seat number
+            assertTrue(first.stream().anyMatch(line -> line.matches("START [01] Ann Ann-2")));
+            assertTrue(second.stream().anyMatch(line -> line.matches("START [01] Ann Ann-2")));
+            assertTrue(first.contains("TURN Ann"));
+            assertTrue(first.stream().anyMatch(line -> line.startsWith("ASK PLAY")));
+            assertTrue(first.stream().anyMatch(line -> line.startsWith("WINNER ")));
+            assertEquals("END", second.get(second.size() - 1));
+            waitFor(() -> server.getFinishedTables() == 1);
+            assertEquals(0, server.getActiveTables());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void answersInvalidLinesWithErrors() throws Exception {
+        Socket socket = connect();
+        BufferedReader in = reader(socket);
+        PrintWriter out = writer(socket);
+
+        out.println("PLAY");
+        assertTrue(in.readLine().startsWith("ERROR "));
+        out.println("JOIN two words");
+        assertTrue(in.readLine().startsWith("ERROR "));
+        out.println("JOIN Ann");
+        assertEquals("WELCOME Ann", in.readLine());
+        out.println("JOIN Ann");
+        assertEquals("ERROR Already waiting for a table", in.readLine());
+        out.println("QUIT");
+        assertEquals(-1, in.read());
+        waitFor(() -> server.getSessionCount() == 0);
+    }
+
+    @Test
+    void tableFinishesWhenAPlayerDisconnects() throws Exception {
+        Socket leaving = connect();
+        PrintWriter out = writer(leaving);
+        BufferedReader in = reader(leaving);
+        out.println("JOIN Quitter");
+        assertEquals("WELCOME Quitter", in.readLine());
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> staying = pool.submit(client("Stayer"));
+            assertTrue(in.readLine().startsWith("START 0"));
+            leaving.close();
+
+            List<String> lines = staying.get(60, TimeUnit.SECONDS);
+
+            assertTrue(lines.stream().anyMatch(line -> line.startsWith("WINNER ")));
+            waitFor(() -> server.getFinishedTables() == 1);
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsManyIdleSessionsWithoutAThreadEach() throws Exception {
+        int threadsBefore = Thread.activeCount();
+
+        for (int i = 0; i < 1000; i++) {
+            connect();
+        }
+        waitFor(() -> server.getSessionCount() == 1000);
+
+        assertTrue(Thread.activeCount() - threadsBefore < 10);
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        waitFor(() -> server.getSessionCount() == 0);
+    }
+}
@@ -0,0 +1,41 @@
+package explodingkittens.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Player;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolTest {
+
+    @Test
+    void cardsAreWrittenByTypeOrCatType() {
+        assertEquals("DEFUSE TACOCAT", Protocol.tokens(Arrays.asList(
+            CardRegistry.get(CardType.DEFUSE), CardRegistry.get(CatType.TACOCAT))));
+        assertEquals("Ann Bob", Protocol.names(Arrays.asList(new Player("Ann"), new Player("Bob"))));
+    }
+
+    @Test
+    void namesMustBeSingleWords() {
+        assertTrue(Protocol.isValidName("kitten_fan-2"));
+        assertFalse(Protocol.isValidName(""));
+        assertFalse(Protocol.isValidName("two words"));
+        assertFalse(Protocol.isValidName("abcdefghijklmnopqrstu"));
+    }
+
+    @Test
+    void answersAreParsedStrictly() {
+        assertTrue(Protocol.parseYesNo("yes"));
+        assertFalse(Protocol.parseYesNo("NO"));
+        assertThrows(IllegalArgumentException.class, () -> Protocol.parseYesNo("maybe"));
+        assertEquals(3, Protocol.parseNumber("3", 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> Protocol.parseNumber("4", 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> Protocol.parseNumber("one", 0, 3));
+    }
+}
@@ -0,0 +1,106 @@
+package explodingkittens.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.Player;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RemotePolicyTest {
+    private final Deque<String> script = new ArrayDeque<>();
+    private final List<String> sent = new ArrayList<>();
+    private Session session;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        // A client that answers each ASK and ERROR with the next scripted line
+        session = new Session(null, s -> {
+            ByteBuffer buffer;
+            while ((buffer = s.pendingOutput()) != null) {
+                String line = StandardCharsets.UTF_8.decode(buffer).toString().trim();
+                s.outputWritten();
+                sent.add(line);
+                if ((line.startsWith("ASK ") || line.startsWith("ERROR ")) && !script.isEmpty()) {
+                    s.answer(script.poll());
+                }
+            }
+        });
+        player = new Player("Ann");
+    }
+
+    @Test
+    void asksAgainAfterAnInvalidAnswer() {
+        RemotePolicy policy = new RemotePolicy(session, 5_000, new Random(1L));
+        Card skip = CardRegistry.get(CardType.SKIP);
+        List<Card> hand = Arrays.asList(CardRegistry.get(CardType.DEFUSE), skip);
+        script.addAll(Arrays.asList("7", " 1 "));
+
+        assertSame(skip, policy.chooseCardToPlay(player, hand));
+        assertEquals(Arrays.asList("ASK PLAY DEFUSE SKIP", "ERROR Answer a number between 0 and 1"),
+            sent);
+    }
+
+    @Test
+    void translatesEveryQuestion() {
+        RemotePolicy policy = new RemotePolicy(session, 5_000, new Random(1L));
+        Player bob = new Player("Bob");
+        Card nope = CardRegistry.get(CardType.NOPE);
+        script.addAll(Arrays.asList("pass", "yes", "no", "2", "1", "0", "0"));
+
+        assertNull(policy.chooseCardToPlay(player, Arrays.asList(nope)));
+        assertTrue(policy.playNope(player, CardRegistry.get(CardType.SHUFFLE)));
+        assertFalse(policy.useDefuse(player));
+        assertEquals(2, policy.chooseKittenPosition(player, 4));
+        assertSame(bob, policy.chooseTarget(player, Arrays.asList(new Player("Cy"), bob)));
+        assertEquals(0, policy.chooseCardIndex(player, 3));
+        assertSame(nope, policy.chooseCardToGive(player, Arrays.asList(nope)));
+        assertEquals(Arrays.asList("ASK PLAY NOPE", "ASK NOPE SHUFFLE", "ASK DEFUSE",
+            "ASK POSITION 4", "ASK TARGET Cy Bob", "ASK STEAL 3", "ASK GIVE NOPE"), sent);
+    }
+
+    @Test
+    void answersPassivelyWhenTheClientIsSilent() {
+        RemotePolicy policy = new RemotePolicy(session, 20, new Random(1L));
+
+        assertNull(policy.chooseCardToPlay(player, Arrays.asList(CardRegistry.get(CardType.SKIP))));
+        assertFalse(policy.playNope(player, CardRegistry.get(CardType.SKIP)));
+        assertFalse(session.answer("YES"));
+
+        session.close();
+        assertTrue(policy.useDefuse(player));
+        int position = policy.chooseKittenPosition(player, 3);
+        assertTrue(position >= 0 && position <= 3);
+    }
+
+    @Test
+    void nopeQuestionsAnswerLater() {
+        RemotePolicy policy = new RemotePolicy(session, 5_000, new Random(1L));
+
+        CompletableFuture<Boolean> nope = policy.playNopeLater(CardRegistry.get(CardType.SKIP));
+        assertFalse(nope.isDone());
+        assertTrue(session.answer("YES"));
+        assertTrue(nope.join());
+
+        CompletableFuture<Boolean> closed = policy.playNopeLater(CardRegistry.get(CardType.SKIP));
+        closed.cancel(false);
+        assertFalse(session.answer("YES"));
+        assertEquals(Arrays.asList("ASK NOPE SKIP", "ASK NOPE SKIP"), sent);
+    }
+}
@@ -0,0 +1,85 @@
+package explodingkittens.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class SessionTest {
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void receiveSplitsLinesAcrossReads() {
+        Session session = new Session(null, s -> { });
+
+        assertEquals(Collections.emptyList(), session.receive(bytes("JOIN Al")));
+        assertEquals(Arrays.asList("JOIN Alice", "PASS"), session.receive(bytes("ice\r\nPASS\nY")));
+        assertEquals(Arrays.asList("YES"), session.receive(bytes("ES\n")));
+    }
+
+    @Test
+    void receiveRejectsOverlongLines() {
+        Session session = new Session(null, s -> { });
+        byte[] line = new byte[Protocol.MAX_LINE_BYTES + 1];
+        Arrays.fill(line, (byte) 'x');
+
+        assertThrows(IllegalStateException.class, () -> session.receive(ByteBuffer.wrap(line)));
+    }
+
+    @Test
+    void sendQueuesOutputAndRequestsAWrite() {
+        List<Session> requests = new ArrayList<>();
+        Session session = new Session(null, requests::add);
+
+        session.send("WELCOME Alice");
+
+        assertEquals(Arrays.asList(session), requests);
+        ByteBuffer pending = session.pendingOutput();
+        assertEquals("WELCOME Alice\n", StandardCharsets.UTF_8.decode(pending).toString());
+        session.outputWritten();
+        assertNull(session.pendingOutput());
+    }
+
+    @Test
+    void answersGoToTheOpenQuestionOnly() {
+        Session session = new Session(null, s -> { });
+        assertFalse(session.answer("1"));
+
+        CompletableFuture<String> first = session.expectAnswer();
+        assertTrue(session.answer("1"));
+        assertEquals("1", first.join());
+        assertFalse(session.answer("2"));
+
+        CompletableFuture<String> cancelled = session.expectAnswer();
+        cancelled.cancel(false);
+        assertFalse(session.answer("3"));
+    }
+
+    @Test
+    void closeAnswersTheOpenQuestionAndDropsOutput() {
+        Session session = new Session(null, s -> { });
+        session.send("TURN Ann");
+        CompletableFuture<String> open = session.expectAnswer();
+
+        session.close();
+        session.send("TURN Bob");
+
+        assertTrue(session.isClosed());
+        assertNull(open.join());
+        assertNull(session.expectAnswer().join());
+        assertNull(session.pendingOutput());
+    }
+}
@@ -82,7 +82,7 @@ class CardEffectBasicTest {
 
     /**
      * BVA Test Case 4: card = valid Card, ctx = valid GameContext
-     * Expected: card.effect() is called once
+     * Expected: card.resolve() is called once
      */
     @Test
     void testValidInputs() {
@@ -92,7 +92,7 @@ class CardEffectBasicTest {
             
             cardEffectService.applyEffect(mockCard, player1);
             
-            Mockito.verify(mockCard, Mockito.times(1)).effect(turnOrder, gameDeck);
+            Mockito.verify(mockCard, Mockito.times(1)).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -1,8 +1,10 @@
 package explodingkittens.service;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
@@ -73,7 +75,7 @@ class CardEffectCatCardRequestTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -81,12 +83,12 @@ class CardEffectCatCardRequestTest {
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             
             List<Card> player2Hand = Arrays.asList(requestedCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             Mockito.when(requestedCard.getType()).thenReturn(CardType.ATTACK);
             Mockito.when(mockGameView.selectCardFromPlayer(player2, player2Hand))
                 .thenReturn(requestedCard);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck);
             
@@ -110,17 +112,17 @@ class CardEffectCatCardRequestTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList(otherCard));
+            stubHand(player2, Arrays.asList(otherCard));
             Mockito.when(otherCard.getType()).thenReturn(CardType.SHUFFLE);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck);
             
@@ -137,14 +139,14 @@ class CardEffectCatCardRequestTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList(requestedCard));
+            stubHand(player2, Arrays.asList(requestedCard));
             Mockito.when(requestedCard.getType()).thenReturn(CardType.ATTACK);
             Mockito.when(mockGameView.selectCardFromPlayer(
                     player2, 
@@ -154,7 +156,7 @@ class CardEffectCatCardRequestTest {
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList()))
                 .thenReturn(player2);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -180,14 +182,14 @@ class CardEffectCatCardRequestTest {
             Card attackCard1 = Mockito.mock(Card.class);
             Card attackCard2 = Mockito.mock(Card.class);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList(attackCard1, attackCard2));
+            stubHand(player2, Arrays.asList(attackCard1, attackCard2));
             Mockito.when(attackCard1.getType()).thenReturn(CardType.ATTACK);
             Mockito.when(attackCard2.getType()).thenReturn(CardType.ATTACK);
             Mockito.when(mockGameView.selectTargetPlayer(
@@ -198,7 +200,7 @@ class CardEffectCatCardRequestTest {
                     Arrays.asList(attackCard1, attackCard2)
             )).thenReturn(attackCard1);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
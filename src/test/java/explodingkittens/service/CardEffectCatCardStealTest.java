@@ -3,6 +3,7 @@ package explodingkittens.service;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
@@ -69,7 +70,7 @@ class CardEffectCatCardStealTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -78,7 +79,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck);
             
@@ -105,13 +106,13 @@ class CardEffectCatCardStealTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("nonexistent");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(null);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(
                 IllegalStateException.class,
@@ -130,7 +131,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList()))
                 .thenReturn(player2);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -138,7 +139,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -171,7 +172,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(player2.getHand()).thenReturn(Collections.emptyList());
             
             // Set up the effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -180,7 +181,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
             // Set up the card to throw the effect
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             // Verify the exception
             IllegalStateException exception = Assertions.assertThrows(
@@ -208,7 +209,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(player2.getHand()).thenReturn(Collections.emptyList());
             
             // Set up the effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -217,7 +218,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
             // Set up the card to throw the effect
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             // Verify the exception
             IllegalStateException exception = Assertions.assertThrows(
@@ -252,7 +253,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList()))
                 .thenReturn(player3);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player3");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -260,7 +261,7 @@ class CardEffectCatCardStealTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
@@ -78,7 +79,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(player1.getHand()).thenReturn(Arrays.asList(firstCatCard));
             
             // Set up the effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player1");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -87,7 +88,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
             // Set up the card to throw the effect
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             // Verify the exception
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> 
@@ -121,7 +122,7 @@ class CardEffectCatCardTargetTest {
                     Mockito.anyList()
             )).thenReturn(player3);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player3");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -129,7 +130,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -156,7 +157,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(player4.getHand()).thenReturn(Collections.emptyList());
             
             // Set up the effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -165,7 +166,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
             // Set up the card to throw the effect
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             // Verify the exception
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> 
@@ -192,7 +193,7 @@ class CardEffectCatCardTargetTest {
                     Mockito.anyList()
             )).thenReturn(player3);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player3");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -200,7 +201,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -218,10 +219,10 @@ class CardEffectCatCardTargetTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("nonexistent");
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             assertThrows(IllegalStateException.class, () -> 
                 cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck));
@@ -236,7 +237,7 @@ class CardEffectCatCardTargetTest {
             
             Mockito.when(player2.getHand()).thenReturn(Collections.emptyList());
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -244,7 +245,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Collections.emptyList());
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> 
                 cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck));
@@ -260,7 +261,7 @@ class CardEffectCatCardTargetTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             // Set up the effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -268,7 +269,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             
             // Set up the card to throw the effect
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             // Test with invalid target player
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList()))
@@ -294,7 +295,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList()))
                 .thenReturn(player2);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -302,7 +303,7 @@ class CardEffectCatCardTargetTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(Arrays.asList(stolenCard));
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(firstCatCard, player1);
             
@@ -3,6 +3,7 @@ package explodingkittens.service;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
 import explodingkittens.model.Deck;
@@ -106,7 +107,7 @@ class CardEffectCatCardTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             RuntimeException exception = new RuntimeException("Test exception");
-            Mockito.doThrow(exception).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doThrow(exception).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(RuntimeException.class, () -> 
                 cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck));
@@ -119,13 +120,13 @@ class CardEffectCatCardTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
             
-            Mockito.doThrow(effect).when(firstCatCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(firstCatCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.handleCardEffect(firstCatCard, turnOrder, gameDeck);
             
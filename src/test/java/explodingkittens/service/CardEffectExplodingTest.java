@@ -62,11 +62,11 @@ class CardEffectExplodingTest {
             Mockito.doAnswer(invocation -> {
                 player1.setAlive(false);
                 return null;
-            }).when(explodingKittenCard).effect(turnOrder, gameDeck);
+            }).when(explodingKittenCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(explodingKittenCard, player1);
             
-            Mockito.verify(explodingKittenCard).effect(turnOrder, gameDeck);
+            Mockito.verify(explodingKittenCard).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -81,11 +81,11 @@ class CardEffectExplodingTest {
             Mockito.when(defuseCard.getType()).thenReturn(CardType.DEFUSE);
             
             // Mock the card's effect method (empty as per implementation)
-            Mockito.doNothing().when(defuseCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(null).when(defuseCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(defuseCard, player1);
             
-            Mockito.verify(defuseCard).effect(turnOrder, gameDeck);
+            Mockito.verify(defuseCard).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -101,11 +101,11 @@ class CardEffectExplodingTest {
             Mockito.when(player1.hasDefuse()).thenReturn(true);
             
             // Mock the card's effect method (no effect as player has defuse)
-            Mockito.doNothing().when(explodingKittenCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(null).when(explodingKittenCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(explodingKittenCard, player1);
             
-            Mockito.verify(explodingKittenCard).effect(turnOrder, gameDeck);
+            Mockito.verify(explodingKittenCard).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -124,11 +124,11 @@ class CardEffectExplodingTest {
             Mockito.doAnswer(invocation -> {
                 player1.setAlive(false);
                 return null;
-            }).when(explodingKittenCard).effect(turnOrder, gameDeck);
+            }).when(explodingKittenCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(explodingKittenCard, player1);
             
-            Mockito.verify(explodingKittenCard).effect(turnOrder, gameDeck);
+            Mockito.verify(explodingKittenCard).resolve(turnOrder, gameDeck);
         }
     }
 } 
\ No newline at end of file
@@ -1,8 +1,10 @@
 package explodingkittens.service;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CatType;
 import explodingkittens.model.Player;
 import explodingkittens.view.GameView;
@@ -60,10 +62,10 @@ class CardEffectServiceRequestTest {
         Mockito.when(tacoCat.getCatType()).thenReturn(CatType.RAINBOW_CAT); // Different from requested type
 
         List<Card> hand = List.of(nonCatCard, tacoCat);
-        Mockito.when(player2.getHand()).thenReturn(hand);
+        stubHand(player2, hand);
         Mockito.when(mockGameView.selectCardFromPlayer(player2, hand)).thenReturn(nonCatCard);
 
-        CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+        CatCardEffect effect = Mockito.mock(CatCardEffect.class);
         Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
         Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
         Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
@@ -77,7 +79,7 @@ class CardEffectServiceRequestTest {
 
         // Act: Use reflection to call the private method
         Method method = CardEffectService.class.getDeclaredMethod(
-            "handleRequestEffect", Player.class, Player.class, CatCard.CatCardEffect.class);
+            "handleRequestEffect", Player.class, Player.class, CatCardEffect.class);
         method.setAccessible(true);
         method.invoke(cardEffectService, player1, player2, effect);
 
@@ -98,10 +100,10 @@ class CardEffectServiceRequestTest {
         Mockito.when(tacoCat.getCatType()).thenReturn(CatType.TACOCAT); // Same as requested type
 
         List<Card> hand = List.of(tacoCat);
-        Mockito.when(player2.getHand()).thenReturn(hand);
+        stubHand(player2, hand);
         Mockito.when(mockGameView.selectCardFromPlayer(player2, hand)).thenReturn(tacoCat);
 
-        CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+        CatCardEffect effect = Mockito.mock(CatCardEffect.class);
         Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
         Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
         Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
@@ -115,7 +117,7 @@ class CardEffectServiceRequestTest {
 
         // Act: Use reflection to call the private method
         Method method = CardEffectService.class.getDeclaredMethod(
-            "handleRequestEffect", Player.class, Player.class, CatCard.CatCardEffect.class);
+            "handleRequestEffect", Player.class, Player.class, CatCardEffect.class);
         method.setAccessible(true);
         method.invoke(cardEffectService, player1, player2, effect);
 
@@ -132,21 +134,21 @@ class CardEffectServiceRequestTest {
         CatCard cardInHand = new CatCard(sharedType);
         List<Card> hand = List.of(cardInHand);
     
-        Mockito.when(player2.getHand()).thenReturn(hand);
+        stubHand(player2, hand);
         Mockito.when(mockGameView.selectCardFromPlayer(Mockito.eq(player2), Mockito.anyList()))
                .thenReturn(null);
     
         CatCard card1 = new CatCard(sharedType);
         CatCard card2 = new CatCard(sharedType);
         CatCard card3 = new CatCard(sharedType);
-        CatCard.CatCardEffect effect = new CatCard.CatCardEffect(card1, card2, card3, player1.getName(), CardType.CAT_CARD);
+        CatCardEffect effect = new CatCardEffect(card1, card2, card3, player1.getName(), CardType.CAT_CARD);
     
         Field viewField = CardEffectService.class.getDeclaredField("view");
         viewField.setAccessible(true);
         viewField.set(cardEffectService, mockGameView);
     
         Method method = CardEffectService.class.getDeclaredMethod(
-            "handleRequestEffect", Player.class, Player.class, CatCard.CatCardEffect.class);
+            "handleRequestEffect", Player.class, Player.class, CatCardEffect.class);
         method.setAccessible(true);
         method.invoke(cardEffectService, player1, player2, effect);
     
@@ -167,10 +169,10 @@ class CardEffectServiceRequestTest {
         Mockito.when(beardCat.getCatType()).thenReturn(CatType.BEARD_CAT);
         
         List<Card> hand = List.of(rainbowCat, beardCat);
-        Mockito.when(player2.getHand()).thenReturn(hand);
+        stubHand(player2, hand);
         
         // Set up cat card effect to request TACOCAT type
-        CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+        CatCardEffect effect = Mockito.mock(CatCardEffect.class);
         Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
         Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
         Mockito.when(effect.getThirdCard()).thenReturn(thirdCatCard);
@@ -184,7 +186,7 @@ class CardEffectServiceRequestTest {
         
         // Act: Use reflection to call the private method
         Method method = CardEffectService.class.getDeclaredMethod(
-            "handleRequestEffect", Player.class, Player.class, CatCard.CatCardEffect.class);
+            "handleRequestEffect", Player.class, Player.class, CatCardEffect.class);
         method.setAccessible(true);
         method.invoke(cardEffectService, player1, player2, effect);
         
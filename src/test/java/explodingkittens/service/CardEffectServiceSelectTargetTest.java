@@ -1,9 +1,11 @@
 package explodingkittens.service;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
 import explodingkittens.model.Card;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CardType;
 import explodingkittens.model.Deck;
 import explodingkittens.view.GameView;
@@ -61,7 +63,7 @@ class CardEffectServiceSelectTargetTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             CatCard catCard = Mockito.mock(CatCard.class);
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCard = Mockito.mock(CatCard.class);
             CatCard secondCard = Mockito.mock(CatCard.class);
             CatCard thirdCard = Mockito.mock(CatCard.class);
@@ -73,10 +75,10 @@ class CardEffectServiceSelectTargetTest {
             
             Mockito.when(player1.isAlive()).thenReturn(true);
             Mockito.when(player2.isAlive()).thenReturn(true);
-            Mockito.when(player1.getHand()).thenReturn(Arrays.asList(catCard));
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList());
+            stubHand(player1, Arrays.asList(catCard));
+            stubHand(player2, Arrays.asList());
             
-            Mockito.doThrow(effect).when(catCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(catCard).resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(IllegalStateException.class, () -> 
                 cardEffectService.applyEffect(catCard, player1));
@@ -90,7 +92,7 @@ class CardEffectServiceSelectTargetTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             CatCard catCard = Mockito.mock(CatCard.class);
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCard = Mockito.mock(CatCard.class);
             CatCard secondCard = Mockito.mock(CatCard.class);
             CatCard thirdCard = Mockito.mock(CatCard.class);
@@ -102,10 +104,10 @@ class CardEffectServiceSelectTargetTest {
             
             Mockito.when(player1.isAlive()).thenReturn(true);
             Mockito.when(player2.isAlive()).thenReturn(false);
-            Mockito.when(player1.getHand()).thenReturn(Arrays.asList(catCard));
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList());
+            stubHand(player1, Arrays.asList(catCard));
+            stubHand(player2, Arrays.asList());
             
-            Mockito.doThrow(effect).when(catCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(catCard).resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(IllegalStateException.class, () -> 
                 cardEffectService.applyEffect(catCard, player1));
@@ -115,7 +117,7 @@ class CardEffectServiceSelectTargetTest {
     @Test
     void testHandleCatCardEffectTargetPlayerNotFound() {
         // Setup test data
-        CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+        CatCardEffect effect = Mockito.mock(CatCardEffect.class);
         List<Player> turnOrder = Arrays.asList(player1); // Only player1 in turn order
 
         // Configure mocks
@@ -125,7 +127,7 @@ class CardEffectServiceSelectTargetTest {
         // Call the method using reflection and expect exception
         try {
             java.lang.reflect.Method method = CardEffectService.class.getDeclaredMethod(
-                "handleCatCardEffect", CatCard.CatCardEffect.class, List.class);
+                "handleCatCardEffect", CatCardEffect.class, List.class);
             method.setAccessible(true);
             method.invoke(cardEffectService, effect, turnOrder);
             Assertions.fail("Expected IllegalStateException was not thrown");
@@ -147,7 +149,7 @@ class CardEffectServiceSelectTargetTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             CatCard catCard = Mockito.mock(CatCard.class);
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCard = Mockito.mock(CatCard.class);
             CatCard secondCard = Mockito.mock(CatCard.class);
             CatCard thirdCard = Mockito.mock(CatCard.class);
@@ -159,13 +161,13 @@ class CardEffectServiceSelectTargetTest {
             
             Mockito.when(player1.isAlive()).thenReturn(true);
             Mockito.when(player2.isAlive()).thenReturn(true);
-            Mockito.when(player1.getHand()).thenReturn(Arrays.asList(catCard));
-            Mockito.when(player2.getHand()).thenReturn(Arrays.asList(Mockito.mock(Card.class)));
+            stubHand(player1, Arrays.asList(catCard));
+            stubHand(player2, Arrays.asList(Mockito.mock(Card.class)));
             Mockito.when(player2.getName()).thenReturn("player2");
             
             Mockito.when(mockGameView.selectTargetPlayer(Mockito.anyList())).thenReturn(player2);
             
-            Mockito.doThrow(effect).when(catCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(catCard).resolve(turnOrder, gameDeck);
             
             cardEffectService.applyEffect(catCard, player1);
             
@@ -180,7 +182,7 @@ class CardEffectServiceSelectTargetTest {
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
             CatCard catCard = Mockito.mock(CatCard.class);
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCard = Mockito.mock(CatCard.class);
             CatCard secondCard = Mockito.mock(CatCard.class);
             
@@ -189,10 +191,10 @@ class CardEffectServiceSelectTargetTest {
             Mockito.when(effect.getFirstCard()).thenReturn(firstCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCard);
             
-            Mockito.when(player1.getHand()).thenReturn(Arrays.asList(catCard));
+            stubHand(player1, Arrays.asList(catCard));
             Mockito.when(player2.getName()).thenReturn("player2");
             
-            Mockito.doThrow(effect).when(catCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(catCard).resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(IllegalStateException.class, () -> 
                 cardEffectService.applyEffect(catCard, player1));
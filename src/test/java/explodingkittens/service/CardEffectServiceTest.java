@@ -1,5 +1,6 @@
 package explodingkittens.service;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.AttackCard;
@@ -7,6 +8,7 @@ import explodingkittens.model.SkipCard;
 import explodingkittens.model.SeeTheFutureCard;
 import explodingkittens.model.ShuffleCard;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.CatType;
 import explodingkittens.model.DefuseCard;
 import explodingkittens.model.TacoCatCard;
@@ -36,6 +38,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -112,7 +115,7 @@ class CardEffectServiceTest {
 
     /**
      * BVA Test Case 4: card = valid Card, ctx = valid GameContext
-     * Expected: card.effect() is called once
+     * Expected: card.resolve() is called once
      */
     @Test
     void testValidInputs() {
@@ -122,7 +125,7 @@ class CardEffectServiceTest {
             
             cardEffectService.applyEffect(mockCard, player1);
             
-            Mockito.verify(mockCard, Mockito.times(1)).effect(turnOrder, gameDeck);
+            Mockito.verify(mockCard, Mockito.times(1)).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -154,7 +157,7 @@ class CardEffectServiceTest {
             RuntimeException exception = new RuntimeException("Test exception");
             Mockito.doThrow(exception)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(RuntimeException.class, () -> 
                 cardEffectService.handleCardEffect(mockCard, turnOrder, gameDeck));
@@ -173,9 +176,9 @@ class CardEffectServiceTest {
             // Set up player2's hand with a card to steal
             Card stolenCard = Mockito.mock(Card.class);
             List<Card> player2Hand = Arrays.asList(stolenCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -185,9 +188,9 @@ class CardEffectServiceTest {
             Mockito.when(effect.getTargetCardIndex())
                 .thenReturn(0);
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             cardEffectService.handleCardEffect(mockCard, turnOrder, gameDeck);
             
@@ -218,15 +221,15 @@ class CardEffectServiceTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("nonExistentPlayer");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
             Mockito.when(effect.getThirdCard()).thenReturn(null);
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             Assertions.assertThrows(
                 IllegalStateException.class,
@@ -248,9 +251,9 @@ class CardEffectServiceTest {
             mockedStatic.when(GameContext::getTurnOrder).thenReturn(turnOrder);
             mockedStatic.when(GameContext::getGameDeck).thenReturn(gameDeck);
             
-            Mockito.when(player2.getHand()).thenReturn(Collections.emptyList());
+            stubHand(player2, Collections.emptyList());
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -260,9 +263,9 @@ class CardEffectServiceTest {
             Mockito.when(effect.getTargetCardIndex())
                 .thenReturn(0);
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             IllegalStateException exception = Assertions.assertThrows(
                 IllegalStateException.class,
@@ -289,9 +292,9 @@ class CardEffectServiceTest {
             // Set up player2's hand with a card
             Card stolenCard = Mockito.mock(Card.class);
             List<Card> player2Hand = Arrays.asList(stolenCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -301,9 +304,9 @@ class CardEffectServiceTest {
             Mockito.when(effect.getTargetCardIndex())
                 .thenReturn(1); // Invalid index (out of bounds)
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             IllegalStateException exception = Assertions.assertThrows(
                 IllegalStateException.class,
@@ -330,9 +333,9 @@ class CardEffectServiceTest {
             // Set up player2's hand with a card
             Card stolenCard = Mockito.mock(Card.class);
             List<Card> player2Hand = Arrays.asList(stolenCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -342,9 +345,9 @@ class CardEffectServiceTest {
             Mockito.when(effect.getTargetCardIndex())
                 .thenReturn(-1); // Invalid negative index
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             IllegalStateException exception = Assertions.assertThrows(
                 IllegalStateException.class,
@@ -370,13 +373,13 @@ class CardEffectServiceTest {
             
             // Set up a card that executes normally without throwing exception
             Card normalCard = Mockito.mock(Card.class);
-            Mockito.doNothing().when(normalCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(null).when(normalCard).resolve(turnOrder, gameDeck);
             
             // Execute the method
             cardEffectService.handleCardEffect(normalCard, turnOrder, gameDeck);
             
             // Verify that effect was called once
-            Mockito.verify(normalCard, Mockito.times(1)).effect(turnOrder, gameDeck);
+            Mockito.verify(normalCard, Mockito.times(1)).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -409,10 +412,10 @@ class CardEffectServiceTest {
                 shuffleCard,
                 defuseCard
             );
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
             // Set up cat card effect to request ATTACK type
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -435,9 +438,9 @@ class CardEffectServiceTest {
                 ))
                 .thenReturn(attackCard);
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             // Execute the method
             cardEffectService.applyEffect(mockCard, player1);
@@ -485,10 +488,10 @@ class CardEffectServiceTest {
             Mockito.when(attackCard2.getType()).thenReturn(CardType.ATTACK);
             
             List<Card> player2Hand = Arrays.asList(attackCard1, attackCard2);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
             // Set up cat card effect to request ATTACK type
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -513,9 +516,9 @@ class CardEffectServiceTest {
             )
                 .thenReturn(null);
             
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(mockCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             // Execute the method
             cardEffectService.applyEffect(mockCard, player1);
@@ -558,10 +561,10 @@ class CardEffectServiceTest {
             Mockito.when(rainbowCat.getCatType()).thenReturn(CatType.RAINBOW_CAT);
 
             List<Card> player2Hand = Arrays.asList(tacoCat, rainbowCat);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
 
             // Set up effect to request TACOCAT
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -576,7 +579,7 @@ class CardEffectServiceTest {
             Mockito.when(mockGameView.selectCardFromPlayer(Mockito.eq(player2), Mockito.anyList()))
                 .thenReturn(tacoCat);
 
-            Mockito.doThrow(effect).when(mockCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(mockCard).resolve(turnOrder, gameDeck);
 
             // Act
             cardEffectService.applyEffect(mockCard, player1);
@@ -616,9 +619,9 @@ class CardEffectServiceTest {
             // Set up player2's hand with a card to steal
             Card stolenCard = Mockito.mock(Card.class);
             List<Card> player2Hand = Arrays.asList(stolenCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -626,7 +629,7 @@ class CardEffectServiceTest {
             Mockito.when(effect.getTargetPlayerHand()).thenReturn(player2Hand);
             Mockito.when(effect.getTargetCardIndex()).thenReturn(0);
             
-            Mockito.doThrow(effect).when(mockCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(mockCard).resolve(turnOrder, gameDeck);
             
             // Execute
             cardEffectService.applyEffect(mockCard, player1);
@@ -645,10 +648,10 @@ class CardEffectServiceTest {
             // Set up player2's hand with a card to request
             Card requestedCard = Mockito.mock(Card.class);
             List<Card> player2Hand = Arrays.asList(requestedCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             Mockito.when(requestedCard.getType()).thenReturn(CardType.ATTACK);
             
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             Mockito.when(effect.getFirstCard()).thenReturn(firstCatCard);
             Mockito.when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -658,7 +661,7 @@ class CardEffectServiceTest {
             Mockito.when(mockGameView.selectTargetPlayer(any())).thenReturn(player2);
             Mockito.when(mockGameView.selectCardFromPlayer(any(), any())).thenReturn(requestedCard);
             
-            Mockito.doThrow(effect).when(mockCard).effect(turnOrder, gameDeck);
+            Mockito.doReturn(effect).when(mockCard).resolve(turnOrder, gameDeck);
             
             // Execute
             cardEffectService.applyEffect(mockCard, player1);
@@ -684,9 +687,9 @@ class CardEffectServiceTest {
             Card nonMatchingCard = mock(Card.class);
             when(nonMatchingCard.getType()).thenReturn(CardType.SKIP);
             List<Card> player2Hand = Arrays.asList(nonMatchingCard);
-            when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
-            CatCard.CatCardEffect effect = mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = mock(CatCardEffect.class);
             when(effect.getTargetPlayerName()).thenReturn("player2");
             when(effect.getFirstCard()).thenReturn(firstCatCard);
             when(effect.getSecondCard()).thenReturn(secondCatCard);
@@ -697,7 +700,7 @@ class CardEffectServiceTest {
             when(mockGameView.selectTargetPlayer(any())).thenReturn(player2);
             
             // Mock card to throw effect
-            doThrow(effect).when(mockCard).effect(turnOrder, gameDeck);
+            doReturn(effect).when(mockCard).resolve(turnOrder, gameDeck);
             
             // Execute
             cardEffectService.applyEffect(mockCard, player1);
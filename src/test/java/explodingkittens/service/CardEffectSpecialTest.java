@@ -1,5 +1,6 @@
 package explodingkittens.service;
 
+import static explodingkittens.model.PlayerStubs.stubHand;
 import explodingkittens.model.Card;
 import explodingkittens.model.CardType;
 import explodingkittens.model.AttackCard;
@@ -7,6 +8,7 @@ import explodingkittens.model.SkipCard;
 import explodingkittens.model.SeeTheFutureCard;
 import explodingkittens.model.ShuffleCard;
 import explodingkittens.model.CatCard;
+import explodingkittens.model.CatCardEffect;
 import explodingkittens.model.DefuseCard;
 import explodingkittens.controller.GameContext;
 import explodingkittens.model.Player;
@@ -88,7 +90,7 @@ class CardEffectSpecialTest {
 
     /**
      * BVA Test Case 4: card = valid Card, ctx = valid GameContext
-     * Expected: card.effect() is called once
+     * Expected: card.resolve() is called once
      */
     @Test
     void testValidInputs() {
@@ -98,7 +100,7 @@ class CardEffectSpecialTest {
             
             cardEffectService.applyEffect(mockCard, player1);
             
-            Mockito.verify(mockCard, Mockito.times(1)).effect(turnOrder, gameDeck);
+            Mockito.verify(mockCard, Mockito.times(1)).resolve(turnOrder, gameDeck);
         }
     }
 
@@ -139,10 +141,10 @@ class CardEffectSpecialTest {
             Card matchingCard = Mockito.mock(Card.class);
             Mockito.when(matchingCard.getType()).thenReturn(CardType.ATTACK);
             List<Card> player2Hand = Arrays.asList(matchingCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
             // Set up the cat card effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCatCard = Mockito.mock(CatCard.class);
             CatCard secondCatCard = Mockito.mock(CatCard.class);
             CatCard thirdCatCard = Mockito.mock(CatCard.class);
@@ -153,11 +155,11 @@ class CardEffectSpecialTest {
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             
-            // Mock the card to throw the effect
+            // Mock the card to return the effect
             Card catCard = Mockito.mock(Card.class);
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(catCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             // Mock view behavior
             Mockito.when(mockGameView.selectCardFromPlayer(
@@ -197,10 +199,10 @@ class CardEffectSpecialTest {
             Card nonMatchingCard = Mockito.mock(Card.class);
             Mockito.when(nonMatchingCard.getType()).thenReturn(CardType.SKIP);
             List<Card> player2Hand = Arrays.asList(nonMatchingCard);
-            Mockito.when(player2.getHand()).thenReturn(player2Hand);
+            stubHand(player2, player2Hand);
             
             // Set up the cat card effect
-            CatCard.CatCardEffect effect = Mockito.mock(CatCard.CatCardEffect.class);
+            CatCardEffect effect = Mockito.mock(CatCardEffect.class);
             CatCard firstCatCard = Mockito.mock(CatCard.class);
             CatCard secondCatCard = Mockito.mock(CatCard.class);
             CatCard thirdCatCard = Mockito.mock(CatCard.class);
@@ -211,11 +213,11 @@ class CardEffectSpecialTest {
             Mockito.when(effect.getRequestedCardType()).thenReturn(CardType.ATTACK);
             Mockito.when(effect.getTargetPlayerName()).thenReturn("player2");
             
-            // Mock the card to throw the effect
+            // Mock the card to return the effect
             Card catCard = Mockito.mock(Card.class);
-            Mockito.doThrow(effect)
+            Mockito.doReturn(effect)
                 .when(catCard)
-                .effect(turnOrder, gameDeck);
+                .resolve(turnOrder, gameDeck);
             
             // Mock the view to return the target player
             Mockito.when(mockGameView.selectTargetPlayer(
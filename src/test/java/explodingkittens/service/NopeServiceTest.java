@@ -2,20 +2,24 @@ package explodingkittens.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import explodingkittens.model.BasicCard;
+import explodingkittens.model.CardRegistry;
 import explodingkittens.model.CardType;
 import explodingkittens.model.Player;
 import explodingkittens.model.Card;
@@ -23,7 +27,10 @@ import explodingkittens.view.GameView;
 import explodingkittens.controller.GameContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Test class for {@link NopeService}.
@@ -453,4 +460,103 @@ public class NopeServiceTest {
             verify(view, never()).displayPlayerHand(any());
         }
     }
-} 
\ No newline at end of file
+
+    private static Player nopeHolder(String name) {
+        Player player = new Player(name);
+        player.receiveCard(CardRegistry.get(CardType.NOPE));
+        return player;
+    }
+
+    @Test
+    void testNopeWindowRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new NopeService(view, null, 100));
+        assertThrows(IllegalArgumentException.class,
+            () -> new NopeService(view, (p, c) -> CompletableFuture.completedFuture(false), 0));
+    }
+
+    @Test
+    void testNopeWindowAsksEveryHolderAtOnce() {
+        Player current = new Player("Current");
+        Player second = nopeHolder("Second");
+        Player third = nopeHolder("Third");
+        List<Player> asked = new ArrayList<>();
+        List<CompletableFuture<Boolean>> answers = new ArrayList<>();
+        NopeService window = new NopeService(view, (p, c) -> {
+            asked.add(p);
+            CompletableFuture<Boolean> answer = new CompletableFuture<>();
+            answers.add(answer);
+            // Nobody answers until everyone has been asked
+            if (answers.size() == 2) {
+                for (CompletableFuture<Boolean> pending : answers) {
+                    CompletableFuture.runAsync(() -> pending.complete(false));
+                }
+            }
+            return answer;
+        }, 10_000);
+
+        try (MockedStatic<GameContext> mockedStatic = mockStatic(GameContext.class)) {
+            mockedStatic.when(GameContext::getTurnOrder).thenReturn(Arrays.asList(current, second, third));
+            mockedStatic.when(GameContext::getCurrentPlayer).thenReturn(current);
+
+            long start = System.nanoTime();
+            assertFalse(window.isNegatedByPlayers(targetCard));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        }
+        assertEquals(Arrays.asList(second, third), asked);
+        verify(view, never()).displayPlayedNope(any());
+    }
+
+    @Test
+    void testNopeWindowFirstYesWinsAndOpensANewWindow() {
+        Player current = new Player("Current");
+        Player slow = nopeHolder("Slow");
+        Player fast = nopeHolder("Fast");
+        List<CompletableFuture<Boolean>> slowAnswers = new ArrayList<>();
+        NopeService window = new NopeService(view, (p, c) -> {
+            if (p == fast) {
+                return CompletableFuture.completedFuture(true);
+            }
+            CompletableFuture<Boolean> answer = new CompletableFuture<>();
+            if (slowAnswers.isEmpty()) {
+                slowAnswers.add(answer);
+                return answer;
+            }
+            slowAnswers.add(answer);
+            answer.complete(true);
+            return answer;
+        }, 10_000);
+
+        try (MockedStatic<GameContext> mockedStatic = mockStatic(GameContext.class)) {
+            mockedStatic.when(GameContext::getTurnOrder).thenReturn(Arrays.asList(current, slow, fast));
+            mockedStatic.when(GameContext::getCurrentPlayer).thenReturn(current);
+
+            assertFalse(window.isNegatedByPlayers(targetCard));
+        }
+        assertTrue(slowAnswers.get(0).isCancelled());
+        assertEquals(2, slowAnswers.size());
+        assertFalse(fast.hasCardOfType(CardType.NOPE));
+        assertFalse(slow.hasCardOfType(CardType.NOPE));
+        InOrder order = inOrder(view);
+        order.verify(view).displayPlayedNope(fast);
+        order.verify(view).displayPlayedNope(slow);
+    }
+
+    @Test
+    void testNopeWindowClosesAfterTimeout() {
+        Player current = new Player("Current");
+        Player silent = nopeHolder("Silent");
+        CompletableFuture<Boolean> never = new CompletableFuture<>();
+        NopeService window = new NopeService(view, (p, c) -> never, 50);
+
+        try (MockedStatic<GameContext> mockedStatic = mockStatic(GameContext.class)) {
+            mockedStatic.when(GameContext::getTurnOrder).thenReturn(Arrays.asList(current, silent));
+            mockedStatic.when(GameContext::getCurrentPlayer).thenReturn(current);
+
+            long start = System.nanoTime();
+            assertFalse(window.isNegatedByPlayers(targetCard));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        assertTrue(never.isCancelled());
+        assertTrue(silent.hasCardOfType(CardType.NOPE));
+    }
+}
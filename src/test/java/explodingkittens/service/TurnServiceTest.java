@@ -173,7 +173,7 @@ class TurnServiceTest {
         // Mock deck behavior
         when(deck.drawOne()).thenReturn(explodingKitten);
         when(deck.size()).thenReturn(10);
-        doNothing().when(deck).insertAt(any(), anyInt());
+        doNothing().when(deck).insertAt(any(), any(), anyInt());
         
         // Mock GameContext
         mockedStatic.when(GameContext::getGameDeck).thenReturn(deck);
@@ -185,7 +185,7 @@ class TurnServiceTest {
         
         // Verify
         verify(player).useDefuse();
-        verify(deck).insertAt(explodingKitten, 0);
+        verify(deck).insertAt(player, explodingKitten, 0);
         verify(player).setLeftTurns(1);
     }
 
@@ -324,7 +324,7 @@ class TurnServiceTest {
         
         verify(view).showCardDrawn(player, explodingKitten);
         verify(player).useDefuse();
-        verify(deck).insertAt(explodingKitten, 0);
+        verify(deck).insertAt(player, explodingKitten, 0);
     }
 
     @Test
@@ -335,7 +335,7 @@ class TurnServiceTest {
         turnService.drawPhase(player);
         
         verify(view).showCardDrawn(player, explodingKitten);
-        verify(player).setAlive(false);
+        mockedStatic.verify(() -> GameContext.eliminatePlayer(player));
     }
 
     @Test
@@ -347,7 +347,7 @@ class TurnServiceTest {
         turnService.drawPhase(player);
         
         verify(view).showCardDrawn(player, explodingKitten);
-        verify(player).setAlive(false);
+        mockedStatic.verify(() -> GameContext.eliminatePlayer(player));
     }
 
     @Test
@@ -395,7 +395,7 @@ class TurnServiceTest {
         
         // Verify
         verify(view).showCardDrawn(player, explodingKitten);
-        verify(player).setAlive(false);  // Player should be eliminated
+        mockedStatic.verify(() -> GameContext.eliminatePlayer(player));  // Player should be eliminated
         // Left turns should not be set when game is over
         verify(player, never()).setLeftTurns(anyInt());
         mockedStatic.verify(() -> GameContext.movePlayerToEnd(player), never());
@@ -475,7 +475,7 @@ class TurnServiceTest {
         verify(view, times(1)).showCardDrawn(player, card);  // First card drawn
         verify(view, times(1)).showCardDrawn(player, explodingKitten);  // Second card drawn
         verify(player, times(1)).receiveCard(card);  // First card received
-        verify(player).setAlive(false);  // Player eliminated by exploding kitten
+        mockedStatic.verify(() -> GameContext.eliminatePlayer(player));  // Player eliminated by exploding kitten
         // Left turns should not be set when game is over
         verify(player, never()).setLeftTurns(anyInt());
         mockedStatic.verify(() -> GameContext.movePlayerToEnd(player), never());
@@ -695,7 +695,7 @@ class TurnServiceTest {
         
         // Verify
         verify(view).displayDefuseSuccess(player, 0);
-        verify(deck).insertAt(ek, 0);
+        verify(deck).insertAt(player, ek, 0);
         verify(player).useDefuse();
     }
 
@@ -776,7 +776,7 @@ class TurnServiceTest {
         assertTrue(output.endsWith("\n"), "Raw output should end with a newline");
         
         // Verify player elimination
-        verify(player).setAlive(false);
+        mockedStatic.verify(() -> GameContext.eliminatePlayer(player));
         verify(view).displayPlayerEliminated(player);
     }
 
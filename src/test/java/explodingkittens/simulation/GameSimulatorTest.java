@@ -0,0 +1,198 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameController;
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.Player;
+import explodingkittens.util.ConsoleOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class GameSimulatorTest {
+
+    @AfterEach
+    void tearDown() {
+        GameContext.unbind();
+    }
+
+    private static List<DecisionPolicy> randomSeats(int count, long seed) {
+        List<DecisionPolicy> seats = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            seats.add(new RandomPolicy(new Random(seed + i)));
+        }
+        return seats;
+    }
+
+    @Test
+    void runPlaysEveryGameToAWinner() {
+        GameSimulator simulator = new GameSimulator(randomSeats(4, 7L), new Random(42L));
+
+        SimulationReport report = simulator.run(50);
+
+        assertEquals(50, report.getGames());
+        assertEquals(0, report.getAbortedGames());
+        int wins = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            wins += report.getWins(seat);
+        }
+        assertEquals(50, wins);
+        assertTrue(report.getAverageTurns() > 0);
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void runWritesNothingToStandardOut() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            new GameSimulator(randomSeats(3, 11L), new Random(3L)).run(20);
+        }
+        finally {
+            System.setOut(original);
+        }
+        assertEquals("", captured.toString());
+        assertTrue(ConsoleOutput.isEnabled());
+    }
+
+    @Test
+    void playGameReportsWinnerSeat() {
+        PolicyGameView view = new GameSimulator(randomSeats(2, 5L), new Random(9L)).playGame();
+
+        assertTrue(view.getWinner() != null);
+        assertTrue(view.getWinnerSeat() == 0 || view.getWinnerSeat() == 1);
+        assertTrue(view.getTurns() > 0);
+    }
+
+    @Test
+    void sameSeedsReplayTheSameGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            PolicyGameView first = new GameSimulator(randomSeats(4, seed), new Random(seed))
+                .playGame();
+            PolicyGameView second = new GameSimulator(randomSeats(4, seed), new Random(seed))
+                .playGame();
+
+            assertEquals(first.getWinnerSeat(), second.getWinnerSeat());
+            assertEquals(first.getTurns(), second.getTurns());
+        }
+    }
+
+    @Test
+    void dealtTablesPlayLikeSimulatedGames() throws Exception {
+        ConsoleOutput.setQuiet(true);
+        try {
+            for (long seed = 0; seed < 10; seed++) {
+                PolicyGameView simulated = new GameSimulator(randomSeats(3, seed), new Random(seed))
+                    .playGame(seed);
+                PolicyGameView view = new PolicyGameView();
+                GameTable table = new GameSimulator(randomSeats(3, seed), new Random(seed))
+                    .deal(seed, view);
+
+                assertEquals(0, view.getTurns());
+                assertEquals(3, table.getTurnOrder().size());
+                new GameController(view, GameSimulator.createTurnService(table, view, view), table).start();
+                assertEquals(simulated.getWinnerSeat(), view.getWinnerSeat());
+                assertEquals(simulated.getTurns(), view.getTurns());
+            }
+        }
+        finally {
+            ConsoleOutput.setQuiet(false);
+        }
+    }
+
+    @Test
+    void dealRejectsNullView() {
+        GameSimulator simulator = new GameSimulator(randomSeats(2, 1L), new Random(1L));
+
+        assertThrows(IllegalArgumentException.class, () -> simulator.deal(1L, null));
+    }
+
+    @Test
+    void runWithZeroGamesReturnsEmptyReport() {
+        SimulationReport report = new GameSimulator(randomSeats(2, 1L), new Random()).run(0);
+
+        assertEquals(0, report.getGames());
+        assertEquals(0.0, report.getWinRate(0));
+        assertEquals(0.0, report.getAverageTurns());
+    }
+
+    @Test
+    void runRejectsNegativeGameCount() {
+        GameSimulator simulator = new GameSimulator(randomSeats(2, 1L), new Random());
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(-1));
+    }
+
+    @Test
+    void constructorRejectsInvalidSeats() {
+        Random random = new Random();
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(null, random));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(randomSeats(1, 1L), random));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(randomSeats(5, 1L), random));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(Arrays.asList(new RandomPolicy(random), null), random));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(randomSeats(2, 1L), null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameSimulator(Collections.emptyList(), random));
+    }
+
+    @Test
+    void playGameThroughGivenViewUsesSeatNames() {
+        GameSimulator simulator = new GameSimulator(randomSeats(2, 3L), new Random(3L));
+        simulator.setSeatNames(Arrays.asList("Ann", "Bob"));
+        List<String> turns = new ArrayList<>();
+        PolicyGameView view = new PolicyGameView() {
+            @Override
+            public void displayCurrentPlayer(Player player) {
+                super.displayCurrentPlayer(player);
+                turns.add(player.getName());
+            }
+        };
+
+        assertSame(view, simulator.playGame(11L, view));
+        assertEquals(view.getTurns(), turns.size());
+        assertEquals("Ann", turns.get(0));
+        assertTrue(turns.contains("Bob"));
+        assertTrue(Arrays.asList("Ann", "Bob").contains(view.getWinner().getName()));
+        assertThrows(IllegalArgumentException.class, () -> simulator.playGame(1L, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> simulator.setSeatNames(Arrays.asList("Ann")));
+    }
+
+    @Test
+    void simulatorsRunConcurrentlyOnSeparateThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SimulationReport>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                GameSimulator simulator = new GameSimulator(randomSeats(4, 100L * i),
+                    new Random(i));
+                results.add(pool.submit(() -> simulator.run(25)));
+            }
+            for (Future<SimulationReport> result : results) {
+                SimulationReport report = result.get();
+                assertEquals(25, report.getGames());
+                assertEquals(0, report.getAbortedGames());
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.AttackCard;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InformationSetTest {
+    private GameTable table;
+    private Player self;
+    private Player opponent;
+    private Card attack;
+
+    @BeforeEach
+    void setUp() {
+        self = new Player("Self");
+        opponent = new Player("Opponent");
+        self.receiveCard(CardRegistry.get(CardType.DEFUSE));
+        self.receiveCard(CardRegistry.get(CatType.TACOCAT));
+        attack = new AttackCard();
+        opponent.getRealHand().add(attack);
+        opponent.receiveCard(CardRegistry.get(CardType.NOPE));
+        Deck deck = new Deck();
+        deck.addCard(CardRegistry.get(CardType.SKIP));
+        deck.addCard(CardRegistry.get(CardType.SHUFFLE));
+        deck.addCard(CardRegistry.get(CardType.EXPLODING_KITTEN));
+        table = new GameTable();
+        table.setGameDeck(deck);
+        table.setTurnOrder(Arrays.asList(opponent, self));
+    }
+
+    private static int count(List<Card> cards, CardType type) {
+        int count = 0;
+        for (Card card : cards) {
+            if (card.getType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void captureRejectsPlayersOutsideTheGame() {
+        assertThrows(IllegalStateException.class,
+            () -> InformationSet.capture(table, new Player("Stranger")));
+        assertThrows(IllegalStateException.class,
+            () -> InformationSet.capture(new GameTable(), self));
+    }
+
+    @Test
+    void determinizeKeepsKnownHandAndSizes() {
+        InformationSet info = InformationSet.capture(table, self);
+        assertEquals(1, info.getObserverSeat());
+        assertEquals(0, info.getCurrentSeat());
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<Player> players = new ArrayList<>();
+            GameTable dealt = info.determinize(new Random(seed), players);
+
+            assertEquals(Arrays.asList("Opponent", "Self"),
+                Arrays.asList(players.get(0).getName(), players.get(1).getName()));
+            assertEquals(self.getHand(), players.get(1).getHand());
+            assertEquals(2, players.get(0).getHand().size());
+            assertEquals(3, dealt.getGameDeck().size());
+            assertSame(players.get(0), dealt.getCurrentPlayer());
+            List<Card> unseen = new ArrayList<>(players.get(0).getHand());
+            unseen.addAll(dealt.getGameDeck().getCards());
+            assertEquals(1, count(unseen, CardType.ATTACK));
+            assertEquals(1, count(unseen, CardType.EXPLODING_KITTEN));
+            for (Card card : unseen) {
+                assertNotSame(attack, card);
+            }
+        }
+    }
+
+    @Test
+    void revealedCardStaysInItsHand() {
+        InformationSet info = InformationSet.capture(table, self);
+        info.reveal(0, attack);
+
+        for (long seed = 0; seed < 10; seed++) {
+            List<Player> players = new ArrayList<>();
+            info.determinize(new Random(seed), players);
+
+            assertTrue(players.get(0).hasCardOfType(CardType.ATTACK));
+            assertEquals(2, players.get(0).getHand().size());
+        }
+    }
+
+    @Test
+    void returnedCardsAndDeckTopAreDealtFirst() {
+        InformationSet info = InformationSet.capture(table, self);
+        info.returnToHand(1, CardRegistry.get(CardType.DEFUSE));
+        info.setDeckTop(CardRegistry.get(CardType.EXPLODING_KITTEN));
+
+        List<Player> players = new ArrayList<>();
+        GameTable dealt = info.determinize(new Random(3L), players);
+
+        assertEquals(3, players.get(1).getHand().size());
+        assertEquals(2, players.get(1).countCards(CardType.DEFUSE));
+        assertEquals(4, dealt.getGameDeck().size());
+        assertEquals(CardType.EXPLODING_KITTEN, dealt.getGameDeck().peekTop().getType());
+    }
+}
@@ -0,0 +1,132 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.controller.GameContext;
+import explodingkittens.controller.GameTable;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.Deck;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class IsmctsPolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        GameContext.unbind();
+    }
+
+    private static IsmctsPolicy limitedPolicy(long seed, int threads, ForkJoinPool pool) {
+        IsmctsPolicy policy = new IsmctsPolicy(new Random(seed), 60_000, threads, pool);
+        policy.setPlayoutLimit(20);
+        return policy;
+    }
+
+    private static PolicyGameView playAgainstRandom(IsmctsPolicy policy, long seed) {
+        List<DecisionPolicy> seats = Arrays.asList(policy, new RandomPolicy(new Random(seed)));
+        return new GameSimulator(seats, new Random(seed)).playGame();
+    }
+
+    @Test
+    void constructorRejectsInvalidArguments() {
+        Random random = new Random(1L);
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsPolicy(null, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsPolicy(random, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsPolicy(random, 10, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new IsmctsPolicy(random, 10, 1, null));
+    }
+
+    @Test
+    void playsAGameToTheEndAndReportsThroughput() {
+        IsmctsPolicy policy = limitedPolicy(3L, 1, ForkJoinPool.commonPool());
+
+        PolicyGameView view = playAgainstRandom(policy, 5L);
+
+        assertTrue(view.getWinnerSeat() == 0 || view.getWinnerSeat() == 1);
+        assertTrue(policy.getSearches() > 0);
+        assertTrue(policy.getPlayouts() > 0);
+        assertTrue(policy.getPlayouts() <= 20L * policy.getSearches());
+        assertTrue(policy.getPlayoutsPerSecond() > 0);
+    }
+
+    @Test
+    void playoutLimitMakesSearchRepeatable() {
+        PolicyGameView first = playAgainstRandom(limitedPolicy(8L, 1, ForkJoinPool.commonPool()),
+            13L);
+        PolicyGameView second = playAgainstRandom(limitedPolicy(8L, 1, ForkJoinPool.commonPool()),
+            13L);
+
+        assertEquals(first.getWinnerSeat(), second.getWinnerSeat());
+        assertEquals(first.getTurns(), second.getTurns());
+    }
+
+    @Test
+    void rootParallelismMergesEveryTree() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            IsmctsPolicy policy = limitedPolicy(4L, 2, pool);
+
+            playAgainstRandom(policy, 6L);
+
+            assertTrue(policy.getPlayouts() > 20L * policy.getSearches());
+            assertTrue(policy.getPlayouts() <= 40L * policy.getSearches());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void placesKittenOnTopBeforeTheOpponentDrawsADefuse() {
+        Player self = new Player("Self");
+        Player opponent = new Player("Opponent");
+        Deck deck = new Deck();
+        deck.addCard(CardRegistry.get(CardType.DEFUSE));
+        GameTable table = new GameTable();
+        table.setGameDeck(deck);
+        table.setTurnOrder(Arrays.asList(self, opponent));
+        GameContext.bind(table);
+        IsmctsPolicy policy = limitedPolicy(21L, 1, ForkJoinPool.commonPool());
+
+        assertEquals(0, policy.chooseKittenPosition(self, 1));
+        assertEquals(1, policy.getSearches());
+    }
+
+    @Test
+    void doesNotSearchWithoutAPlayableCard() {
+        IsmctsPolicy policy = limitedPolicy(1L, 1, ForkJoinPool.commonPool());
+        List<Card> hand = new ArrayList<>();
+        hand.add(CardRegistry.get(CardType.DEFUSE));
+        hand.add(CardRegistry.get(CatType.TACOCAT));
+
+        assertNull(policy.chooseCardToPlay(new Player("Self"), hand));
+        assertEquals(0, policy.getSearches());
+    }
+
+    @Test
+    void keepsDefuseAndNopeWhenGivingACard() {
+        IsmctsPolicy policy = limitedPolicy(2L, 1, ForkJoinPool.commonPool());
+        Card cat = CardRegistry.get(CatType.TACOCAT);
+        List<Card> cards = Arrays.asList(CardRegistry.get(CardType.DEFUSE),
+            CardRegistry.get(CardType.NOPE), cat);
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(cat, policy.chooseCardToGive(new Player("Self"), cards));
+        }
+        assertTrue(policy.useDefuse(new Player("Self")));
+    }
+}
@@ -0,0 +1,140 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardType;
+import explodingkittens.model.Player;
+import explodingkittens.model.SkipCard;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PolicyGameViewTest {
+    private PolicyGameView view;
+    private DecisionPolicy firstPolicy;
+    private DecisionPolicy secondPolicy;
+    private Player first;
+    private Player second;
+
+    @BeforeEach
+    void setUp() {
+        view = new PolicyGameView();
+        firstPolicy = mock(DecisionPolicy.class);
+        secondPolicy = mock(DecisionPolicy.class);
+        first = new Player("First");
+        second = new Player("Second");
+        view.seat(first, firstPolicy);
+        view.seat(second, secondPolicy);
+    }
+
+    @Test
+    void winnerSeatFollowsSeatingOrder() {
+        assertEquals(-1, view.getWinnerSeat());
+        view.displayWinner(second);
+        assertSame(second, view.getWinner());
+        assertEquals(1, view.getWinnerSeat());
+    }
+
+    @Test
+    void displayCurrentPlayerCountsTurns() {
+        view.displayCurrentPlayer(first);
+        view.displayCurrentPlayer(second);
+        assertEquals(2, view.getTurns());
+        assertSame(second, view.getActivePlayer());
+    }
+
+    @Test
+    void selectCardToPlayAsksPlayersPolicy() {
+        Card skip = new SkipCard();
+        List<Card> hand = Arrays.asList(skip);
+        when(firstPolicy.chooseCardToPlay(first, hand)).thenReturn(skip);
+
+        assertEquals("play", view.promptPlayerAction(first));
+        assertSame(skip, view.selectCardToPlay(first, hand));
+    }
+
+    @Test
+    void chosenCardsAndNopesAreCountedPerSeat() {
+        Card skip = new SkipCard();
+        List<Card> hand = Arrays.asList(skip);
+        when(secondPolicy.chooseCardToPlay(second, hand)).thenReturn(skip);
+
+        view.promptPlayerAction(second);
+        view.selectCardToPlay(second, hand);
+        view.displayPlayedNope(first);
+
+        assertEquals(1, view.getCardsPlayed(1, CardType.SKIP));
+        assertEquals(1, view.getCardsPlayed(0, CardType.NOPE));
+        assertEquals(0, view.getCardsPlayed(0, CardType.SKIP));
+    }
+
+    @Test
+    void rejectedPlayEndsPhaseUntilNextPrompt() {
+        Card skip = new SkipCard();
+        List<Card> hand = Arrays.asList(skip);
+        when(firstPolicy.chooseCardToPlay(first, hand)).thenReturn(skip);
+
+        view.promptPlayerAction(first);
+        view.showError("invalid");
+        assertNull(view.selectCardToPlay(first, hand));
+        view.promptPlayerAction(first);
+        assertSame(skip, view.selectCardToPlay(first, hand));
+    }
+
+    @Test
+    void emptyHandSkipsPolicy() {
+        assertNull(view.selectCardToPlay(first, Collections.emptyList()));
+        verify(firstPolicy, never()).chooseCardToPlay(any(), any());
+    }
+
+    @Test
+    void kittenPositionUsesDefusingPlayerAndIsClamped() {
+        view.displayCurrentPlayer(first);
+        when(secondPolicy.useDefuse(second)).thenReturn(true);
+        when(secondPolicy.chooseKittenPosition(eq(second), anyInt())).thenReturn(99);
+
+        assertTrue(view.confirmDefuse(second));
+        assertEquals(4, view.selectExplodingKittenPosition(4));
+        verify(firstPolicy, never()).chooseKittenPosition(any(), anyInt());
+    }
+
+    @Test
+    void cardToGiveIsChosenByTarget() {
+        Card skip = new SkipCard();
+        List<Card> hand = Arrays.asList(skip);
+        view.displayCurrentPlayer(first);
+        when(secondPolicy.chooseCardToGive(second, hand)).thenReturn(skip);
+
+        assertSame(skip, view.selectCardFromPlayer(second, hand));
+        assertNull(view.selectCardFromPlayer(second, Collections.emptyList()));
+    }
+
+    @Test
+    void nopeDecisionComesFromPolicy() {
+        Card skip = new SkipCard();
+        when(secondPolicy.playNope(second, skip)).thenReturn(true);
+        assertTrue(view.promptPlayNope(second, skip));
+        assertFalse(view.promptPlayNope(first, skip));
+    }
+
+    @Test
+    void unseatedPlayerIsRejected() {
+        Player stranger = new Player("Stranger");
+        assertThrows(IllegalStateException.class, () -> view.confirmDefuse(stranger));
+        assertThrows(IllegalArgumentException.class, () -> view.seat(null, firstPolicy));
+    }
+}
@@ -0,0 +1,110 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import explodingkittens.model.Card;
+import explodingkittens.model.CatCard;
+import explodingkittens.model.CatType;
+import explodingkittens.model.DefuseCard;
+import explodingkittens.model.ExplodingKittenCard;
+import explodingkittens.model.NopeCard;
+import explodingkittens.model.Player;
+import explodingkittens.model.SkipCard;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class RandomPolicyTest {
+    private final Player player = new Player("P1");
+
+    @Test
+    void reactiveCardsAreNeverPlayable() {
+        List<Card> hand = new ArrayList<>();
+        Card defuse = new DefuseCard();
+        Card nope = new NopeCard();
+        Card kitten = new ExplodingKittenCard();
+        hand.add(defuse);
+        hand.add(nope);
+        hand.add(kitten);
+
+        assertFalse(RandomPolicy.isPlayable(defuse, hand));
+        assertFalse(RandomPolicy.isPlayable(nope, hand));
+        assertFalse(RandomPolicy.isPlayable(kitten, hand));
+    }
+
+    @Test
+    void actionCardIsPlayable() {
+        Card skip = new SkipCard();
+        assertTrue(RandomPolicy.isPlayable(skip, Arrays.asList(skip)));
+    }
+
+    @Test
+    void catCardNeedsMatchingPartner() {
+        Card tacocat = new CatCard(CatType.TACOCAT);
+        Card otherTacocat = new CatCard(CatType.TACOCAT);
+        Card beard = new CatCard(CatType.BEARD_CAT);
+
+        assertFalse(RandomPolicy.isPlayable(tacocat, Arrays.asList(tacocat, beard)));
+        assertTrue(RandomPolicy.isPlayable(tacocat, Arrays.asList(tacocat, otherTacocat)));
+    }
+
+    @Test
+    void feralCatPairsWithAnyOtherCat() {
+        Card feral = new CatCard(CatType.FERAL_CAT);
+        Card otherFeral = new CatCard(CatType.FERAL_CAT);
+        Card beard = new CatCard(CatType.BEARD_CAT);
+
+        assertTrue(RandomPolicy.isPlayable(feral, Arrays.asList(feral, beard)));
+        assertFalse(RandomPolicy.isPlayable(feral, Arrays.asList(feral, otherFeral)));
+    }
+
+    @Test
+    void chooseCardToPlayReturnsNullWithoutPlayableCards() {
+        RandomPolicy policy = new RandomPolicy(new Random(1L), 1.0, 0.0);
+        List<Card> hand = Arrays.asList(new DefuseCard(), new NopeCard());
+        assertNull(policy.chooseCardToPlay(player, hand));
+    }
+
+    @Test
+    void chooseCardToPlayPicksPlayableCard() {
+        RandomPolicy policy = new RandomPolicy(new Random(1L), 1.0, 0.0);
+        Card skip = new SkipCard();
+        List<Card> hand = Arrays.asList(new DefuseCard(), skip);
+        assertSame(skip, policy.chooseCardToPlay(player, hand));
+    }
+
+    @Test
+    void zeroPlayChanceEndsPhase() {
+        RandomPolicy policy = new RandomPolicy(new Random(1L), 0.0, 0.0);
+        assertNull(policy.chooseCardToPlay(player, Arrays.asList(new SkipCard())));
+        assertFalse(policy.playNope(player, new SkipCard()));
+    }
+
+    @Test
+    void choicesStayInRange() {
+        RandomPolicy policy = new RandomPolicy(new Random(3L));
+        List<Player> targets = Arrays.asList(new Player("A"), new Player("B"));
+        for (int i = 0; i < 100; i++) {
+            int position = policy.chooseKittenPosition(player, 5);
+            assertTrue(position >= 0 && position <= 5);
+            int index = policy.chooseCardIndex(player, 4);
+            assertTrue(index >= 0 && index < 4);
+            assertTrue(targets.contains(policy.chooseTarget(player, targets)));
+        }
+        assertTrue(policy.useDefuse(player));
+    }
+
+    @Test
+    void constructorRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomPolicy(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RandomPolicy(new Random(), -0.1, 0.5));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RandomPolicy(new Random(), 0.5, 1.1));
+    }
+}
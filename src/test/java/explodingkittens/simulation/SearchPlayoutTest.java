@@ -0,0 +1,90 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import explodingkittens.journal.DecisionKind;
+import explodingkittens.model.AttackCard;
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.CatType;
+import explodingkittens.model.CompactDeck;
+import explodingkittens.model.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SearchPlayoutTest {
+
+    @Test
+    void playKeysListPassAndEachPlayableCardOnce() {
+        Card skip = CardRegistry.get(CardType.SKIP);
+        Card taco = CardRegistry.get(CatType.TACOCAT);
+        List<Card> hand = Arrays.asList(skip, skip, CardRegistry.get(CardType.DEFUSE),
+            CardRegistry.get(CardType.NOPE), taco, CardRegistry.get(CatType.BEARD_CAT));
+
+        int[] keys = SearchPlayout.playKeys(hand);
+
+        assertArrayEquals(new int[] {SearchPlayout.PASS, CompactDeck.encode(skip)}, keys);
+        assertSame(skip, SearchPlayout.cardFor(hand, keys[1]));
+        assertNull(SearchPlayout.cardFor(hand, SearchPlayout.PASS));
+        assertNull(SearchPlayout.cardFor(hand, CompactDeck.encode(CardType.SHUFFLE)));
+    }
+
+    @Test
+    void positionKeysCoverTopMiddleAndBottom() {
+        assertArrayEquals(new int[] {0}, SearchPlayout.positionKeys(0));
+        assertArrayEquals(new int[] {0, 1}, SearchPlayout.positionKeys(1));
+        assertArrayEquals(new int[] {0, 1, 2, 5, 10}, SearchPlayout.positionKeys(10));
+    }
+
+    @Test
+    void passesBeforeRootThenExpandsOneAnswer() {
+        SearchNode root = new SearchNode(1, DecisionKind.PLAY_NOPE, SearchPlayout.PASS);
+        Random random = new Random(4L);
+        List<Player> players = Arrays.asList(new Player("A"), new Player("B"));
+        Card skip = CardRegistry.get(CardType.SKIP);
+        List<Card> hand = new ArrayList<>(Arrays.asList(new AttackCard(), skip));
+        SearchPlayout playout = new SearchPlayout(root, DecisionKind.PLAY_NOPE, 0,
+            CompactDeck.encode(skip), new RandomPolicy(random), random, players);
+        DecisionPolicy first = playout.seat(0);
+        DecisionPolicy second = playout.seat(1);
+
+        assertSame(skip, first.chooseCardToPlay(players.get(0), hand));
+        assertFalse(first.playNope(players.get(0), skip));
+        assertFalse(playout.isRootReached());
+
+        second.playNope(players.get(1), skip);
+        assertTrue(playout.isRootReached());
+        assertEquals(1, root.getChildren().size());
+
+        playout.backpropagate(1);
+        assertEquals(1, root.getVisits());
+        assertEquals(1, root.getChildren().get(0).getVisits());
+    }
+
+    @Test
+    void selectsByUcbOnceEveryAnswerIsExpanded() {
+        SearchNode root = new SearchNode(0, DecisionKind.PLAY_NOPE, SearchPlayout.PASS);
+        List<Player> players = Arrays.asList(new Player("A"), new Player("B"));
+        Random random = new Random(9L);
+        for (int i = 0; i < 6; i++) {
+            SearchPlayout playout = new SearchPlayout(root, DecisionKind.PLAY_NOPE, -1,
+                SearchPlayout.PASS, new RandomPolicy(random), random, players);
+            boolean nope = playout.seat(0).playNope(players.get(0), null);
+            playout.backpropagate(nope ? 0 : 1);
+        }
+
+        SearchNode nope = root.find(0, DecisionKind.PLAY_NOPE, 1);
+        SearchNode pass = root.find(0, DecisionKind.PLAY_NOPE, 0);
+        assertEquals(6, root.getVisits());
+        assertTrue(nope.getVisits() > pass.getVisits());
+    }
+}
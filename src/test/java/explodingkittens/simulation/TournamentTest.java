@@ -0,0 +1,140 @@
+package explodingkittens.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import explodingkittens.controller.GameContext;
+import explodingkittens.model.CardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TournamentTest {
+
+    @AfterEach
+    void tearDown() {
+        GameContext.unbind();
+    }
+
+    private static List<TournamentEntry> randomEntries(int count) {
+        List<TournamentEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(new TournamentEntry("Random" + i, RandomPolicy::new));
+        }
+        return entries;
+    }
+
+    @Test
+    void runPlaysEveryGameToAWinner() {
+        TournamentReport report = new Tournament(randomEntries(3), 5L).run(200);
+
+        assertEquals(200, report.getGames());
+        assertEquals(0, report.getAbortedGames());
+        int wins = 0;
+        for (int entry = 0; entry < 3; entry++) {
+            wins += report.getWins(entry);
+        }
+        assertEquals(200, wins);
+        assertTrue(report.getAverageTurns() > 0);
+        assertEquals(Arrays.asList("Random0", "Random1", "Random2"), report.getNames());
+    }
+
+    @Test
+    void partialReportsMergeOnAWidePool() {
+        Tournament tournament = new Tournament(randomEntries(4), 123L);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            TournamentReport report = tournament.run(Tournament.LEAF_GAMES * 5 + 3, wide);
+
+            assertEquals(Tournament.LEAF_GAMES * 5 + 3, report.getGames());
+            int wins = 0;
+            for (int entry = 0; entry < 4; entry++) {
+                wins += report.getWins(entry);
+                assertTrue(report.getCardsPlayed(entry, CardType.NOPE) >= 0);
+            }
+            assertEquals(report.getGames() - report.getAbortedGames(), wins);
+            assertTrue(report.getGamesPerSecond() > 0);
+        }
+        finally {
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void resultsDoNotDependOnPoolSize() {
+        Tournament tournament = new Tournament(randomEntries(4), 123L);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            TournamentReport sequential = tournament.run(300, single);
+            TournamentReport parallel = tournament.run(300, wide);
+
+            assertEquals(sequential.getAverageTurns(), parallel.getAverageTurns());
+            for (int entry = 0; entry < 4; entry++) {
+                assertEquals(sequential.getWins(entry), parallel.getWins(entry));
+                for (CardType type : CardType.values()) {
+                    assertEquals(sequential.getCardsPlayed(entry, type),
+                        parallel.getCardsPlayed(entry, type));
+                }
+            }
+        }
+        finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void cardUsageIsTrackedPerEntry() {
+        List<TournamentEntry> entries = Arrays.asList(
+            new TournamentEntry("Passive", random -> new RandomPolicy(random, 0, 0)),
+            new TournamentEntry("Active", random -> new RandomPolicy(random, 1, 0)));
+
+        TournamentReport report = new Tournament(entries, 9L).run(50);
+
+        long passive = 0;
+        long active = 0;
+        for (CardType type : CardType.values()) {
+            passive += report.getCardsPlayed(0, type);
+            active += report.getCardsPlayed(1, type);
+        }
+        assertEquals(0, passive);
+        assertTrue(active > 0);
+    }
+
+    @Test
+    void runZeroGamesGivesEmptyReport() {
+        TournamentReport report = new Tournament(randomEntries(2), 0L).run(0);
+
+        assertEquals(0, report.getGames());
+        assertEquals(0.0, report.getWinRate(0));
+        assertEquals(0.0, report.getAverageTurns());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(randomEntries(1), 0L));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(randomEntries(5), 0L));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(Arrays.asList(randomEntries(1).get(0), null), 0L));
+        Tournament tournament = new Tournament(randomEntries(2), 0L);
+        assertThrows(IllegalArgumentException.class, () -> tournament.run(-1));
+        assertThrows(IllegalArgumentException.class, () -> tournament.run(1, null));
+    }
+
+    @Test
+    void entryRejectsNullFactoryResult() {
+        TournamentEntry entry = new TournamentEntry("Broken", random -> null);
+        TournamentReport report = new TournamentReport(Collections.singletonList("x"));
+
+        assertThrows(IllegalStateException.class, () -> entry.createPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentEntry(null, RandomPolicy::new));
+        assertEquals(0, report.getWins(0));
+    }
+}
@@ -0,0 +1,116 @@
+package explodingkittens.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ConsoleRendererTest {
+    private static final String NL = System.lineSeparator();
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int writes;
+    private final PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8) {
+        @Override
+        public void write(byte[] buf, int off, int len) {
+            writes++;
+            super.write(buf, off, len);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        ConsoleOutput.setRenderer(null);
+        ConsoleOutput.setQuiet(false);
+    }
+
+    private String printed() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void constructorRejectsNullVerbosity() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsoleRenderer(out, null, true));
+    }
+
+    @Test
+    void bufferedRendererPrintsAFrameWithOneWrite() {
+        ConsoleRenderer renderer = new ConsoleRenderer(out, Verbosity.VERBOSE, true);
+        renderer.line("Alice drew a card");
+        renderer.diagnostic("1. Alice");
+        renderer.text("Choice: ");
+        assertEquals("", printed());
+
+        renderer.flush();
+
+        assertEquals("Alice drew a card" + NL + "1. Alice" + NL + "Choice: ", printed());
+        assertEquals(1, writes);
+        renderer.flush();
+        assertEquals(1, writes);
+    }
+
+    @Test
+    void unbufferedRendererPrintsEveryLine() {
+        ConsoleRenderer renderer = new ConsoleRenderer(out, Verbosity.NORMAL, false);
+        renderer.line("Alice drew a card");
+
+        assertEquals("Alice drew a card" + NL, printed());
+    }
+
+    @Test
+    void verbosityDropsDiagnosticsOrEverything() {
+        ConsoleRenderer normal = new ConsoleRenderer(out, Verbosity.NORMAL, true);
+        normal.diagnostic("1. Alice");
+        normal.line("Bob wins");
+        normal.flush();
+        assertFalse(normal.isDiagnosticEnabled());
+        assertEquals("Bob wins" + NL, printed());
+
+        ConsoleRenderer quiet = new ConsoleRenderer(out, Verbosity.QUIET, true);
+        quiet.line("Carol wins");
+        quiet.text("Choice: ");
+        quiet.flush();
+        assertEquals("Bob wins" + NL, printed());
+    }
+
+    @Test
+    void consoleOutputRoutesThroughTheThreadsRenderer() {
+        ConsoleRenderer renderer = new ConsoleRenderer(out, Verbosity.NORMAL, true);
+        ConsoleOutput.setRenderer(renderer);
+
+        assertSame(renderer, ConsoleOutput.getRenderer());
+        assertTrue(ConsoleOutput.isEnabled());
+        assertFalse(ConsoleOutput.isVerbose());
+        ConsoleOutput.println("Current turn order:");
+        ConsoleOutput.line("Alice's turn");
+        ConsoleOutput.text("Choice: ");
+        ConsoleOutput.flush();
+        assertEquals("Alice's turn" + NL + "Choice: ", printed());
+
+        ConsoleOutput.line("Alice wins");
+        ConsoleOutput.setRenderer(null);
+        assertNull(ConsoleOutput.getRenderer());
+        assertTrue(ConsoleOutput.isVerbose());
+        assertTrue(printed().endsWith("Alice wins" + NL));
+    }
+
+    @Test
+    void quietThreadsSkipTheRenderer() {
+        ConsoleOutput.setRenderer(new ConsoleRenderer(out, Verbosity.VERBOSE, false));
+        ConsoleOutput.setQuiet(true);
+
+        ConsoleOutput.line("Alice's turn");
+        ConsoleOutput.println("1. Alice");
+
+        assertFalse(ConsoleOutput.isVerbose());
+        assertEquals("", printed());
+    }
+}
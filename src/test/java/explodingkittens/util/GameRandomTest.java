@@ -0,0 +1,73 @@
+package explodingkittens.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameRandomTest {
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        GameRandom first = new GameRandom(42L);
+        GameRandom second = new GameRandom(42L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+            assertEquals(first.nextInt(10), second.nextInt(10));
+            assertEquals(first.nextDouble(), second.nextDouble());
+            assertEquals(first.nextBoolean(), second.nextBoolean());
+            assertEquals(first.nextInt(), second.nextInt());
+            assertEquals(first.nextFloat(), second.nextFloat());
+        }
+    }
+
+    @Test
+    void shuffleIsReproducible() {
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            first.add(i);
+            second.add(i);
+        }
+        Collections.shuffle(first, new GameRandom(3L));
+        Collections.shuffle(second, new GameRandom(3L));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void splitIsDeterministicAndIndependent() {
+        GameRandom first = new GameRandom(5L);
+        GameRandom second = new GameRandom(5L);
+        GameRandom firstChild = first.split();
+        GameRandom secondChild = second.split();
+
+        long childValue = firstChild.nextLong();
+        assertEquals(childValue, secondChild.nextLong());
+        assertEquals(first.nextLong(), second.nextLong());
+        assertNotEquals(childValue, new GameRandom(5L).nextLong());
+    }
+
+    @Test
+    void setSeedRestartsSequence() {
+        GameRandom random = new GameRandom(1L);
+        long value = random.nextLong();
+        random.nextLong();
+        random.setSeed(1L);
+        assertEquals(value, random.nextLong());
+    }
+
+    @Test
+    void boundsAreRespected() {
+        GameRandom random = new GameRandom();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(7);
+            assertTrue(value >= 0 && value < 7);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+}
@@ -1,10 +1,13 @@
 package explodingkittens.util;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class I18nUtilTest {
 
@@ -14,6 +17,11 @@ class I18nUtilTest {
         I18nUtil.initialize();
     }
 
+    @AfterEach
+    void tearDown() {
+        I18nUtil.unbindLocale();
+    }
+
     @Test
     void testInitialize() {
         I18nUtil.initialize();
@@ -105,6 +113,49 @@ class I18nUtilTest {
         assertNotNull(messageWithNull);
     }
 
-	
-	
-}
\ No newline at end of file
+    @Test
+    void testGetMessageById() {
+        assertEquals(I18nUtil.getMessage("ui.welcome"), I18nUtil.getMessage(MessageId.UI_WELCOME));
+        assertEquals(I18nUtil.getMessage("player.turn", "Alice"),
+            I18nUtil.getMessage(MessageId.PLAYER_TURN, "Alice"));
+
+        I18nUtil.setLocale(Locale.CHINESE);
+        assertEquals(MessageCatalog.forLocale(Locale.CHINESE).get(MessageId.UI_WELCOME),
+            I18nUtil.getMessage(MessageId.UI_WELCOME));
+    }
+
+    @Test
+    void testSessionLocaleIsPerThread() throws InterruptedException {
+        AtomicReference<String> sessionText = new AtomicReference<>();
+        AtomicReference<Locale> afterUnbind = new AtomicReference<>();
+        Thread session = new Thread(() -> {
+            assertNull(I18nUtil.bindLocale(Locale.CHINESE));
+            sessionText.set(I18nUtil.getMessage(MessageId.UI_WELCOME));
+            I18nUtil.unbindLocale();
+            afterUnbind.set(I18nUtil.getCurrentLocale());
+        });
+        session.start();
+        session.join();
+
+        assertEquals(MessageCatalog.forLocale(Locale.CHINESE).get(MessageId.UI_WELCOME), sessionText.get());
+        assertEquals(Locale.ENGLISH, afterUnbind.get());
+        assertEquals(Locale.ENGLISH, I18nUtil.getCurrentLocale());
+    }
+
+    @Test
+    void testToggleLanguageOnlySwitchesTheSession() throws InterruptedException {
+        assertNull(I18nUtil.bindLocale(Locale.ENGLISH));
+        I18nUtil.toggleLanguage();
+        assertEquals(Locale.CHINESE, I18nUtil.getCurrentLocale());
+        assertEquals(Locale.CHINESE, I18nUtil.bindLocale(Locale.CHINESE));
+
+        AtomicReference<Locale> other = new AtomicReference<>();
+        Thread otherSession = new Thread(() -> other.set(I18nUtil.getCurrentLocale()));
+        otherSession.start();
+        otherSession.join();
+        assertEquals(Locale.ENGLISH, other.get());
+
+        I18nUtil.unbindLocale();
+        assertEquals(Locale.ENGLISH, I18nUtil.getCurrentLocale());
+    }
+}
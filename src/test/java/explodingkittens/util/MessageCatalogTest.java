@@ -0,0 +1,103 @@
+package explodingkittens.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class MessageCatalogTest {
+
+    @Test
+    void shippedLocalesHaveEveryMessage() {
+        MessageCatalog.preload();
+        for (Locale locale : MessageCatalog.SHIPPED_LOCALES) {
+            MessageCatalog catalog = MessageCatalog.forLocale(locale);
+            for (MessageId id : MessageId.values()) {
+                assertNotNull(catalog.get(id), locale + " " + id);
+            }
+        }
+        assertNotEquals(MessageCatalog.forLocale(Locale.ENGLISH).get(MessageId.UI_WELCOME),
+            MessageCatalog.forLocale(Locale.CHINESE).get(MessageId.UI_WELCOME));
+    }
+
+    @Test
+    void catalogsAreCachedPerLocale() {
+        assertSame(MessageCatalog.forLocale(Locale.CHINESE), MessageCatalog.forLocale(Locale.CHINESE));
+        assertEquals(Locale.CHINESE, MessageCatalog.forLocale(Locale.CHINESE).getLocale());
+        assertThrows(IllegalArgumentException.class, () -> MessageCatalog.forLocale(null));
+    }
+
+    @Test
+    void formatsLikeMessageFormat() {
+        MessageCatalog catalog = MessageCatalog.forLocale(Locale.ENGLISH);
+        String pattern = catalog.get(MessageId.PLAYER_STOLE);
+
+        assertEquals(MessageFormat.format(pattern, "Alice", "Nope", "Bob"),
+            catalog.format(MessageId.PLAYER_STOLE, "Alice", "Nope", "Bob"));
+        assertEquals(catalog.format(MessageId.PLAYER_STOLE, "Alice", "Nope", "Bob"),
+            catalog.format("player.stole", "Alice", "Nope", "Bob"));
+    }
+
+    @Test
+    void keysWithoutIdsAreFoundByKey() {
+        MessageCatalog catalog = MessageCatalog.forLocale(Locale.FRENCH);
+
+        assertNotNull(catalog.get("test.key"));
+        assertEquals(catalog.get(MessageId.UI_WELCOME), catalog.get("ui.welcome"));
+        assertNull(catalog.get("no.such.key"));
+        assertNull(catalog.format("no.such.key", "Alice"));
+    }
+
+    @Test
+    void missingMessagesFailWhenLoading() {
+        IllegalStateException missing = assertThrows(IllegalStateException.class,
+            () -> MessageCatalog.load("incomplete_messages", Locale.ENGLISH));
+        assertTrue(missing.getMessage().contains("player.turn"));
+        assertFalse(missing.getMessage().contains("ui.welcome"));
+
+        assertThrows(IllegalStateException.class,
+            () -> MessageCatalog.load("no_such_messages", Locale.ENGLISH));
+    }
+
+    @Test
+    void formatsConcurrentlyWithoutLocking() throws InterruptedException, ExecutionException {
+        MessageCatalog catalog = MessageCatalog.forLocale(Locale.CHINESE);
+        String pattern = catalog.get(MessageId.PLAYER_RECEIVED);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String name = "Player" + t;
+                results.add(pool.submit(() -> {
+                    String expected = MessageFormat.format(pattern, name, "Nope", "Bob");
+                    for (int i = 0; i < 10_000; i++) {
+                        if (!expected.equals(catalog.format(MessageId.PLAYER_RECEIVED, name, "Nope", "Bob"))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package explodingkittens.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import explodingkittens.model.Card;
+import explodingkittens.model.CardRegistry;
+import explodingkittens.model.CardType;
+import explodingkittens.model.Player;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AwaitingGameViewTest {
+    private AsyncGameView async;
+    private AwaitingGameView view;
+    private Player player;
+    private ExecutorService answers;
+
+    @BeforeEach
+    void setUp() {
+        async = mock(AsyncGameView.class);
+        view = new AwaitingGameView(async);
+        player = new Player("Ann");
+        answers = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        answers.shutdownNow();
+        Thread.interrupted();
+    }
+
+    private <T> CompletableFuture<T> later(T value) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(20);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        }, answers);
+    }
+
+    @Test
+    void constructorRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new AwaitingGameView(null));
+    }
+
+    @Test
+    void promptsWaitForAnswersCompletedOnAnotherThread() {
+        Card skip = CardRegistry.get(CardType.SKIP);
+        List<Card> hand = Arrays.asList(skip);
+        Player bob = new Player("Bob");
+        when(async.promptPlayerAction(player)).thenReturn(later("play"));
+        when(async.selectCardToPlay(player, hand)).thenReturn(later(skip));
+        when(async.promptPlayNope(player, skip)).thenReturn(later(true));
+        when(async.selectExplodingKittenPosition(5)).thenReturn(later(3));
+        when(async.selectTargetPlayer(Arrays.asList(bob))).thenReturn(later(bob));
+        when(async.promptPlayCard(player, hand)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals("play", view.promptPlayerAction(player));
+        assertSame(skip, view.selectCardToPlay(player, hand));
+        assertTrue(view.promptPlayNope(player, skip));
+        assertEquals(3, view.selectExplodingKittenPosition(5));
+        assertSame(bob, view.selectTargetPlayer(Arrays.asList(bob)));
+        assertNull(view.promptPlayCard(player, hand));
+    }
+
+    @Test
+    void displaysAreForwarded() {
+        Card skip = CardRegistry.get(CardType.SKIP);
+
+        view.displayCurrentPlayer(player);
+        view.showCardDrawn(player, skip);
+        view.displayDefuseSuccess(player, 2);
+
+        verify(async).displayCurrentPlayer(player);
+        verify(async).showCardDrawn(player, skip);
+        verify(async).displayDefuseSuccess(player, 2);
+    }
+
+    @Test
+    void failedPromptsRethrow() {
+        IllegalArgumentException failure = new IllegalArgumentException("Invalid selection");
+        when(async.confirmDefuse(player)).thenReturn(CompletableFuture.failedFuture(failure));
+        when(async.promptDefusePosition(4)).thenReturn(
+            CompletableFuture.failedFuture(new IOException("Connection lost")));
+
+        assertSame(failure, assertThrows(IllegalArgumentException.class,
+            () -> view.confirmDefuse(player)));
+        assertThrows(IllegalStateException.class, () -> view.promptDefusePosition(4));
+    }
+
+    @Test
+    void missingAnswersAreRejected() {
+        when(async.checkForNope(player, null)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThrows(IllegalStateException.class, () -> view.checkForNope(player, null));
+        assertThrows(IllegalStateException.class, () -> view.handleWinningCombo(player, null));
+    }
+
+    @Test
+    void interruptedWaitStopsThePrompt() {
+        when(async.confirmDefuse(player)).thenReturn(new CompletableFuture<>());
+        Thread.currentThread().interrupt();
+
+        assertThrows(IllegalStateException.class, () -> view.confirmDefuse(player));
+        assertTrue(Thread.interrupted());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}